@@ -1,14 +1,26 @@
 package Controller;
 
+import Util.Log;
 import common.builder.ReservationRequest;
 import Manager.ClientClassroomManager;
+import Manager.ReservationPrefetcher;
+import Manager.SelectionHistory;
+import Manager.WeeklyReservationCache;
 import Model.Session;
+import Model.TimeSlot;
+import Monitoring.CalendarRebuildEvent;
+import Service.ReservationService;
+import Observer.ConnectionStateListener;
+import Util.ClientConfig;
+import Util.ConnectionMonitor;
+import Util.OfflineJournal;
 import Util.ReservationUtil;
 import View.RoomSelect;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.swing.*;
 
 /**
@@ -21,6 +33,18 @@ public abstract class AbstractReservationController {
     protected final Map<String, Map<String, String>> statusMap = new ConcurrentHashMap<>();
     protected final Object serverLock = new Object();
 
+    // 강의실/날짜를 빠르게 바꿀 때 마지막 선택만 조회 (밀리초, config: refresh.debounce.ms)
+    private static final int REFRESH_DEBOUNCE_MILLIS = (int) ClientConfig.getLong("refresh.debounce.ms", 150);
+
+    // 조회 세대: 새 선택마다 증가, 이전 세대의 조회는 중단하고 결과는 버림
+    private final AtomicLong refreshGeneration = new AtomicLong();
+    private javax.swing.Timer refreshDebounce; // EDT 전용
+    private String pendingRefreshRoom;         // EDT 전용
+
+    // 연결 상태 Observer: 끊김 안내, 복구 시 달력 재조회 (화면을 닫을 때 해제)
+    private final ConnectionStateListener connectionListener = (previous, current, reason) ->
+            SwingUtilities.invokeLater(() -> onConnectionStateChanged(previous, current));
+
     /**
      * Strategy 패턴 적용: 기본 초기화 메서드
      * StandardReservationInitStrategy를 기본 전략으로 사용
@@ -44,25 +68,22 @@ public abstract class AbstractReservationController {
     void setupEventListeners() {
         resetReservationButtonListener();
         addReservationListener(new ReservationListener());
+        ConnectionMonitor.getInstance().addListener(connectionListener);
 
         getBeforeButton().addActionListener(e -> {
+            detachConnectionListener();
+            ReservationPrefetcher.getInstance().cancel();
             closeView();
             RoomSelect roomSelect = RoomSelect.getInstance();
             new RoomSelectController(roomSelect);
             roomSelect.setVisible(true);
         });
 
-        getRoomComboBox().addActionListener(e -> {
-            String newSelectedRoom = getSelectedRoom();
-            refreshReservationAndAvailability(newSelectedRoom);
-        });
+        getRoomComboBox().addActionListener(e -> scheduleRefresh(getSelectedRoom()));
 
         getTimeComboBox().addActionListener(e -> updateCapacityPanel());
 
-        getDateChooser().addPropertyChangeListener("date", evt -> {
-            String newSelectedRoom = getSelectedRoom();
-            refreshReservationAndAvailability(newSelectedRoom);
-        });
+        getDateChooser().addPropertyChangeListener("date", evt -> scheduleRefresh(getSelectedRoom()));
     }
 
     // ============================================================
@@ -162,9 +183,9 @@ public abstract class AbstractReservationController {
      * ReservationControllerUtil 사용
      */
     protected boolean validateReservationTime(ReservationData data) {
-        System.out.println("[시간검증] 시작시간: " + data.startTime);
-        System.out.println("[시간검증] 종료시간: " + data.endTime);
-        System.out.println("[시간검증] 사용자 역할: " + data.userRole);
+        Log.info("[시간검증] 시작시간: {}", data.startTime);
+        Log.info("[시간검증] 종료시간: {}", data.endTime);
+        Log.info("[시간검증] 사용자 역할: {}", data.userRole);
         
         ReservationControllerUtil.ValidationResult result = 
             ReservationControllerUtil.validateTimeRange(data.startTime, data.endTime, data.userRole);
@@ -210,6 +231,11 @@ public abstract class AbstractReservationController {
     private void submitReservation(ReservationData data) {
         new Thread(() -> {
             synchronized (serverLock) {
+                if (OfflineJournal.isOffline()) {
+                    queueReservationOffline(data);
+                    return;
+                }
+
                 // 방 가용성 체크
                 boolean isAvailable = ReservationUtil.checkRoomAvailabilitySync(data.room);
 
@@ -221,11 +247,10 @@ public abstract class AbstractReservationController {
                 }
 
                 // 시간대별 예약 충돌 체크
-                int startHour = ReservationUtil.parseTimeToHour(data.startTime);
-                int endHour = ReservationUtil.parseTimeToHour(data.endTime);
+                List<TimeSlot> slots = TimeSlot.range(data.startSlot, data.endSlot);
 
-                for (int hour = startHour; hour <= endHour; hour++) {
-                    String timeSlot = hour + "교시";
+                for (TimeSlot slot : slots) {
+                    String timeSlot = slot.shortLabel();
                     if (ReservationUtil.isReservedOnDate(reservedMap, data.room, data.selectedDate, timeSlot)) {
                         final String conflictTime = timeSlot;
                         SwingUtilities.invokeLater(() ->
@@ -239,8 +264,8 @@ public abstract class AbstractReservationController {
                 boolean allSuccess = true;
                 String userId = Session.getInstance().getLoggedInUserId();
                 
-                for (int hour = startHour; hour <= endHour; hour++) {
-                    String timeSlot = ReservationUtil.formatTimeSlot(hour);
+                for (TimeSlot slot : slots) {
+                    String timeSlot = slot.label();
                     
                     // Builder Pattern으로 ReservationRequest 객체 생성
                     ReservationRequest request = new ReservationRequest.Builder(
@@ -265,10 +290,16 @@ public abstract class AbstractReservationController {
                     }
                 }
 
+                // 일부만 성공했어도 서버 상태가 바뀌었으므로 공유 캐시의 해당 주 무효화
+                WeeklyReservationCache.getInstance().invalidate(data.room, data.selectedDate);
+
                 // 예약 완료 처리
                 if (allSuccess) {
+                    SelectionHistory.getInstance().record(data.room, data.selectedDate, data.startTime);
                     SwingUtilities.invokeLater(() -> {
                         showReservationSuccessMessage(data);
+                        detachConnectionListener();
+                        ReservationPrefetcher.getInstance().cancel();
                         closeView();
                         RoomSelect roomSelect = new RoomSelect();
                         new RoomSelectController(roomSelect);
@@ -279,6 +310,93 @@ public abstract class AbstractReservationController {
         }).start();
     }
 
+    /**
+     * 오프라인 예약: 마지막으로 본 달력 기준 충돌만 확인하고 교시별 요청을 저널에 저장
+     * (재접속 후 순서대로 전송, 결과는 JournalReplayListener로 안내)
+     */
+    private void queueReservationOffline(ReservationData data) {
+        List<TimeSlot> slots = TimeSlot.range(data.startSlot, data.endSlot);
+
+        for (TimeSlot slot : slots) {
+            String timeSlot = slot.shortLabel();
+            if (ReservationUtil.isReservedOnDate(reservedMap, data.room, data.selectedDate, timeSlot)) {
+                final String conflictTime = timeSlot;
+                SwingUtilities.invokeLater(() ->
+                        showMessage(conflictTime + "는 이미 예약되어 있습니다.")
+                );
+                return;
+            }
+        }
+
+        String userId = Session.getInstance().getLoggedInUserId();
+        List<String> summaries = new ArrayList<>();
+        List<String> commands = new ArrayList<>();
+        for (TimeSlot slot : slots) {
+            String timeSlot = slot.label();
+            ReservationRequest request = new ReservationRequest.Builder(
+                    data.userName, data.room, data.dateString)
+                .day(data.day)
+                .time(timeSlot)
+                .purpose(data.purpose)
+                .userRole(data.userRole)
+                .studentCount(data.studentCount)
+                .userId(userId)
+                .build();
+            summaries.add(String.format("%s 예약 %s %s(%s) %s", getRoomTypeName(), data.room,
+                    data.dateString, data.day, timeSlot));
+            commands.add(request.toProtocolString());
+        }
+        // 교시 전체를 한 묶음으로 저장 (일부 교시만 저장된 채 실패로 안내하지 않음)
+        if (OfflineJournal.getInstance().appendAll(OfflineJournal.Kind.RESERVE, data.room, data.dateString,
+                summaries, commands) == null) {
+            SwingUtilities.invokeLater(() ->
+                    showMessage("예약을 저장하지 못했습니다. 서버 연결 후 다시 시도해주세요.")
+            );
+            return;
+        }
+        SwingUtilities.invokeLater(() -> showMessage(ReservationService.OFFLINE_QUEUED_MESSAGE));
+    }
+
+    /**
+     * 연결 상태 변화 처리 (EDT)
+     * - 끊김: 예약 요청은 저장 후 재접속 때 전송됨을 즉시 안내
+     * - 끊김/재접속에서 복구: 놓친 변경이 있을 수 있으므로 현재 강의실 다시 조회
+     */
+    protected void onConnectionStateChanged(ConnectionMonitor.State previous, ConnectionMonitor.State current) {
+        if (current == ConnectionMonitor.State.DISCONNECTED) {
+            showMessage("서버와의 연결이 끊어졌습니다. 지금 하는 예약은 이 기기에 저장했다가 연결이 복구되면 자동 전송합니다.");
+        } else if (current == ConnectionMonitor.State.CONNECTED
+                && (previous == ConnectionMonitor.State.DISCONNECTED
+                    || previous == ConnectionMonitor.State.RECONNECTING)) {
+            refreshReservationAndAvailability(getSelectedRoom());
+        }
+    }
+
+    void detachConnectionListener() {
+        ConnectionMonitor.getInstance().removeListener(connectionListener);
+    }
+
+    /**
+     * 방금 그린 주의 앞뒤 주와 이웃 강의실을 미리 조회 (EDT에서 호출)
+     */
+    void schedulePrefetch(String roomName, java.time.LocalDate weekStart) {
+        ReservationPrefetcher.getInstance().schedule(roomName, weekStart, roomOrder());
+    }
+
+    /**
+     * 이웃 강의실 판단용 콤보박스 순서 ("선택" 등 안내 항목 포함, 서브클래스에서 재정의 가능)
+     */
+    protected List<String> roomOrder() {
+        JComboBox<String> combo = getRoomComboBox();
+        List<String> rooms = new ArrayList<>();
+        if (combo != null) {
+            for (int i = 0; i < combo.getItemCount(); i++) {
+                rooms.add(combo.getItemAt(i));
+            }
+        }
+        return rooms;
+    }
+
     /**
      * Hook 메서드: 예약 성공 메시지
      * 서브클래스에서 커스터마이징 가능
@@ -308,11 +426,92 @@ public abstract class AbstractReservationController {
         }
     }
 
+    /**
+     * 선택 변경 시 조회 예약 (EDT에서 호출)
+     * - 진행 중인 조회는 즉시 무효화
+     * - REFRESH_DEBOUNCE_MILLIS 안에 이어진 변경(콤보박스 스크롤 등)은 마지막 것만 조회
+     */
+    protected void scheduleRefresh(String roomName) {
+        refreshGeneration.incrementAndGet();
+        pendingRefreshRoom = roomName;
+        if (refreshDebounce == null) {
+            refreshDebounce = new javax.swing.Timer(REFRESH_DEBOUNCE_MILLIS,
+                    e -> refreshReservationAndAvailability(pendingRefreshRoom));
+            refreshDebounce.setRepeats(false);
+        }
+        refreshDebounce.restart();
+    }
+
+    /**
+     * 예약 대기 중인 조회 취소 (초기화 전략이 선택을 바꾼 뒤 직접 조회할 때)
+     */
+    void cancelPendingRefresh() {
+        if (refreshDebounce != null) {
+            refreshDebounce.stop();
+        }
+    }
+
+    /**
+     * 강의실/날짜/시작 교시 선택 (EDT에서 호출, 목록에 없는 강의실/교시는 그대로 둠)
+     */
+    void applySelection(String room, java.time.LocalDate date, String time) {
+        JComboBox<String> roomCombo = getRoomComboBox();
+        if (containsItem(roomCombo, room)) {
+            roomCombo.setSelectedItem(room);
+        }
+        if (date != null && getDateChooser() != null) {
+            getDateChooser().setDate(java.util.Date.from(
+                    date.atStartOfDay(java.time.ZoneId.systemDefault()).toInstant()));
+        }
+        JComboBox<String> timeCombo = getTimeComboBox();
+        if (containsItem(timeCombo, time)) {
+            timeCombo.setSelectedItem(time);
+        }
+    }
+
+    private static boolean containsItem(JComboBox<String> combo, String item) {
+        if (combo == null || item == null) {
+            return false;
+        }
+        for (int i = 0; i < combo.getItemCount(); i++) {
+            if (item.equals(combo.getItemAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 새 조회 세대 시작 (이전 세대는 superseded)
+     */
+    long nextRefreshGeneration() {
+        return refreshGeneration.incrementAndGet();
+    }
+
+    /**
+     * 더 새로운 선택이 있어 이 세대의 조회 결과가 필요 없는지
+     */
+    boolean isSuperseded(long generation) {
+        return refreshGeneration.get() != generation;
+    }
+
     protected void refreshReservationAndAvailability(String roomName) {
+        final long generation = nextRefreshGeneration();
         new Thread(() -> {
+            // 조회 시작부터 테이블 교체까지를 하나의 재구성으로 기록
+            CalendarRebuildEvent rebuildEvent = new CalendarRebuildEvent();
+            rebuildEvent.begin();
             synchronized (serverLock) {
                 try {
+                    // 앞선 조회를 기다리는 동안 더 새로운 선택이 생겼으면 서버에 묻지 않음
+                    if (isSuperseded(generation)) {
+                        Log.debug("[refreshReservationAndAvailability] {} 조회 취소 (새 선택 있음)", roomName);
+                        return;
+                    }
                     boolean isAvailable = ReservationUtil.checkRoomAvailabilitySync(roomName);
+                    if (isSuperseded(generation)) {
+                        return;
+                    }
 
                     java.time.LocalDate selectedDate = getSelectedDate();
                     if (selectedDate == null) {
@@ -321,7 +520,13 @@ public abstract class AbstractReservationController {
                     java.time.LocalDate weekStart = ReservationUtil.getWeekStart(selectedDate);
                     java.time.LocalDate weekEnd = weekStart.plusDays(6);
 
-                    ReservationUtil.loadWeeklyReservationData(reservedMap, statusMap, roomName, weekStart, weekEnd);
+                    // 새 선택이 적용 중인 맵을 덮어쓰지 않도록 별도 맵에 받은 뒤 EDT에서 반영
+                    Map<String, Set<String>> loadedReserved = new ConcurrentHashMap<>();
+                    Map<String, Map<String, String>> loadedStatus = new ConcurrentHashMap<>();
+                    ReservationUtil.loadWeeklyReservationData(loadedReserved, loadedStatus, roomName, weekStart, weekEnd);
+                    if (isSuperseded(generation)) {
+                        return;
+                    }
 
                     String dateString = selectedDate.toString();
                     String day = getSelectedDay();
@@ -331,19 +536,40 @@ public abstract class AbstractReservationController {
                     final int finalReservedCapacity = reservedCapacity;
                     final java.time.LocalDate finalWeekStart = weekStart;
                     SwingUtilities.invokeLater(() -> {
+                        if (isSuperseded(generation)) {
+                            return; // 응답이 오는 사이 선택이 바뀜 → 이전 강의실을 그리지 않음
+                        }
+                        reservedMap.putAll(loadedReserved);
+                        statusMap.putAll(loadedStatus);
                         JTable updatedTable = ReservationUtil.buildCalendarTableWithDates(
                                 reservedMap, statusMap, roomName, isAvailable, finalWeekStart);
                         updateCalendarTable(updatedTable);
                         updateCapacityPanelWithData(roomName, day, time, finalReservedCapacity);
+                        commitRebuildEvent(rebuildEvent, roomName, finalWeekStart);
+                        schedulePrefetch(roomName, finalWeekStart);
                     });
                 } catch (Exception ex) {
-                    System.err.println("[refreshReservationAndAvailability] 오류: " + ex.getMessage());
-                    ex.printStackTrace();
+                    Log.error("[refreshReservationAndAvailability] 오류: {}", ex.getMessage(), ex);
                 }
             }
         }).start();
     }
 
+    /**
+     * 캘린더 재구성 JFR 이벤트 기록 (EDT에서 테이블 교체 직후 호출)
+     */
+    void commitRebuildEvent(CalendarRebuildEvent event, String roomName, java.time.LocalDate weekStart) {
+        event.end();
+        if (event.shouldCommit()) {
+            Set<String> reserved = reservedMap.get(ReservationUtil.normalizeRoomName(roomName));
+            event.source = getClass().getSimpleName();
+            event.room = roomName;
+            event.weekStart = weekStart.toString();
+            event.reservedSlots = reserved != null ? reserved.size() : 0;
+            event.commit();
+        }
+    }
+
     public void updateCapacityPanelWithData(String room, String day, String time, int reservedCapacity) {
         ClientClassroomManager mgr = ClientClassroomManager.getInstance();
         common.dto.ClassroomDTO c = mgr.getClassroom(room);
@@ -430,6 +656,9 @@ public abstract class AbstractReservationController {
         public final String day;
         public final String startTime;
         public final String endTime;
+        // 시작/종료 교시 (해석할 수 없으면 1교시 - parseTimeToHour와 같은 기본값)
+        public final TimeSlot startSlot;
+        public final TimeSlot endSlot;
         public final String purpose;
         public final int studentCount;
         public final String userRole;
@@ -445,9 +674,16 @@ public abstract class AbstractReservationController {
             this.day = day;
             this.startTime = startTime;
             this.endTime = endTime;
+            this.startSlot = slotOrFirst(startTime);
+            this.endSlot = slotOrFirst(endTime);
             this.purpose = purpose;
             this.studentCount = studentCount;
             this.userRole = userRole;
         }
+
+        private static TimeSlot slotOrFirst(String time) {
+            TimeSlot slot = TimeSlot.parse(time);
+            return slot != null ? slot : TimeSlot.of(1);
+        }
     }
 }
@@ -2,6 +2,7 @@ package Controller;
 
 import Manager.ClientClassroomManager;
 import Model.Session;
+import Util.Log;
 import Util.ReservationUtil;
 import javax.swing.*;
 import java.util.List;
@@ -30,7 +31,7 @@ public class CachedInitStrategy implements InitializationStrategy {
     
     @Override
     public void initialize(AbstractReservationController controller) {
-        System.out.println("[CachedInitStrategy] 캐시 기반 초기화 시작");
+        Log.info("[CachedInitStrategy] 캐시 기반 초기화 시작");
         
         controller.setupEventListeners();
         loadCachedData(controller);
@@ -63,7 +64,7 @@ public class CachedInitStrategy implements InitializationStrategy {
                 java.time.LocalDate weekStart = ReservationUtil.getWeekStart(targetDate);
                 
                 // 5. 예약 데이터 캐싱
-                System.out.println("[CachedInitStrategy] 캐싱: " + targetRoom + ", " + targetDate);
+                Log.info("[CachedInitStrategy] 캐싱: {}, {}", targetRoom, targetDate);
                 ReservationUtil.loadWeeklyReservationData(
                     controller.reservedMap, 
                     controller.statusMap, 
@@ -85,8 +86,9 @@ public class CachedInitStrategy implements InitializationStrategy {
                             controller.reservedMap, controller.statusMap, targetRoom, isAvailable, finalWeekStart);
                     controller.updateCalendarTable(updatedTable);
                     controller.updateCapacityPanelWithData(targetRoom, day, time, finalReservedCapacity);
+                    controller.schedulePrefetch(targetRoom, finalWeekStart);
                     
-                    System.out.println("[CachedInitStrategy] 초기화 완료");
+                    Log.info("[CachedInitStrategy] 초기화 완료");
                 });
             }
         }).start();
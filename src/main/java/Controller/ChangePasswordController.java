@@ -1,6 +1,7 @@
 package Controller;
 
 import Model.Session;
+import Util.Log;
 import View.ChangePasswordView;
 import View.Executive;
 import View.RoomSelect;
@@ -53,7 +54,7 @@ public class ChangePasswordController {
                             try { javax.swing.SwingUtilities.invokeLater(dialog::dispose); } catch (Throwable ignored) {}
                         }).start();
                     } catch (Throwable t) {
-                        System.err.println("[ChangePasswordController] 성공 알림 표시 중 오류: " + t.getMessage());
+                        Log.error("[ChangePasswordController] 성공 알림 표시 중 오류: {}", t.getMessage());
                     }
 
                     if (!GraphicsEnvironment.isHeadless()) {
@@ -1,16 +1,27 @@
 package Controller;
 
+import Manager.ReservationTableIndex;
+import Manager.WeeklyReservationCache;
 import Model.Session;
+import Util.Log;
 import Util.MessageDispatcher;
+import Util.StringPool;
 import View.ClassroomReservationApproval;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
 import java.io.*;
 
 public class ClassroomReservationApprovalController {
 
+    // 이만큼 받을 때마다 표에 반영
+    private static final int RENDER_BATCH = 200;
+
     private ClassroomReservationApproval view;
+    // 받은 요청의 강의실/날짜 색인 (필터는 색인으로 계산)
+    private final ReservationTableIndex index = new ReservationTableIndex();
 
     public ClassroomReservationApprovalController(ClassroomReservationApproval view) {
         this.view = view;
@@ -21,6 +32,7 @@ public class ClassroomReservationApprovalController {
         setApproveButtonAction();
         setRejectButtonAction();
         addTableClickListener();
+        setFilterAction();
     }
 
     /**
@@ -56,31 +68,40 @@ public class ClassroomReservationApprovalController {
         
         String userId = Session.getInstance().getLoggedInUserId();
 
-        out.println("GET_RESERVATION_REQUESTS");
-        out.flush();
+        MessageDispatcher.send("GET_RESERVATION_REQUESTS");
 
         try {
             DefaultTableModel model = (DefaultTableModel) view.getTable().getModel();
             SwingUtilities.invokeLater(() -> model.setRowCount(0));
+            StringPool pool = StringPool.getInstance();
+            index.clear();
+            int receivedCount = 0;
+            boolean completed = false;
 
             while (true) {
                 // ✅ MessageDispatcher를 통해 응답 대기
-                String line = dispatcher.waitForResponse(30);
+                String line = dispatcher.waitForResponse();
                 
                 if (line == null) {
-                    System.err.println("[loadAllRequests] 타임아웃");
+                    Log.error("[loadAllRequests] 타임아웃");
                     break;
                 }
                 
                 if (line.equals("END_OF_REQUESTS")) {
+                    completed = true;
                     break;
                 }
 
                 // ✅ 서버가 보낸 형식: id,time,date,day,room,name,studentCount
                 String[] parts = line.split(",");
+                // 시간/요일/강의실은 요청마다 반복 → 공유 인스턴스로 표에 보관
+                for (int i = 0; i < parts.length; i++) {
+                    parts[i] = pool.canonical(parts[i]);
+                }
                 if (parts.length == 7) {
                     // 정상적인 7개 필드
-                    SwingUtilities.invokeLater(() -> model.addRow(parts));
+                    index.add(parts, null, parts[4], parts[2], null);
+                    receivedCount++;
                 } else if (parts.length == 6) {
                     // 구 버전 호환성: 날짜가 없는 경우
                     String[] partsWithDate = new String[7];
@@ -91,7 +112,8 @@ public class ClassroomReservationApprovalController {
                     partsWithDate[4] = parts[3]; // room
                     partsWithDate[5] = parts[4]; // name
                     partsWithDate[6] = parts[5]; // studentCount
-                    SwingUtilities.invokeLater(() -> model.addRow(partsWithDate));
+                    index.add(partsWithDate, null, partsWithDate[4], null, null);
+                    receivedCount++;
                 } else if (parts.length == 5) {
                     // 구 버전 호환성: 날짜와 학생 수가 없는 경우
                     String[] partsWithDateAndCount = new String[7];
@@ -102,9 +124,19 @@ public class ClassroomReservationApprovalController {
                     partsWithDateAndCount[4] = parts[3]; // room
                     partsWithDateAndCount[5] = parts[4]; // name
                     partsWithDateAndCount[6] = "1";      // studentCount
-                    SwingUtilities.invokeLater(() -> model.addRow(partsWithDateAndCount));
+                    index.add(partsWithDateAndCount, null, partsWithDateAndCount[4], null, null);
+                    receivedCount++;
+                } else {
+                    continue;
+                }
+                if (receivedCount % RENDER_BATCH == 0) {
+                    // 행마다가 아니라 묶어서 한 번에 표에 반영
+                    SwingUtilities.invokeLater(this::showFiltered);
                 }
             }
+            if (completed || receivedCount > 0) {
+                SwingUtilities.invokeLater(this::showFiltered);
+            }
         } catch (Exception e) {
             SwingUtilities.invokeLater(() -> 
                 JOptionPane.showMessageDialog(view, "서버 응답 오류: " + e.getMessage())
@@ -112,6 +144,41 @@ public class ClassroomReservationApprovalController {
         }
     }
 
+    /**
+     * 필터 입력창 → 입력할 때마다 색인으로 다시 표시 (서버 요청 없음)
+     */
+    private void setFilterAction() {
+        JTextField filterField = view.getFilterField();
+        if (filterField == null) {
+            return;
+        }
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                showFiltered();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                showFiltered();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                showFiltered();
+            }
+        });
+    }
+
+    /**
+     * 색인에서 필터에 맞는 행만 표에 표시 (EDT에서 호출)
+     */
+    private void showFiltered() {
+        JTextField filterField = view.getFilterField();
+        String filter = filterField == null ? "" : filterField.getText();
+        index.render((DefaultTableModel) view.getTable().getModel(), index.parse(filter));
+    }
+
     private void addTableClickListener() {
         view.getTable().addMouseListener(new java.awt.event.MouseAdapter() {
             @Override
@@ -165,12 +232,12 @@ public class ClassroomReservationApprovalController {
                     return;
                 }
 
-                out.println(String.format("APPROVE_RESERVATION,%s,%s,%s,%s,%s,%s", id, time, date, day, room, name));
-                out.flush();
+                MessageDispatcher.send(String.format("APPROVE_RESERVATION,%s,%s,%s,%s,%s,%s", id, time, date, day, room, name));
 
                 try {
                     // ✅ MessageDispatcher를 통해 응답 대기
-                    String response = dispatcher.waitForResponse(30);
+                    String response = dispatcher.waitForResponse();
+                    WeeklyReservationCache.getInstance().invalidate(room, date);
                     
                     if (response == null) {
                         SwingUtilities.invokeLater(() -> 
@@ -181,6 +248,7 @@ public class ClassroomReservationApprovalController {
 
                     if ("APPROVE_SUCCESS".equals(response)) {
                         SwingUtilities.invokeLater(() -> {
+                            index.removeVisibleRow(selectedRow);
                             model.removeRow(selectedRow);
                             JOptionPane.showMessageDialog(view, "예약 승인 완료되었습니다.");
                         });
@@ -238,12 +306,12 @@ public class ClassroomReservationApprovalController {
                     return;
                 }
 
-                out.println(String.format("REJECT_RESERVATION,%s,%s,%s,%s,%s,%s", id, time, date, day, room, name));
-                out.flush();
+                MessageDispatcher.send(String.format("REJECT_RESERVATION,%s,%s,%s,%s,%s,%s", id, time, date, day, room, name));
 
                 try {
                     // ✅ MessageDispatcher를 통해 응답 대기
-                    String response = dispatcher.waitForResponse(30);
+                    String response = dispatcher.waitForResponse();
+                    WeeklyReservationCache.getInstance().invalidate(room, date);
                     
                     if (response == null) {
                         SwingUtilities.invokeLater(() -> 
@@ -254,6 +322,7 @@ public class ClassroomReservationApprovalController {
 
                     if ("REJECT_SUCCESS".equals(response)) {
                         SwingUtilities.invokeLater(() -> {
+                            index.removeVisibleRow(selectedRow);
                             model.removeRow(selectedRow);
                             JOptionPane.showMessageDialog(view, "거절 처리 완료되었습니다.");
                         });
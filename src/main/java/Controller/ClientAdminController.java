@@ -1,9 +1,13 @@
 package Controller;
 
+import Manager.UserDirectory;
+import Util.Log;
 import View.ClientAdmin;
 import View.Executive;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
 
 public class ClientAdminController {
@@ -18,12 +22,43 @@ public class ClientAdminController {
         view.getJButton2().addActionListener(e -> deleteSelectedUser());
         view.getJButton1().addActionListener(e -> updateSelectedUser());
         view.getJButton3().addActionListener(e -> goBackToExecutive());
+
+        JTextField searchField = view.getSearchField();
+        if (searchField != null) {
+            // 입력할 때마다 로컬 색인에서 검색 (서버 요청 없음)
+            searchField.getDocument().addDocumentListener(new DocumentListener() {
+                @Override
+                public void insertUpdate(DocumentEvent e) {
+                    showSearchResult();
+                }
+
+                @Override
+                public void removeUpdate(DocumentEvent e) {
+                    showSearchResult();
+                }
+
+                @Override
+                public void changedUpdate(DocumentEvent e) {
+                    showSearchResult();
+                }
+            });
+        }
+    }
+
+    private String currentQuery() {
+        JTextField searchField = view.getSearchField();
+        return searchField == null ? "" : searchField.getText();
+    }
+
+    private void showSearchResult() {
+        DefaultTableModel model = (DefaultTableModel) view.getTable().getModel();
+        ClientFacade.showUsers(model, UserDirectory.getInstance().search(currentQuery()));
     }
 
     protected void loadUsersFromServer() {
         DefaultTableModel model = (DefaultTableModel) view.getTable().getModel();
-        // Delegate to facade (which will run in background)
-        ClientFacade.loadUsers(model);
+        // Delegate to facade (cached directory, or paged load in background)
+        ClientFacade.loadUsers(model, this::currentQuery);
     }
 
     private void deleteSelectedUser() {
@@ -38,8 +73,8 @@ public class ClientAdminController {
 
         String userId = (String) model.getValueAt(row, 1);
 
-        // Delegate deletion to facade which will call loadUsersFromServer on success
-        ClientFacade.deleteUser(userId, view, () -> loadUsersFromServer());
+        // 삭제 성공 시 facade가 사용자 목록에서 제거 → 다시 받지 않고 현재 검색 결과만 다시 표시
+        ClientFacade.deleteUser(userId, view, this::showSearchResult);
     }
 
     private void updateSelectedUser() {
@@ -75,7 +110,7 @@ public class ClientAdminController {
         if (executive != null) {
             executive.setVisible(true);
         } else {
-            System.err.println("Executive 인스턴스가 null입니다.");
+            Log.error("Executive 인스턴스가 null입니다.");
         }
     }
 }
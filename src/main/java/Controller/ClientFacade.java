@@ -1,8 +1,16 @@
 package Controller;
 
+import Util.Log;
 import View.*;
+import Manager.PersistentCache;
+import Observer.JournalReplayListener;
+import Manager.SelectionHistory;
+import Manager.UserDirectory;
 import Model.Session;
 import Util.MessageDispatcher;
+import Util.OfflineJournal;
+import Util.Reconnector;
+import Util.SessionRecorder;
 import common.utils.ConfigLoader;
 
 import java.io.BufferedReader;
@@ -10,6 +18,8 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.net.Socket;
+import java.util.List;
+import java.util.function.Supplier;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import javax.swing.table.DefaultTableModel;
@@ -22,6 +32,8 @@ public final class ClientFacade {
 
     private ClientFacade() {}
 
+    private static final JournalReplayListener REPLAY_REPORTER = ClientFacade::showReplayResults;
+
     public static boolean login(LoginForm view) {
         String id = view.getUserId();
         String password = view.getPassword();
@@ -64,12 +76,17 @@ public final class ClientFacade {
 
                     Session.getInstance().setLoggedInUserId(id);
                     Session.getInstance().setLoggedInUserName(userName);
+                    SessionRecorder recorder = SessionRecorder.fromConfig();
+                    if (recorder != null) {
+                        in = recorder.wrap(in);
+                        out = recorder.wrap(out);
+                    }
                     Session.getInstance().setSocket(socket);
                     Session.getInstance().setIn(in);
                     Session.getInstance().setOut(out);
+                    Reconnector.getInstance().remember(serverIp, serverPort, id, password);
 
-                    out.println("INIT");
-                    out.flush();
+                    MessageDispatcher.send("INIT");
 
                     String role = switch (id.charAt(0)) {
                         case 'S' -> "학생";
@@ -105,10 +122,20 @@ public final class ClientFacade {
                                 JOptionPane.showMessageDialog(null, sb.toString(), title, messageType);
                             });
                         } catch (Exception e) {
-                            System.err.println("[알림] 처리 오류: " + e.getMessage());
+                            Log.error("[알림] 처리 오류: {}", e.getMessage());
                         }
                     });
 
+                    // 오프라인 중 저장한 요청: 지난 실행에서 못 보낸 것이 있으면 바로 재전송, 결과는 팝업으로 안내
+                    OfflineJournal.getInstance().addReplayListener(REPLAY_REPORTER);
+                    OfflineJournal.getInstance().open(id);
+
+                    // 지난 실행의 강의실 목록/주간 예약을 디스크에서 복원 (서버와는 백그라운드에서 맞춤)
+                    PersistentCache.getInstance().restore(serverIp + ":" + serverPort);
+
+                    // 사용 기록을 읽고 자주 쓰는 강의실-주를 미리 조회 (예약 화면 진입 시 바로 표시)
+                    SelectionHistory.getInstance().warmUp(id);
+
                     view.showMessage("로그인 성공!");
                     view.dispose();
                     // 화면 전환은 기존 컨트롤러에서 처리하도록 남겨둠
@@ -147,29 +174,35 @@ public final class ClientFacade {
             String response = in.readLine();
 
             if (response == null) {
-                System.out.println("[ClientFacade] 서버 응답 없음");
+                Log.info("[ClientFacade] 서버 응답 없음");
                 try { socket.close(); } catch (Exception ignored) {}
                 return false;
             }
 
             switch (response.split(",")[0]) {
                 case "SERVER_BUSY":
-                    System.out.println("서버 과부하");
+                    Log.info("서버 과부하");
                     try { socket.close(); } catch (Exception ignored) {}
                     return false;
                 case "ALREADY_LOGGED_IN":
-                    System.out.println("이미 로그인됨");
+                    Log.info("이미 로그인됨");
                     try { socket.close(); } catch (Exception ignored) {}
                     return false;
                 case "SUCCESS":
                     String userName = response.split(",").length > 1 ? response.split(",")[1] : "";
                     Session.getInstance().setLoggedInUserId(id);
                     Session.getInstance().setLoggedInUserName(userName);
+                    SessionRecorder recorder = SessionRecorder.fromConfig();
+                    if (recorder != null) {
+                        in = recorder.wrap(in);
+                        out = recorder.wrap(out);
+                    }
                     Session.getInstance().setSocket(socket);
                     Session.getInstance().setIn(in);
                     Session.getInstance().setOut(out);
+                    Reconnector.getInstance().remember(serverIp, serverPort, id, password);
 
-                    out.println("INIT"); out.flush();
+                    MessageDispatcher.send("INIT");
 
                     String role = switch (id.charAt(0)) {
                         case 'S' -> "학생";
@@ -180,21 +213,48 @@ public final class ClientFacade {
                     Session.getInstance().setLoggedInUserRole(role);
 
                     MessageDispatcher.startDispatcher(in);
-                    MessageDispatcher.getInstance().setNotificationHandler(msg -> System.out.println("[NOTIF] " + msg));
+                    MessageDispatcher.getInstance().setNotificationHandler(msg -> Log.info("[NOTIF] {}", msg));
 
-                    System.out.println("[ClientFacade] 로그인 성공: " + id + " (" + userName + ")");
+                    Log.info("[ClientFacade] 로그인 성공: {} ({})", id, userName);
                     return true;
                 default:
-                    System.out.println("로그인 실패: " + response);
+                    Log.info("로그인 실패: {}", response);
                     try { socket.close(); } catch (Exception ignored) {}
                     return false;
             }
         } catch (java.io.IOException e) {
-            System.out.println("서버 연결 실패: " + e.getMessage());
+            Log.warn("서버 연결 실패: {}", e.getMessage());
             return false;
         }
     }
 
+    /**
+     * 오프라인 저장 요청의 재전송 결과 안내
+     */
+    private static void showReplayResults(List<OfflineJournal.Result> results, int remaining) {
+        StringBuilder sb = new StringBuilder("연결이 복구되어 저장해 둔 요청을 전송했습니다.\n\n");
+        boolean anyFailed = false;
+        for (OfflineJournal.Result result : results) {
+            String label = switch (result.outcome) {
+                case APPLIED -> "완료";
+                case REJECTED -> "실패";
+                case UNCERTAIN -> "확인 필요 (이미 처리됐을 수 있음)";
+            };
+            anyFailed |= result.outcome != OfflineJournal.Outcome.APPLIED;
+            sb.append("- ").append(result.intent.summary).append(": ").append(label);
+            if (result.outcome != OfflineJournal.Outcome.APPLIED) {
+                sb.append(" [").append(result.reply).append("]");
+            }
+            sb.append("\n");
+        }
+        if (remaining > 0) {
+            sb.append("\n연결이 다시 끊겨 ").append(remaining).append("건은 다음 연결 때 전송합니다.");
+        }
+        int messageType = anyFailed ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE;
+        SwingUtilities.invokeLater(() ->
+                JOptionPane.showMessageDialog(null, sb.toString(), "오프라인 요청 전송 결과", messageType));
+    }
+
     private static String getNotificationTitle(String typeStr) {
         return switch (typeStr) {
             case "APPROVED" -> "✅ 예약 승인";
@@ -283,13 +343,12 @@ public final class ClientFacade {
         PrintWriter out = Session.getInstance().getOut();
         if (out == null) return null;
 
-        out.println(String.join(",", "CHANGE_PASSWORD", userId, currentPassword, newPassword));
-        out.flush();
+        MessageDispatcher.send(String.join(",", "CHANGE_PASSWORD", userId, currentPassword, newPassword));
 
         Util.MessageDispatcher dispatcher = Util.MessageDispatcher.getInstance();
         String response = null;
         if (dispatcher != null) {
-            response = dispatcher.waitForResponse(10);
+            response = dispatcher.waitForResponse();
         } else {
             try {
                 java.io.BufferedReader in = Session.getInstance().getIn();
@@ -299,6 +358,9 @@ public final class ClientFacade {
             }
         }
 
+        if ("PASSWORD_CHANGED".equals(response) && userId.equals(Session.getInstance().getLoggedInUserId())) {
+            Reconnector.getInstance().updatePassword(newPassword); // 재접속 시 새 비밀번호로 로그인
+        }
         return response;
     }
 
@@ -312,31 +374,58 @@ public final class ClientFacade {
     }
 
     public static void loadUsers(DefaultTableModel model) {
-        model.setRowCount(0);
+        loadUsers(model, () -> "");
+    }
+
+    /**
+     * 사용자 목록 표시 - 이 연결에서 받은 목록이 있으면 서버 요청 없이 바로 표시,
+     * 없으면 페이지 단위로 받으면서 페이지마다 한 번씩 표를 갱신
+     * @param query 현재 검색어 (페이지가 도착할 때마다 다시 읽음)
+     */
+    public static void loadUsers(DefaultTableModel model, Supplier<String> query) {
         PrintWriter out = Session.getInstance().getOut();
         MessageDispatcher dispatcher = MessageDispatcher.getInstance();
+        UserDirectory directory = UserDirectory.getInstance();
+
+        if (directory.isFresh(dispatcher)) {
+            List<UserDirectory.User> users = directory.search(query.get());
+            SwingUtilities.invokeLater(() -> showUsers(model, users));
+            return;
+        }
+        model.setRowCount(0);
 
         if (out == null || dispatcher == null) return;
 
         new Thread(() -> {
             try {
-                out.println("GET_ALL_USERS");
-                out.flush();
-
-                String line;
-                while ((line = dispatcher.waitForResponse(30)) != null) {
-                    if ("END_OF_USERS".equals(line)) break;
-                    String[] tokens = line.split(",");
-                    if (tokens.length == 3) {
-                        SwingUtilities.invokeLater(() -> model.addRow(tokens));
-                    }
-                }
+                directory.load(dispatcher, loaded -> {
+                    List<UserDirectory.User> users = directory.search(query.get());
+                    SwingUtilities.invokeLater(() -> showUsers(model, users));
+                });
+                // 진행 중이던 조회에 합류한 경우에도 최종 목록 표시
+                List<UserDirectory.User> users = directory.search(query.get());
+                SwingUtilities.invokeLater(() -> showUsers(model, users));
             } catch (Exception e) {
                 SwingUtilities.invokeLater(() ->
                     JOptionPane.showMessageDialog(null, "서버에서 사용자 목록을 불러오는 중 오류 발생: " + e.getMessage())
                 );
             }
-        }).start();
+        }, "UserDirectoryLoad").start();
+    }
+
+    /**
+     * 표 내용을 한 번에 교체 (행마다 이벤트를 내지 않음) - EDT에서 호출
+     */
+    public static void showUsers(DefaultTableModel model, List<UserDirectory.User> users) {
+        Object[] columns = new Object[model.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = model.getColumnName(i);
+        }
+        Object[][] rows = new Object[users.size()][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = users.get(i).toRow();
+        }
+        model.setDataVector(rows, columns);
     }
 
     public static void deleteUser(String userId, ClientAdmin view, Runnable onSuccess) {
@@ -349,12 +438,12 @@ public final class ClientFacade {
 
         new Thread(() -> {
             try {
-                out.println("DELETE_USER," + userId);
-                out.flush();
+                MessageDispatcher.send("DELETE_USER," + userId);
 
-                String response = dispatcher.waitForResponse(10);
+                String response = dispatcher.waitForResponse();
                 if (response == null) {
-                    SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(view, "서버 응답 없음"));
+                    String reason = MessageDispatcher.describeNoResponse();
+                    SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(view, reason));
                     return;
                 }
 
@@ -366,6 +455,7 @@ public final class ClientFacade {
                 }
 
                 if ("DELETE_SUCCESS".equals(response)) {
+                    UserDirectory.getInstance().remove(userId);
                     SwingUtilities.invokeLater(() -> {
                         // Ensure onSuccess runs even in headless environments where JOptionPane may throw
                         try {
@@ -397,12 +487,12 @@ public final class ClientFacade {
 
         new Thread(() -> {
             try {
-                out.println("UPDATE_USER," + userId + "," + newName + "," + newPw);
-                out.flush();
+                MessageDispatcher.send("UPDATE_USER," + userId + "," + newName + "," + newPw);
 
-                String response = dispatcher.waitForResponse(10);
+                String response = dispatcher.waitForResponse();
                 if (response == null) {
-                    SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(view, "서버 응답 없음"));
+                    String reason = MessageDispatcher.describeNoResponse();
+                    SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(view, reason));
                     return;
                 }
 
@@ -414,6 +504,7 @@ public final class ClientFacade {
                 }
 
                 if ("UPDATE_SUCCESS".equals(response)) {
+                    UserDirectory.getInstance().upsert(newName, userId, newPw);
                     SwingUtilities.invokeLater(() -> {
                         model.setValueAt(newName, row, 0);
                         model.setValueAt(newPw, row, 2);
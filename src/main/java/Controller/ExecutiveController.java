@@ -1,5 +1,6 @@
 package Controller;
 
+import Util.Log;
 import View.Executive;
 import View.ReservedRoomView;
 import View.LoginForm;
@@ -98,17 +99,16 @@ public class ExecutiveController {
             MessageDispatcher dispatcher = MessageDispatcher.getInstance();
 
             if (out != null) {
-                out.println("EXIT");
-                out.flush();
+                MessageDispatcher.send("EXIT");
             }
 
             if (dispatcher != null) {
-                // ✅ MessageDispatcher를 통해 응답 대기
+                // ✅ 로그아웃은 응답을 오래 기다리지 않음 (고정 5초)
                 String response = dispatcher.waitForResponse(5);
-                System.out.println("서버 응답: " + response);
+                Log.info("서버 응답: {}", response);
             }
         } catch (Exception ex) {
-            System.out.println("로그아웃 중 오류: " + ex.getMessage());
+            Log.info("로그아웃 중 오류: {}", ex.getMessage());
         } finally {
             Session.getInstance().clear();
             executive.dispose();
@@ -127,26 +127,25 @@ public class ExecutiveController {
         MessageDispatcher dispatcher = MessageDispatcher.getInstance();
 
         if (out == null || dispatcher == null) {
-            System.out.println("서버 연결이 없습니다.");
+            Log.info("서버 연결이 없습니다.");
             return 0;
         }
 
         try {
-            out.println("COUNT_PENDING_REQUEST");
-            out.flush();
+            MessageDispatcher.send("COUNT_PENDING_REQUEST");
             
-            // ✅ MessageDispatcher를 통해 응답 대기 (30초 타임아웃)
-            String response = dispatcher.waitForResponse(30);
+            // ✅ MessageDispatcher를 통해 응답 대기 (적응형 타임아웃)
+            String response = dispatcher.waitForResponse();
             
             if (response != null && response.startsWith("PENDING_COUNT:")) {
                 return Integer.parseInt(response.split(":")[1].trim());
             } else {
-                System.out.println("서버 응답 형식 오류: " + response);
+                Log.info("서버 응답 형식 오류: {}", response);
             }
         } catch (NumberFormatException e) {
-            System.out.println("서버 응답 파싱 오류: " + e.getMessage());
+            Log.info("서버 응답 파싱 오류: {}", e.getMessage());
         } catch (Exception e) {
-            System.out.println("서버 응답 오류: " + e.getMessage());
+            Log.info("서버 응답 오류: {}", e.getMessage());
         }
         return 0;
     }
@@ -0,0 +1,54 @@
+package Controller;
+
+import Manager.ClientClassroomManager;
+import Manager.SelectionHistory;
+import Model.Session;
+import Util.Log;
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * 사용 기록 기반 초기화 전략 (ReservClassController, ReservLabController 기본)
+ * - SelectionHistory가 예측한 강의실/날짜/교시를 미리 선택한 뒤 달력 조회
+ * - 로그인 직후 같은 강의실-주를 미리 받아 두므로 보통 서버 왕복 없이 바로 그려짐
+ * - 기록이 없거나 이 화면의 강의실이 아니면 StandardReservationInitStrategy와 같이 현재 선택으로 조회
+ */
+public class HistoryInitStrategy implements InitializationStrategy {
+
+    @Override
+    public void initialize(AbstractReservationController controller) {
+        controller.setupEventListeners();
+        loadPredictedSelection(controller);
+    }
+
+    private void loadPredictedSelection(AbstractReservationController controller) {
+        new Thread(() -> {
+            List<String> rooms;
+            synchronized (controller.serverLock) {
+                if (Session.getInstance().isConnected()) {
+                    ClientClassroomManager.getInstance().refreshFromServer();
+                }
+
+                rooms = controller.loadRoomList();
+                if (rooms.isEmpty()) {
+                    SwingUtilities.invokeLater(() ->
+                            controller.showMessage(controller.getRoomTypeName() + " 목록을 불러올 수 없습니다.\nClassrooms.txt 파일을 확인해주세요.")
+                    );
+                }
+                controller.setRoomList(rooms);
+            }
+
+            SelectionHistory.Prediction prediction =
+                    SelectionHistory.getInstance().predict(rooms, java.time.LocalDate.now());
+            SwingUtilities.invokeLater(() -> {
+                if (prediction != null) {
+                    Log.info("[HistoryInitStrategy] 예측 선택: {}", prediction);
+                    controller.applySelection(prediction.room, prediction.date, prediction.time);
+                }
+                // 선택 변경으로 예약된 조회 대신 바로 조회
+                controller.cancelPendingRefresh();
+                controller.refreshReservationAndAvailability(controller.getSelectedRoom());
+            });
+        }).start();
+    }
+}
@@ -1,8 +1,12 @@
 package Controller;
 
+import Util.Log;
 import common.model.MembershipModel;
+import Manager.PersistentCache;
+import Manager.SelectionHistory;
 import Model.Session;
 import Util.MessageDispatcher; // ✅ 추가
+import Util.OfflineJournal;
 import View.*;
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -76,7 +80,7 @@ public class LoginController {
                 break;
 
             default:
-                System.out.println("알 수 없는 사용자 유형입니다: " + userType);
+                Log.info("알 수 없는 사용자 유형입니다: {}", userType);
                 break;
         }
     }
@@ -103,26 +107,28 @@ public class LoginController {
             MessageDispatcher dispatcher = MessageDispatcher.getInstance();
             if (dispatcher != null) {
                 dispatcher.stopDispatcher();
-                System.out.println("[LoginController] MessageDispatcher 종료: " + userId);
+                Log.info("[LoginController] MessageDispatcher 종료: {}", userId);
             }
 
             if (out != null) {
-                out.println("EXIT");
-                out.flush();
-                System.out.println("EXIT 메시지 전송됨");
+                MessageDispatcher.send("EXIT");
+                Log.info("EXIT 메시지 전송됨");
             }
 
             // 세션 정리
+            SelectionHistory.getInstance().endSession();
+            PersistentCache.getInstance().save();
+            OfflineJournal.getInstance().close();
             Session.getInstance().clear();
             
             // 소켓 닫기
             if (socket != null && !socket.isClosed()) {
                 socket.close();
-                System.out.println("소켓 정상 종료");
+                Log.info("소켓 정상 종료");
             }
 
         } catch (IOException e) {
-            System.out.println("소켓 종료 중 오류 발생: " + e.getMessage());
+            Log.info("소켓 종료 중 오류 발생: {}", e.getMessage());
         }
     }
 
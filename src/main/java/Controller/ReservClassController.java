@@ -16,7 +16,7 @@ public class ReservClassController extends AbstractReservationController {
     
     public ReservClassController(ReservClassView view) {
         this.view = view;
-        initialize();
+        initialize(new HistoryInitStrategy());
     }
     
     // ============================================================
@@ -16,7 +16,7 @@ public class ReservLabController extends AbstractReservationController {
 
     public ReservLabController(ReservLabView view) {
         this.view = view;
-        initialize(); // 부모 클래스의 초기화 메서드 호출
+        initialize(new HistoryInitStrategy()); // 부모 클래스의 초기화 메서드 호출 (사용 기록 기반)
     }
 
     @Override
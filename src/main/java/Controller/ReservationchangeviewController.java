@@ -4,6 +4,7 @@ import Controller.ReservationControllerUtil.ValidationResult;
 import Model.Session;
 import Service.ReservationService;
 import Service.ReservationService.*;
+import Util.Log;
 import Util.MessageDispatcher;
 import Util.ReservationUtil;
 import View.Reservationchangeview;
@@ -22,8 +23,6 @@ import java.util.*;
 public class ReservationchangeviewController extends AbstractReservationController {
 
     // ============ 상수 정의 ============
-    private static final int NOTIFICATION_DELAY_MS = 500;
-    private static final int CALENDAR_REFRESH_DELAY_MS = 300;
     private static final String ROOM_SELECTION_PLACEHOLDER = "선택";
     
     // ============ 필드 ============
@@ -69,11 +68,13 @@ public class ReservationchangeviewController extends AbstractReservationControll
         MessageDispatcher dispatcher = MessageDispatcher.getInstance();
         if (dispatcher != null) {
             dispatcher.setNotificationHandler(msg -> {
-                System.out.println("[예약변경화면] 알림 수신: " + msg);
-                SwingUtilities.invokeLater(() -> {
-                    sleepSafely(NOTIFICATION_DELAY_MS);
-                    loadReservations();
-                });
+                Log.info("[예약변경화면] 알림 수신: {}", msg);
+                // 승인 목록 캐시는 알림 가로채기에서 이미 수정/무효화됨 → 기다리지 않고 다시 표시
+                new Thread(() -> {
+                    synchronized (serverLock) {
+                        loadReservations();
+                    }
+                }).start();
             });
         }
     }
@@ -85,7 +86,7 @@ public class ReservationchangeviewController extends AbstractReservationControll
                 if (selectedRow >= 0 && selectedRow < reservations.size()) {
                     ReservationDTO info = reservations.get(selectedRow);
                     view.setReservationId(info.getUserId());
-                    System.out.printf("[테이블 클릭] 선택: %s (%s, %s, %s)%n",
+                    Log.debug("[테이블 클릭] 선택: {} ({}, {}, {})",
                             info.getName(), info.getRoom(), info.getDate(), info.getTime());
                 }
             }
@@ -106,7 +107,7 @@ public class ReservationchangeviewController extends AbstractReservationControll
         String selectedItem = (String) selected.getSelectedItem();
         if (selectedItem != null && !selectedItem.equals(ROOM_SELECTION_PLACEHOLDER)) {
             other.setSelectedIndex(0);
-            refreshReservationAndAvailability(view.getSelectedClassRoom());
+            scheduleRefresh(view.getSelectedClassRoom());
         }
     }
 
@@ -119,7 +120,7 @@ public class ReservationchangeviewController extends AbstractReservationControll
                     loadReservations();
                 }
             }).start();
-            refreshReservationAndAvailability(newSelectedRoom);
+            scheduleRefresh(newSelectedRoom);
         });
         
         view.getTimeComboBox().addActionListener(e -> updateCapacityPanel());
@@ -152,7 +153,7 @@ public class ReservationchangeviewController extends AbstractReservationControll
         try {
             SwingUtilities.invokeAndWait(() -> view.loadClassrooms());
         } catch (Exception ex) {
-            System.err.println("[초기화] 강의실 목록 로드 실패: " + ex.getMessage());
+            Log.error("[초기화] 강의실 목록 로드 실패: {}", ex.getMessage());
         }
     }
 
@@ -197,11 +198,15 @@ public class ReservationchangeviewController extends AbstractReservationControll
             view.updateCalendarTable(table);
             updateCapacityPanelWithData(room, view.getSelectedDay(), 
                     view.getSelectedTime(), reservedCapacity);
+            schedulePrefetch(room, weekStart);
         });
     }
 
     // ============ 예약 목록 로드 ============
     
+    /**
+     * 승인된 예약 목록 표시 (ApprovedReservationCache가 최신이면 서버 요청 없음)
+     */
     private void loadReservations() {
         try {
             List<ReservationDTO> list = reservationService.getApprovedReservations();
@@ -213,7 +218,7 @@ public class ReservationchangeviewController extends AbstractReservationControll
                 );
             }
         } catch (Exception e) {
-            System.err.println("[loadReservations] 오류: " + e.getMessage());
+            Log.error("[loadReservations] 오류: {}", e.getMessage());
             SwingUtilities.invokeLater(() -> 
                 view.showMessage("예약 목록 조회 실패: " + e.getMessage())
             );
@@ -356,7 +361,9 @@ public class ReservationchangeviewController extends AbstractReservationControll
                     ChangeReservationResponse response = reservationService.changeReservation(request);
 
                     SwingUtilities.invokeLater(() -> {
-                        if (response.isSuccess()) {
+                        if (response.isQueued()) {
+                            view.showMessage(response.getMessage());
+                        } else if (response.isSuccess()) {
                             view.showMessage(String.format(
                                     "예약 변경이 완료되었습니다!\n\n강의실: %s\n날짜: %s\n요일: %s\n"
                                     + "시간: %s ~ %s\n사용 인원: %d명\n\n조교의 승인을 기다려주세요.",
@@ -429,7 +436,9 @@ public class ReservationchangeviewController extends AbstractReservationControll
                             reservationService.cancelReservation(reservation);
 
                     SwingUtilities.invokeLater(() -> {
-                        if (response.isSuccess()) {
+                        if (response.isQueued()) {
+                            view.showMessage(response.getMessage());
+                        } else if (response.isSuccess()) {
                             removeFromTable(selectedRow);
                             view.showMessage(String.format(
                                     "예약이 취소되었습니다.\n\n강의실: %s\n날짜: %s (%s)\n시간: %s",
@@ -456,11 +465,9 @@ public class ReservationchangeviewController extends AbstractReservationControll
         }
 
         private void refreshCalendarAfterCancel() {
-            sleepSafely(CALENDAR_REFRESH_DELAY_MS);
             new Thread(() -> {
                 synchronized (serverLock) {
                     loadReservations();
-                    sleepSafely(100);
                     
                     String room = view.getSelectedClassRoom();
                     java.time.LocalDate date = view.getSelectedDate();
@@ -474,17 +481,14 @@ public class ReservationchangeviewController extends AbstractReservationControll
     
     /**
      * 예약 변경 후 테이블과 캘린더를 모두 갱신
+     * (변경 결과는 서비스가 승인 목록 캐시와 주간 캐시에 이미 반영 - 서버 처리를 기다릴 필요 없음)
      */
     private void refreshAfterChange() {
         new Thread(() -> {
-            sleepSafely(500);  // 서버 응답 처리 대기
-            
             synchronized (serverLock) {
                 // 1. 예약 목록(테이블) 갱신
                 loadReservations();
-                System.out.println("[변경완료] 예약 목록 새로고침 완료");
-                
-                sleepSafely(100);
+                Log.info("[변경완료] 예약 목록 새로고침 완료");
                 
                 // 2. 캘린더 갱신
                 String room = view.getSelectedClassRoom();
@@ -494,7 +498,7 @@ public class ReservationchangeviewController extends AbstractReservationControll
                 }
                 
                 loadCalendarData(room, date);
-                System.out.println("[변경완료] 캘린더 새로고침 완료");
+                Log.info("[변경완료] 캘린더 새로고침 완료");
             }
         }).start();
     }
@@ -506,14 +510,6 @@ public class ReservationchangeviewController extends AbstractReservationControll
         roomSelect.setVisible(true);
     }
 
-    private void sleepSafely(int ms) {
-        try {
-            Thread.sleep(ms);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
     // ============ 내부 클래스 ============
     
     private static class ChangeData {
@@ -554,6 +550,24 @@ public class ReservationchangeviewController extends AbstractReservationControll
     @Override protected int getStudentCount() { return view.getStudentCount(); }
     @Override protected JButton getBeforeButton() { return null; }
     @Override protected JComboBox<String> getRoomComboBox() { return null; }
+
+    /**
+     * 강의실/실습실 콤보박스 중 선택된 방이 들어 있는 쪽 순서로 이웃 판단
+     */
+    @Override
+    protected List<String> roomOrder() {
+        String room = view.getSelectedClassRoom();
+        for (JComboBox<String> combo : List.of(view.getClassRoomTypeComboBox(), view.getLabRoomTypeComboBox())) {
+            List<String> rooms = new ArrayList<>();
+            for (int i = 0; i < combo.getItemCount(); i++) {
+                rooms.add(combo.getItemAt(i));
+            }
+            if (rooms.contains(room)) {
+                return rooms;
+            }
+        }
+        return new ArrayList<>();
+    }
     @Override protected JComboBox<String> getTimeComboBox() { return view.getTimeComboBox(); }
     @Override protected com.toedter.calendar.JDateChooser getDateChooser() { return view.getDateChooser(); }
     @Override protected void resetReservationButtonListener() { }
@@ -1,18 +1,28 @@
 package Controller;
 
+import Manager.ReservationTableIndex;
+import Manager.WeeklyReservationCache;
 import Model.Session;
+import Util.Log;
 import Util.MessageDispatcher;
 import View.Executive;
 import View.ReservedRoomCancelView;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
 import java.io.*;
 
 public class ReservedRoomCancelController {
 
+    // 이만큼 받을 때마다 표에 반영
+    private static final int RENDER_BATCH = 200;
+
     private ReservedRoomCancelView view;
     private volatile boolean isLoading = false; // ✅ 로딩 중 플래그
+    // 받은 예약의 강의실/날짜/아이디 색인 (필터는 색인으로 계산)
+    private final ReservationTableIndex index = new ReservationTableIndex();
 
     public ReservedRoomCancelController(ReservedRoomCancelView view) {
         this.view = view;
@@ -20,12 +30,13 @@ public class ReservedRoomCancelController {
         loadUserReservations(); // 서버로부터 예약 목록 요청
         setCancelAction();      // 취소 버튼 처리
         setBackAction();        // 이전 버튼 처리
+        setFilterAction();      // 필터 입력 처리
     }
 
     private void loadUserReservations() {
         // ✅ 이미 로딩 중이면 중복 요청 방지
         if (isLoading) {
-            System.out.println("[ReservedRoomCancel] 이미 로딩 중 - 요청 무시");
+            Log.debug("[ReservedRoomCancel] 이미 로딩 중 - 요청 무시");
             return;
         }
         
@@ -52,15 +63,15 @@ public class ReservedRoomCancelController {
         new Thread(() -> {
             try {
                 isLoading = true; // ✅ 로딩 시작
+                index.clear();
                 
                 // 조교는 전체 예약 조회, 나머지는 본인 예약만
                 if ("조교".equals(role)) {
-                    out.println("VIEW_ALL_RESERVATIONS");
+                    MessageDispatcher.send("VIEW_ALL_RESERVATIONS");
                 } else {
-                    out.println("VIEW_MY_RESERVATIONS," + userId);
+                    MessageDispatcher.send("VIEW_MY_RESERVATIONS," + userId);
                 }
-                out.flush();
-                System.out.println("[ReservedRoomCancel] 예약 목록 요청 전송");
+                Log.debug("[ReservedRoomCancel] 예약 목록 요청 전송");
 
                 // ✅ 짧은 대기 (이전 응답이 큐에서 처리되도록)
                 Thread.sleep(200);
@@ -68,11 +79,13 @@ public class ReservedRoomCancelController {
                 // MessageDispatcher를 통해 응답 수신
                 String line;
                 int receivedCount = 0;
-                while ((line = dispatcher.waitForResponse(30)) != null) {
-                    System.out.println("[ReservedRoomCancel] 수신 [" + receivedCount + "]: " + line);
+                boolean completed = false;
+                while ((line = dispatcher.waitForResponse()) != null) {
+                    Log.debug("[ReservedRoomCancel] 수신 [{}]: {}", receivedCount, line);
                     
                     if (line.startsWith("END_")) {
-                        System.out.println("[ReservedRoomCancel] 예약 목록 로드 완료 (총 " + receivedCount + "개)");
+                        Log.debug("[ReservedRoomCancel] 예약 목록 로드 완료 (총 {}개)", receivedCount);
+                        completed = true;
                         break;
                     }
 
@@ -80,9 +93,7 @@ public class ReservedRoomCancelController {
                     String[] parts = line.split(",");
                     if (parts.length >= 7) {
                         receivedCount++;
-                        // GUI 업데이트는 EDT에서 실행
-                        String[] rowData = parts;
-                        SwingUtilities.invokeLater(() -> model.addRow(rowData));
+                        index.add(parts, parts[0], parts[4], parts[3], null);
                     } else if (parts.length == 5) {
                         // ✅ 구 형식 지원: userId,time,day,room,name
                         receivedCount++;
@@ -91,13 +102,20 @@ public class ReservedRoomCancelController {
                         newParts[3] = ""; // date (없음)
                         System.arraycopy(parts, 3, newParts, 4, 2); // room, name
                         newParts[6] = ""; // count (없음)
-                        SwingUtilities.invokeLater(() -> model.addRow(newParts));
+                        index.add(newParts, newParts[0], newParts[4], null, null);
+                    }
+                    if (receivedCount > 0 && receivedCount % RENDER_BATCH == 0) {
+                        // GUI 업데이트는 EDT에서 실행 (행마다가 아니라 묶어서 한 번)
+                        SwingUtilities.invokeLater(this::showFiltered);
                     }
                 }
+                if (completed || receivedCount > 0) {
+                    SwingUtilities.invokeLater(this::showFiltered);
+                }
             } catch (InterruptedException e) {
-                System.err.println("[ReservedRoomCancel] 스레드 인터럽트: " + e.getMessage());
+                Log.error("[ReservedRoomCancel] 스레드 인터럽트: {}", e.getMessage());
             } catch (Exception e) {
-                e.printStackTrace();
+                Log.error("[ReservedRoomCancel] 예약 목록 수신 오류", e);
                 SwingUtilities.invokeLater(() -> 
                     JOptionPane.showMessageDialog(view, "예약 목록 수신 중 오류 발생: " + e.getMessage())
                 );
@@ -113,8 +131,8 @@ public class ReservedRoomCancelController {
             JTable table = view.getTable();
             int selectedRow = table.getSelectedRow();
 
-            System.out.println("[취소버튼] 클릭됨");
-            System.out.println("[취소버튼] 선택된 행: " + selectedRow);
+            Log.debug("[취소버튼] 클릭됨");
+            Log.debug("[취소버튼] 선택된 행: {}", selectedRow);
 
             if (selectedRow == -1) {
                 JOptionPane.showMessageDialog(view, "취소할 예약을 선택하세요.");
@@ -139,11 +157,11 @@ public class ReservedRoomCancelController {
             );
 
             if (confirm != JOptionPane.YES_OPTION) {
-                System.out.println("[취소버튼] 사용자가 취소를 취소함");
+                Log.debug("[취소버튼] 사용자가 취소를 취소함");
                 return;
             }
 
-            System.out.println("[취소버튼] 사용자 확인 완료, 서버 요청 시작");
+            Log.debug("[취소버튼] 사용자 확인 완료, 서버 요청 시작");
 
             //  연결 상태 확인
             if (!Session.getInstance().isConnected()) {
@@ -181,23 +199,25 @@ public class ReservedRoomCancelController {
                         userName
                     );
                     
-                    System.out.println("[취소버튼] 서버 요청: " + command);
-                    out.println(command);
-                    out.flush();
+                    Log.debug("[취소버튼] 서버 요청: {}", command);
+                    MessageDispatcher.send(command);
 
                     // ✅ 짧은 대기 후 응답 수신
                     Thread.sleep(100);
 
-                    // MessageDispatcher로 응답 대기 (30초 타임아웃)
-                    String response = dispatcher.waitForResponse(30);
+                    // MessageDispatcher로 응답 대기 (적응형 타임아웃)
+                    String response = dispatcher.waitForResponse();
+                    WeeklyReservationCache.getInstance().invalidate(room, date);
 
-                    System.out.println("[취소버튼] 서버 응답: " + response);
+                    Log.debug("[취소버튼] 서버 응답: {}", response);
+                    String noResponseReason = MessageDispatcher.describeNoResponse();
 
                     SwingUtilities.invokeLater(() -> {
                         if (response == null) {
-                            JOptionPane.showMessageDialog(view, "서버 응답 시간 초과");
+                            JOptionPane.showMessageDialog(view, noResponseReason);
                         } else if ("CANCEL_SUCCESS".equals(response)) {
-                            // ✅ 테이블에서 해당 행만 삭제 (새로고침 대신)
+                            // ✅ 테이블과 색인에서 해당 행만 삭제 (새로고침 대신)
+                            index.removeVisibleRow(selectedRow);
                             ((DefaultTableModel) table.getModel()).removeRow(selectedRow);
                             JOptionPane.showMessageDialog(view, "예약이 취소되었습니다.");
                         } else if ("CANCEL_FAILED_NOT_FOUND".equals(response)) {
@@ -231,9 +251,9 @@ public class ReservedRoomCancelController {
                         view.getCancelButton().setEnabled(true);
                     });
                 } catch (InterruptedException ex) {
-                    System.err.println("[취소버튼] 스레드 인터럽트: " + ex.getMessage());
+                    Log.error("[취소버튼] 스레드 인터럽트: {}", ex.getMessage());
                 } catch (Exception ex) {
-                    ex.printStackTrace();
+                    Log.error("[취소버튼] 서버 통신 오류", ex);
                     SwingUtilities.invokeLater(() -> {
                         JOptionPane.showMessageDialog(view, "서버 통신 오류: " + ex.getMessage());
                         view.getCancelButton().setEnabled(true);
@@ -243,6 +263,41 @@ public class ReservedRoomCancelController {
         });
     }
 
+    /**
+     * 필터 입력창 → 입력할 때마다 색인으로 다시 표시 (서버 요청 없음)
+     */
+    private void setFilterAction() {
+        JTextField filterField = view.getFilterField();
+        if (filterField == null) {
+            return;
+        }
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                showFiltered();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                showFiltered();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                showFiltered();
+            }
+        });
+    }
+
+    /**
+     * 색인에서 필터에 맞는 행만 표에 표시 (EDT에서 호출)
+     */
+    private void showFiltered() {
+        JTextField filterField = view.getFilterField();
+        String filter = filterField == null ? "" : filterField.getText();
+        index.render((DefaultTableModel) view.getTable().getModel(), index.parse(filter));
+    }
+
     private void setBackAction() {
         view.getBackButton().addActionListener(e -> {
             view.dispose();
@@ -1,8 +1,12 @@
 package Controller;
 
-import iterator.ReservationGroup;
+import Util.Log;
+import Util.MessageDispatcher;
+import iterator.ReservationColumns;
+import iterator.ReservationView;
 import iterator.Iterator;
 import Model.Session;
+import Monitoring.CalendarRebuildEvent;
 import Service.ReservationService;
 import View.ReservedRoomView;
 import View.RoomSelect;
@@ -14,7 +18,7 @@ import java.time.DayOfWeek;
 
 /**
  * [Iterator Pattern: Client]
- * - Aggregate(ReservationGroup)와 Iterator 인터페이스를 사용하여 데이터를 처리합니다.
+ * - Aggregate(ReservationColumns)와 Iterator 인터페이스를 사용하여 데이터를 처리합니다.
  * - 데이터의 내부 저장 구조(ArrayList 등)를 알 필요 없이 순회할 수 있습니다.
  */
 
@@ -44,10 +48,10 @@ public class ReservedRoomController {
             if (manager.refreshFromServer()) {
                 javax.swing.SwingUtilities.invokeLater(() -> {
                     view.loadRooms();
-                    System.out.println("[ReservedRoomController] 강의실 목록 초기화 완료");
+                    Log.debug("[ReservedRoomController] 강의실 목록 초기화 완료");
                 });
             } else {
-                System.err.println("[ReservedRoomController] 강의실 목록 로드 실패");
+                Log.error("[ReservedRoomController] 강의실 목록 로드 실패");
             }
         }).start();
     }
@@ -94,7 +98,7 @@ public class ReservedRoomController {
             if (isLoading) return;
             String selectedRoom = view.getSelectedRoom();
             if (!"선택".equals(selectedRoom)) {
-                System.out.println("[날짜 변경] 선택된 날짜: " + view.getSelectedDateString());
+                Log.debug("[날짜 변경] 선택된 날짜: {}", view.getSelectedDateString());
                 loadReservedRooms(selectedRoom);
             }
         });
@@ -108,7 +112,7 @@ public class ReservedRoomController {
                 if (view.getExecutive() != null) {
                     view.getExecutive().setVisible(true);
                 } else {
-                    System.err.println("[오류] Executive 인스턴스가 null입니다.");
+                    Log.error("[오류] Executive 인스턴스가 null입니다.");
                 }
             } else {
                 RoomSelect roomSelect = RoomSelect.getInstance();
@@ -120,12 +124,12 @@ public class ReservedRoomController {
 
     private void loadReservedRooms(String selectedRoom) {
         if (isLoading) {
-            System.out.println("[경고] 이미 데이터를 불러오는 중입니다.");
+            Log.debug("[경고] 이미 데이터를 불러오는 중입니다.");
             return;
         }
         
         isLoading = true;
-        System.out.println("[시작] " + selectedRoom + " 데이터 요청");
+        Log.debug("[시작] {} 데이터 요청", selectedRoom);
         
         JTable table = view.getTable();
         
@@ -140,6 +144,8 @@ public class ReservedRoomController {
         
         // 서버 통신은 비동기 스레드에서 처리
         new Thread(() -> {
+            CalendarRebuildEvent rebuildEvent = new CalendarRebuildEvent();
+            rebuildEvent.begin();
             try {
                 // ============================================
                 // [캘린더] 선택된 날짜의 주간 계산
@@ -147,24 +153,24 @@ public class ReservedRoomController {
                LocalDate selectedDate = view.getSelectedDate();
                 
                 if (selectedDate == null) {
-                    System.err.println("❌ [오류] 뷰에서 날짜를 가져오지 못했습니다. (null 반환됨)");
+                    Log.error("❌ [오류] 뷰에서 날짜를 가져오지 못했습니다. (null 반환됨)");
                     // 강제로 진행하지 않고 여기서 멈춰서 오동작(다른 날짜 표시)을 방지합니다.
                     isLoading = false; 
                     return; 
                 } else {
-                    System.out.println("✅ [정상] 인식된 날짜: " + selectedDate);
+                    Log.debug("✅ [정상] 인식된 날짜: {}", selectedDate);
                 }
                 
                 LocalDate weekStart = getWeekStart(selectedDate);
                 LocalDate weekEnd = weekStart.plusDays(6);
                 
-                System.out.println("[예약 로드] 주간 범위: " + weekStart + " ~ " + weekEnd);
+                Log.debug("[예약 로드] 주간 범위: {} ~ {}", weekStart, weekEnd);
                 
                 String userId = Session.getInstance().getLoggedInUserId();
                 String userName = Session.getInstance().getLoggedInUserName();
                 boolean isPrivileged = userId.startsWith("P") || userId.startsWith("A");
                 
-                System.out.println("[사용자] ID=" + userId + ", 이름=" + userName + ", 권한=" + (isPrivileged ? "교수/조교" : "학생"));
+                Log.debug("[사용자] ID={}, 이름={}, 권한={}", userId, userName, (isPrivileged ? "교수/조교" : "학생"));
                 
                 PrintWriter out = Session.getInstance().getOut();
                 Util.MessageDispatcher dispatcher = Util.MessageDispatcher.getInstance();
@@ -182,14 +188,14 @@ public class ReservedRoomController {
                 String request = String.format("VIEW_RESERVATION,%s,%s,%s,%s", 
                     userId, selectedRoom, weekStart.toString(), weekEnd.toString());
                     
-                System.out.println("[요청 전송] " + request);
-                out.println(request);
-                out.flush();
+                Log.debug("[요청 전송] {}", request);
+                MessageDispatcher.send(request);
 
                 // ============================================
                 // [Iterator 패턴] MessageDispatcher로 응답 받기
                 // ============================================
-                ReservationGroup reservationGroup = new ReservationGroup();
+                // 열 단위 저장 (행마다 DTO를 만들지 않음)
+                ReservationColumns reservationColumns = new ReservationColumns();
                 
                 int lineCount = 0;
                 int maxAttempts = 100;
@@ -197,70 +203,55 @@ public class ReservedRoomController {
                 
                 while (attempts < maxAttempts) {
                     attempts++;
-                    String line = dispatcher.waitForResponse(30); // 30초 타임아웃
+                    String line = dispatcher.waitForResponse(); // 적응형 타임아웃
                     
                     if (line == null) {
-                        System.out.println("[타임아웃] 응답 없음");
+                        Log.debug("[타임아웃] 응답 없음");
                         break;
                     }
                     
                     lineCount++;
-                    System.out.println("[수신 " + lineCount + "] " + line);
+                    Log.debug("[수신 {}] {}", lineCount, line);
                     
                     if (line.equals("END_OF_RESERVATION")) {
-                        System.out.println("[종료 신호 수신]");
+                        Log.debug("[종료 신호 수신]");
                         break;
                     }
 
                     String[] tokens = line.split(",");
                     if (tokens.length < 10) {
-                        System.out.println("[경고] 필드 부족: " + line);
+                        Log.debug("[경고] 필드 부족: {}", line);
                         continue;
                     }
 
                     try {
-                        // CSV를 DTO로 변환
-                        Service.ReservationService.ReservationDTO dto = 
-                            new Service.ReservationService.ReservationDTO(
+                        // CSV 필드를 바로 열에 저장 (강의실/주간 범위 확인은 순회할 때 정수 비교로)
+                        boolean added = reservationColumns.addReservation(
                                 tokens[0].trim(),  // fileType
                                 tokens.length > 9 ? tokens[9].trim() : "",  // userId
                                 tokens[0].trim(),  // name
                                 tokens[1].trim(),  // room
                                 tokens[2].trim(),  // date
-                                tokens[3].trim(),  // day
                                 tokens[4].trim(),  // time
                                 tokens[5].trim(),  // purpose
                                 tokens.length > 6 ? tokens[6].trim() : "",  // role
                                 tokens.length > 8 ? Integer.parseInt(tokens[8].trim()) : 0  // count
-                            );
-
-                        // ============================================
-                        // [필터링] 선택된 강의실 + 주간 범위
-                        // ============================================
-                        if (dto.getRoom().equals(selectedRoom) || 
-                            dto.getRoom().equals(selectedRoom + "호") ||
-                            (dto.getRoom() + "호").equals(selectedRoom)) {
-                            
-                            // 날짜 범위 체크 (서버에서 이미 필터링하지만 이중 체크)
-                            LocalDate reservationDate = LocalDate.parse(dto.getDate());
-                            if (!reservationDate.isBefore(weekStart) && !reservationDate.isAfter(weekEnd)) {
-                                reservationGroup.addReservation(dto);
-                                System.out.println("[추가] " + dto.getName() + " / " + dto.getDate() + " / " + dto.getDay() + " / " + dto.getTime());
-                            } else {
-                                System.out.println("[날짜 제외] " + dto.getDate() + " (범위: " + weekStart + " ~ " + weekEnd + ")");
-                            }
+                        );
+                        if (!added) {
+                            Log.debug("[경고] 날짜/교시 해석 불가: {}", line);
                         }
                     } catch (Exception e) {
-                        System.err.println("[파싱 오류] " + line + " - " + e.getMessage());
+                        Log.error("[파싱 오류] {} - {}", line, e.getMessage());
                     }
                 }
                 
-                System.out.println("[총 수신] " + lineCount + "개");
+                Log.debug("[총 수신] {}개", lineCount);
 
                 // ============================================
                 // [Iterator 패턴] 데이터 순회하여 UI 업데이트
                 // ============================================
-                Iterator iterator = reservationGroup.createIterator();
+                // [필터링] 선택된 강의실 + 주간 범위 (서버에서 이미 필터링하지만 이중 체크)
+                Iterator<ReservationView> iterator = reservationColumns.createIterator(selectedRoom, weekStart, weekEnd, null);
                 
                 final boolean finalIsPrivileged = isPrivileged;
                 final String finalUserName = userName;
@@ -269,69 +260,76 @@ public class ReservedRoomController {
                     int processedCount = 0;
                     
                     while (iterator.hasNext()) {
-                        Service.ReservationService.ReservationDTO dto = 
-                            (Service.ReservationService.ReservationDTO) iterator.next();
+                        ReservationView reservation = iterator.next();
                         
-                        if (dto == null) {
-                            System.out.println("[경고] null 데이터");
+                        if (reservation == null) {
+                            Log.debug("[경고] null 데이터");
                             continue;
                         }
                         
                         processedCount++;
                         
-                        int col = getDayColumn(dto.getDay());
-                        int row = getPeriodRow(dto.getTime());
+                        int col = reservation.getWeekday().column();
+                        int row = reservation.getSlot().index();
                         
-                        System.out.println("[처리 " + processedCount + "] " + dto.getName() + " / " + dto.getDay() + " / " + dto.getTime());
-                        System.out.println("[위치] row=" + row + ", col=" + col);
+                        Log.debug("[처리 {}] {} / {} / {}", processedCount, reservation.getName(), reservation.getDay(), reservation.getTime());
+                        Log.debug("[위치] row={}, col={}", row, col);
                         
                         if (col != -1 && row != -1) {
                             String current = (String) table.getValueAt(row, col);
-                            String name = dto.getName();
+                            String name = reservation.getName();
                             
-                            System.out.println("[비교] 예약자=" + name + ", 로그인사용자=" + finalUserName);
+                            Log.debug("[비교] 예약자={}, 로그인사용자={}", name, finalUserName);
                             
                             if (finalIsPrivileged) {
                                 // 교수/조교: 모든 예약자 이름 표시
                                 if (current == null || current.isEmpty()) {
                                     table.setValueAt(name, row, col);
-                                    System.out.println("[교수/조교] 테이블 업데이트: " + name);
+                                    Log.debug("[교수/조교] 테이블 업데이트: {}", name);
                                 } else if (!current.contains(name)) {
                                     table.setValueAt(current + ", " + name, row, col);
-                                    System.out.println("[교수/조교] 테이블 추가: " + name);
+                                    Log.debug("[교수/조교] 테이블 추가: {}", name);
                                 }
                             } else {
                                 // 학생: 모든 예약을 "예약됨"으로 표시 (예약자 이름은 숨김)
                                 if (current == null || current.isEmpty()) {
                                     table.setValueAt("예약됨", row, col);
-                                    System.out.println("[학생] 테이블 업데이트: 예약됨 (예약자: " + name + ")");
+                                    Log.debug("[학생] 테이블 업데이트: 예약됨 (예약자: {})", name);
                                 } else if (!current.contains("예약됨")) {
                                     // 이미 "예약됨"이 있으면 중복 표시하지 않음
                                     table.setValueAt("예약됨", row, col);
-                                    System.out.println("[학생] 테이블 유지: 예약됨 (예약자: " + name + ")");
+                                    Log.debug("[학생] 테이블 유지: 예약됨 (예약자: {})", name);
                                 }
                             }
                             
                             table.repaint();
                         } else {
-                            System.out.println("[경고] 잘못된 위치 정보");
+                            Log.debug("[경고] 잘못된 위치 정보");
                         }
                     }
                     
-                    System.out.println("========================================");
-                    System.out.println("[총 처리된 예약 수] " + processedCount);
-                    System.out.println("========================================");
+                    Log.debug("========================================");
+                    Log.debug("[총 처리된 예약 수] {}", processedCount);
+                    Log.debug("========================================");
+
+                    rebuildEvent.end();
+                    if (rebuildEvent.shouldCommit()) {
+                        rebuildEvent.source = "ReservedRoomController";
+                        rebuildEvent.room = selectedRoom;
+                        rebuildEvent.weekStart = weekStart.toString();
+                        rebuildEvent.reservedSlots = processedCount;
+                        rebuildEvent.commit();
+                    }
                 });
                 
             } catch (Exception e) {
-                System.err.println("[오류] " + e.getMessage());
-                e.printStackTrace();
+                Log.error("[오류] {}", e.getMessage(), e);
                 javax.swing.SwingUtilities.invokeLater(() -> {
                     JOptionPane.showMessageDialog(view, "데이터 조회 실패: " + e.getMessage());
                 });
             } finally {
                 isLoading = false;
-                System.out.println("[완료] " + selectedRoom + " 데이터 로딩 완료\n");
+                Log.debug("[완료] {} 데이터 로딩 완료\n", selectedRoom);
             }
         }).start();
     }
@@ -344,32 +342,4 @@ public class ReservedRoomController {
         int daysToSubtract = dayOfWeek.getValue() - 1;
         return date.minusDays(daysToSubtract);
     }
-
-    private int getDayColumn(String day) {
-        return switch (day) {
-            case "월요일" -> 1;
-            case "화요일" -> 2;
-            case "수요일" -> 3;
-            case "목요일" -> 4;
-            case "금요일" -> 5;
-            case "토요일" -> 6;
-            case "일요일" -> 7;
-            default -> -1;
-        };
-    }
-
-    private int getPeriodRow(String period) {
-        return switch (period) {
-            case "1교시(09:00~10:00)" -> 0;
-            case "2교시(10:00~11:00)" -> 1;
-            case "3교시(11:00~12:00)" -> 2;
-            case "4교시(12:00~13:00)" -> 3;
-            case "5교시(13:00~14:00)" -> 4;
-            case "6교시(14:00~15:00)" -> 5;
-            case "7교시(15:00~16:00)" -> 6;
-            case "8교시(16:00~17:00)" -> 7;
-            case "9교시(17:00~18:00)" -> 8;
-            default -> -1;
-        };
-    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package Controller;
 
 import Model.Session;
+import Util.Log;
 import Util.MessageDispatcher;
 import View.Executive;
 import View.RoomAddDelete;
@@ -89,11 +90,10 @@ public class RoomAddDeleteController {
     String request = String.format("ADD_CLASSROOM,%s,%s,%d",
     roomName, type, capacity);
 
-    out.println(request);
-    out.flush();
+    MessageDispatcher.send(request);
     
-            // MessageDispatcher로부터 응답 대기 (5초 타임아웃)
-    String response = dispatcher.waitForResponse(5);
+            // MessageDispatcher로부터 응답 대기 (적응형 타임아웃)
+    String response = dispatcher.waitForResponse();
 
     if (response != null && response.startsWith("SUCCESS")) {
     JOptionPane.showMessageDialog(view,
@@ -101,8 +101,8 @@ public class RoomAddDeleteController {
                         "성공",
             JOptionPane.INFORMATION_MESSAGE);
 
-                // ✅ ClientClassroomManager 캠시 업데이트
-                Manager.ClientClassroomManager.getInstance().refreshFromServer();
+                // ✅ ClientClassroomManager 캐시 무효화 후 다시 로드
+                Manager.ClientClassroomManager.getInstance().reload();
                 
                 // 목록 새로고침
     loadRoomLists();
@@ -112,7 +112,7 @@ public class RoomAddDeleteController {
 
     } else if (response == null) {
     JOptionPane.showMessageDialog(view,
-            "서버 응답 시간 초과. 다시 시도해주세요.",
+            MessageDispatcher.describeNoResponse(),
     "타임아웃",
     JOptionPane.ERROR_MESSAGE);
     } else {
@@ -126,7 +126,7 @@ public class RoomAddDeleteController {
         }
 
     } catch (Exception e) {
-    e.printStackTrace();
+    Log.error("[RoomAddDelete] 강의실 추가 오류", e);
     JOptionPane.showMessageDialog(view,
     "강의실 추가 중 오류가 발생했습니다: " + e.getMessage(),
                 "오류",
@@ -174,11 +174,10 @@ public class RoomAddDeleteController {
             // 서버에 삭제 요청
             String request = String.format("DELETE_CLASSROOM,%s", roomToDelete);
 
-            out.println(request);
-            out.flush();
+            MessageDispatcher.send(request);
             
-            // MessageDispatcher로부터 응답 대기 (5초 타임아웃)
-            String response = dispatcher.waitForResponse(5);
+            // MessageDispatcher로부터 응답 대기 (적응형 타임아웃)
+            String response = dispatcher.waitForResponse();
 
             if (response != null && response.startsWith("SUCCESS")) {
                 JOptionPane.showMessageDialog(view,
@@ -186,15 +185,15 @@ public class RoomAddDeleteController {
                         "성공",
                         JOptionPane.INFORMATION_MESSAGE);
 
-                // ✅ ClientClassroomManager 캠시 업데이트
-                Manager.ClientClassroomManager.getInstance().refreshFromServer();
+                // ✅ ClientClassroomManager 캐시 무효화 후 다시 로드
+                Manager.ClientClassroomManager.getInstance().reload();
                 
                 // 목록 새로고침
                 loadRoomLists();
 
             } else if (response == null) {
                 JOptionPane.showMessageDialog(view,
-                        "서버 응답 시간 초과. 다시 시도해주세요.",
+                        MessageDispatcher.describeNoResponse(),
                         "타임아웃",
                         JOptionPane.ERROR_MESSAGE);
             } else {
@@ -208,7 +207,7 @@ public class RoomAddDeleteController {
             }
 
         } catch (Exception e) {
-            e.printStackTrace();
+            Log.error("[RoomAddDelete] 강의실 삭제 오류", e);
             JOptionPane.showMessageDialog(view,
                     "강의실 삭제 중 오류가 발생했습니다: " + e.getMessage(),
                     "오류",
@@ -220,11 +219,8 @@ public class RoomAddDeleteController {
      * 서버에서 강의실 목록 가져오기
      */
     private List<ClassroomDTO> getClassroomsFromServer() throws IOException {
-        out.println("GET_CLASSROOMS");
-        out.flush();
-        
-        // MessageDispatcher로부터 응답 대기 (5초 타임아웃)
-        String response = dispatcher.waitForResponse(5);
+        // 같은 조회가 진행 중이면(ClientClassroomManager 갱신 등) 그 응답을 함께 받음
+        String response = MessageDispatcher.request("GET_CLASSROOMS");
 
         List<ClassroomDTO> classrooms = new ArrayList<>();
 
@@ -244,7 +240,7 @@ public class RoomAddDeleteController {
                                 Integer.parseInt(rooms[i + 2]) // capacity
                         ));
                     } catch (Exception e) {
-                        System.err.println("강의실 파싱 오류: " + e.getMessage());
+                        Log.error("강의실 파싱 오류: {}", e.getMessage());
                     }
                 }
             }
@@ -257,11 +253,8 @@ public class RoomAddDeleteController {
      * 서버에서 실습실 목록 가져오기
      */
     private List<ClassroomDTO> getLabsFromServer() throws IOException {
-        out.println("GET_LABS");
-        out.flush();
-        
-        // MessageDispatcher로부터 응답 대기 (5초 타임아웃)
-        String response = dispatcher.waitForResponse(5);
+        // 같은 조회가 진행 중이면(ClientClassroomManager 갱신 등) 그 응답을 함께 받음
+        String response = MessageDispatcher.request("GET_LABS");
 
         List<ClassroomDTO> labs = new ArrayList<>();
 
@@ -281,7 +274,7 @@ public class RoomAddDeleteController {
                                 Integer.parseInt(rooms[i + 2]) // capacity
                         ));
                     } catch (Exception e) {
-                        System.err.println("실습실 파싱 오류: " + e.getMessage());
+                        Log.error("실습실 파싱 오류: {}", e.getMessage());
                     }
                 }
             }
@@ -1,5 +1,7 @@
 package Controller;
 
+import Util.Log;
+import Util.MessageDispatcher;
 import View.RoomAdmin;
 import View.Executive;
 import Model.Session;
@@ -54,15 +56,13 @@ private void initListeners() {
             try {
                 // 1. 상태 업데이트
                 String command = "UPDATE_ROOM_STATUS," + finalRoomNumber + "," + status;
-                synchronized (out) {
-                    out.println(command);
-                    out.flush();
-                }
-                System.out.println("[RoomAdmin] 상태 변경 전송: " + command);
+                MessageDispatcher.send(command);
+                Log.info("[RoomAdmin] 상태 변경 전송: {}", command);
 
                 // MessageDispatcher로부터 응답 대기
-                String response = Util.MessageDispatcher.getInstance().waitForResponse(3000);
-                System.out.println("[RoomAdmin] 상태 변경 응답: " + response);
+                String response = Util.MessageDispatcher.getInstance().waitForResponse();
+                Log.info("[RoomAdmin] 상태 변경 응답: {}", response);
+                final String noResponseReason = MessageDispatcher.describeNoResponse();
 
                 // 2. 수용인원 업데이트 (입력된 경우)
                 String capacityResponse = "NOT_UPDATED";
@@ -71,14 +71,11 @@ private void initListeners() {
                         int capacity = Integer.parseInt(finalCapacityStr);
                         String capacityCommand = "UPDATE_ROOM_CAPACITY," + finalRoomNumber + "," + capacity;
                         
-                        synchronized (out) {
-                            out.println(capacityCommand);
-                            out.flush();
-                        }
-                        System.out.println("[RoomAdmin] 수용인원 변경 전송: " + capacityCommand);
+                        MessageDispatcher.send(capacityCommand);
+                        Log.info("[RoomAdmin] 수용인원 변경 전송: {}", capacityCommand);
                         
-                        capacityResponse = Util.MessageDispatcher.getInstance().waitForResponse(3000);
-                        System.out.println("[RoomAdmin] 수용인원 변경 응답: " + capacityResponse);
+                        capacityResponse = Util.MessageDispatcher.getInstance().waitForResponse();
+                        Log.info("[RoomAdmin] 수용인원 변경 응답: {}", capacityResponse);
                     } catch (NumberFormatException ex) {
                         SwingUtilities.invokeLater(() -> 
                             JOptionPane.showMessageDialog(view, "수용인원은 숫자로 입력하세요."));
@@ -86,11 +83,19 @@ private void initListeners() {
                     }
                 }
 
-                // 3. 결과 처리
+                // 3. 강의실 캐시 무효화 (다음 화면은 서버에서 바뀐 목록을 받음)
+                if ("ROOM_STATUS_UPDATED".equals(response) || "CAPACITY_UPDATED".equals(capacityResponse)) {
+                    Manager.ClientClassroomManager.getInstance().invalidate();
+                }
+                if ("ROOM_STATUS_UPDATED".equals(response)) {
+                    Manager.RoomStatusCache.getInstance().invalidate(finalRoomNumber);
+                }
+
+                // 4. 결과 처리
                 final String finalCapacityResponse = capacityResponse;
                 SwingUtilities.invokeLater(() -> {
                     if (response == null) {
-                        JOptionPane.showMessageDialog(view, "서버 응답 시간 초과");
+                        JOptionPane.showMessageDialog(view, noResponseReason);
                         return;
                     }
 
@@ -124,7 +129,7 @@ private void initListeners() {
                 });
 
             } catch (Exception ex) {
-                ex.printStackTrace();
+                Log.error("[RoomAdmin] 상태 업데이트 통신 오류", ex);
                 SwingUtilities.invokeLater(() ->
                     JOptionPane.showMessageDialog(view, "통신 오류: " + ex.getMessage())
                 );
@@ -139,7 +144,7 @@ private void initListeners() {
         if (executiveView != null) {
             executiveView.setVisible(true);
         } else {
-            System.err.println("[오류] Executive 인스턴스가 null입니다.");
+            Log.error("[오류] Executive 인스턴스가 null입니다.");
         }
     }
 }
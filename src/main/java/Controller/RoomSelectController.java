@@ -1,6 +1,8 @@
 package Controller;
 
 import Model.Session;
+import Util.Log;
+import Util.MessageDispatcher;
 import View.ChangePasswordView;
 import View.RoomSelect;
 import View.ReservClassView;
@@ -19,7 +21,7 @@ public class RoomSelectController {
     private RoomSelect view;
 
     public RoomSelectController(RoomSelect view) {
-        System.out.println("RoomSelectController 연결됨");
+        Log.info("RoomSelectController 연결됨");
 
         this.view = view;
 
@@ -29,9 +31,9 @@ public class RoomSelectController {
         this.view.setViewReservedActionListener(e -> openReservedClassRoom());
         this.view.setLogOutButtonActionListener(e -> handleLogout());
 
-        System.out.println(">> setChangePasswordActionListener() 호출 전");
+        Log.info(">> setChangePasswordActionListener() 호출 전");
         this.view.setChangePasswordActionListener(e -> openChangePasswordView());
-        System.out.println(">> setChangePasswordActionListener() 호출 완료");
+        Log.info(">> setChangePasswordActionListener() 호출 완료");
 
         this.view.setReservationChangeActionListener(e -> openReservationChange());
     }
@@ -118,15 +120,14 @@ public class RoomSelectController {
             Socket socket = Session.getInstance().getSocket();
 
             if (out != null) {
-                out.println("EXIT");
-                out.flush();
-                System.out.println("EXIT 메시지 전송됨");
+                MessageDispatcher.send("EXIT");
+                Log.info("EXIT 메시지 전송됨");
             }
 
             if (in != null) {
                 String response = in.readLine();
                 if ("LOGOUT_SUCCESS".equals(response)) {
-                    System.out.println("서버로부터 로그아웃 확인 받음");
+                    Log.info("서버로부터 로그아웃 확인 받음");
                 }
             }
 
@@ -134,16 +135,16 @@ public class RoomSelectController {
 
             if (socket != null && !socket.isClosed()) {
                 socket.close();
-                System.out.println("소켓 정상 종료");
+                Log.info("소켓 정상 종료");
             }
 
         } catch (IOException e) {
-            System.out.println("소켓 종료 중 오류 발생: " + e.getMessage());
+            Log.info("소켓 종료 중 오류 발생: {}", e.getMessage());
         }
     }
 
     private void handleLogout() {
-        System.out.println("로그아웃 버튼 클릭됨 - RoomSelect 종료 시도");
+        Log.info("로그아웃 버튼 클릭됨 - RoomSelect 종료 시도");
         
         // 서버에 로그아웃 요청 및 소켓 종료
         logoutAndCloseSocket();
@@ -60,6 +60,7 @@ public class StandardReservationInitStrategy implements InitializationStrategy {
                             controller.reservedMap, controller.statusMap, selectedRoom, isAvailable, finalWeekStart);
                     controller.updateCalendarTable(updatedTable);
                     controller.updateCapacityPanelWithData(selectedRoom, day, time, finalReservedCapacity);
+                    controller.schedulePrefetch(selectedRoom, finalWeekStart);
                 });
             }
         }).start();
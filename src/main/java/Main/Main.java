@@ -5,6 +5,8 @@
 package Main;
 
 import Controller.LoginController;
+import Monitoring.EdtMonitor;
+import Util.Log;
 import View.LoginForm;
 
 /**
@@ -22,8 +24,11 @@ public class Main {
             }
         }
     } catch (Exception e) {
-        System.out.println("Look and Feel 설정 실패: 기본값 사용");
+        Log.info("Look and Feel 설정 실패: 기본값 사용");
     }
+        // EDT 작업 시간 측정 (JFR 녹화 중일 때만 기록)
+        EdtMonitor.install();
+
         // 로그인 화면부터 실행
         LoginForm loginForm = new LoginForm();
         //UserDAO userDAO = new UserDAO();
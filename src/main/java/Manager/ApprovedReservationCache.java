@@ -0,0 +1,153 @@
+package Manager;
+
+import Service.ReservationService.ReservationDTO;
+import Util.ConnectionMonitor;
+import Util.Log;
+import Util.MessageDispatcher;
+import Util.ReservationUtil;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * 로그인한 사용자의 승인된 예약 목록 캐시 (Singleton Pattern)
+ * - 한 번 전체 조회한 목록을 변경/취소 결과와 서버 알림으로 로컬에서 고쳐 가며 사용
+ *   → 예약 변경 화면을 열 때, 날짜를 바꿀 때, 변경/취소 직후마다 목록 전체를 다시 받지 않음
+ * - 로컬에서 고칠 수 없는 일(새 승인 알림, 결과를 모르는 요청, 재접속)이 생기면 버전을 올리고
+ *   다음 조회에서 버전이 맞지 않으면 전체를 다시 받음
+ * - 다른 사용자나 다른 연결(새 디스패처)에서 받은 목록은 사용하지 않음
+ */
+public class ApprovedReservationCache {
+
+    private static volatile ApprovedReservationCache instance;
+
+    // 승인 목록에서 빠지는 알림 (NOTIFICATION,종류,메시지,강의실,날짜,요일,시간)
+    private static final Set<String> REMOVAL_NOTIFICATIONS = Set.of("CANCELLED");
+    // 승인 목록에 새 항목이 생기거나 바뀌는 알림 (내용을 모르므로 전체 다시 조회)
+    private static final Set<String> RELOAD_NOTIFICATIONS = Set.of(
+        "APPROVED", "CHANGE_APPROVED", "RESERVATION_CHANGED");
+
+    // 아래는 this로 보호
+    private final List<ReservationDTO> reservations = new ArrayList<>();
+    private String userId;
+    private WeakReference<Object> connection = new WeakReference<>(null);
+    private long version = 0;
+    private long loadedVersion = -1;
+
+    ApprovedReservationCache() {
+    }
+
+    public static ApprovedReservationCache getInstance() {
+        if (instance == null) {
+            synchronized (ApprovedReservationCache.class) {
+                if (instance == null) {
+                    ApprovedReservationCache cache = new ApprovedReservationCache();
+                    MessageDispatcher.addNotificationInterceptor(cache::onNotification);
+                    ConnectionMonitor.getInstance().addListener((previous, current, reason) -> {
+                        // 끊겨 있던 동안의 승인/취소 알림은 받지 못함
+                        if (current == ConnectionMonitor.State.CONNECTED
+                                && (previous == ConnectionMonitor.State.DISCONNECTED
+                                    || previous == ConnectionMonitor.State.RECONNECTING)) {
+                            cache.invalidate();
+                        }
+                    });
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 캐시된 목록
+     * @param userId 로그인한 사용자
+     * @param currentConnection 현재 연결 (MessageDispatcher 인스턴스)
+     * @return 목록 사본, 다른 사용자/연결이거나 버전이 맞지 않으면 null
+     */
+    public synchronized List<ReservationDTO> get(String userId, Object currentConnection) {
+        if (loadedVersion != version || userId == null || !userId.equals(this.userId)
+                || currentConnection == null || connection.get() != currentConnection) {
+            return null;
+        }
+        return new ArrayList<>(reservations);
+    }
+
+    /**
+     * 현재 버전 (전체 조회 시작 전에 읽어 put에 전달)
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * 전체 조회 결과 저장 (조회 중에 버전이 바뀌었으면 이미 낡았을 수 있으므로 버림)
+     * @param versionAtStart 조회 시작 전 version() 값
+     */
+    public synchronized void put(String userId, Object currentConnection, List<ReservationDTO> list,
+                                 long versionAtStart) {
+        if (versionAtStart != version || userId == null || currentConnection == null) {
+            return;
+        }
+        reservations.clear();
+        reservations.addAll(list);
+        this.userId = userId;
+        this.connection = new WeakReference<>(currentConnection);
+        loadedVersion = version;
+        Log.debug("[ApprovedReservationCache] {} 승인 예약 {}건 (버전 {})", userId, list.size(), version);
+    }
+
+    /**
+     * 변경/취소가 처리된 예약을 목록에서 제거 (변경 후 새 예약은 승인 대기라 목록에 넣지 않음)
+     */
+    public void remove(ReservationDTO reservation) {
+        if (reservation != null) {
+            removeSlot(reservation.getRoom(), reservation.getDate(), reservation.getTime());
+        }
+    }
+
+    /**
+     * 다음 조회에서 전체를 다시 받도록 버전 올림
+     */
+    public synchronized void invalidate() {
+        version++;
+    }
+
+    public synchronized int size() {
+        return loadedVersion == version ? reservations.size() : 0;
+    }
+
+    private synchronized void removeSlot(String room, String date, String time) {
+        if (room == null || date == null || time == null) {
+            invalidate();
+            return;
+        }
+        String normalizedRoom = ReservationUtil.normalizeRoomName(room.trim());
+        int hour = ReservationUtil.parseTimeToHour(time.trim());
+        boolean removed = reservations.removeIf(r ->
+                normalizedRoom.equals(ReservationUtil.normalizeRoomName(r.getRoom()))
+                && date.trim().equals(r.getDate())
+                && hour == ReservationUtil.parseTimeToHour(r.getTime()));
+        if (removed) {
+            Log.debug("[ApprovedReservationCache] 제거: {} {} {}", room, date, time);
+        }
+    }
+
+    /**
+     * 승인/취소 알림 수신 시 목록 수정 (팝업 표시는 화면 핸들러가 계속 담당)
+     */
+    private boolean onNotification(String message) {
+        String[] parts = message.split(",", 7);
+        if (parts.length < 2) {
+            return false;
+        }
+        if (REMOVAL_NOTIFICATIONS.contains(parts[1])) {
+            if (parts.length >= 7) {
+                removeSlot(parts[3], parts[4], parts[6]);
+            } else {
+                invalidate();
+            }
+        } else if (RELOAD_NOTIFICATIONS.contains(parts[1])) {
+            invalidate();
+        }
+        return false;
+    }
+}
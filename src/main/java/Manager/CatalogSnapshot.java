@@ -0,0 +1,125 @@
+package Manager;
+
+import common.dto.ClassroomDTO;
+import java.util.*;
+
+/**
+ * 강의실 카탈로그 불변 스냅샷
+ * - 로드할 때 한 번만 분류/정렬해 두고 조회는 만들어 둔 배열/목록을 그대로 반환
+ * - ClientClassroomManager가 volatile 필드 하나로 통째로 교체 → 읽는 쪽은 잠금 없이 항상 완성된 스냅샷을 봄
+ */
+final class CatalogSnapshot {
+
+    private static final Comparator<ClassroomDTO> BY_NAME = Comparator.comparing(dto -> dto.name);
+
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(Collections.emptyList(), -1);
+
+    final long version;
+    private final Map<String, ClassroomDTO> byName;
+    private final String[] classroomNames;
+    private final String[] labNames;
+    private final List<String> classroomNameList;
+    private final List<String> labNameList;
+    private final List<ClassroomDTO> allRooms;
+    // 허용 인원(수용 인원의 50%) 오름차순 - 인원 조건 검색은 이분 탐색
+    private final ClassroomDTO[] byAllowedCapacity;
+    private final int[] allowedCapacities;
+
+    CatalogSnapshot(Collection<ClassroomDTO> rooms, long version) {
+        this.version = version;
+
+        Map<String, ClassroomDTO> map = new HashMap<>();
+        for (ClassroomDTO dto : rooms) {
+            map.put(dto.name, dto);
+        }
+        this.byName = Collections.unmodifiableMap(map);
+
+        List<ClassroomDTO> classrooms = new ArrayList<>();
+        List<ClassroomDTO> labs = new ArrayList<>();
+        for (ClassroomDTO dto : map.values()) {
+            if (dto.isClassroom()) {
+                classrooms.add(dto);
+            } else if (dto.isLab()) {
+                labs.add(dto);
+            }
+        }
+        classrooms.sort(BY_NAME);
+        labs.sort(BY_NAME);
+
+        this.classroomNames = namesOf(classrooms);
+        this.labNames = namesOf(labs);
+        this.classroomNameList = List.of(classroomNames);
+        this.labNameList = List.of(labNames);
+
+        // 강의실 먼저, 실습실 나중 (각각 이름순)
+        List<ClassroomDTO> all = new ArrayList<>(classrooms.size() + labs.size());
+        all.addAll(classrooms);
+        all.addAll(labs);
+        this.allRooms = Collections.unmodifiableList(all);
+
+        this.byAllowedCapacity = all.toArray(new ClassroomDTO[0]);
+        Arrays.sort(byAllowedCapacity,
+                Comparator.comparingInt(ClassroomDTO::getAllowedCapacity).thenComparing(BY_NAME));
+        this.allowedCapacities = new int[byAllowedCapacity.length];
+        for (int i = 0; i < byAllowedCapacity.length; i++) {
+            allowedCapacities[i] = byAllowedCapacity[i].getAllowedCapacity();
+        }
+    }
+
+    private static String[] namesOf(List<ClassroomDTO> rooms) {
+        String[] names = new String[rooms.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = rooms.get(i).name;
+        }
+        return names;
+    }
+
+    ClassroomDTO get(String name) {
+        return byName.get(name);
+    }
+
+    int size() {
+        return byName.size();
+    }
+
+    /**
+     * 강의실 이름 배열 (호출 측이 바꿔도 스냅샷은 그대로이도록 복사본)
+     */
+    String[] classroomNames() {
+        return classroomNames.clone();
+    }
+
+    String[] labNames() {
+        return labNames.clone();
+    }
+
+    List<String> classroomNameList() {
+        return classroomNameList;
+    }
+
+    List<String> labNameList() {
+        return labNameList;
+    }
+
+    List<ClassroomDTO> allRooms() {
+        return allRooms;
+    }
+
+    /**
+     * 허용 인원이 requestedCount 이상인 방 (허용 인원 오름차순)
+     */
+    List<ClassroomDTO> roomsAllowing(int requestedCount) {
+        int lo = 0;
+        int hi = allowedCapacities.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (allowedCapacities[mid] < requestedCount) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return Collections.unmodifiableList(
+                Arrays.asList(byAllowedCapacity).subList(lo, byAllowedCapacity.length));
+    }
+}
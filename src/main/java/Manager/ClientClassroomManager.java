@@ -1,22 +1,58 @@
 package Manager;
 
 import Model.Session;
+import Util.ClientConfig;
+import Util.Log;
 import Util.MessageDispatcher;
+import Util.SingleFlight;
 import common.dto.ClassroomDTO;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 클라이언트 전용 강의실/실습실 관리자 (Singleton Pattern)
  * 서버로부터 데이터를 가져와 캐싱
+ * - 카탈로그 버전 + TTL: 신선하면 서버 요청 없이 캐시 사용, 오래되면 기존 목록을 주고 백그라운드 재검증
+ * - 재검증은 조건부 조회(GET_CATALOG_IF_CHANGED,버전)로 바뀌었을 때만 전체 목록 다시 받음
+ *   (서버가 지원하지 않으면 TTL 만료 시 전체 조회로 대체)
+ * - 강의실 추가/삭제/상태/수용인원 변경 알림 또는 관리자 본인의 변경 시 즉시 무효화
+ *
+ * 설정 (config.properties, 밀리초): catalog.ttl.ms
  */
 public class ClientClassroomManager {
     
     private static volatile ClientClassroomManager instance;
     
-    private Map<String, ClassroomDTO> classrooms;
+    private static final String REFRESH_KEY = "CLASSROOM_CATALOG";
+    private static final long DEFAULT_TTL_MILLIS = 300_000;
+    
+    // 조건부 조회 프로토콜: GET_CATALOG_IF_CHANGED,알고있는버전 → CATALOG_UNCHANGED,버전 | CATALOG_CHANGED,새버전
+    static final String IF_CHANGED_COMMAND = "GET_CATALOG_IF_CHANGED";
+    static final String UNCHANGED_REPLY = "CATALOG_UNCHANGED";
+    static final String CHANGED_REPLY = "CATALOG_CHANGED";
+    
+    // 카탈로그를 바꾸는 서버 알림 종류 (NOTIFICATION,종류,...)
+    private static final Set<String> CATALOG_NOTIFICATIONS = Set.of(
+        "ROOM_ADDED", "ROOM_DELETED", "ROOM_STATUS_CHANGED", "ROOM_CAPACITY_CHANGED", "CATALOG_CHANGED");
+    
+    private enum ConditionalSupport { UNKNOWN, SUPPORTED, UNSUPPORTED }
+    
+    // 현재 카탈로그 (불변, 로드할 때마다 통째로 교체)
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
+    private final SingleFlight<String, Boolean> refreshFlight = new SingleFlight<>();
+    private final long ttlNanos;
+    
+    private volatile boolean loaded = false;
+    private volatile long loadedAtNanos;
+    private volatile ConditionalSupport conditionalSupport = ConditionalSupport.UNKNOWN;
+    // 무효화 횟수: 재검증 시작 시점 값과 비교해 진행 중에 들어온 무효화를 놓치지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile long validatedInvalidations = 0;
     
     private ClientClassroomManager() {
-        classrooms = new HashMap<>();
+        ttlNanos = TimeUnit.MILLISECONDS.toNanos(ClientConfig.getLong("catalog.ttl.ms", DEFAULT_TTL_MILLIS));
+        MessageDispatcher.addNotificationInterceptor(this::onNotification);
     }
     
     public static ClientClassroomManager getInstance() {
@@ -31,82 +67,197 @@ public class ClientClassroomManager {
     }
     
     /**
-     * 서버로부터 모든 강의실 정보 로드
+     * 강의실 정보 준비 (화면 열 때 호출)
+     * - 신선한 캐시: 서버 요청 없이 true
+     * - TTL 경과: 기존 목록으로 true, 백그라운드에서 재검증
+     * - 처음이거나 무효화됨: 재검증이 끝날 때까지 대기
+     * 여러 화면이 동시에 호출하면 진행 중인 로드 한 번에 합류 (GET_CLASSROOMS/GET_LABS 중복 전송 없음)
      */
-    public synchronized boolean refreshFromServer() {
+    public boolean refreshFromServer() {
         if (!Session.getInstance().isConnected()) {
-            System.err.println("[클라이언트] 서버 연결 없음");
+            Log.error("[클라이언트] 서버 연결 없음");
+            return false;
+        }
+        if (loaded && !isInvalidated()) {
+            if (System.nanoTime() - loadedAtNanos < ttlNanos) {
+                Log.debug("[클라이언트] 강의실 캐시 사용 (버전 {})", snapshot.version);
+            } else {
+                revalidateInBackground();
+            }
+            return true;
+        }
+        return refreshFlight.execute(REFRESH_KEY, this::revalidate);
+    }
+    
+    /**
+     * 캐시를 무효화하고 서버 기준으로 다시 로드 (강의실 추가/삭제/상태 변경 직후)
+     */
+    public boolean reload() {
+        invalidate();
+        return refreshFromServer();
+    }
+    
+    /**
+     * 캐시 무효화 (다음 refreshFromServer는 서버 확인 후 반환)
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+    }
+    
+    /**
+     * 현재 캐시의 카탈로그 버전 (서버가 버전을 주지 않으면 로컬 로드 횟수, 로드 전 -1)
+     */
+    public long getCatalogVersion() {
+        return snapshot.version;
+    }
+    
+    /**
+     * 디스크 캐시의 카탈로그로 시작 (아직 로드 전일 때만)
+     * - 바로 화면에 쓸 수 있지만 오래된 것으로 취급 → 다음 refreshFromServer가 백그라운드에서 서버 버전과 맞춤
+     * @return 복원했으면 true
+     */
+    public boolean restore(Collection<ClassroomDTO> rooms, long version) {
+        if (loaded || rooms.isEmpty()) {
             return false;
         }
+        snapshot = new CatalogSnapshot(rooms, version);
+        loadedAtNanos = System.nanoTime() - ttlNanos;
+        validatedInvalidations = invalidations.get();
+        loaded = true;
+        Log.info("[클라이언트] 디스크 캐시에서 강의실 {}개 복원 (버전 {})", rooms.size(), version);
+        return true;
+    }
+    
+    /**
+     * 서버에서 받았거나 복원한 카탈로그가 있는지
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+    
+    private boolean isInvalidated() {
+        return invalidations.get() != validatedInvalidations;
+    }
+    
+    private void revalidateInBackground() {
+        if (refreshFlight.inFlightCount() > 0) {
+            return;
+        }
+        Thread t = new Thread(() -> refreshFlight.execute(REFRESH_KEY, this::revalidate), "CatalogRevalidate");
+        t.setDaemon(true);
+        t.start();
+    }
+    
+    /**
+     * 서버 버전 확인 후 바뀌었을 때만 전체 목록 로드
+     */
+    private boolean revalidate() {
+        long invalidationsAtStart = invalidations.get();
+        long serverVersion = -1;
         
+        if (conditionalSupport != ConditionalSupport.UNSUPPORTED) {
+            long known = loaded ? snapshot.version : -1;
+            String reply = MessageDispatcher.request(IF_CHANGED_COMMAND + "," + known);
+            if (reply != null && reply.startsWith(UNCHANGED_REPLY)) {
+                conditionalSupport = ConditionalSupport.SUPPORTED;
+                if (loaded) {
+                    markValidated(invalidationsAtStart);
+                    Log.debug("[클라이언트] 강의실 목록 변경 없음 (버전 {})", known);
+                    return true;
+                }
+            } else if (reply != null && reply.startsWith(CHANGED_REPLY + ",")) {
+                conditionalSupport = ConditionalSupport.SUPPORTED;
+                serverVersion = parseVersion(reply);
+            } else if (reply != null) {
+                conditionalSupport = ConditionalSupport.UNSUPPORTED;
+                Log.info("[클라이언트] 서버가 조건부 강의실 조회를 지원하지 않음 - TTL 기반 전체 조회 사용 ({})", reply);
+            } else if (conditionalSupport == ConditionalSupport.UNKNOWN) {
+                // 첫 조건부 조회부터 무응답 - 로드할 때마다 타임아웃을 기다리지 않도록 이후는 전체 조회
+                conditionalSupport = ConditionalSupport.UNSUPPORTED;
+                Log.info("[클라이언트] 조건부 강의실 조회 무응답 - TTL 기반 전체 조회 사용");
+            }
+        }
+        
+        return loadFromServer(serverVersion, invalidationsAtStart);
+    }
+    
+    private static long parseVersion(String reply) {
+        try {
+            return Long.parseLong(reply.substring(reply.indexOf(',') + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    private void markValidated(long invalidationsAtStart) {
+        loadedAtNanos = System.nanoTime();
+        validatedInvalidations = invalidationsAtStart;
+    }
+
+    private boolean loadFromServer(long serverVersion, long invalidationsAtStart) {
         try {
             // 강의실 목록 가져오기
-            List<ClassroomDTO> classroomList = getClassroomsFromServer();
+            List<ClassroomDTO> classroomList = fetchList("GET_CLASSROOMS");
             
             // 실습실 목록 가져오기
-            List<ClassroomDTO> labList = getLabsFromServer();
+            List<ClassroomDTO> labList = fetchList("GET_LABS");
             
-            // 캐시 업데이트
-            classrooms.clear();
-            for (ClassroomDTO dto : classroomList) {
-                classrooms.put(dto.name, dto);
-            }
-            for (ClassroomDTO dto : labList) {
-                classrooms.put(dto.name, dto);
+            // 하나라도 못 받으면 기존 캐시 유지 (빈 목록을 신선한 것으로 캐시하지 않음)
+            if (classroomList == null || labList == null) {
+                return false;
             }
             
-            System.out.println(String.format(
-                "[클라이언트] 강의실 정보 로드 완료: 강의실 %d개, 실습실 %d개",
-                classroomList.size(), labList.size()
-            ));
+            // 정렬/분류까지 끝낸 스냅샷으로 한 번에 교체 (읽는 쪽은 잠금 없이 완성된 목록만 봄)
+            List<ClassroomDTO> rooms = new ArrayList<>(classroomList.size() + labList.size());
+            rooms.addAll(classroomList);
+            rooms.addAll(labList);
+            long version = serverVersion >= 0 ? serverVersion : snapshot.version + 1;
+            snapshot = new CatalogSnapshot(rooms, version);
+            loaded = true;
+            markValidated(invalidationsAtStart);
+            
+            Log.info("[클라이언트] 강의실 정보 로드 완료: 강의실 {}개, 실습실 {}개 (버전 {})",
+                classroomList.size(), labList.size(), version);
             
             return true;
             
         } catch (Exception e) {
-            System.err.println("[클라이언트] 서버로부터 데이터 로드 실패: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("[클라이언트] 서버로부터 데이터 로드 실패: {}", e.getMessage(), e);
             return false;
         }
     }
     
     /**
-     * 서버로부터 강의실 목록 가져오기
+     * 서버로부터 강의실/실습실 목록 가져오기 (동일 명령이 진행 중이면 그 응답 공유)
+     * @return 목록, 응답이 없으면 null
      */
-    private List<ClassroomDTO> getClassroomsFromServer() {
-        Session session = Session.getInstance();
-        MessageDispatcher dispatcher = MessageDispatcher.getInstance();
-        
-        session.getOut().println("GET_CLASSROOMS");
-        session.getOut().flush();
-        
-        String response = dispatcher.waitForResponse(10);
+    private List<ClassroomDTO> fetchList(String command) {
+        String response = MessageDispatcher.request(command);
         
         if (response == null) {
-            System.err.println("[클라이언트] GET_CLASSROOMS 타임아웃");
-            return new ArrayList<>();
+            Log.error("[클라이언트] {} 응답 없음 ({})", command, MessageDispatcher.lastResponseStatus());
+            return null;
         }
         
         return parseClassroomList(response);
     }
     
     /**
-     * 서버로부터 실습실 목록 가져오기
+     * 카탈로그 변경 알림 처리 (화면 알림 핸들러보다 먼저 호출됨)
+     * @return 카탈로그 알림이면 true (팝업으로 보여줄 알림이 아님)
      */
-    private List<ClassroomDTO> getLabsFromServer() {
-        Session session = Session.getInstance();
-        MessageDispatcher dispatcher = MessageDispatcher.getInstance();
-        
-        session.getOut().println("GET_LABS");
-        session.getOut().flush();
-        
-        String response = dispatcher.waitForResponse(10);
-        
-        if (response == null) {
-            System.err.println("[클라이언트] GET_LABS 타임아웃");
-            return new ArrayList<>();
+    private boolean onNotification(String message) {
+        String[] parts = message.split(",", 3);
+        if (parts.length < 2 || !CATALOG_NOTIFICATIONS.contains(parts[1])) {
+            return false;
         }
-        
-        return parseClassroomList(response);
+        Log.info("[클라이언트] 강의실 변경 알림 수신 → 캐시 무효화: {}", message);
+        invalidate();
+        if (loaded && Session.getInstance().isConnected()) {
+            // 다음 화면이 열리기 전에 미리 받아 둠 (디스패처 스레드는 막지 않음)
+            revalidateInBackground();
+        }
+        return true;
     }
     
     /**
@@ -138,119 +289,78 @@ public class ClientClassroomManager {
      * 특정 강의실 정보 조회 (캐시에서)
      */
     public ClassroomDTO getClassroom(String name) {
-        return classrooms.get(name);
+        return snapshot.get(name);
     }
     
     /**
      * 수용 인원 체크
      */
     public boolean checkCapacity(String roomName, int requestedCount) {
-        ClassroomDTO dto = classrooms.get(roomName);
+        ClassroomDTO dto = snapshot.get(roomName);
         if (dto == null) {
-            System.err.println("[클라이언트] 알 수 없는 강의실: " + roomName);
+            Log.error("[클라이언트] 알 수 없는 강의실: {}", roomName);
             return false;
         }
         
         int allowedCapacity = dto.getAllowedCapacity();
         boolean isAllowed = requestedCount <= allowedCapacity;
         
-        System.out.println(String.format(
-            "[클라이언트 수용인원체크] %s: 최대 %d명, 허용 %d명(50%%), 요청 %d명 → %s",
+        Log.debug("[클라이언트 수용인원체크] {}: 최대 {}명, 허용 {}명(50%), 요청 {}명 → {}",
             roomName, dto.capacity, allowedCapacity, requestedCount,
-            isAllowed ? "승인" : "거부"
-        ));
+            isAllowed ? "승인" : "거부");
         
         return isAllowed;
     }
     
     /**
-     * 모든 강의실 이름 목록
+     * 모든 강의실 이름 목록 (이름순)
      */
     public String[] getClassroomNames() {
-        List<String> names = new ArrayList<>();
-        for (ClassroomDTO dto : classrooms.values()) {
-            if (dto.isClassroom()) {
-                names.add(dto.name);
-            }
-        }
-        Collections.sort(names);
-        return names.toArray(new String[0]);
+        return snapshot.classroomNames();
     }
     
     /**
-     * 모든 실습실 이름 목록
+     * 모든 실습실 이름 목록 (이름순)
      */
     public String[] getLabNames() {
-        List<String> names = new ArrayList<>();
-        for (ClassroomDTO dto : classrooms.values()) {
-            if (dto.isLab()) {
-                names.add(dto.name);
-            }
-        }
-        Collections.sort(names);
-        return names.toArray(new String[0]);
+        return snapshot.labNames();
     }
     
     /**
-     * 모든 강의실 이름 목록 (List 형태)
+     * 모든 강의실 이름 목록 (List 형태, 읽기 전용)
      */
     public List<String> getClassrooms() {
-        List<String> names = new ArrayList<>();
-        for (ClassroomDTO dto : classrooms.values()) {
-            if (dto.isClassroom()) {
-                names.add(dto.name);
-            }
-        }
-        Collections.sort(names);
-        return names;
+        return snapshot.classroomNameList();
     }
     
     /**
-     * 모든 실습실 이름 목록 (List 형태)
+     * 모든 실습실 이름 목록 (List 형태, 읽기 전용)
      */
     public List<String> getLabs() {
-        List<String> names = new ArrayList<>();
-        for (ClassroomDTO dto : classrooms.values()) {
-            if (dto.isLab()) {
-                names.add(dto.name);
-            }
-        }
-        Collections.sort(names);
-        return names;
+        return snapshot.labNameList();
     }
     
     /**
-     * 모든 강의실/실습실 DTO 목록 반환 (정렬됨: 강의실 먼저, 실습실 나중)
+     * 모든 강의실/실습실 DTO 목록 반환 (정렬됨: 강의실 먼저, 실습실 나중, 읽기 전용)
      */
     public List<ClassroomDTO> getAllClassrooms() {
-        List<ClassroomDTO> result = new ArrayList<>();
-        List<ClassroomDTO> classroomList = new ArrayList<>();
-        List<ClassroomDTO> labList = new ArrayList<>();
-        
-        // 강의실과 실습실 분류
-        for (ClassroomDTO dto : classrooms.values()) {
-            if (dto.isClassroom()) {
-                classroomList.add(dto);
-            } else if (dto.isLab()) {
-                labList.add(dto);
-            }
-        }
-        
-        // 각각 이름순으로 정렬
-        classroomList.sort(Comparator.comparing(dto -> dto.name));
-        labList.sort(Comparator.comparing(dto -> dto.name));
-        
-        // 강의실 먼저, 실습실 나중 순서로 합치기
-        result.addAll(classroomList);
-        result.addAll(labList);
-        
-        return result;
+        return snapshot.allRooms();
+    }
+    
+    /**
+     * 요청 인원을 받을 수 있는 강의실/실습실 (허용 인원 오름차순, 읽기 전용)
+     */
+    public List<ClassroomDTO> getRoomsAllowing(int requestedCount) {
+        return snapshot.roomsAllowing(requestedCount);
     }
     
     /**
      * 캐시 초기화
      */
     public void clear() {
-        classrooms.clear();
+        snapshot = CatalogSnapshot.EMPTY;
+        loaded = false;
+        conditionalSupport = ConditionalSupport.UNKNOWN;
+        validatedInvalidations = invalidations.get();
     }
 }
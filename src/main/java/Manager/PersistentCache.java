@@ -0,0 +1,331 @@
+package Manager;
+
+import Util.ClientConfig;
+import Util.Log;
+import Util.ReservationUtil;
+import common.dto.ClassroomDTO;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * 강의실 카탈로그 + 최근 주간 예약 디스크 캐시 (Singleton Pattern)
+ * - 로그인 직후 파일을 한 번에 읽어 ClientClassroomManager/WeeklyReservationCache를 채움
+ *   → 첫 화면이 GET_CLASSROOMS/GET_LABS/주간 조회를 기다리지 않고 바로 그려짐
+ * - 복원한 데이터는 "서버 확인 전"으로 표시: 카탈로그는 조건부 조회로, 주간 데이터는 사용할 때 백그라운드 재조회로 맞춤
+ * - 로그아웃/종료 시 저장 (임시 파일에 쓴 뒤 원자적 교체 → 중간에 죽어도 이전 파일 유지)
+ *
+ * 파일 형식 (빅엔디언):
+ *   헤더 24바이트: MAGIC(4) 형식버전(2) 예약(2) 저장시각ms(8) 본문길이(4) 본문CRC32(4)
+ *   본문: 서버주소, 카탈로그버전(8), 방 수(4) [이름, 종류, 수용인원(4)]...,
+ *         주 수(4) [강의실, 주시작 epochDay(8), 칸 수(4) [칸 키, 상태]...]...
+ *   문자열 = 길이(2) + UTF-8 바이트
+ * 형식 버전/서버 주소가 다르거나 체크섬이 맞지 않으면 통째로 무시
+ *
+ * 설정 (config.properties): disk.cache.file, disk.cache.max.weeks, disk.cache.max.age.ms
+ */
+public class PersistentCache {
+
+    private static volatile PersistentCache instance;
+
+    static final int MAGIC = 0x4F4F4D43; // "OOMC"
+    static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int MAX_FILE_BYTES = 16 * 1024 * 1024;
+
+    private static final long DEFAULT_MAX_WEEKS = 32;
+    private static final long DEFAULT_MAX_AGE_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private final Path file;
+    private final int maxWeeks;
+    private final long maxAgeMillis;
+    private volatile String serverKey;
+    private volatile boolean shutdownHookAdded = false;
+
+    PersistentCache(Path file, int maxWeeks, long maxAgeMillis) {
+        this.file = file;
+        this.maxWeeks = Math.max(0, maxWeeks);
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    public static PersistentCache getInstance() {
+        if (instance == null) {
+            synchronized (PersistentCache.class) {
+                if (instance == null) {
+                    String path = ClientConfig.getString("disk.cache.file");
+                    instance = new PersistentCache(
+                        path != null ? Paths.get(path) : Paths.get(System.getProperty("user.home"), ".oom", "cache.bin"),
+                        (int) ClientConfig.getLong("disk.cache.max.weeks", DEFAULT_MAX_WEEKS),
+                        ClientConfig.getLong("disk.cache.max.age.ms", DEFAULT_MAX_AGE_MILLIS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 파일 내용 (카탈로그 + 주간 예약)
+     */
+    static final class Contents {
+        final String serverKey;
+        final long savedAtMillis;
+        final long catalogVersion;
+        final List<ClassroomDTO> rooms;
+        // 강의실 → (주 시작일 → 칸 키 → 상태), 최근 사용 순
+        final Map<String, Map<LocalDate, Map<String, String>>> weeks;
+
+        Contents(String serverKey, long savedAtMillis, long catalogVersion, List<ClassroomDTO> rooms,
+                 Map<String, Map<LocalDate, Map<String, String>>> weeks) {
+            this.serverKey = serverKey;
+            this.savedAtMillis = savedAtMillis;
+            this.catalogVersion = catalogVersion;
+            this.rooms = rooms;
+            this.weeks = weeks;
+        }
+    }
+
+    /**
+     * 로그인 직후 호출: 같은 서버의 저장 내용이 있으면 메모리 캐시에 복원하고, 종료 시 저장 등록
+     * @param serverKey 서버 주소 (ip:port) - 다른 서버의 캐시는 쓰지 않음
+     */
+    public void restore(String serverKey) {
+        this.serverKey = serverKey;
+        registerShutdownHook();
+
+        Contents contents = read();
+        if (contents == null || !serverKey.equals(contents.serverKey)) {
+            return;
+        }
+        if (System.currentTimeMillis() - contents.savedAtMillis > maxAgeMillis) {
+            Log.info("[PersistentCache] 저장된 캐시가 오래되어 사용 안 함");
+            return;
+        }
+
+        ClientClassroomManager.getInstance().restore(contents.rooms, contents.catalogVersion);
+
+        // 지난 주는 볼 일이 없으므로 이번 주부터만
+        LocalDate thisWeek = ReservationUtil.getWeekStart(LocalDate.now());
+        WeeklyReservationCache cache = WeeklyReservationCache.getInstance();
+        int restoredWeeks = 0;
+        for (Map.Entry<String, Map<LocalDate, Map<String, String>>> room : contents.weeks.entrySet()) {
+            for (Map.Entry<LocalDate, Map<String, String>> week : room.getValue().entrySet()) {
+                if (!week.getKey().isBefore(thisWeek)) {
+                    cache.restore(room.getKey(), week.getKey(), week.getValue());
+                    restoredWeeks++;
+                }
+            }
+        }
+        Log.info("[PersistentCache] 복원: 강의실 {}개, 주간 예약 {}건", contents.rooms.size(), restoredWeeks);
+    }
+
+    /**
+     * 현재 메모리 캐시를 파일에 저장 (로그아웃/종료 시)
+     */
+    public synchronized void save() {
+        String key = serverKey;
+        ClientClassroomManager catalog = ClientClassroomManager.getInstance();
+        if (key == null || !catalog.isLoaded()) {
+            return;
+        }
+
+        Map<String, Map<LocalDate, Map<String, String>>> weeks = new LinkedHashMap<>();
+        for (Map.Entry<String, WeeklyReservationCache.Week> e : WeeklyReservationCache.getInstance().recent(maxWeeks).entrySet()) {
+            int bar = e.getKey().lastIndexOf('|');
+            weeks.computeIfAbsent(e.getKey().substring(0, bar), r -> new LinkedHashMap<>())
+                 .put(LocalDate.parse(e.getKey().substring(bar + 1)), e.getValue().statusByKey);
+        }
+        Contents contents = new Contents(key, System.currentTimeMillis(), catalog.getCatalogVersion(),
+                catalog.getAllClassrooms(), weeks);
+        write(contents);
+    }
+
+    private void registerShutdownHook() {
+        if (shutdownHookAdded) {
+            return;
+        }
+        shutdownHookAdded = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "PersistentCacheSave"));
+    }
+
+    /**
+     * 파일 읽기 (한 번에 힙 버퍼로)
+     * @return 내용, 없거나 손상/형식 불일치면 null
+     */
+    Contents read() {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > MAX_FILE_BYTES) {
+                Log.warn("[PersistentCache] 캐시 파일 크기 이상 ({}바이트) - 무시", size);
+                return null;
+            }
+            // 메모리 매핑은 GC 전까지 풀리지 않아 Windows에서 저장 시 파일 교체(Files.move)가 실패하므로 힙으로 읽음
+            ByteBuffer bytes = ByteBuffer.allocate((int) size);
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes) < 0) {
+                    Log.warn("[PersistentCache] 캐시 파일이 읽는 중에 줄어듦 - 무시");
+                    return null;
+                }
+            }
+            return decode(bytes.flip());
+        } catch (IOException e) {
+            Log.warn("[PersistentCache] 캐시 파일 읽기 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 임시 파일에 쓰고 동기화한 뒤 원자적으로 교체
+     */
+    void write(Contents contents) {
+        ByteBuffer encoded = encode(contents);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Log.debug("[PersistentCache] 저장: {}바이트", encoded.limit());
+        } catch (IOException e) {
+            Log.warn("[PersistentCache] 캐시 파일 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    static ByteBuffer encode(Contents contents) {
+        Encoder body = new Encoder();
+        body.string(contents.serverKey);
+        body.ensure(12).putLong(contents.catalogVersion).putInt(contents.rooms.size());
+        for (ClassroomDTO dto : contents.rooms) {
+            body.string(dto.name);
+            body.string(dto.type);
+            body.ensure(4).putInt(dto.capacity);
+        }
+        int weekCount = 0;
+        for (Map<LocalDate, Map<String, String>> byWeek : contents.weeks.values()) {
+            weekCount += byWeek.size();
+        }
+        body.ensure(4).putInt(weekCount);
+        for (Map.Entry<String, Map<LocalDate, Map<String, String>>> room : contents.weeks.entrySet()) {
+            for (Map.Entry<LocalDate, Map<String, String>> week : room.getValue().entrySet()) {
+                body.string(room.getKey());
+                body.ensure(12).putLong(week.getKey().toEpochDay()).putInt(week.getValue().size());
+                for (Map.Entry<String, String> slot : week.getValue().entrySet()) {
+                    body.string(slot.getKey());
+                    body.string(slot.getValue());
+                }
+            }
+        }
+        ByteBuffer payload = body.buffer.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + payload.remaining());
+        out.putInt(MAGIC).putShort(FORMAT_VERSION).putShort((short) 0)
+           .putLong(contents.savedAtMillis).putInt(payload.remaining()).putInt((int) crc.getValue());
+        out.put(payload);
+        return out.flip();
+    }
+
+    /**
+     * @return 내용, 형식 버전이 다르거나 체크섬/길이가 맞지 않으면 null
+     */
+    static Contents decode(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                Log.warn("[PersistentCache] 캐시 파일 형식이 아님 - 무시");
+                return null;
+            }
+            short version = buffer.getShort();
+            buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                Log.info("[PersistentCache] 캐시 형식 버전 {} (현재 {}) - 무시", version, FORMAT_VERSION);
+                return null;
+            }
+            long savedAt = buffer.getLong();
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (length < 0 || length != buffer.remaining()) {
+                Log.warn("[PersistentCache] 캐시 파일 길이 불일치 - 무시");
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                Log.warn("[PersistentCache] 캐시 파일 체크섬 불일치 - 무시");
+                return null;
+            }
+
+            String serverKey = string(buffer);
+            long catalogVersion = buffer.getLong();
+            int roomCount = buffer.getInt();
+            List<ClassroomDTO> rooms = new ArrayList<>(Math.min(roomCount, 1024));
+            for (int i = 0; i < roomCount; i++) {
+                rooms.add(new ClassroomDTO(string(buffer), string(buffer), buffer.getInt()));
+            }
+            int weekCount = buffer.getInt();
+            Map<String, Map<LocalDate, Map<String, String>>> weeks = new LinkedHashMap<>();
+            for (int i = 0; i < weekCount; i++) {
+                String room = string(buffer);
+                LocalDate weekStart = LocalDate.ofEpochDay(buffer.getLong());
+                int slots = buffer.getInt();
+                Map<String, String> statusByKey = new HashMap<>();
+                for (int j = 0; j < slots; j++) {
+                    statusByKey.put(string(buffer), string(buffer));
+                }
+                weeks.computeIfAbsent(room, r -> new LinkedHashMap<>()).put(weekStart, statusByKey);
+            }
+            return new Contents(serverKey, savedAt, catalogVersion, rooms, weeks);
+        } catch (BufferUnderflowException | IllegalArgumentException | java.time.DateTimeException e) {
+            Log.warn("[PersistentCache] 캐시 파일 손상 - 무시: {}", e.toString());
+            return null;
+        }
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 크기가 자동으로 늘어나는 쓰기 버퍼
+     */
+    private static final class Encoder {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        ByteBuffer ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer bigger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                bigger.put(buffer.flip());
+                buffer = bigger;
+            }
+            return buffer;
+        }
+
+        void string(String value) {
+            byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, 0xFFFF);
+            ensure(2 + length).putShort((short) length).put(bytes, 0, length);
+        }
+    }
+}
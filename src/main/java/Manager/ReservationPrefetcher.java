@@ -0,0 +1,225 @@
+package Manager;
+
+import Model.Session;
+import Util.ClientConfig;
+import Util.ConnectionMonitor;
+import Util.Log;
+import Util.MessageDispatcher;
+import Util.ReservationUtil;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주간 예약 선행 조회기 (Singleton Pattern)
+ * - 한 주를 화면에 그린 뒤 다음/이전 주와 콤보박스에서 이웃한 강의실의 같은 주를 미리 WeeklyReservationCache에 받아 둠
+ *   → 흔한 "다음 주", "다음 강의실" 클릭이 서버 왕복 없이 바로 그려짐
+ * - 낮은 우선순위 전용 스레드 하나에서 한 번에 한 건씩만 요청
+ * - 새 화면/선택이 생기면 이전 예약분은 취소 (아직 보내지 않은 것만)
+ * - 사용자 요청이 응답을 기다리는 중이거나 연결 상태/응답 시간이 나쁘면 보내지 않음
+ *   (응답 줄은 MessageDispatcher가 보낸 명령별로 전달하므로 섞이지 않음 - 사용자 요청에 대역폭을 양보하는 목적)
+ *
+ * 설정 (config.properties): prefetch.max.items (0이면 사용 안 함), prefetch.delay.ms, prefetch.max.rtt.ms
+ */
+public class ReservationPrefetcher {
+
+    private static volatile ReservationPrefetcher instance;
+
+    private static final long DEFAULT_MAX_ITEMS = 4;
+    private static final long DEFAULT_DELAY_MILLIS = 300;
+    private static final long DEFAULT_MAX_RTT_MILLIS = 500;
+    // 사용자 요청이 끝나기를 기다리는 최대 시간 (넘으면 이번 선행 조회 포기)
+    private static final long IDLE_WAIT_MILLIS = 2_000;
+    private static final long IDLE_POLL_MILLIS = 50;
+
+    private final int maxItems;
+    private final long delayMillis;
+    private final long maxRttMillis;
+    private final ExecutorService worker;
+    private final AtomicLong batch = new AtomicLong();
+    private final AtomicLong issued = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    private ReservationPrefetcher(int maxItems, long delayMillis, long maxRttMillis) {
+        this.maxItems = maxItems;
+        this.delayMillis = Math.max(0, delayMillis);
+        this.maxRttMillis = maxRttMillis;
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ReservationPrefetch");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+    }
+
+    public static ReservationPrefetcher getInstance() {
+        if (instance == null) {
+            synchronized (ReservationPrefetcher.class) {
+                if (instance == null) {
+                    instance = new ReservationPrefetcher(
+                        (int) ClientConfig.getLong("prefetch.max.items", DEFAULT_MAX_ITEMS),
+                        ClientConfig.getLong("prefetch.delay.ms", DEFAULT_DELAY_MILLIS),
+                        ClientConfig.getLong("prefetch.max.rtt.ms", DEFAULT_MAX_RTT_MILLIS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 선행 조회 대상 한 건 (강의실, 주 시작일)
+     */
+    static final class Target {
+        final String room;
+        final LocalDate weekStart;
+
+        Target(String room, LocalDate weekStart) {
+            this.room = room;
+            this.weekStart = weekStart;
+        }
+
+        @Override
+        public String toString() {
+            return room + " " + weekStart;
+        }
+    }
+
+    /**
+     * 방금 표시한 (강의실, 주) 주변을 선행 조회 예약 (이전 예약분은 취소)
+     * @param room 표시 중인 강의실
+     * @param weekStart 표시 중인 주의 월요일
+     * @param roomOrder 콤보박스에 보이는 강의실 순서 (이웃 강의실 판단용, 없으면 주 이동만)
+     */
+    public void schedule(String room, LocalDate weekStart, List<String> roomOrder) {
+        long id = batch.incrementAndGet();
+        if (maxItems <= 0 || room == null || weekStart == null) {
+            return;
+        }
+        List<Target> targets = plan(room, weekStart, roomOrder, maxItems);
+        worker.execute(() -> run(id, targets));
+    }
+
+    /**
+     * 정해진 대상 목록을 선행 조회 (로그인 직후 자주 쓰는 강의실-주 등, 이전 예약분은 취소)
+     */
+    void prefetch(List<Target> targets) {
+        long id = batch.incrementAndGet();
+        if (maxItems <= 0 || targets.isEmpty()) {
+            return;
+        }
+        worker.execute(() -> run(id, targets));
+    }
+
+    /**
+     * 아직 보내지 않은 선행 조회 모두 취소 (화면을 닫을 때)
+     */
+    public void cancel() {
+        batch.incrementAndGet();
+    }
+
+    /**
+     * 선행 조회 순서: 다음 주 → 다음 강의실 → 이전 주 → 이전 강의실 (자주 누르는 순)
+     */
+    static List<Target> plan(String room, LocalDate weekStart, List<String> roomOrder, int maxItems) {
+        List<Target> targets = new ArrayList<>();
+        String prevRoom = null;
+        String nextRoom = null;
+        if (roomOrder != null) {
+            int index = roomOrder.indexOf(room);
+            if (index >= 0) {
+                prevRoom = index > 0 ? roomOrder.get(index - 1) : null;
+                nextRoom = index + 1 < roomOrder.size() ? roomOrder.get(index + 1) : null;
+            }
+        }
+
+        targets.add(new Target(room, weekStart.plusWeeks(1)));
+        if (nextRoom != null) {
+            targets.add(new Target(nextRoom, weekStart));
+        }
+        targets.add(new Target(room, weekStart.minusWeeks(1)));
+        if (prevRoom != null) {
+            targets.add(new Target(prevRoom, weekStart));
+        }
+        return targets.size() > maxItems ? targets.subList(0, maxItems) : targets;
+    }
+
+    private void run(long id, List<Target> targets) {
+        if (!sleepUnlessCancelled(id, delayMillis)) {
+            return;
+        }
+        WeeklyReservationCache cache = WeeklyReservationCache.getInstance();
+        for (Target target : targets) {
+            if (batch.get() != id) {
+                return;
+            }
+            if (cache.containsFresh(target.room, target.weekStart)) {
+                continue;
+            }
+            if (!awaitBandwidth(id)) {
+                skipped.incrementAndGet();
+                return;
+            }
+            issued.incrementAndGet();
+            Log.debug("[ReservationPrefetcher] 선행 조회: {}", target);
+            // 결과는 공유 캐시에만 남김 (화면 맵은 건드리지 않음)
+            ReservationUtil.loadWeeklyReservationData(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                target.room, target.weekStart, target.weekStart.plusDays(6));
+        }
+    }
+
+    /**
+     * 선행 조회를 보내도 되는 상태가 될 때까지 잠시 대기
+     * - 연결이 정상이고, 응답 대기 중인 사용자 요청이 없고, 주간 조회 평균 응답 시간이 한도 이내
+     */
+    private boolean awaitBandwidth(long id) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(IDLE_WAIT_MILLIS);
+        while (batch.get() == id) {
+            if (!Session.getInstance().isConnected()
+                    || ConnectionMonitor.getInstance().getState() != ConnectionMonitor.State.CONNECTED) {
+                return false;
+            }
+            long rtt = MessageDispatcher.getTimeoutPolicy().smoothedRttMillis("VIEW_WEEKLY_RESERVATION");
+            if (maxRttMillis > 0 && rtt > maxRttMillis) {
+                Log.debug("[ReservationPrefetcher] 응답 지연({}ms) - 선행 조회 생략", rtt);
+                return false;
+            }
+            if (MessageDispatcher.pendingCount() == 0) {
+                return true;
+            }
+            if (System.nanoTime() - deadline >= 0 || !sleepUnlessCancelled(id, IDLE_POLL_MILLIS)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean sleepUnlessCancelled(long id, long millis) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return batch.get() == id;
+    }
+
+    /**
+     * 누적 선행 조회 요청 수
+     */
+    public long issuedCount() {
+        return issued.get();
+    }
+
+    /**
+     * 대역/연결 상태 때문에 중단한 묶음 수
+     */
+    public long skippedCount() {
+        return skipped.get();
+    }
+}
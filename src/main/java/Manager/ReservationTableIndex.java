@@ -0,0 +1,284 @@
+package Manager;
+
+import Util.ReservationUtil;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import javax.swing.table.DefaultTableModel;
+
+/**
+ * 관리자 예약 표의 보조 색인 (화면마다 하나)
+ * - 응답 행이 도착하는 대로 강의실/날짜/사용자 아이디/상태별 행 집합(BitSet)에 추가
+ * - 필터는 색인의 BitSet 교집합으로 계산 (행 전체를 훑지 않음), 날짜순 정렬은 날짜 색인(TreeMap) 순서
+ * - 표 모델에는 조건에 맞는 행만 한 번에 넣음 (행마다 이벤트를 내지 않음)
+ * - 취소/승인/거절로 표에서 지운 행은 색인에서도 제외
+ *
+ * 필터 문자열 (공백으로 구분, 모든 조건을 만족하는 행):
+ *   2025-11-27 / 2025-11-24~2025-11-30 / 2025-11 → 날짜/기간/월
+ *   색인에 있는 상태("예약됨" 등) → 상태, 색인에 있는 사용자 아이디 → 사용자, 그 외 → 강의실 ("908", "908호")
+ *
+ * 스레드 안전: 행 추가는 조회 스레드, 표시/삭제는 EDT에서 호출
+ */
+public class ReservationTableIndex {
+
+    /**
+     * 필터 조건 (null은 제한 없음)
+     */
+    public static final class Query {
+        private String room;
+        private String userId;
+        private String status;
+        private Long fromDay;
+        private Long toDay;
+        private boolean sortByDate;
+
+        public static Query all() {
+            return new Query();
+        }
+
+        public Query room(String room) {
+            this.room = normalizeRoom(room);
+            return this;
+        }
+
+        public Query user(String userId) {
+            this.userId = userId;
+            return this;
+        }
+
+        public Query status(String status) {
+            this.status = status;
+            return this;
+        }
+
+        /** 기간 (양 끝 포함) - 기간 조건이 있으면 날짜순으로 정렬 */
+        public Query dates(LocalDate from, LocalDate to) {
+            this.fromDay = from.toEpochDay();
+            this.toDay = to.toEpochDay();
+            this.sortByDate = true;
+            return this;
+        }
+
+        public Query sortByDate() {
+            this.sortByDate = true;
+            return this;
+        }
+
+        boolean hasDateRange() {
+            return fromDay != null;
+        }
+    }
+
+    private static final char RANGE_SEPARATOR = '~';
+
+    // 아래는 this로 보호
+    private final List<Object[]> rows = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, BitSet> byRoom = new HashMap<>();
+    private final TreeMap<Long, BitSet> byDate = new TreeMap<>();
+    private final Map<String, BitSet> byUser = new HashMap<>();
+    private final Map<String, BitSet> byStatus = new HashMap<>();
+    // 표에 보이는 행 순서 → 행 번호
+    private int[] visible = new int[0];
+
+    /**
+     * 행 추가 (색인 값이 비어 있거나 날짜를 해석할 수 없으면 그 색인에서만 빠짐)
+     * @param row 표에 표시할 값
+     * @return 행 번호
+     */
+    public synchronized int add(Object[] row, String userId, String room, String date, String status) {
+        int id = rows.size();
+        rows.add(row);
+        live.set(id);
+        put(byRoom, normalizeRoom(room), id);
+        put(byUser, trimToNull(userId), id);
+        put(byStatus, trimToNull(status), id);
+        Long day = parseDay(date);
+        if (day != null) {
+            byDate.computeIfAbsent(day, k -> new BitSet()).set(id);
+        }
+        return id;
+    }
+
+    public synchronized void clear() {
+        rows.clear();
+        live.clear();
+        byRoom.clear();
+        byDate.clear();
+        byUser.clear();
+        byStatus.clear();
+        visible = new int[0];
+    }
+
+    /** 삭제되지 않은 행 수 */
+    public synchronized int size() {
+        return live.cardinality();
+    }
+
+    /**
+     * 조건에 맞는 행 번호 (도착 순, 날짜순 정렬이면 날짜 → 도착 순, 날짜 없는 행은 끝에)
+     */
+    public synchronized int[] query(Query q) {
+        BitSet result = (BitSet) live.clone();
+        and(result, byRoom, q.room);
+        and(result, byUser, q.userId);
+        and(result, byStatus, q.status);
+
+        NavigableMap<Long, BitSet> dates = q.hasDateRange()
+                ? byDate.subMap(q.fromDay, true, q.toDay, true) : byDate;
+        if (q.hasDateRange()) {
+            BitSet inRange = new BitSet();
+            for (BitSet ids : dates.values()) {
+                inRange.or(ids);
+            }
+            result.and(inRange);
+        }
+        if (!q.sortByDate) {
+            return result.stream().toArray();
+        }
+
+        int[] ordered = new int[result.cardinality()];
+        int count = 0;
+        BitSet remaining = (BitSet) result.clone();
+        for (BitSet ids : dates.values()) {
+            BitSet matched = (BitSet) ids.clone();
+            matched.and(result);
+            for (int id = matched.nextSetBit(0); id >= 0; id = matched.nextSetBit(id + 1)) {
+                ordered[count++] = id;
+            }
+            remaining.andNot(ids);
+        }
+        for (int id = remaining.nextSetBit(0); id >= 0; id = remaining.nextSetBit(id + 1)) {
+            ordered[count++] = id;
+        }
+        return ordered;
+    }
+
+    /**
+     * 필터 문자열 해석 (형식은 클래스 설명 참고, 비어 있으면 전체)
+     */
+    public synchronized Query parse(String text) {
+        Query q = Query.all();
+        if (text == null || text.isBlank()) {
+            return q;
+        }
+        for (String token : text.trim().split("\\s+")) {
+            LocalDate[] range = parseRange(token);
+            if (range != null) {
+                q.dates(range[0], range[1]);
+            } else if (byStatus.containsKey(token)) {
+                q.status(token);
+            } else if (byUser.containsKey(token) || byUser.containsKey(token.toUpperCase(Locale.ROOT))) {
+                q.user(byUser.containsKey(token) ? token : token.toUpperCase(Locale.ROOT));
+            } else {
+                q.room(token);
+            }
+        }
+        return q;
+    }
+
+    /**
+     * 조건에 맞는 행만 표에 표시 (EDT에서 호출)
+     * @return 표시한 행 수
+     */
+    public synchronized int render(DefaultTableModel model, Query q) {
+        int[] ids = query(q);
+        Object[] columns = new Object[model.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = model.getColumnName(i);
+        }
+        Object[][] data = new Object[ids.length][];
+        for (int i = 0; i < ids.length; i++) {
+            data[i] = rows.get(ids[i]);
+        }
+        model.setDataVector(data, columns);
+        visible = ids;
+        return ids.length;
+    }
+
+    /**
+     * 표에서 지운 행을 색인에서도 제외 (EDT에서 model.removeRow와 함께 호출)
+     * @param viewRow 표의 행 위치
+     * @return 색인으로 표시한 행이었으면 true
+     */
+    public synchronized boolean removeVisibleRow(int viewRow) {
+        if (viewRow < 0 || viewRow >= visible.length) {
+            return false;
+        }
+        live.clear(visible[viewRow]);
+        int[] next = new int[visible.length - 1];
+        System.arraycopy(visible, 0, next, 0, viewRow);
+        System.arraycopy(visible, viewRow + 1, next, viewRow, next.length - viewRow);
+        visible = next;
+        return true;
+    }
+
+    private static void put(Map<String, BitSet> index, String key, int id) {
+        if (key != null && !key.isEmpty()) {
+            index.computeIfAbsent(key, k -> new BitSet()).set(id);
+        }
+    }
+
+    private static void and(BitSet result, Map<String, BitSet> index, String key) {
+        if (key == null) {
+            return;
+        }
+        BitSet ids = index.get(key);
+        if (ids == null) {
+            result.clear();
+        } else {
+            result.and(ids);
+        }
+    }
+
+    private static String normalizeRoom(String room) {
+        String trimmed = trimToNull(room);
+        return trimmed == null ? null : ReservationUtil.normalizeRoomName(trimmed);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static Long parseDay(String date) {
+        String trimmed = trimToNull(date);
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(trimmed).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * "yyyy-MM-dd", "yyyy-MM-dd~yyyy-MM-dd", "yyyy-MM" → [시작, 끝], 날짜가 아니면 null
+     */
+    static LocalDate[] parseRange(String token) {
+        try {
+            int separator = token.indexOf(RANGE_SEPARATOR);
+            if (separator > 0) {
+                LocalDate from = LocalDate.parse(token.substring(0, separator));
+                LocalDate to = LocalDate.parse(token.substring(separator + 1));
+                return from.isAfter(to) ? new LocalDate[]{to, from} : new LocalDate[]{from, to};
+            }
+            if (token.length() == 7) {
+                YearMonth month = YearMonth.parse(token);
+                return new LocalDate[]{month.atDay(1), month.atEndOfMonth()};
+            }
+            if (token.length() == 10) {
+                LocalDate day = LocalDate.parse(token);
+                return new LocalDate[]{day, day};
+            }
+        } catch (DateTimeParseException e) {
+            // 날짜가 아님
+        }
+        return null;
+    }
+}
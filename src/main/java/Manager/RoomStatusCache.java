@@ -0,0 +1,349 @@
+package Manager;
+
+import Util.ClientConfig;
+import Util.CommandSpec;
+import Util.ConnectionMonitor;
+import Util.Log;
+import Util.MessageDispatcher;
+import Util.OfflineJournal;
+import Util.ReservationUtil;
+import Util.SingleFlight;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 강의실 사용 가능 상태 표 (Singleton Pattern)
+ * - 상태는 관리자가 UPDATE_ROOM_STATUS를 보낼 때만 바뀌므로 한 번 받아 두고 로컬에서 읽음
+ *   → 화면 초기화/새로고침/예약/변경마다 보내던 CHECK_ROOM_STATUS 왕복 제거
+ * - 일괄 조회 프로토콜: GET_ROOM_STATUSES,알고있는버전
+ *     → ROOM_STATUSES,버전,강의실=AVAILABLE|UNAVAILABLE,... | ROOM_STATUSES_UNCHANGED,버전
+ *   서버가 지원하지 않으면 강의실별 CHECK_ROOM_STATUS 결과를 하나씩 캐시
+ * - 상태 변경 알림(해당 강의실), 강의실 추가/카탈로그 변경 알림, 카탈로그 버전 변경, 재접속 시 무효화
+ * - 유효 시간(TTL)이 지나면 다시 확인 (알림을 놓쳤을 때의 안전장치)
+ *
+ * 설정 (config.properties): room.status.ttl.ms
+ */
+public class RoomStatusCache {
+
+    private static volatile RoomStatusCache instance;
+
+    private static final long DEFAULT_TTL_MILLIS = 300_000;
+
+    static final String BULK_COMMAND = "GET_ROOM_STATUSES";
+    static final String BULK_REPLY = "ROOM_STATUSES";
+    static final String UNCHANGED_REPLY = "ROOM_STATUSES_UNCHANGED";
+    static final String CHECK_COMMAND = "CHECK_ROOM_STATUS";
+    // 일괄 조회 합치기 키 (강의실 이름과 겹치지 않음)
+    private static final String BULK_KEY = "\0ALL";
+
+    // 특정 강의실 상태를 바꾸는 알림 (NOTIFICATION,종류,메시지,강의실,...)
+    private static final Set<String> ROOM_NOTIFICATIONS = Set.of("ROOM_STATUS_CHANGED", "ROOM_DELETED");
+    // 표 전체를 다시 받아야 하는 알림
+    private static final Set<String> CATALOG_NOTIFICATIONS = Set.of("ROOM_ADDED", "CATALOG_CHANGED");
+
+    private enum BulkSupport { UNKNOWN, SUPPORTED, UNSUPPORTED }
+
+    /**
+     * 강의실 하나의 상태 (불변)
+     */
+    private static final class Entry {
+        final boolean available;
+        final long loadedAtNanos;
+
+        Entry(boolean available, long loadedAtNanos) {
+            this.available = available;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    private final long ttlNanos;
+    private final Function<String, String> sender;
+    private final LongSupplier catalogVersion;
+    private final SingleFlight<String, Boolean> flights = new SingleFlight<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile BulkSupport bulkSupport = BulkSupport.UNKNOWN;
+    // 아래는 this로 보호
+    private final Map<String, Entry> entries = new HashMap<>();
+    private long generation = 0;
+    private boolean tableLoaded = false;
+    private long tableLoadedAtNanos;
+    private long tableVersion = -1;
+    private long knownCatalogVersion;
+
+    /**
+     * @param sender 명령 → 서버 응답 (응답 없으면 null)
+     * @param catalogVersion 현재 강의실 카탈로그 버전 (바뀌면 표 전체 무효화)
+     */
+    RoomStatusCache(long ttlMillis, Function<String, String> sender, LongSupplier catalogVersion) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.sender = sender;
+        this.catalogVersion = catalogVersion;
+        this.knownCatalogVersion = catalogVersion.getAsLong();
+    }
+
+    public static RoomStatusCache getInstance() {
+        if (instance == null) {
+            synchronized (RoomStatusCache.class) {
+                if (instance == null) {
+                    ClientClassroomManager catalog = ClientClassroomManager.getInstance();
+                    RoomStatusCache cache = new RoomStatusCache(
+                        ClientConfig.getLong("room.status.ttl.ms", DEFAULT_TTL_MILLIS),
+                        MessageDispatcher::request, catalog::getCatalogVersion);
+                    MessageDispatcher.addNotificationInterceptor(cache::onNotification);
+                    ConnectionMonitor.getInstance().addListener((previous, current, reason) -> {
+                        if (current == ConnectionMonitor.State.CLOSED) {
+                            // 로그아웃 - 다음 로그인은 다른 서버일 수 있음
+                            cache.clear();
+                        } else if (current == ConnectionMonitor.State.CONNECTED
+                                && (previous == ConnectionMonitor.State.DISCONNECTED
+                                    || previous == ConnectionMonitor.State.RECONNECTING)) {
+                            // 끊겨 있던 동안의 상태 변경 알림은 받지 못함
+                            cache.invalidateAll();
+                        }
+                    });
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 강의실 사용 가능 여부 (표에 있으면 서버 요청 없이 반환)
+     * @param room 강의실 이름 ("호" 유무 무관)
+     * @return 사용 가능하면 true, 서버에 닿지 않거나 응답이 없으면 true (서버가 예약 시 최종 판단)
+     */
+    public boolean isAvailable(String room) {
+        String key = ReservationUtil.normalizeRoomName(room);
+        Boolean cached = lookup(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        if (OfflineJournal.isOffline()) {
+            return true;
+        }
+        Boolean loaded = load(key);
+        return loaded == null || loaded;
+    }
+
+    /**
+     * 한 강의실 무효화 (관리자가 상태를 바꾼 직후, 상태 변경 알림 수신 시)
+     */
+    public synchronized void invalidate(String room) {
+        generation++;
+        if (room != null && entries.remove(ReservationUtil.normalizeRoomName(room)) != null) {
+            Log.debug("[RoomStatusCache] 무효화: {}", room);
+        }
+    }
+
+    /**
+     * 표 전체 무효화 (다음 조회는 일괄 조회부터)
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        tableLoaded = false;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    private synchronized void clear() {
+        invalidateAll();
+        tableVersion = -1;
+        bulkSupport = BulkSupport.UNKNOWN;
+    }
+
+    private synchronized Boolean lookup(String key) {
+        long version = catalogVersion.getAsLong();
+        if (version != knownCatalogVersion) {
+            // 강의실 추가/삭제 등으로 카탈로그가 바뀜
+            knownCatalogVersion = version;
+            invalidateAll();
+            return null;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAtNanos >= ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.available;
+    }
+
+    private synchronized boolean needsTable() {
+        return !tableLoaded || System.nanoTime() - tableLoadedAtNanos >= ttlNanos;
+    }
+
+    /**
+     * 일괄 조회가 가능하면 표 전체를, 아니면 해당 강의실만 서버에서 확인
+     * @return 상태, 알 수 없으면 null
+     */
+    private Boolean load(String key) {
+        if (bulkSupport != BulkSupport.UNSUPPORTED && needsTable()) {
+            if (flights.execute(BULK_KEY, this::loadTable) == null) {
+                return null; // 응답 없음 - 이번에는 강의실별로 다시 기다리지 않음
+            }
+            Boolean fromTable = lookup(key);
+            if (fromTable != null) {
+                return fromTable;
+            }
+        }
+        return flights.execute(key, () -> loadOne(key));
+    }
+
+    /**
+     * - 지원 여부는 명령 거절(UNKNOWN_COMMAND 등)이나 첫 조회 무응답으로만 판단 (그 외 한 줄로 단정하지 않음)
+     * @return 표를 받았거나 확인했으면 true, 지원하지 않거나 알 수 없는 응답이거나 조회 중 무효화되면 false,
+     *         응답이 없으면 null
+     */
+    private Boolean loadTable() {
+        long generationAtStart;
+        long known;
+        synchronized (this) {
+            generationAtStart = generation;
+            known = tableLoaded ? tableVersion : -1;
+        }
+        String reply = sender.apply(BULK_COMMAND + "," + known);
+        if (reply == null) {
+            if (bulkSupport == BulkSupport.UNKNOWN) {
+                // 첫 일괄 조회부터 무응답 - 매번 타임아웃을 기다리지 않도록 이후는 강의실별 조회
+                bulkSupport = BulkSupport.UNSUPPORTED;
+                Log.info("[RoomStatusCache] 일괄 상태 조회 무응답 - 강의실별 조회 결과를 캐시");
+            }
+            return null;
+        }
+        if (reply.startsWith(UNCHANGED_REPLY)) {
+            bulkSupport = BulkSupport.SUPPORTED;
+            return touchTable(generationAtStart);
+        }
+        if (reply.startsWith(BULK_REPLY + ",")) {
+            bulkSupport = BulkSupport.SUPPORTED;
+            return putTable(reply, generationAtStart);
+        }
+        if ("FAILED".equals(CommandSpec.outcomeOf(reply))) {
+            // UNKNOWN_COMMAND, ERROR 등 명령 거절
+            bulkSupport = BulkSupport.UNSUPPORTED;
+            Log.info("[RoomStatusCache] 서버가 일괄 상태 조회를 지원하지 않음 - 강의실별 조회 결과를 캐시 ({})", reply);
+            return false;
+        }
+        // 알 수 없는 응답 - 지원 여부는 그대로 두고 이번만 강의실별로 확인
+        Log.warn("[RoomStatusCache] 예상하지 못한 일괄 조회 응답: {}", reply);
+        return false;
+    }
+
+    // 서버 버전이 같음 - 남아 있는 항목의 유효 시간만 연장
+    private synchronized boolean touchTable(long generationAtStart) {
+        if (generationAtStart != generation) {
+            return false;
+        }
+        long now = System.nanoTime();
+        entries.replaceAll((room, entry) -> new Entry(entry.available, now));
+        tableLoaded = true;
+        tableLoadedAtNanos = now;
+        Log.debug("[RoomStatusCache] 강의실 상태 변경 없음 (버전 {})", tableVersion);
+        return true;
+    }
+
+    // 형식: ROOM_STATUSES,버전,강의실=상태,...
+    private synchronized boolean putTable(String reply, long generationAtStart) {
+        if (generationAtStart != generation) {
+            return false; // 조회 중에 무효화됨 - 이미 낡았을 수 있음
+        }
+        String[] parts = reply.split(",");
+        long now = System.nanoTime();
+        Map<String, Entry> table = new HashMap<>();
+        for (int i = 2; i < parts.length; i++) {
+            int eq = parts[i].lastIndexOf('=');
+            Boolean available = eq > 0 ? parseStatus(parts[i].substring(eq + 1)) : null;
+            if (available != null) {
+                table.put(ReservationUtil.normalizeRoomName(parts[i].substring(0, eq)), new Entry(available, now));
+            }
+        }
+        entries.clear();
+        entries.putAll(table);
+        tableVersion = parseVersion(parts.length > 1 ? parts[1] : "");
+        tableLoaded = true;
+        tableLoadedAtNanos = now;
+        Log.info("[RoomStatusCache] 강의실 상태 {}개 로드 (버전 {})", table.size(), tableVersion);
+        return true;
+    }
+
+    private Boolean loadOne(String key) {
+        long generationAtStart;
+        synchronized (this) {
+            generationAtStart = generation;
+        }
+        String reply = sender.apply(CHECK_COMMAND + "," + key);
+        Boolean available = reply == null ? null : parseStatus(reply);
+        if (available == null) {
+            Log.error("[RoomStatusCache] {} 상태 확인 실패: {}", key, reply);
+            return null;
+        }
+        synchronized (this) {
+            if (generationAtStart == generation) {
+                entries.put(key, new Entry(available, System.nanoTime()));
+            }
+        }
+        return available;
+    }
+
+    /**
+     * AVAILABLE → true, UNAVAILABLE → false, 그 외 null
+     */
+    static Boolean parseStatus(String status) {
+        switch (status.trim()) {
+            case "AVAILABLE":
+                return Boolean.TRUE;
+            case "UNAVAILABLE":
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static long parseVersion(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 강의실 상태 알림 수신 시 무효화 (팝업 표시는 화면 핸들러가 계속 담당)
+     */
+    private boolean onNotification(String message) {
+        String[] parts = message.split(",", 5);
+        if (parts.length < 2) {
+            return false;
+        }
+        if (ROOM_NOTIFICATIONS.contains(parts[1])) {
+            if (parts.length > 3) {
+                invalidate(parts[3].trim());
+            } else {
+                invalidateAll();
+            }
+        } else if (CATALOG_NOTIFICATIONS.contains(parts[1])) {
+            invalidateAll();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,284 @@
+package Manager;
+
+import Util.ClientConfig;
+import Util.Log;
+import Util.ReservationUtil;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 사용자별 예약 선택 기록 (Singleton Pattern)
+ * - 예약 신청한 (강의실, 날짜, 시작 교시)를 사용자별 파일에 한 줄씩 추가
+ * - 최근 기록일수록 큰 가중치로 자주 쓰는 강의실/요일/교시를 예측
+ *   → 로그인 직후 예측한 강의실-주를 미리 조회하고, 예약 화면은 그 강의실/날짜/교시로 시작
+ * - 로그인(startSession) 전에는 기록/예측하지 않음
+ *
+ * 파일 형식 (history.dir/사용자ID.history, 한 줄 = 한 건, 오래된 것부터):
+ *   날짜(yyyy-MM-dd) TAB 강의실 TAB 시작 교시
+ *
+ * 설정 (config.properties): history.dir, history.max.entries, history.warmup.rooms
+ */
+public class SelectionHistory {
+
+    private static volatile SelectionHistory instance;
+
+    private static final long DEFAULT_MAX_ENTRIES = 200;
+    private static final long DEFAULT_WARMUP_ROOMS = 2;
+    // 한 건 오래될 때마다 곱하는 가중치 (최근 습관을 우선)
+    private static final double DECAY = 0.9;
+
+    private final Path directory;
+    private final int maxEntries;
+    private final List<Entry> entries = new ArrayList<>(); // 오래된 것부터
+    private String userId;
+
+    SelectionHistory(Path directory, int maxEntries) {
+        this.directory = directory;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    public static SelectionHistory getInstance() {
+        if (instance == null) {
+            synchronized (SelectionHistory.class) {
+                if (instance == null) {
+                    String dir = ClientConfig.getString("history.dir");
+                    instance = new SelectionHistory(
+                        dir != null ? Paths.get(dir) : Paths.get(System.getProperty("user.home"), ".oom", "history"),
+                        (int) ClientConfig.getLong("history.max.entries", DEFAULT_MAX_ENTRIES));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 기록 한 건 (불변)
+     */
+    static final class Entry {
+        final LocalDate date;
+        final String room;
+        final String time;
+
+        Entry(LocalDate date, String room, String time) {
+            this.date = date;
+            this.room = room;
+            this.time = time;
+        }
+    }
+
+    /**
+     * 예측 결과 (강의실, 날짜, 시작 교시 - 교시는 기록이 없으면 null)
+     */
+    public static final class Prediction {
+        public final String room;
+        public final LocalDate date;
+        public final String time;
+
+        Prediction(String room, LocalDate date, String time) {
+            this.room = room;
+            this.date = date;
+            this.time = time;
+        }
+
+        @Override
+        public String toString() {
+            return room + " " + date + " " + time;
+        }
+    }
+
+    /**
+     * 로그인한 사용자의 기록 읽기 (파일이 없으면 빈 기록)
+     */
+    public synchronized void startSession(String userId) {
+        this.userId = userId;
+        entries.clear();
+        if (userId == null) {
+            return;
+        }
+        Path file = fileOf(userId);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                Entry entry = parse(line);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            Log.warn("[SelectionHistory] 기록 읽기 실패: {}", e.getMessage());
+        }
+        if (entries.size() > maxEntries) {
+            entries.subList(0, entries.size() - maxEntries).clear();
+            rewrite();
+        }
+        Log.debug("[SelectionHistory] {} 기록 {}건", userId, entries.size());
+    }
+
+    /**
+     * 로그아웃 - 이후 기록/예측 안 함
+     */
+    public synchronized void endSession() {
+        userId = null;
+        entries.clear();
+    }
+
+    /**
+     * 예약 신청 기록 (파일에 바로 추가)
+     */
+    public synchronized void record(String room, LocalDate date, String time) {
+        if (userId == null || room == null || date == null) {
+            return;
+        }
+        Entry entry = new Entry(date, room.trim(), time == null ? "" : time.trim());
+        entries.add(entry);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(fileOf(userId), format(entry) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            Log.warn("[SelectionHistory] 기록 저장 실패: {}", e.getMessage());
+        }
+        if (entries.size() > maxEntries * 2) {
+            entries.subList(0, entries.size() - maxEntries).clear();
+            rewrite();
+        }
+    }
+
+    /**
+     * 가장 가능성 높은 강의실/날짜/교시
+     * @param rooms 현재 화면에서 고를 수 있는 강의실 (null이면 제한 없음)
+     * @param today 오늘 (예약은 내일부터 가능)
+     * @return 예측, 해당하는 기록이 없으면 null
+     */
+    public synchronized Prediction predict(Collection<String> rooms, LocalDate today) {
+        List<String> ranked = rankRooms(rooms);
+        return ranked.isEmpty() ? null : predictFor(ranked.get(0), today);
+    }
+
+    /**
+     * 로그인 직후 미리 조회할 (강의실, 주) - 점수 높은 강의실부터 최대 maxRooms개
+     */
+    synchronized List<ReservationPrefetcher.Target> likelyTargets(int maxRooms, LocalDate today) {
+        List<ReservationPrefetcher.Target> targets = new ArrayList<>();
+        for (String room : rankRooms(null)) {
+            if (targets.size() >= maxRooms) {
+                break;
+            }
+            Prediction prediction = predictFor(room, today);
+            targets.add(new ReservationPrefetcher.Target(room, ReservationUtil.getWeekStart(prediction.date)));
+        }
+        return targets;
+    }
+
+    /**
+     * 로그인 직후 호출: 기록을 읽고 예측한 강의실-주를 백그라운드에서 공유 캐시에 미리 조회
+     */
+    public void warmUp(String userId) {
+        startSession(userId);
+        List<ReservationPrefetcher.Target> targets = likelyTargets(
+                (int) ClientConfig.getLong("history.warmup.rooms", DEFAULT_WARMUP_ROOMS), LocalDate.now());
+        if (targets.isEmpty()) {
+            return;
+        }
+        Log.info("[SelectionHistory] 자주 쓰는 강의실 미리 조회: {}", targets);
+        ReservationPrefetcher.getInstance().prefetch(targets);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    // 강의실별 가중치 합 내림차순 (같으면 이름순)
+    private List<String> rankRooms(Collection<String> rooms) {
+        Map<String, Double> scores = new HashMap<>();
+        double weight = 1.0;
+        for (int i = entries.size() - 1; i >= 0; i--, weight *= DECAY) {
+            Entry entry = entries.get(i);
+            if (rooms == null || rooms.contains(entry.room)) {
+                scores.merge(entry.room, weight, Double::sum);
+            }
+        }
+        List<String> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort(Comparator.<String>comparingDouble(scores::get).reversed().thenComparing(Comparator.naturalOrder()));
+        return ranked;
+    }
+
+    // 해당 강의실 기록에서 가장 흔한 요일/교시 → 내일 이후 가장 가까운 그 요일
+    private Prediction predictFor(String room, LocalDate today) {
+        Map<DayOfWeek, Double> dayScores = new EnumMap<>(DayOfWeek.class);
+        Map<String, Double> timeScores = new HashMap<>();
+        double weight = 1.0;
+        for (int i = entries.size() - 1; i >= 0; i--, weight *= DECAY) {
+            Entry entry = entries.get(i);
+            if (entry.room.equals(room)) {
+                dayScores.merge(entry.date.getDayOfWeek(), weight, Double::sum);
+                if (!entry.time.isEmpty()) {
+                    timeScores.merge(entry.time, weight, Double::sum);
+                }
+            }
+        }
+        DayOfWeek day = best(dayScores);
+        LocalDate date = today.plusDays(1);
+        while (date.getDayOfWeek() != day) {
+            date = date.plusDays(1);
+        }
+        return new Prediction(room, date, timeScores.isEmpty() ? null : best(timeScores));
+    }
+
+    private static <K extends Comparable<K>> K best(Map<K, Double> scores) {
+        K best = null;
+        for (Map.Entry<K, Double> e : scores.entrySet()) {
+            if (best == null || e.getValue() > scores.get(best)
+                    || (e.getValue().equals(scores.get(best)) && e.getKey().compareTo(best) < 0)) {
+                best = e.getKey();
+            }
+        }
+        return best;
+    }
+
+    private void rewrite() {
+        if (userId == null) {
+            return;
+        }
+        List<String> lines = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            lines.add(format(entry));
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(fileOf(userId), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Log.warn("[SelectionHistory] 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private Path fileOf(String userId) {
+        return directory.resolve(userId.replaceAll("[^A-Za-z0-9_-]", "_") + ".history");
+    }
+
+    private static String format(Entry entry) {
+        return entry.date + "\t" + entry.room + "\t" + entry.time;
+    }
+
+    private static Entry parse(String line) {
+        String[] parts = line.split("\t", -1);
+        if (parts.length < 2 || parts[1].isBlank()) {
+            return null;
+        }
+        try {
+            return new Entry(LocalDate.parse(parts[0].trim()), parts[1].trim(),
+                    parts.length > 2 ? parts[2].trim() : "");
+        } catch (RuntimeException e) {
+            return null; // 손상된 줄은 건너뜀
+        }
+    }
+}
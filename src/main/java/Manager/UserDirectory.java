@@ -0,0 +1,310 @@
+package Manager;
+
+import Util.ClientConfig;
+import Util.Log;
+import Util.MessageDispatcher;
+import Util.SingleFlight;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 관리자 화면용 사용자 목록 캐시 (Singleton Pattern)
+ * - 전체 사용자를 한 번 받아 아이디/이름 정렬 색인으로 보관 → 입력할 때마다 서버 요청 없이 검색
+ *   아이디 접두어(S 학생, P 교수, A 관리자 등) 또는 이름 접두어로 찾음
+ * - 페이지 조회 프로토콜: GET_USERS_PAGE,시작위치,개수 → 사용자 줄... + END_OF_USERS_PAGE,전체수
+ *   서버가 지원하지 않으면 GET_ALL_USERS 전체 조회 (받는 동안 페이지 크기만큼씩 화면에 반영)
+ * - 수정/삭제 성공 시 해당 사용자만 고침 (목록 전체를 다시 받지 않음)
+ * - 다른 연결(새 디스패처)에서 받았거나 유효 시간(TTL)이 지나면 다시 조회
+ *
+ * 사용자 줄 형식: 이름,아이디,비밀번호
+ * 설정 (config.properties): user.page.size, user.directory.ttl.ms
+ */
+public class UserDirectory {
+
+    private static volatile UserDirectory instance;
+
+    private static final long DEFAULT_PAGE_SIZE = 500;
+    private static final long DEFAULT_TTL_MILLIS = 300_000;
+
+    static final String PAGE_COMMAND = "GET_USERS_PAGE";
+    static final String PAGE_END = "END_OF_USERS_PAGE";
+    static final String ALL_COMMAND = "GET_ALL_USERS";
+    static final String ALL_END = "END_OF_USERS";
+    private static final String LOAD_KEY = "ALL";
+
+    private enum PagingSupport { UNKNOWN, SUPPORTED, UNSUPPORTED }
+
+    /**
+     * 사용자 한 명 (불변)
+     */
+    public static final class User {
+        public final String name;
+        public final String id;
+        public final String password;
+
+        public User(String name, String id, String password) {
+            this.name = name;
+            this.id = id;
+            this.password = password;
+        }
+
+        /**
+         * 관리자 표의 한 행 (이름, 아이디, 비밀번호)
+         */
+        public Object[] toRow() {
+            return new Object[]{name, id, password};
+        }
+    }
+
+    private final int pageSize;
+    private final long ttlNanos;
+    private final SingleFlight<String, Boolean> loadFlight = new SingleFlight<>();
+    private volatile PagingSupport paging = PagingSupport.UNKNOWN;
+    // 아래는 this로 보호
+    private final TreeMap<String, User> byId = new TreeMap<>();
+    // 소문자 이름 → 그 이름의 아이디들 (동명이인)
+    private final TreeMap<String, Set<String>> idsByName = new TreeMap<>();
+    private boolean loaded = false;
+    private long loadedAtNanos;
+    private WeakReference<Object> connection = new WeakReference<>(null);
+
+    UserDirectory(int pageSize, long ttlMillis) {
+        this.pageSize = Math.max(1, pageSize);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    public static UserDirectory getInstance() {
+        if (instance == null) {
+            synchronized (UserDirectory.class) {
+                if (instance == null) {
+                    instance = new UserDirectory(
+                        (int) ClientConfig.getLong("user.page.size", DEFAULT_PAGE_SIZE),
+                        ClientConfig.getLong("user.directory.ttl.ms", DEFAULT_TTL_MILLIS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 이 연결에서 끝까지 받은 신선한 목록이 있는지
+     */
+    public synchronized boolean isFresh(Object currentConnection) {
+        return loaded && currentConnection != null && connection.get() == currentConnection
+                && System.nanoTime() - loadedAtNanos < ttlNanos;
+    }
+
+    /**
+     * 서버에서 전체 사용자 다시 받기 (동시에 호출하면 진행 중인 조회 한 번에 합류)
+     * @param onPage 한 페이지를 색인에 넣을 때마다 지금까지 받은 사용자 수로 호출 (조회 스레드에서)
+     * @return 끝까지 받았으면 true
+     */
+    public boolean load(MessageDispatcher dispatcher, IntConsumer onPage) {
+        return loadFlight.execute(LOAD_KEY, () -> fetchAll(dispatcher, onPage));
+    }
+
+    /**
+     * 아이디 또는 이름이 query로 시작하는 사용자 (아이디 순)
+     * @param query 검색어 (비어 있으면 전체, 아이디는 대소문자 구분 없음)
+     */
+    public synchronized List<User> search(String query) {
+        String q = query == null ? "" : query.trim();
+        if (q.isEmpty()) {
+            return new ArrayList<>(byId.values());
+        }
+        TreeMap<String, User> matches = new TreeMap<>(prefixRange(byId, q.toUpperCase(Locale.ROOT)));
+        if (!q.equals(q.toUpperCase(Locale.ROOT))) {
+            matches.putAll(prefixRange(byId, q));
+        }
+        for (Set<String> ids : prefixRange(idsByName, q.toLowerCase(Locale.ROOT)).values()) {
+            for (String id : ids) {
+                matches.put(id, byId.get(id));
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * 수정 성공 후 해당 사용자만 교체 (없으면 추가)
+     */
+    public synchronized void upsert(String name, String id, String password) {
+        if (id == null) {
+            return;
+        }
+        remove(id);
+        add(new User(name, id, password));
+    }
+
+    /**
+     * 삭제 성공 후 해당 사용자만 제거
+     */
+    public synchronized void remove(String id) {
+        User old = byId.remove(id);
+        if (old != null) {
+            String key = nameKey(old.name);
+            Set<String> ids = idsByName.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    idsByName.remove(key);
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    /**
+     * 다음 화면은 서버에서 다시 받음
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+    }
+
+    synchronized void addAll(Collection<User> users) {
+        for (User user : users) {
+            remove(user.id);
+            add(user);
+        }
+    }
+
+    private void add(User user) {
+        byId.put(user.id, user);
+        idsByName.computeIfAbsent(nameKey(user.name), k -> new TreeSet<>()).add(user.id);
+    }
+
+    private static <V> SortedMap<String, V> prefixRange(TreeMap<String, V> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static String nameKey(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== 서버 조회 ====================
+
+    private boolean fetchAll(MessageDispatcher dispatcher, IntConsumer onPage) {
+        synchronized (this) {
+            byId.clear();
+            idsByName.clear();
+            loaded = false;
+        }
+        long start = System.nanoTime();
+        Boolean complete = paging != PagingSupport.UNSUPPORTED ? fetchPaged(dispatcher, onPage) : null;
+        if (complete == null) {
+            complete = fetchLegacy(dispatcher, onPage);
+        }
+        synchronized (this) {
+            if (complete) {
+                loaded = true;
+                loadedAtNanos = System.nanoTime();
+                connection = new WeakReference<>(dispatcher);
+            }
+            Log.info("[UserDirectory] 사용자 {}명 로드 ({}ms, {})", byId.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), complete ? "완료" : "중단");
+        }
+        return complete;
+    }
+
+    /**
+     * 페이지 단위 조회
+     * @return 끝까지 받았으면 true, 중간에 응답이 끊기면 false, 서버가 지원하지 않으면 null
+     */
+    private Boolean fetchPaged(MessageDispatcher dispatcher, IntConsumer onPage) {
+        int offset = 0;
+        while (true) {
+            if (!MessageDispatcher.send(PAGE_COMMAND + "," + offset + "," + pageSize)) {
+                return false;
+            }
+            List<User> page = new ArrayList<>();
+            long total = -1;
+            while (true) {
+                String line = dispatcher.waitForResponse();
+                if (line == null) {
+                    if (offset == 0 && page.isEmpty()) {
+                        // 첫 페이지부터 무응답: 명령을 모르는 서버로 보고 전체 조회로 전환
+                        paging = PagingSupport.UNSUPPORTED;
+                        Log.info("[UserDirectory] 페이지 조회 무응답 - 전체 조회 사용");
+                        return null;
+                    }
+                    addPage(page, onPage);
+                    return false;
+                }
+                if (line.startsWith(PAGE_END)) {
+                    total = parseTotal(line);
+                    break;
+                }
+                User user = parse(line);
+                if (user != null) {
+                    page.add(user);
+                } else if (offset == 0 && page.isEmpty()) {
+                    paging = PagingSupport.UNSUPPORTED;
+                    Log.info("[UserDirectory] 서버가 페이지 조회를 지원하지 않음 - 전체 조회 사용 ({})", line);
+                    return null;
+                }
+            }
+            paging = PagingSupport.SUPPORTED;
+            addPage(page, onPage);
+            offset += page.size();
+            if (page.isEmpty() || (total >= 0 ? offset >= total : page.size() < pageSize)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * GET_ALL_USERS 전체 조회 (페이지 크기만큼 모일 때마다 색인에 반영)
+     */
+    private boolean fetchLegacy(MessageDispatcher dispatcher, IntConsumer onPage) {
+        if (!MessageDispatcher.send(ALL_COMMAND)) {
+            return false;
+        }
+        List<User> page = new ArrayList<>();
+        while (true) {
+            String line = dispatcher.waitForResponse();
+            if (line == null || line.equals(ALL_END)) {
+                addPage(page, onPage);
+                return line != null;
+            }
+            User user = parse(line);
+            if (user != null) {
+                page.add(user);
+                if (page.size() >= pageSize) {
+                    addPage(page, onPage);
+                    page = new ArrayList<>();
+                }
+            }
+        }
+    }
+
+    private void addPage(List<User> page, IntConsumer onPage) {
+        if (page.isEmpty()) {
+            return;
+        }
+        addAll(page);
+        if (onPage != null) {
+            onPage.accept(size());
+        }
+    }
+
+    static User parse(String line) {
+        String[] tokens = line.split(",", -1);
+        if (tokens.length != 3 || tokens[1].isBlank()) {
+            return null;
+        }
+        return new User(tokens[0], tokens[1], tokens[2]);
+    }
+
+    private static long parseTotal(String line) {
+        int comma = line.indexOf(',');
+        try {
+            return comma < 0 ? -1 : Long.parseLong(line.substring(comma + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package Manager;
+
+import Util.ClientConfig;
+import Util.ConnectionMonitor;
+import Util.Log;
+import Util.MessageDispatcher;
+import Util.ReservationUtil;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주간 예약 데이터 공유 캐시 (Singleton Pattern)
+ * - 키: (강의실, 주 시작일), 값: 그 주의 예약 칸/상태와 칸별 승인 인원 (불변)
+ * - 모든 예약 화면(강의실/실습실 예약, 예약 변경)이 함께 사용 → 다시 연 강의실-주는 서버 요청 없이 표시
+ * - 크기 제한 + LRU 제거, 항목별 유효 시간(TTL)이 지나면 다시 조회
+ * - 예약/변경/취소/승인/거절 직후, 관련 알림 수신 시, 재접속 시 무효화
+ *
+ * 설정 (config.properties): reservation.cache.max.weeks, reservation.cache.ttl.ms
+ */
+public class WeeklyReservationCache {
+
+    private static volatile WeeklyReservationCache instance;
+
+    private static final int DEFAULT_MAX_WEEKS = 128;
+    private static final long DEFAULT_TTL_MILLIS = 60_000;
+
+    // 특정 강의실/날짜의 예약을 바꾸는 알림 종류 (NOTIFICATION,종류,메시지,강의실,날짜,요일,시간)
+    private static final Set<String> RESERVATION_NOTIFICATIONS = Set.of(
+        "APPROVED", "REJECTED", "CHANGE_APPROVED", "CHANGE_REJECTED", "CANCELLED", "RESERVATION_CHANGED");
+    // 강의실 자체가 바뀌는 알림 (해당 강의실 전체 무효화)
+    private static final Set<String> ROOM_NOTIFICATIONS = Set.of(
+        "ROOM_DELETED", "ROOM_STATUS_CHANGED", "ROOM_CAPACITY_CHANGED");
+
+    private final int maxWeeks;
+    private final long ttlNanos;
+    // 접근 순서 LinkedHashMap = LRU (가장 오래 안 쓴 항목부터 제거)
+    private final LinkedHashMap<String, Week> weeks;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // 무효화할 때마다 증가 - 조회 중에 무효화가 있었으면 그 결과는 캐시하지 않음
+    private long generation = 0;
+
+    WeeklyReservationCache(int maxWeeks, long ttlMillis) {
+        this.maxWeeks = Math.max(1, maxWeeks);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.weeks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Week> eldest) {
+                return size() > WeeklyReservationCache.this.maxWeeks;
+            }
+        };
+    }
+
+    public static WeeklyReservationCache getInstance() {
+        if (instance == null) {
+            synchronized (WeeklyReservationCache.class) {
+                if (instance == null) {
+                    WeeklyReservationCache cache = new WeeklyReservationCache(
+                        (int) ClientConfig.getLong("reservation.cache.max.weeks", DEFAULT_MAX_WEEKS),
+                        ClientConfig.getLong("reservation.cache.ttl.ms", DEFAULT_TTL_MILLIS));
+                    MessageDispatcher.addNotificationInterceptor(cache::onNotification);
+                    ConnectionMonitor.getInstance().addListener((previous, current, reason) -> {
+                        // 끊겨 있던 동안의 변경은 알 수 없음
+                        if (current == ConnectionMonitor.State.CONNECTED
+                                && (previous == ConnectionMonitor.State.DISCONNECTED
+                                    || previous == ConnectionMonitor.State.RECONNECTING)) {
+                            cache.invalidateAll();
+                        }
+                    });
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 한 강의실의 한 주 예약 데이터 (불변)
+     */
+    public static final class Week {
+        /** 요일 수 (월~일) */
+        public static final int DAYS = 7;
+        /** 하루 교시 수 (1~9교시) */
+        public static final int SLOTS = 9;
+
+        /** 예약된 칸 키 (날짜_요일_교시) */
+        public final Set<String> reservedKeys;
+        /** 칸 키 → 상태 (예약됨/대기중) */
+        public final Map<String, String> statusByKey;
+        final long loadedAtNanos;
+        // 디스크 캐시에서 복원 (서버 확인 전 - 바로 그리되 백그라운드에서 다시 조회)
+        private final boolean restored;
+        // [요일][교시] 승인된 예약 인원 합 (주간 조회 응답에서 함께 계산, 모르면 null)
+        private final int[][] approvedHeadcounts;
+
+        public Week(Map<String, String> statusByKey) {
+            this(statusByKey, null, false);
+        }
+
+        /**
+         * @param approvedHeadcounts [요일 0=월][교시 0=1교시] 승인된 예약 인원 합 (복사해서 보관)
+         */
+        public Week(Map<String, String> statusByKey, int[][] approvedHeadcounts) {
+            this(statusByKey, approvedHeadcounts, false);
+        }
+
+        Week(Map<String, String> statusByKey, boolean restored) {
+            this(statusByKey, null, restored);
+        }
+
+        private Week(Map<String, String> statusByKey, int[][] approvedHeadcounts, boolean restored) {
+            this.statusByKey = Collections.unmodifiableMap(new HashMap<>(statusByKey));
+            this.reservedKeys = Collections.unmodifiableSet(new HashSet<>(statusByKey.keySet()));
+            this.loadedAtNanos = System.nanoTime();
+            this.restored = restored;
+            if (approvedHeadcounts == null) {
+                this.approvedHeadcounts = null;
+            } else {
+                this.approvedHeadcounts = new int[DAYS][SLOTS];
+                for (int day = 0; day < DAYS && day < approvedHeadcounts.length; day++) {
+                    System.arraycopy(approvedHeadcounts[day], 0, this.approvedHeadcounts[day], 0,
+                            Math.min(SLOTS, approvedHeadcounts[day].length));
+                }
+            }
+        }
+
+        public boolean isRestored() {
+            return restored;
+        }
+
+        /**
+         * 한 칸의 승인된 예약 인원
+         * @param day 요일 (0=월 ~ 6=일)
+         * @param slot 교시 (0=1교시 ~ 8=9교시)
+         * @return 인원, 인원 정보가 없거나 범위 밖이면 -1
+         */
+        public int approvedHeadcount(int day, int slot) {
+            if (approvedHeadcounts == null || day < 0 || day >= DAYS || slot < 0 || slot >= SLOTS) {
+                return -1;
+            }
+            return approvedHeadcounts[day][slot];
+        }
+    }
+
+    /**
+     * 신선한 항목 조회
+     * @return 캐시된 주간 데이터, 없거나 유효 시간이 지났으면 null
+     */
+    public synchronized Week get(String room, LocalDate weekStart) {
+        String key = keyOf(room, weekStart);
+        Week week = weeks.get(key);
+        if (week != null && System.nanoTime() - week.loadedAtNanos >= ttlNanos) {
+            weeks.remove(key);
+            week = null;
+        }
+        if (week == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return week;
+    }
+
+    /**
+     * 서버에서 확인한 신선한 항목이 있는지 (적중 통계에 넣지 않음 - 선행 조회 판단용, 복원 항목은 제외)
+     */
+    public synchronized boolean containsFresh(String room, LocalDate weekStart) {
+        Week week = weeks.get(keyOf(room, weekStart));
+        return week != null && !week.restored && System.nanoTime() - week.loadedAtNanos < ttlNanos;
+    }
+
+    /**
+     * 캐시된 주에서 한 칸의 승인된 예약 인원 (적중 통계에 넣지 않음 - 수용 인원 표시/검증용)
+     * @param allowStale true면 유효 시간이 지난 항목도 사용 (오프라인일 때)
+     * @return 인원, 해당 주가 없거나 인원 정보가 없으면 -1
+     */
+    public synchronized int approvedHeadcount(String room, LocalDate date, int slot, boolean allowStale) {
+        LocalDate weekStart = ReservationUtil.getWeekStart(date);
+        Week week = weeks.get(keyOf(room, weekStart));
+        if (week == null || (!allowStale && System.nanoTime() - week.loadedAtNanos >= ttlNanos)) {
+            return -1;
+        }
+        return week.approvedHeadcount((int) (date.toEpochDay() - weekStart.toEpochDay()), slot);
+    }
+
+    /**
+     * 디스크 캐시에서 복원한 주 추가 (이미 서버에서 받은 항목이 있으면 그대로 둠)
+     */
+    synchronized void restore(String room, LocalDate weekStart, Map<String, String> statusByKey) {
+        weeks.putIfAbsent(keyOf(room, weekStart), new Week(statusByKey, true));
+    }
+
+    /**
+     * 최근 사용한 순서로 최대 max개 (디스크 저장용, 키 = 강의실|주 시작일)
+     */
+    synchronized Map<String, Week> recent(int max) {
+        List<Map.Entry<String, Week>> all = new ArrayList<>(weeks.entrySet());
+        Map<String, Week> result = new LinkedHashMap<>();
+        for (int i = all.size() - 1; i >= 0 && result.size() < max; i--) {
+            result.put(all.get(i).getKey(), all.get(i).getValue());
+        }
+        return result;
+    }
+
+    /**
+     * 유효 시간과 관계없이 남아 있는 항목 (오프라인일 때 마지막으로 본 상태를 보여주기 위해, 통계 제외)
+     */
+    public synchronized Week peek(String room, LocalDate weekStart) {
+        return weeks.get(keyOf(room, weekStart));
+    }
+
+    /**
+     * 현재 무효화 세대 (서버 조회 시작 전에 읽어 put에 전달)
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 조회 결과 저장 (조회 시작 후 무효화가 있었으면 이미 낡았을 수 있으므로 버림)
+     * @param generationAtStart 조회 시작 전 generation() 값
+     */
+    public synchronized void put(String room, LocalDate weekStart, Week week, long generationAtStart) {
+        if (generationAtStart != generation) {
+            return;
+        }
+        weeks.put(keyOf(room, weekStart), week);
+    }
+
+    /**
+     * 해당 날짜가 속한 주 무효화 (예약/변경/취소/승인/거절 직후)
+     */
+    public synchronized void invalidate(String room, LocalDate date) {
+        if (room == null || date == null) {
+            invalidateAll();
+            return;
+        }
+        generation++;
+        if (weeks.remove(keyOf(room, ReservationUtil.getWeekStart(date))) != null) {
+            Log.debug("[WeeklyReservationCache] 무효화: {} {}", room, date);
+        }
+    }
+
+    /**
+     * 날짜 문자열(yyyy-MM-dd) 버전 - 형식이 맞지 않으면 강의실 전체 무효화
+     */
+    public void invalidate(String room, String dateString) {
+        if (room == null) {
+            invalidateAll();
+            return;
+        }
+        try {
+            invalidate(room, LocalDate.parse(dateString.trim()));
+        } catch (RuntimeException e) {
+            invalidateRoom(room);
+        }
+    }
+
+    /**
+     * 강의실의 모든 주 무효화
+     */
+    public synchronized void invalidateRoom(String room) {
+        generation++;
+        String prefix = ReservationUtil.normalizeRoomName(room) + "|";
+        weeks.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        weeks.clear();
+    }
+
+    public synchronized int size() {
+        return weeks.size();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    private static String keyOf(String room, LocalDate weekStart) {
+        return ReservationUtil.normalizeRoomName(room) + "|" + weekStart;
+    }
+
+    /**
+     * 예약 관련 알림 수신 시 해당 강의실-주 무효화 (팝업 표시는 화면 핸들러가 계속 담당)
+     */
+    private boolean onNotification(String message) {
+        String[] parts = message.split(",", 7);
+        if (parts.length < 4) {
+            return false;
+        }
+        String type = parts[1];
+        String room = parts[3].trim();
+        if (RESERVATION_NOTIFICATIONS.contains(type)) {
+            if (parts.length > 4) {
+                invalidate(room, parts[4]);
+            } else {
+                invalidateRoom(room);
+            }
+        } else if (ROOM_NOTIFICATIONS.contains(type)) {
+            invalidateRoom(room);
+        }
+        return false;
+    }
+}
@@ -1,6 +1,8 @@
 package Model;
 
+import Util.Log;
 import Util.MessageDispatcher;
+import Util.Reconnector;
 import java.io.BufferedReader;
 import java.io.PrintWriter;
 import java.net.Socket;
@@ -106,6 +108,7 @@ public class Session {
         loggedInUserId = null;
         loggedInUserName = null;
         loggedInUserRole = null;
+        Reconnector.getInstance().forget(); // 로그아웃 후 연결 종료는 재접속하지 않음
         
         // ✅ 1단계: MessageDispatcher 종료 요청
         MessageDispatcher dispatcher = MessageDispatcher.getInstance();
@@ -118,7 +121,7 @@ public class Session {
                 Thread.sleep(200);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                System.out.println("[Session] clear() 대기 중 인터럽트");
+                Log.warn("[Session] clear() 대기 중 인터럽트");
             }
         }
 
@@ -134,7 +137,7 @@ public class Session {
                 socket.close();
             }
         } catch (Exception e) {
-            System.out.println("[Session] 세션 정리 중 오류: " + e.getMessage());
+            Log.warn("[Session] 세션 정리 중 오류: {}", e.getMessage());
         }
 
         out = null;
@@ -0,0 +1,133 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 교시 (1~9교시, 09:00~18:00) - 교시마다 인스턴스 하나만 사용 (Flyweight)
+ * - 프로토콜 문자열 "N교시(HH:MM~HH:MM)", 달력/예약 키의 "N교시", 숫자만 있는 값을 정규식 없이 해석
+ * - 달력 행 번호 = index(), 서버로 보내는 문자열 = label()
+ * - 같은 교시는 같은 인스턴스이므로 == 비교 가능
+ */
+public final class TimeSlot {
+
+    public static final int COUNT = 9;
+    private static final int FIRST_HOUR = 9;
+    private static final String SUFFIX = "교시";
+
+    private static final TimeSlot[] SLOTS = new TimeSlot[COUNT];
+    static {
+        for (int i = 0; i < COUNT; i++) {
+            SLOTS[i] = new TimeSlot(i + 1);
+        }
+    }
+    private static final List<TimeSlot> ALL = List.of(SLOTS);
+
+    private final int period;
+    private final String shortLabel;
+    private final String label;
+
+    private TimeSlot(int period) {
+        this.period = period;
+        this.shortLabel = period + SUFFIX;
+        int start = FIRST_HOUR + period - 1;
+        this.label = String.format("%s(%02d:00~%02d:00)", shortLabel, start, start + 1);
+    }
+
+    /**
+     * @param period 교시 번호 (1~9)
+     * @return 해당 교시, 범위를 벗어나면 null
+     */
+    public static TimeSlot of(int period) {
+        return period >= 1 && period <= COUNT ? SLOTS[period - 1] : null;
+    }
+
+    /**
+     * 문자열에서 교시 찾기 ("3교시(11:00~12:00)", "3교시", "3")
+     * @return 해당 교시, 숫자가 없거나 1~9교시가 아니면 null
+     */
+    public static TimeSlot parse(String text) {
+        return of(parsePeriod(text));
+    }
+
+    /**
+     * 문자열의 교시 번호 (범위 확인 없음)
+     * - "교시" 앞에 있는 숫자 전체, "교시"가 없으면 첫 숫자 한 자리
+     * - 대부분의 입력("N교시...")은 앞 두 글자만 보고 끝남
+     * @return 교시 번호, 숫자가 없으면 -1
+     */
+    public static int parsePeriod(String text) {
+        if (text == null || text.isEmpty()) {
+            return -1;
+        }
+        if (text.length() >= 2 && isDigit(text.charAt(0)) && text.charAt(1) == SUFFIX.charAt(0)) {
+            return text.charAt(0) - '0';
+        }
+        int suffix = text.indexOf(SUFFIX);
+        if (suffix > 0) {
+            int value = 0;
+            int digits = 0;
+            for (int i = 0; i < suffix && digits < 9; i++) {
+                char c = text.charAt(i);
+                if (isDigit(c)) {
+                    value = value * 10 + (c - '0');
+                    digits++;
+                }
+            }
+            return digits > 0 ? value : -1;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                return c - '0';
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * from~to 교시 (양 끝 포함, to가 앞이면 빈 목록)
+     */
+    public static List<TimeSlot> range(TimeSlot from, TimeSlot to) {
+        if (to.period < from.period) {
+            return List.of();
+        }
+        return Arrays.asList(SLOTS).subList(from.index(), to.index() + 1);
+    }
+
+    /**
+     * 1~9교시 전체 (순서대로)
+     */
+    public static List<TimeSlot> all() {
+        return ALL;
+    }
+
+    /** 교시 번호 (1~9) */
+    public int period() {
+        return period;
+    }
+
+    /** 달력 행/배열 위치 (0~8) */
+    public int index() {
+        return period - 1;
+    }
+
+    /** "N교시" - 예약 키와 달력 첫 열에 사용 */
+    public String shortLabel() {
+        return shortLabel;
+    }
+
+    /** "N교시(HH:MM~HH:MM)" - 서버 프로토콜 형식 */
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,90 @@
+package Model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 요일 (월~일) - 프로토콜/화면의 "월", "월요일" 문자열과 달력 열 번호 사이 변환
+ * - 문자열은 첫 글자만 보고 해석 (정규식/replace 없음)
+ */
+public enum Weekday {
+    MONDAY('월'),
+    TUESDAY('화'),
+    WEDNESDAY('수'),
+    THURSDAY('목'),
+    FRIDAY('금'),
+    SATURDAY('토'),
+    SUNDAY('일');
+
+    private static final Weekday[] VALUES = values();
+
+    private final String shortName;
+    private final String fullName;
+
+    Weekday(char symbol) {
+        this.shortName = String.valueOf(symbol);
+        this.fullName = symbol + "요일";
+    }
+
+    public static Weekday of(DayOfWeek dayOfWeek) {
+        return VALUES[dayOfWeek.ordinal()];
+    }
+
+    public static Weekday of(LocalDate date) {
+        return of(date.getDayOfWeek());
+    }
+
+    /**
+     * "월" 또는 "월요일" (앞 공백 허용)
+     * @return 해당 요일, 알 수 없으면 null
+     */
+    public static Weekday parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return fromSymbol(c);
+            }
+        }
+        return null;
+    }
+
+    private static Weekday fromSymbol(char c) {
+        return switch (c) {
+            case '월' -> MONDAY;
+            case '화' -> TUESDAY;
+            case '수' -> WEDNESDAY;
+            case '목' -> THURSDAY;
+            case '금' -> FRIDAY;
+            case '토' -> SATURDAY;
+            case '일' -> SUNDAY;
+            default -> null;
+        };
+    }
+
+    /** "월" - 예약 키에 사용 */
+    public String shortName() {
+        return shortName;
+    }
+
+    /** "월요일" - 서버 프로토콜 형식 */
+    public String fullName() {
+        return fullName;
+    }
+
+    /** 주 안의 위치 (월=0 ~ 일=6) */
+    public int index() {
+        return ordinal();
+    }
+
+    /** 달력 열 번호 (0열은 교시, 월=1 ~ 일=7) */
+    public int column() {
+        return ordinal() + 1;
+    }
+
+    public DayOfWeek toDayOfWeek() {
+        return DayOfWeek.of(ordinal() + 1);
+    }
+}
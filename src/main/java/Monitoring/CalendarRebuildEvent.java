@@ -0,0 +1,29 @@
+package Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 주간 캘린더 재구성 (예약 데이터 조회 + 테이블 생성)
+ */
+@Name("oom.client.CalendarRebuild")
+@Label("Calendar Rebuild")
+@Category({"OOM Client", "UI"})
+@Description("주간 예약 캘린더 재구성")
+public class CalendarRebuildEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    @Description("재구성을 수행한 위치 (컨트롤러 또는 테이블 빌더)")
+    public String source;
+
+    @Label("Room")
+    public String room;
+
+    @Label("Week Start")
+    public String weekStart;
+
+    @Label("Reserved Slots")
+    public int reservedSlots;
+}
@@ -0,0 +1,59 @@
+package Monitoring;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+
+/**
+ * EDT 이벤트 처리 시간을 EdtTaskEvent로 기록하는 EventQueue
+ * - JFR 녹화가 꺼져 있으면 이벤트 활성 여부 확인만 하고 그대로 처리
+ */
+public final class EdtMonitor extends EventQueue {
+
+    private static volatile boolean installed = false;
+
+    private EdtMonitor() {
+    }
+
+    /**
+     * 시스템 EventQueue에 모니터 설치 (중복 호출 무시)
+     */
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new EdtMonitor());
+        installed = true;
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        EdtTaskEvent jfrEvent = new EdtTaskEvent();
+        if (!jfrEvent.isEnabled()) {
+            super.dispatchEvent(event);
+            return;
+        }
+
+        jfrEvent.begin();
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.eventType = event.getClass().getSimpleName();
+                jfrEvent.source = describeSource(event);
+                jfrEvent.commit();
+            }
+        }
+    }
+
+    private static String describeSource(AWTEvent event) {
+        if (event instanceof InvocationEvent) {
+            // invokeLater(Runnable)의 Runnable 클래스는 paramString에 포함됨
+            return event.paramString();
+        }
+        Object source = event.getSource();
+        return source != null ? source.getClass().getName() : null;
+    }
+}
@@ -0,0 +1,26 @@
+package Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Event Dispatch Thread에서 오래 걸린 작업 1건
+ * 기본 임계값(50ms) 이상만 기록, JFR 설정에서 threshold 변경 가능
+ */
+@Name("oom.client.EdtTask")
+@Label("Long EDT Task")
+@Category({"OOM Client", "UI"})
+@Description("EDT에서 임계값 이상 걸린 이벤트 처리")
+@Threshold("50 ms")
+public class EdtTaskEvent extends jdk.jfr.Event {
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Source")
+    @Description("이벤트 소스 컴포넌트 또는 invokeLater Runnable 클래스")
+    public String source;
+}
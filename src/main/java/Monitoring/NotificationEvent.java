@@ -0,0 +1,32 @@
+package Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 서버 푸시 알림 1건 수신 및 핸들러 처리
+ */
+@Name("oom.client.Notification")
+@Label("Notification")
+@Category({"OOM Client", "Protocol"})
+@Description("NOTIFICATION 메시지 수신과 핸들러 실행 시간")
+@StackTrace(false)
+public class NotificationEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    public String type;
+
+    @Label("Room")
+    public String room;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Handled")
+    public boolean handled;
+}
@@ -0,0 +1,44 @@
+package Monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 서버 명령 1건의 왕복 (전송 ~ 마지막 응답 줄 수신)
+ * MessageDispatcher가 요청/응답을 짝지어 기록
+ */
+@Name("oom.client.ServerCommand")
+@Label("Server Command")
+@Category({"OOM Client", "Protocol"})
+@Description("서버 명령 전송부터 응답 완료까지")
+@StackTrace(false)
+public class ServerCommandEvent extends jdk.jfr.Event {
+
+    @Label("Verb")
+    public String verb;
+
+    @Label("Room")
+    public String room;
+
+    @Label("Caller Thread")
+    public String callerThread;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long responseBytes;
+
+    @Label("Response Lines")
+    public int responseLines;
+
+    @Label("Outcome")
+    @Description("OK, FAILED, TIMEOUT, DISCONNECTED, SENT")
+    public String outcome;
+}
@@ -1,5 +1,6 @@
 package Observer;
 
+import Util.Log;
 import common.observer.ReservationNotification;
 import common.observer.ReservationObserver;
 import javax.swing.*;
@@ -41,7 +42,7 @@ public class ClientNotificationObserver implements ReservationObserver {
             messageType
         );
         
-        System.out.println("[클라이언트 알림] " + title + ": " + message);
+        Log.info("[클라이언트 알림] {}: {}", title, message);
     }
     
     /**
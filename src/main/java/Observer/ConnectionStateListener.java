@@ -0,0 +1,18 @@
+package Observer;
+
+import Util.ConnectionMonitor;
+
+/**
+ * Observer - 서버 연결 상태 변화 수신
+ * ConnectionMonitor(Subject)에 등록되어 상태가 바뀔 때마다 호출됨
+ * 주의: 하트비트/디스패처 스레드에서 호출되므로 UI 변경은 invokeLater로 처리
+ */
+public interface ConnectionStateListener {
+
+    /**
+     * @param previous 이전 상태
+     * @param current 새 상태
+     * @param reason 상태 변화 원인 (로그/안내용)
+     */
+    void onConnectionStateChanged(ConnectionMonitor.State previous, ConnectionMonitor.State current, String reason);
+}
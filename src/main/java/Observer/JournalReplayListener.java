@@ -0,0 +1,18 @@
+package Observer;
+
+import Util.OfflineJournal;
+import java.util.List;
+
+/**
+ * Observer - 오프라인 중 저장한 요청의 재전송 결과 수신
+ * OfflineJournal(Subject)에 등록되어 재접속 후 한 차례 재전송이 끝날 때마다 호출됨
+ * 주의: 재전송 스레드에서 호출되므로 UI 변경은 invokeLater로 처리
+ */
+public interface JournalReplayListener {
+
+    /**
+     * @param results 이번에 처리한 요청별 결과 (저장 순서)
+     * @param remaining 연결이 다시 끊겨 아직 보내지 못한 요청 수
+     */
+    void onReplayFinished(List<OfflineJournal.Result> results, int remaining);
+}
@@ -1,5 +1,6 @@
 package Observer;
 
+import Util.Log;
 import javax.swing.*;
 import java.io.*;
 import java.net.Socket;
@@ -26,11 +27,11 @@ public class NotificationListener extends Thread {
     
     @Override
     public void run() {
-        System.out.println("[알림 리스너] " + userId + " 알림 수신 시작");
-        System.out.println("[알림 리스너] ️ 동기 응답 보호를 위해 임시 비활성화됨");
-        System.out.println("[알림 리스너] 알림 기능을 사용하려면 아키텍처 리팩토링 필요");
+        Log.info("[알림 리스너] {} 알림 수신 시작", userId);
+        Log.info("[알림 리스너] ️ 동기 응답 보호를 위해 임시 비활성화됨");
+        Log.info("[알림 리스너] 알림 기능을 사용하려면 아키텍처 리팩토링 필요");
         
-        System.out.println("[알림 리스너] " + userId + " 대기 모드 (비활성화)");
+        Log.info("[알림 리스너] {} 대기 모드 (비활성화)", userId);
     }
     
     /**
@@ -42,7 +43,7 @@ public class NotificationListener extends Thread {
             String[] parts = message.split(",", 7);
             
             if (parts.length < 7) {
-                System.err.println("[알림 리스너] 잘못된 알림 형식: " + message);
+                Log.error("[알림 리스너] 잘못된 알림 형식: {}", message);
                 return;
             }
             
@@ -59,8 +60,7 @@ public class NotificationListener extends Thread {
             });
             
         } catch (Exception e) {
-            System.err.println("[알림 리스너] 알림 처리 오류: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("[알림 리스너] 알림 처리 오류: {}", e.getMessage(), e);
         }
     }
     
@@ -86,7 +86,7 @@ public class NotificationListener extends Thread {
             messageType
         );
         
-        System.out.println("[클라이언트 알림] " + title + ": " + message);
+        Log.info("[클라이언트 알림] {}: {}", title, message);
     }
     
     /**
@@ -124,6 +124,6 @@ public class NotificationListener extends Thread {
      */
     public void stopListening() {
         running = false;
-        System.out.println("[알림 리스너] 종료 요청");
+        Log.info("[알림 리스너] 종료 요청");
     }
 }
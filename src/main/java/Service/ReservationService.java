@@ -1,8 +1,13 @@
 package Service;
 
+import Manager.ApprovedReservationCache;
+import Manager.WeeklyReservationCache;
 import Model.Session;
+import Util.Log;
 import Util.MessageDispatcher;
+import Util.OfflineJournal;
 import Util.ReservationUtil;
+import Util.StringPool;
 import java.io.PrintWriter;
 import java.util.*;
 
@@ -12,10 +17,14 @@ import java.util.*;
  */
 public class ReservationService {
     
-    private static final int SERVER_RESPONSE_TIMEOUT_SECONDS = 30;
+    /** 오프라인 저장 안내 (예약/변경/취소 공통) */
+    public static final String OFFLINE_QUEUED_MESSAGE =
+        "서버와 연결이 끊겨 요청을 이 기기에 저장했습니다.\n연결이 복구되면 순서대로 자동 전송하고 결과를 알려드립니다.";
     
     /**
      * 승인된 예약 목록 조회
+     * - ApprovedReservationCache에 같은 사용자/연결의 최신 목록이 있으면 서버 요청 없이 반환
+     * - 없거나 버전이 맞지 않으면 전체 조회 후 캐시 (끝 표시까지 받은 경우만)
      * @return 예약 정보 리스트
      */
     public List<ReservationDTO> getApprovedReservations() {
@@ -28,13 +37,29 @@ public class ReservationService {
             throw new IllegalStateException("사용자 로그인 정보를 찾을 수 없습니다.");
         }
         
-        return fetchApprovedReservationsFromServer();
+        ApprovedReservationCache cache = ApprovedReservationCache.getInstance();
+        MessageDispatcher connection = MessageDispatcher.getInstance();
+        List<ReservationDTO> cached = cache.get(userId, connection);
+        if (cached != null) {
+            Log.debug("[ReservationService] 승인 예약 목록 캐시 사용 ({}건)", cached.size());
+            return cached;
+        }
+        
+        long version = cache.version();
+        List<ReservationDTO> reservations = new ArrayList<>();
+        if (fetchApprovedReservationsFromServer(reservations)) {
+            cache.put(userId, connection, reservations, version);
+        }
+        return reservations;
     }
     
     /**
      * 예약 변경
      */
     public ChangeReservationResponse changeReservation(ChangeReservationRequest request) {
+        if (OfflineJournal.isOffline()) {
+            return queueChangeOffline(request);
+        }
         if (!validateServerConnection()) {
             return new ChangeReservationResponse(false, "서버 연결 없음", null);
         }
@@ -60,6 +85,9 @@ public class ReservationService {
      * 예약 취소
      */
     public CancelReservationResponse cancelReservation(ReservationDTO reservation) {
+        if (OfflineJournal.isOffline()) {
+            return queueCancelOffline(reservation);
+        }
         if (!validateServerConnection()) {
             return new CancelReservationResponse(false, "서버 연결 없음");
         }
@@ -69,33 +97,68 @@ public class ReservationService {
     
     // ==================== Private Methods ====================
     
+    /**
+     * 오프라인: 로컬 충돌만 확인하고 변경 요청을 저널에 저장 (재접속 시 순서대로 전송)
+     */
+    private ChangeReservationResponse queueChangeOffline(ChangeReservationRequest request) {
+        String conflictTime = checkTimeSlotConflicts(request);
+        if (conflictTime != null) {
+            return new ChangeReservationResponse(false, 
+                conflictTime + "는 이미 예약되어 있습니다.", null);
+        }
+        String summary = String.format("예약 변경 %s %s → %s %s %s~%s",
+                request.getOriginal().getRoom(), request.getOriginal().getDate(),
+                request.getNewRoom(), request.getDateString(), request.getStartTime(), request.getEndTime());
+        OfflineJournal.Intent intent = OfflineJournal.getInstance().append(OfflineJournal.Kind.CHANGE,
+                request.getNewRoom(), request.getDateString(), summary, buildChangeCommand(request));
+        if (intent == null) {
+            return new ChangeReservationResponse(false, "서버 연결 없음", null);
+        }
+        return ChangeReservationResponse.queued(OFFLINE_QUEUED_MESSAGE);
+    }
+    
+    private CancelReservationResponse queueCancelOffline(ReservationDTO reservation) {
+        String summary = String.format("예약 취소 %s %s %s",
+                reservation.getRoom(), reservation.getDate(), reservation.getTime());
+        OfflineJournal.Intent intent = OfflineJournal.getInstance().append(OfflineJournal.Kind.CANCEL,
+                reservation.getRoom(), reservation.getDate(), summary, buildCancelCommand(reservation));
+        if (intent == null) {
+            return new CancelReservationResponse(false, "서버 연결 없음");
+        }
+        return CancelReservationResponse.queued(OFFLINE_QUEUED_MESSAGE);
+    }
+    
     private boolean validateServerConnection() {
         return Session.getInstance().isConnected();
     }
     
-    private List<ReservationDTO> fetchApprovedReservationsFromServer() {
-        List<ReservationDTO> reservations = new ArrayList<>();
-        
+    /**
+     * VIEW_APPROVED_RESERVATIONS 전송 후 끝 표시까지 수신 (줄 수 제한 없음)
+     * @param reservations 받은 예약을 담을 목록
+     * @return 끝 표시까지 다 받았으면 true (타임아웃으로 잘린 목록은 캐시하지 않음)
+     */
+    private boolean fetchApprovedReservationsFromServer(List<ReservationDTO> reservations) {
         try {
             PrintWriter out = Session.getInstance().getOut();
             MessageDispatcher dispatcher = MessageDispatcher.getInstance();
             
             if (out == null || dispatcher == null) {
-                return reservations;
+                return false;
             }
             
-            out.println("VIEW_APPROVED_RESERVATIONS");
-            out.flush();
-            
-            int attempts = 0;
-            int maxAttempts = 100;
+            if (!MessageDispatcher.send("VIEW_APPROVED_RESERVATIONS")) {
+                return false;
+            }
             
-            while (attempts < maxAttempts) {
-                attempts++;
-                String line = dispatcher.waitForResponse(SERVER_RESPONSE_TIMEOUT_SECONDS);
+            while (true) {
+                String line = dispatcher.waitForResponse();
                 
-                if (line == null || line.equals("END_OF_APPROVED_RESERVATIONS")) {
-                    break;
+                if (line == null) {
+                    Log.error("[ReservationService] 예약 목록 수신 중단 ({}건까지)", reservations.size());
+                    return false;
+                }
+                if (line.equals("END_OF_APPROVED_RESERVATIONS")) {
+                    return true;
                 }
                 
                 if (line.equals("VIEW_APPROVED_RESERVATIONS_SUCCESS")) {
@@ -111,11 +174,9 @@ public class ReservationService {
             }
             
         } catch (Exception e) {
-            System.err.println("[ReservationService] 예약 목록 조회 실패: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("[ReservationService] 예약 목록 조회 실패: {}", e.getMessage(), e);
+            return false;
         }
-        
-        return reservations;
     }
     
     private ReservationDTO parseReservationLine(String line) {
@@ -124,21 +185,23 @@ public class ReservationService {
             return null;
         }
         
+        // 반복되는 필드는 공유 인스턴스로 (관리자/전체 조회 시 수천 행)
+        StringPool pool = StringPool.getInstance();
         try {
             return new ReservationDTO(
-                parts[0].trim(),  // fileType
-                parts[10].trim(), // userId
-                parts[1].trim(),  // name
-                parts[2].trim(),  // room
-                parts[3].trim(),  // date
-                parts[4].trim(),  // day
-                parts[5].trim(),  // time
-                parts[6].trim(),  // purpose
-                parts[7].trim(),  // role
+                pool.canonical(parts[0]),  // fileType
+                pool.canonical(parts[10]), // userId
+                pool.canonical(parts[1]),  // name
+                pool.canonical(parts[2]),  // room
+                pool.canonical(parts[3]),  // date
+                pool.canonical(parts[4]),  // day
+                pool.canonical(parts[5]),  // time
+                parts[6].trim(),           // purpose
+                pool.canonical(parts[7]),  // role
                 Integer.parseInt(parts[9].trim()) // studentCount
             );
         } catch (Exception e) {
-            System.err.println("[ReservationService] 파싱 오류: " + line);
+            Log.error("[ReservationService] 파싱 오류: {}", line);
             return null;
         }
     }
@@ -170,16 +233,21 @@ public class ReservationService {
             }
             
             String command = buildChangeCommand(request);
-            out.println(command);
-            out.flush();
+            MessageDispatcher.send(command);
             
-            String response = dispatcher.waitForResponse(SERVER_RESPONSE_TIMEOUT_SECONDS);
+            String response = dispatcher.waitForResponse();
+            invalidateWeek(request.getOriginal().getRoom(), request.getOriginal().getDate());
+            WeeklyReservationCache.getInstance().invalidate(request.getNewRoom(), request.getSelectedDate());
             
             if (response == null || response.isEmpty()) {
-                return new ChangeReservationResponse(false, "서버 응답 없음", null);
+                // 서버에서는 처리됐을 수 있음 - 다음 조회에서 전체 확인
+                ApprovedReservationCache.getInstance().invalidate();
+                return new ChangeReservationResponse(false, MessageDispatcher.describeNoResponse(), null);
             }
             
             if ("CHANGE_SUCCESS".equals(response)) {
+                // 기존 예약은 취소되고 새 예약은 승인 대기 → 승인 목록에서는 빠지기만 함
+                ApprovedReservationCache.getInstance().remove(request.getOriginal());
                 return new ChangeReservationResponse(true, "예약 변경 성공", null);
             } else if (response.startsWith("CHANGE_FAILED_CONFLICT:")) {
                 String conflictTime = response.substring("CHANGE_FAILED_CONFLICT:".length());
@@ -192,7 +260,7 @@ public class ReservationService {
             }
             
         } catch (Exception e) {
-            System.err.println("[ReservationService] 변경 요청 실패: " + e.getMessage());
+            Log.error("[ReservationService] 변경 요청 실패: {}", e.getMessage());
             return new ChangeReservationResponse(false, "오류 발생: " + e.getMessage(), null);
         }
     }
@@ -241,6 +309,13 @@ public class ReservationService {
         return sb.toString();
     }
     
+    /**
+     * 변경/취소 요청 뒤 공유 주간 캐시 무효화 (응답이 없어도 서버에서는 처리됐을 수 있음)
+     */
+    private void invalidateWeek(String room, String dateString) {
+        WeeklyReservationCache.getInstance().invalidate(room, dateString);
+    }
+    
     private String determineFileType(String room) {
         Manager.ClientClassroomManager mgr = Manager.ClientClassroomManager.getInstance();
         common.dto.ClassroomDTO classroom = mgr.getClassroom(room);
@@ -256,27 +331,18 @@ public class ReservationService {
                 return new CancelReservationResponse(false, "서버 연결이 끊어졌습니다.");
             }
             
-            String requesterId = Session.getInstance().getLoggedInUserId();
-            String command = String.format("CANCEL_RESERVATION,%s,%s,%s,%s,%s,%s,%s",
-                    requesterId,
-                    reservation.getUserId(),
-                    reservation.getDay(),
-                    reservation.getDate(),
-                    reservation.getTime(),
-                    reservation.getRoom(),
-                    reservation.getName()
-            );
+            MessageDispatcher.send(buildCancelCommand(reservation));
             
-            out.println(command);
-            out.flush();
-            
-            String response = dispatcher.waitForResponse(SERVER_RESPONSE_TIMEOUT_SECONDS);
+            String response = dispatcher.waitForResponse();
+            invalidateWeek(reservation.getRoom(), reservation.getDate());
             
             if (response == null) {
-                return new CancelReservationResponse(false, "서버 응답 타임아웃");
+                ApprovedReservationCache.getInstance().invalidate();
+                return new CancelReservationResponse(false, MessageDispatcher.describeNoResponse());
             }
             
             if ("CANCEL_SUCCESS".equals(response)) {
+                ApprovedReservationCache.getInstance().remove(reservation);
                 return new CancelReservationResponse(true, "예약 취소 성공");
             } else if ("CANCEL_FAILED_NOT_FOUND".equals(response)) {
                 return new CancelReservationResponse(false, 
@@ -286,11 +352,24 @@ public class ReservationService {
             }
             
         } catch (Exception e) {
-            System.err.println("[ReservationService] 취소 요청 실패: " + e.getMessage());
+            Log.error("[ReservationService] 취소 요청 실패: {}", e.getMessage());
             return new CancelReservationResponse(false, "오류 발생: " + e.getMessage());
         }
     }
     
+    private String buildCancelCommand(ReservationDTO reservation) {
+        String requesterId = Session.getInstance().getLoggedInUserId();
+        return String.format("CANCEL_RESERVATION,%s,%s,%s,%s,%s,%s,%s",
+                requesterId,
+                reservation.getUserId(),
+                reservation.getDay(),
+                reservation.getDate(),
+                reservation.getTime(),
+                reservation.getRoom(),
+                reservation.getName()
+        );
+    }
+    
     // ==================== DTO Classes ====================
     
     /**
@@ -388,14 +467,26 @@ public class ReservationService {
         private final boolean success;
         private final String message;
         private final String conflictTime;
+        private final boolean queued;
         
         public ChangeReservationResponse(boolean success, String message, String conflictTime) {
+            this(success, message, conflictTime, false);
+        }
+        
+        private ChangeReservationResponse(boolean success, String message, String conflictTime, boolean queued) {
             this.success = success;
             this.message = message;
             this.conflictTime = conflictTime;
+            this.queued = queued;
+        }
+        
+        /** 오프라인이라 저장만 한 경우 (재접속 후 전송, 결과는 나중에 알림) */
+        static ChangeReservationResponse queued(String message) {
+            return new ChangeReservationResponse(false, message, null, true);
         }
         
         public boolean isSuccess() { return success; }
+        public boolean isQueued() { return queued; }
         public String getMessage() { return message; }
         public String getConflictTime() { return conflictTime; }
     }
@@ -406,13 +497,25 @@ public class ReservationService {
     public static class CancelReservationResponse {
         private final boolean success;
         private final String message;
+        private final boolean queued;
         
         public CancelReservationResponse(boolean success, String message) {
+            this(success, message, false);
+        }
+        
+        private CancelReservationResponse(boolean success, String message, boolean queued) {
             this.success = success;
             this.message = message;
+            this.queued = queued;
+        }
+        
+        /** 오프라인이라 저장만 한 경우 (재접속 후 전송, 결과는 나중에 알림) */
+        static CancelReservationResponse queued(String message) {
+            return new CancelReservationResponse(false, message, true);
         }
         
         public boolean isSuccess() { return success; }
+        public boolean isQueued() { return queued; }
         public String getMessage() { return message; }
     }
 }
\ No newline at end of file
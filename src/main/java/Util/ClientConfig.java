@@ -0,0 +1,37 @@
+package Util;
+
+import common.utils.ConfigLoader;
+
+/**
+ * 클라이언트 설정값 조회 (System property 우선, 다음 config.properties)
+ * 설정 파일이 없거나 값이 잘못되면 기본값 사용
+ */
+public final class ClientConfig {
+
+    private ClientConfig() {
+    }
+
+    public static String getString(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            try {
+                value = ConfigLoader.getProperty(key);
+            } catch (Throwable ignored) {
+                // 설정 파일 없음
+            }
+        }
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException ignored) {
+                Log.warn("[ClientConfig] 숫자가 아닌 설정값 {}={}, 기본값 {} 사용", key, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+}
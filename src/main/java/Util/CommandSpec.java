@@ -0,0 +1,157 @@
+package Util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 프로토콜 명령별 응답 형식 정의
+ * - 단일 줄 응답 / 종료 표식까지 여러 줄 응답 / 응답 없음
+ * MessageDispatcher가 응답 줄을 보낸 명령과 짝지을 때 사용
+ */
+public final class CommandSpec {
+
+    public enum Termination {
+        /** 응답 없음 (전송 즉시 완료) */
+        NONE,
+        /** 응답 한 줄 */
+        SINGLE_LINE,
+        /** 종료 표식으로 시작하는 줄까지 */
+        MARKER
+    }
+
+    private static final Map<String, CommandSpec> SPECS = new HashMap<>();
+    // 조회 명령 접두어 (GET_CLASSROOMS, VIEW_MY_RESERVATIONS, CHECK_ROOM_STATUS, ...)
+    private static final String[] IDEMPOTENT_PREFIXES = {"GET_", "VIEW_", "CHECK_", "COUNT_", "PING"};
+
+    static {
+        register(new CommandSpec("INIT", Termination.NONE, null));
+        register(new CommandSpec("PING", Termination.SINGLE_LINE, null)); // 하트비트, 응답 PONG
+        register(new CommandSpec("VIEW_WEEKLY_RESERVATION", Termination.MARKER, "END_OF_RESERVATION"));
+        register(new CommandSpec("VIEW_RESERVATION", Termination.MARKER, "END_OF_RESERVATION"));
+        register(new CommandSpec("VIEW_APPROVED_RESERVATIONS", Termination.MARKER, "END_OF_APPROVED_RESERVATIONS"));
+        register(new CommandSpec("VIEW_ALL_RESERVATIONS", Termination.MARKER, "END_"));
+        register(new CommandSpec("VIEW_MY_RESERVATIONS", Termination.MARKER, "END_"));
+        register(new CommandSpec("GET_ALL_USERS", Termination.MARKER, "END_OF_USERS"));
+        register(new CommandSpec("GET_USERS_PAGE", Termination.MARKER, "END_OF_USERS_PAGE", "END_OF_USERS_PAGE"));
+        // 서버 기능 확인 명령 (모르는 서버는 응답 없이 무시할 수 있음)
+        register(new CommandSpec("GET_CATALOG_IF_CHANGED", Termination.SINGLE_LINE, null, "CATALOG_"));
+        register(new CommandSpec("GET_ROOM_STATUSES", Termination.SINGLE_LINE, null, "ROOM_STATUSES"));
+        register(new CommandSpec("GET_RESERVATION_REQUESTS", Termination.MARKER, "END_OF_REQUESTS"));
+    }
+
+    private final String verb;
+    private final Termination termination;
+    private final String endMarker;
+    private final String probeReply;
+
+    private CommandSpec(String verb, Termination termination, String endMarker) {
+        this(verb, termination, endMarker, null);
+    }
+
+    private CommandSpec(String verb, Termination termination, String endMarker, String probeReply) {
+        this.verb = verb;
+        this.termination = termination;
+        this.endMarker = endMarker;
+        this.probeReply = probeReply;
+    }
+
+    private static void register(CommandSpec spec) {
+        SPECS.put(spec.verb, spec);
+    }
+
+    /**
+     * 명령 줄의 첫 토큰(verb)으로 응답 형식 조회
+     * 등록되지 않은 명령은 단일 줄 응답으로 간주
+     */
+    public static CommandSpec of(String commandLine) {
+        String verb = verbOf(commandLine);
+        CommandSpec spec = SPECS.get(verb);
+        return spec != null ? spec : new CommandSpec(verb, Termination.SINGLE_LINE, null);
+    }
+
+    public static String verbOf(String commandLine) {
+        if (commandLine == null) {
+            return "";
+        }
+        int comma = commandLine.indexOf(',');
+        return (comma < 0 ? commandLine : commandLine.substring(0, comma)).trim();
+    }
+
+    /**
+     * 명령 인자 중 강의실 이름 추출 ("908호" 형식의 첫 인자)
+     * 명령마다 강의실 인자 위치가 달라 형식으로 판별
+     */
+    public static String roomOf(String commandLine) {
+        if (commandLine == null) {
+            return null;
+        }
+        String[] parts = commandLine.split(",");
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.endsWith("호") && part.length() > 1) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    public String getVerb() {
+        return verb;
+    }
+
+    public Termination getTermination() {
+        return termination;
+    }
+
+    /**
+     * 서버가 모르면 응답 없이 무시할 수 있는 기능 확인 명령의 응답 접두어 (일반 명령은 null)
+     * 타임아웃 뒤 이 접두어로 시작하지 않는 줄이 오면 늦은 응답이 아니라 다음 명령의 응답으로 봄
+     * (행 형식으로 구분할 수 없는 여러 줄 응답은 종료 표식)
+     */
+    public String getProbeReply() {
+        return probeReply;
+    }
+
+    /**
+     * 다시 보내도 서버 상태가 바뀌지 않는 조회 명령인지 여부
+     * (재접속 시 응답을 못 받은 명령을 재전송해도 되는지 판단)
+     */
+    public boolean isIdempotent() {
+        for (String prefix : IDEMPOTENT_PREFIXES) {
+            if (verb.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이 응답 줄로 명령의 응답이 끝나는지 여부
+     */
+    public boolean isLastLine(String responseLine) {
+        switch (termination) {
+            case NONE:
+            case SINGLE_LINE:
+                return true;
+            default:
+                // 목록 대신 오류 한 줄만 오는 경우도 응답 종료로 처리
+                return responseLine != null
+                        && (responseLine.startsWith(endMarker) || "FAILED".equals(outcomeOf(responseLine)));
+        }
+    }
+
+    /**
+     * 응답 줄로 결과 판정 (실패 표기가 있거나 서버가 모르는 명령이면 FAILED)
+     */
+    public static String outcomeOf(String lastLine) {
+        if (lastLine == null) {
+            return "TIMEOUT";
+        }
+        String upper = lastLine.toUpperCase();
+        if (upper.contains("FAIL") || upper.startsWith("ERROR") || upper.contains("INVALID")
+                || upper.startsWith("UNKNOWN")) {
+            return "FAILED";
+        }
+        return "OK";
+    }
+}
@@ -0,0 +1,101 @@
+package Util;
+
+import Observer.ConnectionStateListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 서버 연결 상태 Subject (Singleton + Observer Pattern)
+ * - MessageDispatcher/Heartbeat가 상태를 갱신하고 등록된 리스너에 전파
+ * - 같은 상태로의 전이는 무시 (리스너는 변화만 받음)
+ */
+public final class ConnectionMonitor {
+
+    public enum State {
+        /** 정상 연결 */
+        CONNECTED,
+        /** 연결은 유지되나 하트비트 응답 지연 */
+        DEGRADED,
+        /** 연결 끊김 후 재접속 시도 중 (대기 중인 요청은 유지) */
+        RECONNECTING,
+        /** 연결 끊김 (비정상, 재접속 불가/실패) */
+        DISCONNECTED,
+        /** 로그아웃 등으로 정상 종료 / 아직 연결 전 */
+        CLOSED
+    }
+
+    private static volatile ConnectionMonitor instance;
+
+    private final List<ConnectionStateListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile State state = State.CLOSED;
+
+    private ConnectionMonitor() {
+    }
+
+    public static ConnectionMonitor getInstance() {
+        if (instance == null) {
+            synchronized (ConnectionMonitor.class) {
+                if (instance == null) {
+                    instance = new ConnectionMonitor();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public void addListener(ConnectionStateListener listener) {
+        if (listener != null && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(ConnectionStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 상태 전이 및 리스너 통지
+     * @return 실제로 상태가 바뀌었는지
+     */
+    boolean transition(State next, String reason) {
+        State previous;
+        synchronized (this) {
+            previous = state;
+            if (previous == next) {
+                return false;
+            }
+            state = next;
+        }
+
+        if (next == State.DISCONNECTED || next == State.DEGRADED || next == State.RECONNECTING) {
+            Log.warn("[ConnectionMonitor] {} → {} ({})", previous, next, reason);
+        } else {
+            Log.info("[ConnectionMonitor] {} → {} ({})", previous, next, reason);
+        }
+
+        for (ConnectionStateListener listener : listeners) {
+            try {
+                listener.onConnectionStateChanged(previous, next, reason);
+            } catch (RuntimeException e) {
+                Log.error("[ConnectionMonitor] 리스너 오류", e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 테스트용: 리스너/상태 초기화
+     */
+    static void resetForTest() {
+        synchronized (ConnectionMonitor.class) {
+            if (instance != null) {
+                instance.listeners.clear();
+                instance.state = State.CLOSED;
+            }
+        }
+    }
+}
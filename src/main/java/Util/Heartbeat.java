@@ -0,0 +1,177 @@
+package Util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 하트비트 (PING/PONG)
+ * - MessageDispatcher와 수명을 같이 하는 데몬 스레드
+ * - 링크가 interval 동안 조용하거나(기다리는 요청이 없을 때), 요청이 interval 넘게 응답을 못 받고 있으면 PING 전송
+ *   → 요청을 보낸 채 링크가 반쯤 끊겨도 PONG이 오지 않으므로 끊김으로 감지해 대기 중인 요청을 바로 실패 처리
+ * - PONG은 요청 뒤에 보낸 PING이어도 요청 응답으로 넘어가지 않고, PING 뒤에 요청이 기다리면 오류 줄은 그 요청에 전달
+ * - PONG이 interval보다 늦으면 DEGRADED, missLimit × interval 동안 아무 수신도 없으면 연결 끊김 처리
+ *   (재접속 가능하면 재접속, 아니면 대기 중인 요청은 즉시 DISCONNECTED로 실패;
+ *    앞선 요청이 처리 중이면 그 타임아웃까지 유예)
+ * - 서버가 PING을 모르는 경우(첫 PING에 PONG 이외 응답/무응답) 하트비트 비활성화
+ *
+ * 설정 (config.properties): heartbeat.interval.ms (0이면 사용 안 함), heartbeat.miss.limit
+ */
+final class Heartbeat implements Runnable {
+
+    static final String PING = "PING";
+    static final String PONG = "PONG";
+
+    private static final long DEFAULT_INTERVAL_MILLIS = 1_000;
+    private static final long DEFAULT_MISS_LIMIT = 3;
+
+    /** 서버의 PING 지원 여부 (서버 단위이므로 재접속 후에도 유지) */
+    enum Support { UNKNOWN, SUPPORTED, UNSUPPORTED }
+
+    private static volatile Support support = Support.UNKNOWN;
+
+    private final MessageDispatcher dispatcher;
+    private final long intervalNanos;
+    private final long missLimit;
+    private volatile boolean running = true;
+    private volatile long pingSentNanos = 0; // 0 = 응답 대기 중인 PING 없음
+    private Thread thread;
+
+    Heartbeat(MessageDispatcher dispatcher, long intervalMillis, long missLimit) {
+        this.dispatcher = dispatcher;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.missLimit = Math.max(1, missLimit);
+    }
+
+    /**
+     * 설정값으로 생성 (interval이 0 이하이면 null = 하트비트 없음)
+     */
+    static Heartbeat fromConfig(MessageDispatcher dispatcher) {
+        long interval = ClientConfig.getLong("heartbeat.interval.ms", DEFAULT_INTERVAL_MILLIS);
+        if (interval <= 0) {
+            return null;
+        }
+        return new Heartbeat(dispatcher, interval,
+                ClientConfig.getLong("heartbeat.miss.limit", DEFAULT_MISS_LIMIT));
+    }
+
+    void start() {
+        thread = new Thread(this, "Heartbeat");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        long sleepMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(intervalNanos) / 2);
+        while (running && support != Support.UNSUPPORTED) {
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (running) {
+                tick(System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * 주기 점검 (반 interval마다)
+     */
+    void tick(long now) {
+        long sent = pingSentNanos;
+        if (sent != 0) {
+            checkOutstandingPing(now, sent);
+            return;
+        }
+
+        long idle = now - Math.max(dispatcher.lastInboundNanos(), MessageDispatcher.lastOutboundNanos());
+        boolean quiet = idle >= intervalNanos && MessageDispatcher.pendingCount() == 0;
+        if (quiet || MessageDispatcher.oldestPendingAgeNanos(now) >= intervalNanos) {
+            pingSentNanos = now;
+            if (!MessageDispatcher.send(PING)) {
+                pingSentNanos = 0;
+            }
+        }
+    }
+
+    private void checkOutstandingPing(long now, long sent) {
+        long window = intervalNanos * missLimit;
+        long waited = now - sent;
+
+        if (support == Support.UNKNOWN) {
+            // 첫 PING에 반응이 없으면 서버가 PING을 모른다고 보고 중단
+            if (waited >= window) {
+                markUnsupported("첫 PING 무응답");
+                dispatcher.abandonPing();
+            }
+            return;
+        }
+
+        if (waited >= intervalNanos) {
+            ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.DEGRADED,
+                    "PONG 지연 " + TimeUnit.NANOSECONDS.toMillis(waited) + "ms");
+        }
+        // 앞선 요청을 처리 중이면 그 요청의 타임아웃까지는 기다림
+        long limit = Math.max(window, MessageDispatcher.requestAheadOfPingTimeoutNanos());
+        long silence = now - Math.max(sent, dispatcher.lastInboundNanos());
+        if (waited >= limit && silence >= limit) {
+            declareDead(TimeUnit.NANOSECONDS.toMillis(silence));
+        }
+    }
+
+    private void declareDead(long silenceMillis) {
+        running = false;
+        pingSentNanos = 0;
+        dispatcher.onHeartbeatLost("하트비트 " + missLimit + "회 무응답 (" + silenceMillis + "ms)");
+    }
+
+    /**
+     * PONG 수신 (디스패처 스레드)
+     */
+    void onPong(long rttNanos) {
+        pingSentNanos = 0;
+        if (support != Support.SUPPORTED) {
+            support = Support.SUPPORTED;
+            Log.info("[Heartbeat] 서버 PING 지원 확인 (RTT {}ms)", TimeUnit.NANOSECONDS.toMillis(rttNanos));
+        }
+        ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.CONNECTED, "PONG 수신");
+    }
+
+    /**
+     * PING 차례에 PONG이 아닌 줄 수신 (디스패처 스레드)
+     * - 뒤에 다른 요청이 기다리고 있으면 그 요청의 응답(예: INVALID_CURRENT_PASSWORD)일 수 있으므로 소비하지 않음
+     * @param requestsWaiting PING 뒤에 응답을 기다리는 요청이 있는지
+     * @return PING에 대한 오류 응답으로 보고 줄을 소비해야 하면 true
+     */
+    boolean onUnexpectedReply(String line, boolean requestsWaiting) {
+        pingSentNanos = 0;
+        if (support == Support.UNKNOWN) {
+            markUnsupported("PING 응답: " + line);
+        }
+        if (requestsWaiting) {
+            return false;
+        }
+        return line.startsWith("UNKNOWN") || line.startsWith("ERROR") || line.startsWith("INVALID");
+    }
+
+    private void markUnsupported(String reason) {
+        support = Support.UNSUPPORTED;
+        pingSentNanos = 0;
+        Log.info("[Heartbeat] 서버가 PING을 지원하지 않아 하트비트 중단 ({})", reason);
+    }
+
+    static Support support() {
+        return support;
+    }
+
+    static void resetSupportForTest() {
+        support = Support.UNKNOWN;
+    }
+}
@@ -0,0 +1,373 @@
+package Util;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 로거 (Ring Buffer 기반)
+ * - 호출 스레드는 레벨 확인 후 링 버퍼 슬롯에 템플릿과 인자만 기록하고 즉시 반환
+ * - 문자열 포맷팅("{}" 치환)과 콘솔 출력은 전용 백그라운드 스레드(Log-Writer)에서 수행
+ * - 비활성 레벨 호출은 포맷팅/콘솔 I/O 없이 레벨 비교 한 번으로 끝남
+ *
+ * 레벨 설정: -Dlog.level=DEBUG 또는 config.properties의 log.level (기본 INFO)
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final int DEFAULT_CAPACITY = 8192; // 2의 거듭제곱이어야 함
+    private static final long IDLE_PARK_NANOS = 5_000_000L;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final Object NONE = new Object(); // 고정 인자 자리 비어 있음
+
+    private static volatile Level threshold = resolveInitialLevel();
+
+    private static final Log INSTANCE = new Log(DEFAULT_CAPACITY);
+
+    // ========== 링 버퍼 (다중 생산자 / 단일 소비자) ==========
+
+    private final Entry[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong enqueuePos = new AtomicLong();
+    private volatile long dequeuePos = 0;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean writerIdle = false;
+
+    private final StringBuilder line = new StringBuilder(256); // Log-Writer 전용
+
+    private Log(int capacity) {
+        this.slots = new Entry[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Entry();
+            sequences.set(i, i);
+        }
+
+        this.writer = new Thread(this::drainLoop, "Log-Writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(500), "Log-Shutdown"));
+    }
+
+    // ========== 레벨 ==========
+
+    public static void setLevel(Level level) {
+        threshold = level;
+    }
+
+    public static Level getLevel() {
+        return threshold;
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level.compareTo(threshold) >= 0 && level != Level.OFF;
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    // ========== 로깅 API ("{}" 자리표시자, 마지막 인자가 Throwable이면 스택 트레이스 출력) ==========
+
+    public static void debug(String message) { log(Level.DEBUG, message, NONE, NONE, null); }
+    public static void debug(String template, Object a) { log(Level.DEBUG, template, a, NONE, null); }
+    public static void debug(String template, Object a, Object b) { log(Level.DEBUG, template, a, b, null); }
+    public static void debug(String template, Object... args) { log(Level.DEBUG, template, NONE, NONE, args); }
+    public static void debug(Supplier<String> message) { logLazy(Level.DEBUG, message); }
+
+    public static void info(String message) { log(Level.INFO, message, NONE, NONE, null); }
+    public static void info(String template, Object a) { log(Level.INFO, template, a, NONE, null); }
+    public static void info(String template, Object a, Object b) { log(Level.INFO, template, a, b, null); }
+    public static void info(String template, Object... args) { log(Level.INFO, template, NONE, NONE, args); }
+    public static void info(Supplier<String> message) { logLazy(Level.INFO, message); }
+
+    public static void warn(String message) { log(Level.WARN, message, NONE, NONE, null); }
+    public static void warn(String template, Object a) { log(Level.WARN, template, a, NONE, null); }
+    public static void warn(String template, Object a, Object b) { log(Level.WARN, template, a, b, null); }
+    public static void warn(String template, Object... args) { log(Level.WARN, template, NONE, NONE, args); }
+
+    public static void error(String message) { log(Level.ERROR, message, NONE, NONE, null); }
+    public static void error(String template, Object a) { log(Level.ERROR, template, a, NONE, null); }
+    public static void error(String template, Object a, Object b) { log(Level.ERROR, template, a, b, null); }
+    public static void error(String template, Object... args) { log(Level.ERROR, template, NONE, NONE, args); }
+
+    private static void log(Level level, String template, Object a, Object b, Object[] args) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        INSTANCE.publish(level, template, a, b, args);
+    }
+
+    private static void logLazy(Level level, Supplier<String> message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        INSTANCE.publish(level, message.get(), NONE, NONE, null);
+    }
+
+    /**
+     * 버퍼에 쌓인 로그가 모두 출력될 때까지 대기 (테스트/종료 시 사용)
+     */
+    public static void flush() {
+        INSTANCE.flush(2000);
+    }
+
+    /**
+     * 버퍼가 가득 차서 버려진 로그 수
+     */
+    public static long getDroppedCount() {
+        return INSTANCE.dropped.get();
+    }
+
+    // ========== 생산자 ==========
+
+    private void publish(Level level, String template, Object a, Object b, Object[] args) {
+        long pos;
+        int index;
+        while (true) {
+            pos = enqueuePos.get();
+            index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (enqueuePos.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                // 버퍼 가득 참: 호출 스레드를 막지 않고 버림
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+
+        Entry e = slots[index];
+        e.level = level;
+        e.timeMillis = System.currentTimeMillis();
+        e.threadName = Thread.currentThread().getName();
+        e.template = template;
+        e.a = a;
+        e.b = b;
+        e.args = args;
+        sequences.set(index, pos + 1);
+
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    // ========== 소비자 (Log-Writer 스레드) ==========
+
+    private void drainLoop() {
+        long reportedDrops = 0;
+        while (true) {
+            if (!drainAvailable()) {
+                long drops = dropped.get();
+                if (drops != reportedDrops) {
+                    System.err.println("[Log] 버퍼 초과로 로그 " + (drops - reportedDrops) + "건 유실");
+                    reportedDrops = drops;
+                }
+                writerIdle = true;
+                if (!hasPending()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerIdle = false;
+            }
+        }
+    }
+
+    private boolean hasPending() {
+        long pos = dequeuePos;
+        return sequences.get((int) (pos & mask)) == pos + 1;
+    }
+
+    /**
+     * @return 하나 이상 출력했으면 true
+     */
+    private boolean drainAvailable() {
+        boolean any = false;
+        while (true) {
+            long pos = dequeuePos;
+            int index = (int) (pos & mask);
+            if (sequences.get(index) != pos + 1) {
+                break;
+            }
+
+            Entry e = slots[index];
+            try {
+                write(e);
+            } catch (RuntimeException ex) {
+                System.err.println("[Log] 출력 실패: " + ex);
+            }
+            e.clear();
+            sequences.set(index, pos + mask + 1);
+            dequeuePos = pos + 1;
+            any = true;
+        }
+        if (any) {
+            System.out.flush();
+            System.err.flush();
+        }
+        return any;
+    }
+
+    private void write(Entry e) {
+        line.setLength(0);
+        LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(e.timeMillis), ZONE);
+        appendTwoDigits(time.getHour());
+        line.append(':');
+        appendTwoDigits(time.getMinute());
+        line.append(':');
+        appendTwoDigits(time.getSecond());
+        line.append('.');
+        int millis = time.getNano() / 1_000_000;
+        if (millis < 100) line.append('0');
+        if (millis < 10) line.append('0');
+        line.append(millis);
+        line.append(' ').append(e.level.name());
+        for (int i = e.level.name().length(); i < 5; i++) {
+            line.append(' ');
+        }
+        line.append(" (").append(e.threadName).append(") ");
+
+        Throwable error = formatInto(line, e.template, e.a, e.b, e.args);
+
+        PrintStream stream = e.level.compareTo(Level.WARN) >= 0 ? System.err : System.out;
+        stream.println(line);
+        if (error != null) {
+            error.printStackTrace(stream);
+        }
+    }
+
+    private void appendTwoDigits(int value) {
+        if (value < 10) {
+            line.append('0');
+        }
+        line.append(value);
+    }
+
+    private void flush(long timeoutMillis) {
+        long target = enqueuePos.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (dequeuePos < target && System.currentTimeMillis() < deadline) {
+            LockSupport.unpark(writer);
+            Thread.onSpinWait();
+        }
+    }
+
+    // ========== 포맷팅 ==========
+
+    /**
+     * "{}" 자리표시자를 인자로 치환 (SLF4J 방식)
+     * 남는 마지막 인자가 Throwable이면 반환하여 스택 트레이스를 출력하게 함
+     */
+    static String format(String template, Object... args) {
+        StringBuilder sb = new StringBuilder();
+        Throwable error = formatInto(sb, template, NONE, NONE, args);
+        if (error != null) {
+            StringWriter sw = new StringWriter();
+            error.printStackTrace(new PrintWriter(sw));
+            sb.append(System.lineSeparator()).append(sw);
+        }
+        return sb.toString();
+    }
+
+    private static Throwable formatInto(StringBuilder sb, String template, Object a, Object b, Object[] args) {
+        int argCount;
+        if (args != null) {
+            argCount = args.length;
+        } else if (b != NONE) {
+            argCount = 2;
+        } else if (a != NONE) {
+            argCount = 1;
+        } else {
+            argCount = 0;
+        }
+
+        if (template == null) {
+            sb.append("null");
+            return argCount > 0 ? asThrowable(argAt(argCount - 1, a, b, args)) : null;
+        }
+
+        int used = 0;
+        int start = 0;
+        while (used < argCount) {
+            int idx = template.indexOf("{}", start);
+            if (idx < 0) {
+                break;
+            }
+            sb.append(template, start, idx);
+            appendArg(sb, argAt(used++, a, b, args));
+            start = idx + 2;
+        }
+        sb.append(template, start, template.length());
+
+        if (used < argCount) {
+            return asThrowable(argAt(argCount - 1, a, b, args));
+        }
+        return null;
+    }
+
+    private static Object argAt(int i, Object a, Object b, Object[] args) {
+        if (args != null) {
+            return args[i];
+        }
+        return i == 0 ? a : b;
+    }
+
+    private static void appendArg(StringBuilder sb, Object arg) {
+        if (arg instanceof Throwable t) {
+            sb.append(t);
+        } else if (arg instanceof Object[] array) {
+            sb.append(java.util.Arrays.toString(array));
+        } else {
+            sb.append(arg);
+        }
+    }
+
+    private static Throwable asThrowable(Object arg) {
+        return arg instanceof Throwable t ? t : null;
+    }
+
+    private static Level resolveInitialLevel() {
+        String value = ClientConfig.getString("log.level");
+        if (value != null) {
+            try {
+                return Level.valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 값이면 기본값 사용
+            }
+        }
+        return Level.INFO;
+    }
+
+    /**
+     * 링 버퍼 슬롯 (미리 할당하여 재사용)
+     */
+    private static final class Entry {
+        Level level;
+        long timeMillis;
+        String threadName;
+        String template;
+        Object a;
+        Object b;
+        Object[] args;
+
+        void clear() {
+            template = null;
+            a = null;
+            b = null;
+            args = null;
+        }
+    }
+}
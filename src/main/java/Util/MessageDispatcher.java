@@ -1,27 +1,87 @@
 package Util;
 
 import Model.Session;
+import Monitoring.NotificationEvent;
+import Monitoring.ServerCommandEvent;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * 서버로부터 받는 모든 메시지를 라우팅하는 디스패처
  * - NOTIFICATION 메시지 → 알림 핸들러로 전달
- * - 일반 응답 메시지 → 동기 요청 대기 큐로 전달
+ * - 일반 응답 메시지 → 보낸 순서(FIFO)로 주인 명령을 찾아 그 명령의 응답 큐로 전달
+ *   (send()한 스레드는 waitForResponse()로 자기 명령의 응답만 받음 → 여러 스레드가 동시에 보내도 응답이 섞이지 않음)
+ * - send()로 보낸 명령은 OutboundWriter가 한 번에 한 스레드만 쓰도록 모아서 전송
+ * - send()로 보낸 명령과 응답 줄을 순서대로 짝지어 JFR ServerCommandEvent 기록
+ * - 명령별 응답 시간(RTT)을 TimeoutPolicy에 반영하여 적응형 타임아웃 적용
+ *   (타임아웃된 명령은 순서 자리를 지키며 늦게 온 응답 줄을 버림 → 다음 요청의 응답으로 착각하지 않음)
+ * - 실제 소켓 연결이면 Heartbeat(PING/PONG)로 끊김을 조기 감지, 상태는 ConnectionMonitor로 전파
+ * - 연결이 끊기면 Reconnector로 재접속 후 INIT + 응답 못 받은 조회 명령 재전송
+ *   (변경 명령은 재전송하지 않고 대기 스레드에 INTERRUPTED로 알림)
  */
 public class MessageDispatcher extends Thread {
     
-    private static MessageDispatcher instance;
+    private static volatile MessageDispatcher instance;
     private static final Object lock = new Object(); // 추가적인 동기화 보장
-    private final BufferedReader in;
+    // 응답 대기 중인 명령 (전송 순서 = 응답 순서, 등록/응답 귀속은 이 객체로 직렬화)
+    private static final ConcurrentLinkedDeque<PendingCommand> pendingCommands = new ConcurrentLinkedDeque<>();
+    // 스레드마다 응답을 기다리는 자기 명령 (보낸 순서)
+    private static final ThreadLocal<ArrayDeque<PendingCommand>> ownedCommands =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    // 디스패처 중지/테스트 초기화마다 증가 → 이전 세션에서 보낸 명령은 기다리지 않음
+    private static final AtomicInteger generation = new AtomicInteger();
+    private static final TimeoutPolicy timeoutPolicy = TimeoutPolicy.fromConfig();
+    private static final ThreadLocal<ResponseStatus> lastStatus =
+            ThreadLocal.withInitial(() -> ResponseStatus.RECEIVED);
+    // 연결 종료 시 대기 중인 스레드를 즉시 깨우는 표식 (동일성 비교)
+    private static final String CONNECTION_LOST = new String("CONNECTION_LOST");
+    // 재접속으로 결과를 알 수 없게 된 명령의 대기 스레드를 깨우는 표식 (동일성 비교)
+    private static final String REQUEST_INTERRUPTED = new String("REQUEST_INTERRUPTED");
+    private static volatile long lastOutboundNanos = System.nanoTime();
+    // 진행 중인 동일 조회 명령 합치기 (request 전용)
+    private static final SingleFlight<String, SharedReply> readFlights = new SingleFlight<>();
+    // 화면 핸들러보다 먼저 알림을 보는 캐시 무효화 등 (true 반환 시 화면 핸들러로 넘기지 않음)
+    private static final List<Predicate<String>> notificationInterceptors = new CopyOnWriteArrayList<>();
+
+    /**
+     * 응답 대기 결과
+     */
+    public enum ResponseStatus {
+        /** 응답 수신 */
+        RECEIVED,
+        /** 예상 시간을 넘겼지만 연결이 살아 있어 더 기다린 뒤 수신 */
+        RECEIVED_SLOW,
+        /** 연결은 살아 있으나 최대 대기 시간 안에 응답 없음 */
+        TIMED_OUT,
+        /** 연결 끊김 (디스패처 종료) */
+        DISCONNECTED,
+        /** 처리 중 연결이 끊겨 재접속했으나 변경 명령이라 재전송하지 않음 (결과 불명) */
+        INTERRUPTED
+    }
+
+    private volatile BufferedReader in;
+    // 주인 명령이 없는 줄 (스크립트 스트림에서 명령보다 먼저 온 줄) + 연결 종료 표식
     private final BlockingQueue<String> responseQueue;
     private Consumer<String> notificationHandler;
     private volatile boolean running = true;
+    private volatile long lastInboundNanos = System.nanoTime();
+    private volatile Heartbeat heartbeat;
     
     private MessageDispatcher(BufferedReader in) {
         this.in = in;
@@ -48,7 +108,7 @@ public class MessageDispatcher extends Thread {
                     Thread.currentThread().interrupt();
                 }
                 
-                System.out.println("[MessageDispatcher] 시작됨");
+                Log.info("[MessageDispatcher] 시작됨");
             } else if (!instance.isAlive()) {
                 // 기존 인스턴스가 종료되었다면 새로 생성
                 instance = new MessageDispatcher(in);
@@ -61,7 +121,7 @@ public class MessageDispatcher extends Thread {
                     Thread.currentThread().interrupt();
                 }
                 
-                System.out.println("[MessageDispatcher] 시작됨");
+                Log.info("[MessageDispatcher] 시작됨");
             }
             // 이미 실행 중인 인스턴스가 있으면 아무것도 하지 않음
         }
@@ -76,6 +136,112 @@ public class MessageDispatcher extends Thread {
         }
     }
     
+    /**
+     * 서버로 명령 전송
+     * 응답 추적 목록에 등록하고 OutboundWriter로 전송 (동시 전송은 한 번의 flush로 묶임)
+     * 응답은 이 명령을 보낸 스레드의 waitForResponse()로만 전달됨
+     * @param command 프로토콜 명령 줄 (예: "GET_CLASSROOMS")
+     * @return 전송 예약 여부 (연결 없으면 false)
+     */
+    public static boolean send(String command) {
+        if (Session.getInstance().getOut() == null) {
+            return false;
+        }
+
+        PendingCommand pending = new PendingCommand(command);
+        if ("EXIT".equals(pending.spec.getVerb())) {
+            Reconnector.getInstance().forget(); // 로그아웃: 이후 연결 종료는 재접속하지 않음
+        }
+        // 재접속 중 스트림 교체/재전송과 순서가 섞이지 않도록 등록 순서만 직렬화 (쓰기는 밖에서 묶어서)
+        OutboundWriter.Outbound queued;
+        synchronized (pendingCommands) {
+            PrintWriter out = Session.getInstance().getOut();
+            if (out == null) {
+                return false;
+            }
+            if (pending.spec.getTermination() != CommandSpec.Termination.NONE) {
+                pendingCommands.addLast(pending);
+                if (!pending.isPing()) {
+                    claim(pending); // PING 응답은 디스패처가 소비
+                }
+            }
+            queued = OutboundWriter.enqueue(out, command);
+        }
+        OutboundWriter.flushThrough(queued);
+        lastOutboundNanos = System.nanoTime();
+        if (pending.spec.getTermination() == CommandSpec.Termination.NONE) {
+            pending.complete("SENT");
+        }
+        return true;
+    }
+
+    /**
+     * 이 스레드가 응답을 기다릴 명령으로 등록
+     * 이전 명령을 읽다 말고 새 명령을 보냈으면 이전 명령의 나머지 줄은 버림
+     */
+    private static void claim(PendingCommand pending) {
+        ArrayDeque<PendingCommand> owned = ownedCommands.get();
+        for (Iterator<PendingCommand> it = owned.iterator(); it.hasNext(); ) {
+            PendingCommand previous = it.next();
+            if (previous.isDrained()) {
+                it.remove();
+            } else if (previous.delivered) {
+                previous.discardRest();
+                it.remove();
+            }
+        }
+        owned.addLast(pending);
+    }
+
+    /**
+     * 이 스레드가 지금 응답을 기다리는 명령 (가장 먼저 보낸 것, 없으면 null)
+     */
+    private static PendingCommand currentCommand() {
+        ArrayDeque<PendingCommand> owned = ownedCommands.get();
+        PendingCommand head;
+        while ((head = owned.peekFirst()) != null && head.isDrained()) {
+            owned.pollFirst();
+        }
+        return head;
+    }
+
+    private static void release(PendingCommand pending) {
+        ownedCommands.get().remove(pending);
+    }
+
+    /**
+     * 실제 TCP 연결 여부 (테스트/재생용 스트림이면 false)
+     */
+    private static boolean isLiveSocket() {
+        Socket socket = Session.getInstance().getSocket();
+        return socket != null && socket.isConnected() && !socket.isClosed();
+    }
+
+    /**
+     * 스크립트 스트림(테스트/재생)에서 명령보다 먼저 도착해 쌓인 줄을 대기 명령에 순서대로 귀속
+     */
+    private void claimStrayLines() {
+        synchronized (pendingCommands) {
+            List<String> unclaimed = new ArrayList<>();
+            String line;
+            while ((line = responseQueue.poll()) != null) {
+                if (line == CONNECTION_LOST || !unclaimed.isEmpty() || !deliver(line)) {
+                    unclaimed.add(line);
+                }
+            }
+            responseQueue.addAll(unclaimed);
+        }
+    }
+
+    /**
+     * 알림 가로채기 등록 (디스패처 재시작과 무관하게 유지)
+     * 캐시 무효화처럼 화면과 상관없이 처리해야 하는 알림용, 화면 핸들러는 setNotificationHandler 사용
+     * @param interceptor 알림 줄을 받아 처리, 화면에 보일 필요가 없는 알림이면 true
+     */
+    public static void addNotificationInterceptor(Predicate<String> interceptor) {
+        notificationInterceptors.add(interceptor);
+    }
+
     /**
      * 알림 핸들러 등록
      */
@@ -84,68 +250,543 @@ public class MessageDispatcher extends Thread {
     }
     
     /**
-     * 동기 응답 대기 (타임아웃 적용)
+     * 동기 응답 대기 (적응형 타임아웃)
+     * - 이 스레드가 보낸 명령(가장 먼저 보낸 것)의 응답 줄을 하나씩 반환
+     * - 그 명령 종류의 RTT 기록으로 기한 계산
+     * - 기한이 지나도 그동안 수신이 있었으면(느리지만 연결 유지) 최대 시간까지 연장
+     * - 연결이 끊기면 기한을 기다리지 않고 즉시 null
+     * @return 서버 응답 (타임아웃/연결 끊김 시 null, 원인은 lastResponseStatus())
+     */
+    public String waitForResponse() {
+        PendingCommand mine = currentCommand();
+        String verb = mine != null ? mine.spec.getVerb() : "";
+        return awaitResponse(mine, timeoutPolicy.timeoutMillis(verb), true);
+    }
+
+    /**
+     * 동기 응답 대기 (호출별 고정 타임아웃)
      * @param timeoutSeconds 타임아웃 (초)
-     * @return 서버 응답 (타임아웃 시 null)
+     * @return 서버 응답 (타임아웃/연결 끊김 시 null, 원인은 lastResponseStatus())
      */
     public String waitForResponse(int timeoutSeconds) {
+        return awaitResponse(currentCommand(), TimeUnit.SECONDS.toMillis(timeoutSeconds), false);
+    }
+
+    /**
+     * 한 줄 응답 조회 명령 전송 + 응답 대기
+     * - 조회(멱등) 명령이고 같은 명령이 이미 진행 중이면 새로 보내지 않고 그 응답을 함께 받음
+     *   (여러 화면이 동시에 GET_CLASSROOMS 등을 요청해도 서버 왕복은 한 번)
+     * - 그 외 명령은 send + waitForResponse와 동일
+     * @param command 프로토콜 명령 줄
+     * @return 서버 응답 (전송 실패/타임아웃/연결 끊김 시 null, 원인은 lastResponseStatus())
+     */
+    public static String request(String command) {
+        CommandSpec spec = CommandSpec.of(command);
+        if (!spec.isIdempotent() || spec.getTermination() != CommandSpec.Termination.SINGLE_LINE) {
+            return sendAndWait(command);
+        }
+
+        SharedReply reply = readFlights.execute(command, () -> {
+            String line = sendAndWait(command);
+            return new SharedReply(line, lastStatus.get());
+        });
+        lastStatus.set(reply.status);
+        return reply.line;
+    }
+
+    private static String sendAndWait(String command) {
+        MessageDispatcher dispatcher = getInstance();
+        if (dispatcher == null || !send(command)) {
+            lastStatus.set(ResponseStatus.DISCONNECTED);
+            return null;
+        }
+        return dispatcher.waitForResponse();
+    }
+
+    /**
+     * 조회 명령 합치기 통계 (실제 전송 / 합류)
+     */
+    public static SingleFlight<String, ?> readFlights() {
+        return readFlights;
+    }
+
+    /**
+     * @param mine 이 스레드가 기다리는 명령 (null이면 주인 없는 줄 큐에서 대기)
+     */
+    private String awaitResponse(PendingCommand mine, long timeoutMillis, boolean extendWhileAlive) {
+        BlockingQueue<String> queue = mine != null ? mine.replies : responseQueue;
+        if (mine != null && !isLiveSocket()) {
+            claimStrayLines();
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long hardDeadline = start + TimeUnit.MILLISECONDS.toNanos(Math.max(timeoutMillis, timeoutPolicy.maxMillis()));
+        boolean extended = false;
+
         try {
-            return responseQueue.poll(timeoutSeconds, TimeUnit.SECONDS);
+            while (true) {
+                if (!isAlive() && queue.isEmpty()) {
+                    return connectionLost(mine);
+                }
+
+                String response = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (response == CONNECTION_LOST) {
+                    if (mine == null) {
+                        responseQueue.offer(CONNECTION_LOST); // 다른 대기 스레드도 깨움
+                    }
+                    return connectionLost(mine);
+                }
+                if (response == REQUEST_INTERRUPTED) {
+                    release(mine);
+                    lastStatus.set(ResponseStatus.INTERRUPTED);
+                    return null;
+                }
+                if (response != null) {
+                    if (mine != null) {
+                        mine.delivered = true;
+                    }
+                    lastStatus.set(extended ? ResponseStatus.RECEIVED_SLOW : ResponseStatus.RECEIVED);
+                    return response;
+                }
+
+                // 기한 경과: 대기 중 수신이 있었거나 재접속 중이면 → 최대 시간까지 연장
+                long now = System.nanoTime();
+                boolean alive = lastInboundNanos - start > 0
+                        || ConnectionMonitor.getInstance().getState() == ConnectionMonitor.State.RECONNECTING;
+                if (extendWhileAlive && alive && now - hardDeadline < 0) {
+                    if (!extended) {
+                        Log.info("[MessageDispatcher] 서버 응답 지연 (연결 유지) - 대기 연장");
+                    }
+                    extended = true;
+                    start = now;
+                    deadline = Math.min(hardDeadline, now + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+                    continue;
+                }
+
+                lastStatus.set(ResponseStatus.TIMED_OUT);
+                giveUp(mine, "TIMEOUT");
+                return null;
+            }
         } catch (InterruptedException e) {
-            System.err.println("[MessageDispatcher] 응답 대기 중단: " + e.getMessage());
+            Log.warn("[MessageDispatcher] 응답 대기 중단: {}", e.getMessage());
+            lastStatus.set(ResponseStatus.TIMED_OUT);
+            giveUp(mine, "TIMEOUT");
             return null;
         }
     }
+
+    private String connectionLost(PendingCommand mine) {
+        lastStatus.set(ResponseStatus.DISCONNECTED);
+        giveUp(mine, "DISCONNECTED");
+        return null;
+    }
+
+    /**
+     * 대기 스레드가 응답을 포기한 명령 처리
+     * - 타임아웃: 응답이 올 때까지(또는 연결이 끊기거나 바뀔 때까지) 자리표시로 대기 목록에 남겨
+     *   늦게 온 응답을 삼킴 (다음 명령의 응답으로 넘어가지 않음)
+     *   단, 서버가 모르면 무시할 수 있는 기능 확인 명령은 자기 응답이 아닌 줄이 오면 자리를 비움
+     * - 연결 끊김: 대기 목록에서 제거
+     */
+    private static void giveUp(PendingCommand mine, String outcome) {
+        if (mine == null) {
+            return;
+        }
+        release(mine);
+        synchronized (pendingCommands) {
+            if (!"TIMEOUT".equals(outcome)) {
+                pendingCommands.remove(mine);
+            }
+            mine.discardRest();
+        }
+        mine.complete(outcome);
+    }
+
+    /**
+     * 현재 스레드의 마지막 응답 대기 결과
+     */
+    public static ResponseStatus lastResponseStatus() {
+        return lastStatus.get();
+    }
+
+    /**
+     * 응답을 받지 못했을 때 사용자에게 보여줄 안내 문구
+     * (연결 끊김과 서버 지연을 구분)
+     */
+    public static String describeNoResponse() {
+        if (lastStatus.get() == ResponseStatus.DISCONNECTED) {
+            return "서버와의 연결이 끊어졌습니다. 다시 로그인해주세요.";
+        }
+        if (lastStatus.get() == ResponseStatus.INTERRUPTED) {
+            return "요청을 처리하는 중 서버 연결이 끊겼다가 복구되어 결과를 확인할 수 없습니다.\n"
+                    + "내역을 확인한 뒤 필요하면 다시 시도해주세요.";
+        }
+        return "서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
+    }
+
+    /**
+     * 적응형 타임아웃 정책 (RTT 통계 조회용)
+     */
+    public static TimeoutPolicy getTimeoutPolicy() {
+        return timeoutPolicy;
+    }
     
+    long lastInboundNanos() {
+        return lastInboundNanos;
+    }
+
+    static long lastOutboundNanos() {
+        return lastOutboundNanos;
+    }
+
+    /**
+     * 응답을 기다리는 명령 수 (선행 조회 등 급하지 않은 요청이 끼어들지 판단, 포기한 명령 제외)
+     */
+    public static int pendingCount() {
+        int count = 0;
+        for (PendingCommand pending : pendingCommands) {
+            if (!pending.discarded) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 응답을 가장 오래 기다리고 있는 요청의 대기 시간 (PING/포기한 명령 제외, 없으면 0)
+     */
+    static long oldestPendingAgeNanos(long now) {
+        for (PendingCommand pending : pendingCommands) {
+            if (!pending.isPing() && !pending.discarded) {
+                return now - pending.sentNanos;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * PING보다 먼저 보낸 요청이 남아 있으면 그 요청의 적응형 타임아웃 (없으면 0)
+     * 서버가 요청을 순서대로 처리하므로 앞선 느린 요청 뒤에서는 PONG도 늦어짐
+     */
+    static long requestAheadOfPingTimeoutNanos() {
+        PendingCommand oldest = pendingCommands.peekFirst();
+        if (oldest == null || oldest.isPing()) {
+            return 0;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(timeoutPolicy.timeoutMillis(oldest.spec.getVerb()));
+    }
+
+    /**
+     * 응답 없는 PING을 대기 목록에서 제거 (서버가 PING 미지원)
+     */
+    void abandonPing() {
+        for (PendingCommand pending : pendingCommands) {
+            if (pending.isPing() && pendingCommands.remove(pending)) {
+                pending.complete("TIMEOUT");
+                return;
+            }
+        }
+    }
+
+    /**
+     * 하트비트가 연결 끊김을 판정했을 때
+     * - 재접속 가능: 소켓을 닫아 수신 루프가 바로 재접속하도록 함
+     * - 재접속 불가: 대기 중인 요청을 모두 즉시 실패시킴
+     */
+    void onHeartbeatLost(String reason) {
+        if (!Reconnector.getInstance().canReconnect()) {
+            ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.DISCONNECTED, reason);
+            completeAll();
+            responseQueue.offer(CONNECTION_LOST);
+        } else {
+            Log.warn("[MessageDispatcher] {} - 재접속 시도", reason);
+        }
+        closeQuietly(Session.getInstance().getSocket());
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+    }
+
     /**
      * 메시지 수신 및 라우팅
      * SocketTimeoutException을 무시하고 계속 실행
      */
     @Override
     public void run() {
-        System.out.println("[MessageDispatcher] 메시지 수신 시작");
+        Log.info("[MessageDispatcher] 메시지 수신 시작");
+        ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.CONNECTED, "디스패처 시작");
+        startHeartbeat();
         
         while (running && !isInterrupted()) {
             try {
                 String message = in.readLine();
+                lastInboundNanos = System.nanoTime();
                 
                 if (message == null) {
-                    System.out.println("[MessageDispatcher] 서버 연결 종료");
+                    Log.info("[MessageDispatcher] 서버 연결 종료");
+                    if (resumeAfterDisconnect()) {
+                        continue;
+                    }
                     break;
                 }
                 
                 // 메시지 라우팅
                 if (message.startsWith("NOTIFICATION,")) {
                     // 알림 메시지 → 알림 핸들러로 전달
-                    if (notificationHandler != null) {
-                        notificationHandler.accept(message);
-                    } else {
-                        System.out.println("[MessageDispatcher] 알림 핸들러 미등록: " + message);
-                    }
+                    dispatchNotification(message);
                 } else {
-                    // 일반 응답 → 동기 대기 큐로 전달
-                    responseQueue.offer(message);
-                    System.out.println("[MessageDispatcher] 응답 큐에 추가: " + message);
+                    // 일반 응답 → 주인 명령의 응답 큐로 전달 (하트비트 응답은 여기서 소비)
+                    synchronized (pendingCommands) {
+                        if (!deliver(message)) {
+                            strayLine(message);
+                        }
+                    }
+                    releaseInterrupted();
                 }
                 
             } catch (SocketTimeoutException e) {
                 // 타임아웃은 정상 동작 - running 체크 후 계속 실행
                 // 메시지가 없을 때 발생하므로 무시하고 다음 readLine() 호출
                 if (!running || isInterrupted()) {
-                    System.out.println("[MessageDispatcher] 타임아웃 중 종료 요청 감지");
+                    Log.info("[MessageDispatcher] 타임아웃 중 종료 요청 감지");
                     break;
                 }
                 continue;
                 
             } catch (IOException e) {
                 if (running) {
-                    System.err.println("[MessageDispatcher] 오류: " + e.getMessage());
+                    Log.error("[MessageDispatcher] 오류: {}", e.getMessage());
+                    if (resumeAfterDisconnect()) {
+                        continue;
+                    }
                     break;
                 }
             }
         }
         
-        System.out.println("[MessageDispatcher] 종료됨");
+        if (heartbeat != null) {
+            heartbeat.stop();
+        }
+        completeAll();
+        responseQueue.offer(CONNECTION_LOST);
+        if (running) {
+            ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.DISCONNECTED, "서버 연결 종료");
+        } else {
+            ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.CLOSED, "디스패처 중지");
+        }
+        Log.info("[MessageDispatcher] 종료됨");
+    }
+
+    /**
+     * 연결이 끊긴 뒤 재접속하여 세션 복구
+     * - 재로그인 → INIT → 응답을 못 받은 조회 명령 재전송 (대기 스레드는 그대로 응답을 받음)
+     * - 변경 명령이나 응답 일부를 이미 받은 명령은 재전송하지 않고 INTERRUPTED 처리
+     *   (응답 순서를 지키기 위해 앞선 재전송 명령의 응답이 온 뒤 대기 스레드를 깨움)
+     * @return 복구 성공 여부 (실패하면 수신 루프 종료)
+     */
+    private boolean resumeAfterDisconnect() {
+        Reconnector reconnector = Reconnector.getInstance();
+        if (!running || !reconnector.canReconnect()) {
+            return false;
+        }
+        if (heartbeat != null) {
+            heartbeat.stop();
+        }
+        ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.RECONNECTING, "서버 연결 끊김");
+        closeQuietly(Session.getInstance().getSocket());
+
+        Reconnector.Connection connection = reconnector.reconnect(() -> !running);
+        if (connection == null) {
+            return false;
+        }
+
+        int replayed = 0;
+        int interrupted = 0;
+        OutboundWriter.Outbound lastQueued = null;
+        synchronized (pendingCommands) {
+            Session session = Session.getInstance();
+            session.setSocket(connection.socket);
+            session.setIn(connection.in);
+            session.setOut(connection.out);
+            in = connection.in;
+            send("INIT");
+
+            for (PendingCommand pending : new ArrayList<>(pendingCommands)) {
+                if (pending.isPing() || pending.discarded) {
+                    pendingCommands.remove(pending);
+                    pending.complete("DISCONNECTED");
+                } else if (pending.spec.isIdempotent() && pending.responseLines == 0) {
+                    pending.replayed = true;
+                    lastQueued = OutboundWriter.enqueue(connection.out, pending.command);
+                    replayed++;
+                } else {
+                    pending.interrupted = true;
+                    interrupted++;
+                }
+            }
+        }
+        if (lastQueued != null) {
+            OutboundWriter.flushThrough(lastQueued);
+        }
+        lastInboundNanos = System.nanoTime();
+        lastOutboundNanos = lastInboundNanos;
+        Log.info("[MessageDispatcher] 재접속 완료 - 재전송 {}건, 결과 불명 {}건", replayed, interrupted);
+
+        releaseInterrupted();
+        ConnectionMonitor.getInstance().transition(ConnectionMonitor.State.CONNECTED, "재접속 완료");
+        startHeartbeat();
+        return true;
+    }
+
+    /**
+     * 대기 목록 맨 앞의 결과 불명 명령을 꺼내 대기 스레드를 깨움
+     */
+    private void releaseInterrupted() {
+        synchronized (pendingCommands) {
+            PendingCommand head;
+            while ((head = pendingCommands.peekFirst()) != null && head.interrupted && pendingCommands.remove(head)) {
+                head.complete("INTERRUPTED");
+                head.finish(REQUEST_INTERRUPTED);
+            }
+        }
+    }
+
+    /**
+     * 실제 TCP 연결일 때만 하트비트 시작 (테스트/재생용 스트림에는 PING을 보내지 않음)
+     */
+    private void startHeartbeat() {
+        if (!isLiveSocket() || Heartbeat.support() == Heartbeat.Support.UNSUPPORTED) {
+            return;
+        }
+        heartbeat = Heartbeat.fromConfig(this);
+        if (heartbeat != null) {
+            heartbeat.start();
+        }
+    }
+
+    private void dispatchNotification(String message) {
+        NotificationEvent event = new NotificationEvent();
+        event.begin();
+        Consumer<String> handler = notificationHandler;
+        boolean consumed = false;
+        for (Predicate<String> interceptor : notificationInterceptors) {
+            try {
+                consumed |= interceptor.test(message);
+            } catch (RuntimeException e) {
+                Log.error("[MessageDispatcher] 알림 가로채기 오류", e);
+            }
+        }
+        if (consumed) {
+            Log.debug("[MessageDispatcher] 내부 처리 알림: {}", message);
+        } else if (handler != null) {
+            handler.accept(message);
+        } else {
+            Log.info("[MessageDispatcher] 알림 핸들러 미등록: {}", message);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            String[] parts = message.split(",", 7);
+            event.type = parts.length > 1 ? parts[1] : null;
+            event.room = parts.length > 3 ? parts[3] : null;
+            event.bytes = message.length();
+            event.handled = consumed || handler != null;
+            event.commit();
+        }
+    }
+
+    /**
+     * 응답 줄을 가장 오래된 대기 명령에 귀속하여 그 명령의 응답 큐로 전달, 마지막 줄이면 완료 처리
+     * (pendingCommands 잠금 안에서 호출)
+     * @return 줄을 받을 명령이 없으면 false (하트비트가 소비한 줄은 true)
+     */
+    private boolean deliver(String line) {
+        if (Heartbeat.PONG.equals(line)) {
+            // PONG은 PING의 응답일 뿐 (요청 뒤에 보낸 PING이어도 요청 응답으로 넘기지 않음)
+            onPong(line);
+            return true;
+        }
+        PendingCommand pending;
+        while ((pending = pendingCommands.peekFirst()) != null && pending.yieldsTo(line)) {
+            pendingCommands.pollFirst();
+            pending.ended = true;
+            Log.debug("[MessageDispatcher] 응답 없는 명령({}) 자리 비움", pending.spec.getVerb());
+        }
+        if (pending != null && pending.isPing() && pendingCommands.remove(pending)) {
+            pending.complete("FAILED");
+            if (heartbeat != null && heartbeat.onUnexpectedReply(line, !pendingCommands.isEmpty())) {
+                return true;
+            }
+            pending = pendingCommands.peekFirst();
+        }
+        if (pending == null) {
+            return false;
+        }
+        if (pending.responseLines++ == 0 && !pending.replayed && !pending.discarded) {
+            timeoutPolicy.recordSample(pending.spec.getVerb(), System.nanoTime() - pending.sentNanos);
+        }
+        pending.responseBytes += line.length() + 1;
+        if (pending.spec.isLastLine(line) && pendingCommands.remove(pending)) {
+            pending.complete(CommandSpec.outcomeOf(line));
+            pending.finish(line);
+        } else if (!pending.discarded) {
+            pending.replies.offer(line);
+        } else {
+            Log.debug("[MessageDispatcher] 포기한 명령({})의 늦은 응답 버림: {}", pending.spec.getVerb(), line);
+        }
+        return true;
+    }
+
+    /**
+     * PONG 수신: 가장 먼저 보낸 PING 완료 (응답을 기다리는 PING이 없으면 버림)
+     */
+    private void onPong(String line) {
+        for (PendingCommand pending : pendingCommands) {
+            if (pending.isPing() && pendingCommands.remove(pending)) {
+                long rtt = System.nanoTime() - pending.sentNanos;
+                pending.responseLines = 1;
+                pending.responseBytes = line.length() + 1;
+                pending.complete("OK");
+                timeoutPolicy.recordSample(Heartbeat.PING, rtt);
+                if (heartbeat != null) {
+                    heartbeat.onPong(rtt);
+                }
+                return;
+            }
+        }
+        Log.debug("[MessageDispatcher] 기다리는 PING이 없는 PONG 버림");
+    }
+
+    /**
+     * 기다리는 명령이 없는 응답 줄
+     * - 실제 연결: 누구의 응답인지 알 수 없으므로 버림 (다른 요청의 응답으로 잘못 전달하지 않음)
+     * - 스크립트 스트림: 다음에 보내는 명령이 가져가도록 보관
+     */
+    private void strayLine(String line) {
+        if (isLiveSocket()) {
+            Log.warn("[MessageDispatcher] 기다리는 명령이 없는 응답 버림: {}", line);
+        } else {
+            responseQueue.offer(line);
+        }
+    }
+
+    /**
+     * 연결 종료: 대기 중인 명령을 모두 실패 처리하고 대기 스레드를 깨움
+     */
+    private static void completeAll() {
+        synchronized (pendingCommands) {
+            PendingCommand pending;
+            while ((pending = pendingCommands.pollFirst()) != null) {
+                pending.complete("DISCONNECTED");
+                pending.finish(CONNECTION_LOST);
+            }
+        }
     }
     
     /**
@@ -153,8 +794,12 @@ public class MessageDispatcher extends Thread {
      */
     public void stopDispatcher() {
         running = false;
+        generation.incrementAndGet();
+        if (heartbeat != null) {
+            heartbeat.stop();
+        }
         interrupt();
-        System.out.println("[MessageDispatcher] 중지 요청");
+        Log.info("[MessageDispatcher] 중지 요청");
     }
     
     /**
@@ -192,6 +837,120 @@ public class MessageDispatcher extends Thread {
                 }
                 instance = null;
             }
+            pendingCommands.clear();
+            generation.incrementAndGet();
+            Heartbeat.resetSupportForTest();
+            ConnectionMonitor.resetForTest();
+        }
+    }
+
+    /**
+     * 합쳐진 조회 명령의 응답 (합류한 스레드에도 응답 상태를 그대로 전달)
+     */
+    private static final class SharedReply {
+        final String line;
+        final ResponseStatus status;
+
+        SharedReply(String line, ResponseStatus status) {
+            this.line = line;
+            this.status = status;
+        }
+    }
+
+    /**
+     * 응답 대기 중인 명령 1건
+     */
+    private static final class PendingCommand {
+        final String command;
+        final CommandSpec spec;
+        final ServerCommandEvent event;
+        final long sentNanos = System.nanoTime();
+        final int sentGeneration = generation.get();
+        // 이 명령의 응답 줄 (보낸 스레드만 읽음)
+        final BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+        volatile int responseLines;
+        long responseBytes;
+        volatile boolean replayed;    // 재접속 후 재전송됨 (RTT 표본 제외)
+        volatile boolean interrupted; // 재접속으로 결과 불명
+        volatile boolean ended;       // 마지막 줄(또는 종료 표식)까지 큐에 들어옴
+        volatile boolean delivered;   // 보낸 스레드가 한 줄 이상 읽음
+        volatile boolean discarded;   // 보낸 스레드가 더 읽지 않음 → 이후 줄은 버림
+        private boolean completed;
+
+        PendingCommand(String command) {
+            this.command = command;
+            this.spec = CommandSpec.of(command);
+            ServerCommandEvent e = new ServerCommandEvent();
+            if (e.isEnabled()) {
+                e.verb = spec.getVerb();
+                e.room = CommandSpec.roomOf(command);
+                e.callerThread = Thread.currentThread().getName();
+                e.requestBytes = command.getBytes(StandardCharsets.UTF_8).length + 1;
+                e.begin();
+                this.event = e;
+            } else {
+                this.event = null;
+            }
+        }
+
+        boolean isPing() {
+            return Heartbeat.PING.equals(spec.getVerb());
+        }
+
+        /**
+         * 마지막 줄을 큐에 넣고 종료 표시 (pendingCommands 잠금 안에서 호출)
+         */
+        void finish(String lastLine) {
+            if (!discarded) {
+                replies.offer(lastLine);
+            }
+            ended = true;
+        }
+
+        /**
+         * 보낸 스레드가 더 기다리지 않음 (pendingCommands 잠금 안에서 호출)
+         */
+        void discardRest() {
+            discarded = true;
+            replies.clear();
+        }
+
+        /**
+         * 이 줄이 이 명령의 응답일 수 없어 자리를 비워야 하는지
+         * - 이전 세션(디스패처 재시작 전)에 보낸 명령
+         * - 포기한 뒤 아직 한 줄도 못 받은 기능 확인 명령에 그 명령의 응답 형식이 아닌 줄이 옴 (서버가 무시함)
+         */
+        boolean yieldsTo(String line) {
+            if (sentGeneration != generation.get()) {
+                return true;
+            }
+            String probeReply = spec.getProbeReply();
+            return discarded && responseLines == 0 && probeReply != null && !line.startsWith(probeReply);
+        }
+
+        /**
+         * 기다릴 것이 없는 명령 (다 읽었거나, 포기했거나, 이전 세션에서 보낸 명령)
+         */
+        boolean isDrained() {
+            return discarded || sentGeneration != generation.get()
+                    || (ended && (replies.isEmpty() || replies.peek() == CONNECTION_LOST));
+        }
+
+        synchronized void complete(String outcome) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            if (event == null) {
+                return;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.responseLines = responseLines;
+                event.responseBytes = responseBytes;
+                event.outcome = outcome;
+                event.commit();
+            }
         }
     }
 }
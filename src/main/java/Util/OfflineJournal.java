@@ -0,0 +1,467 @@
+package Util;
+
+import Manager.ApprovedReservationCache;
+import Manager.WeeklyReservationCache;
+import Observer.JournalReplayListener;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 오프라인 변경 요청 저널 (Singleton + Observer Pattern의 Subject)
+ * - 서버에 닿지 않는 동안(RECONNECTING/DISCONNECTED) 예약/변경/취소 요청을 사용자별 파일에 추가하고 fsync
+ *   → 강의실 Wi-Fi가 잠깐 끊겨도 입력한 요청을 잃지 않음 (앱을 껐다 켜도 유지)
+ * - 재접속(CONNECTED)되면 저장 순서대로 한 건씩 재전송, 응답이 없으면 그 자리에서 멈추고 다음 재접속을 기다림
+ *   → 끊긴 동안 화면마다 재시도하지 않으므로 재접속 직후 요청이 몰리지 않음
+ * - 요청마다 멱등 키를 붙여 "보냄/완료"를 기록: 완료된 키는 다시 보내지 않고,
+ *   보낸 뒤 결과를 모르는 키는 재전송하되 거절되면 "이미 처리됐을 수 있음"으로 보고
+ * - 재전송 결과는 JournalReplayListener로 알림
+ *
+ * 파일 형식 (journal.dir/사용자ID.journal, 한 줄 = 한 기록, TAB 구분):
+ *   I 키 종류 저장시각ms 강의실 날짜 요약 명령   (요청 추가)
+ *   S 키                                        (전송 시작)
+ *   D 키 결과                                   (완료, 저장 실패로 취소한 요청은 CANCELLED)
+ *
+ * 설정 (config.properties): journal.dir
+ */
+public final class OfflineJournal {
+
+    private static volatile OfflineJournal instance;
+
+    /** 저장하다 실패해 보내지 않을 요청의 완료 기록 */
+    private static final String CANCELLED = "CANCELLED";
+
+    /** 저장하는 요청 종류 (성공 응답) */
+    public enum Kind {
+        RESERVE("RESERVE_SUCCESS"),
+        CHANGE("CHANGE_SUCCESS"),
+        CANCEL("CANCEL_SUCCESS");
+
+        private final String successReply;
+
+        Kind(String successReply) {
+            this.successReply = successReply;
+        }
+    }
+
+    /** 재전송 결과 */
+    public enum Outcome {
+        /** 서버가 처리함 */
+        APPLIED,
+        /** 서버가 거절함 (다른 예약과 충돌 등) */
+        REJECTED,
+        /** 이전 전송의 결과를 모른 채 다시 보냈더니 거절됨 - 이미 처리됐을 수 있음 */
+        UNCERTAIN
+    }
+
+    /**
+     * 저장된 요청 한 건 (불변)
+     */
+    public static final class Intent {
+        public final String key;
+        public final Kind kind;
+        public final long createdMillis;
+        public final String room;
+        public final String date;
+        /** 사용자에게 보여줄 요약 */
+        public final String summary;
+        final String command;
+
+        Intent(String key, Kind kind, long createdMillis, String room, String date, String summary, String command) {
+            this.key = key;
+            this.kind = kind;
+            this.createdMillis = createdMillis;
+            this.room = room;
+            this.date = date;
+            this.summary = summary;
+            this.command = command;
+        }
+    }
+
+    /**
+     * 재전송 결과 한 건
+     */
+    public static final class Result {
+        public final Intent intent;
+        public final Outcome outcome;
+        /** 서버 응답 원문 */
+        public final String reply;
+
+        Result(Intent intent, Outcome outcome, String reply) {
+            this.intent = intent;
+            this.outcome = outcome;
+            this.reply = reply;
+        }
+    }
+
+    private final Path directory;
+    private final List<JournalReplayListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    // 아래는 this로 보호
+    private final LinkedHashMap<String, Intent> pending = new LinkedHashMap<>();
+    private final Set<String> inDoubt = new HashSet<>();
+    private Path file;
+    private FileChannel channel;
+
+    OfflineJournal(Path directory) {
+        this.directory = directory;
+    }
+
+    public static OfflineJournal getInstance() {
+        if (instance == null) {
+            synchronized (OfflineJournal.class) {
+                if (instance == null) {
+                    String dir = ClientConfig.getString("journal.dir");
+                    OfflineJournal journal = new OfflineJournal(
+                        dir != null ? Paths.get(dir) : Paths.get(System.getProperty("user.home"), ".oom", "journal"));
+                    ConnectionMonitor.getInstance().addListener((previous, current, reason) -> {
+                        if (current == ConnectionMonitor.State.CONNECTED
+                                && (previous == ConnectionMonitor.State.DISCONNECTED
+                                    || previous == ConnectionMonitor.State.RECONNECTING)) {
+                            journal.replayInBackground();
+                        }
+                    });
+                    instance = journal;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 로그인 직후 호출: 사용자 저널을 읽고, 지난 실행에서 못 보낸 요청이 있으면 바로 재전송
+     * (연결 감시 전이거나 끊겨 있으면 재접속 때 재전송)
+     */
+    public void open(String userId) {
+        synchronized (this) {
+            closeChannel();
+            pending.clear();
+            inDoubt.clear();
+            file = directory.resolve(userId.replaceAll("[^A-Za-z0-9_-]", "_") + ".journal");
+            load();
+        }
+        ConnectionMonitor.State state = ConnectionMonitor.getInstance().getState();
+        if (pendingCount() > 0 && (state == ConnectionMonitor.State.CONNECTED
+                || state == ConnectionMonitor.State.DEGRADED)) {
+            Log.info("[OfflineJournal] 보내지 못한 요청 {}건 재전송", pendingCount());
+            replayInBackground();
+        }
+    }
+
+    /**
+     * 로그아웃 - 파일은 남겨 두고 다음 로그인에서 이어서 전송
+     */
+    public synchronized void close() {
+        closeChannel();
+        pending.clear();
+        inDoubt.clear();
+        file = null;
+    }
+
+    /**
+     * 서버에 닿지 않는 상태인지 (재접속 중이거나 끊김)
+     */
+    public static boolean isOffline() {
+        ConnectionMonitor.State state = ConnectionMonitor.getInstance().getState();
+        return state == ConnectionMonitor.State.RECONNECTING || state == ConnectionMonitor.State.DISCONNECTED;
+    }
+
+    public void addReplayListener(JournalReplayListener listener) {
+        if (listener != null && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeReplayListener(JournalReplayListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 요청 저장 (디스크에 기록된 뒤 반환)
+     * @return 저장된 요청, 저널이 열려 있지 않거나 기록 실패 시 null (호출 측은 실패로 안내)
+     */
+    public synchronized Intent append(Kind kind, String room, String date, String summary, String command) {
+        List<Intent> intents = appendAll(kind, room, date, List.of(summary), List.of(command));
+        return intents != null ? intents.get(0) : null;
+    }
+
+    /**
+     * 여러 요청을 한 묶음으로 저장 (여러 교시 예약 등)
+     * - 한 번에 기록하고 fsync: 일부만 저장된 채 사용자에게 "저장 실패"로 안내되는 일이 없음
+     * - 기록이 중간에 실패하면 묶음 전체에 취소(D) 기록을 남겨 다음 실행에서도 보내지 않음
+     * @param summaries 요청별 요약 (commands와 같은 순서)
+     * @return 저장된 요청들, 저널이 열려 있지 않거나 기록 실패 시 null
+     */
+    public synchronized List<Intent> appendAll(Kind kind, String room, String date,
+                                               List<String> summaries, List<String> commands) {
+        if (summaries.size() != commands.size()) {
+            throw new IllegalArgumentException("요약과 명령 수가 다릅니다: " + summaries.size() + " / " + commands.size());
+        }
+        if (file == null) {
+            return null;
+        }
+        List<Intent> intents = new ArrayList<>(commands.size());
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < commands.size(); i++) {
+            Intent intent = new Intent(UUID.randomUUID().toString(), kind, System.currentTimeMillis(),
+                    clean(room), clean(date), clean(summaries.get(i)), clean(commands.get(i)));
+            intents.add(intent);
+            if (i > 0) {
+                lines.append('\n');
+            }
+            lines.append(String.join("\t", "I", intent.key, kind.name(), Long.toString(intent.createdMillis),
+                    intent.room, intent.date, intent.summary, intent.command));
+        }
+        if (!writeLine(lines.toString())) {
+            // 중간까지 쓰인 줄과 붙지 않도록 줄바꿈부터 (빈 줄은 읽을 때 무시)
+            StringBuilder cancel = new StringBuilder();
+            for (Intent intent : intents) {
+                cancel.append("\nD\t").append(intent.key).append('\t').append(CANCELLED);
+            }
+            writeLine(cancel.toString());
+            return null;
+        }
+        for (Intent intent : intents) {
+            pending.put(intent.key, intent);
+            Log.info("[OfflineJournal] 오프라인 요청 저장: {} {}", kind, intent.summary);
+        }
+        return intents;
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    public synchronized List<Intent> pendingIntents() {
+        return new ArrayList<>(pending.values());
+    }
+
+    /**
+     * 재전송 (한 번에 하나의 스레드만)
+     * 재접속 직후 다른 화면의 조회와 동시에 보내도 디스패처가 응답을 명령별로 나눠 주므로
+     * 예약 요청이 주간 조회 행을 자기 응답으로 받아 거절로 판정하는 일은 없음
+     */
+    public void replayInBackground() {
+        if (pendingCount() == 0 || replaying.get()) {
+            return;
+        }
+        Thread t = new Thread(() -> replay(MessageDispatcher::request), "JournalReplay");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /**
+     * 저장 순서대로 재전송, 응답이 없으면 중단 (다음 재접속 때 그 요청부터 다시)
+     * 재전송 중 로그아웃하거나 다른 사용자로 다시 열리면 더 보내지 않음 (이미 보낸 요청의 결과는 원래 파일에 기록)
+     * @param sender 명령 → 서버 응답 (응답 없으면 null)
+     * @return 이번에 처리한 결과
+     */
+    List<Result> replay(Function<String, String> sender) {
+        if (!replaying.compareAndSet(false, true)) {
+            return List.of();
+        }
+        List<Result> results = new ArrayList<>();
+        Path replayFile;
+        int remaining;
+        boolean reopened = false;
+        try {
+            int startCount;
+            synchronized (this) {
+                replayFile = file;
+                startCount = pending.size();
+            }
+            if (replayFile == null) {
+                return results;
+            }
+            while (true) {
+                Intent intent;
+                boolean wasInDoubt;
+                synchronized (this) {
+                    if (file != replayFile) {
+                        Log.info("[OfflineJournal] 저널이 닫혀 재전송 중단 - 남은 요청은 다음 로그인 때");
+                        break;
+                    }
+                    Iterator<Intent> it = pending.values().iterator();
+                    if (!it.hasNext()) {
+                        break;
+                    }
+                    intent = it.next();
+                    wasInDoubt = inDoubt.contains(intent.key);
+                    // 보내기 전에 기록: 응답 전에 죽으면 다음 실행에서 "결과 모름"으로 처리
+                    if (!writeLine("S\t" + intent.key)) {
+                        break;
+                    }
+                    inDoubt.add(intent.key);
+                }
+
+                String reply = sender.apply(intent.command);
+                if (reply == null) {
+                    Log.warn("[OfflineJournal] 재전송 응답 없음 - 다음 재접속 때 이어서 ({})", intent.summary);
+                    break;
+                }
+
+                Outcome outcome = intent.kind.successReply.equals(reply) ? Outcome.APPLIED
+                        : wasInDoubt ? Outcome.UNCERTAIN : Outcome.REJECTED;
+                synchronized (this) {
+                    // 응답을 기다리는 사이 닫혔어도 결과는 원래 사용자 파일에 남김
+                    writeLineTo(replayFile, "D\t" + intent.key + "\t" + outcome);
+                    if (replayFile.equals(file)) {
+                        pending.remove(intent.key);
+                        inDoubt.remove(intent.key);
+                    }
+                }
+                WeeklyReservationCache.getInstance().invalidate(intent.room, intent.date);
+                results.add(new Result(intent, outcome, reply));
+                Log.info("[OfflineJournal] 재전송 {}: {} → {}", outcome, intent.summary, reply);
+            }
+            synchronized (this) {
+                if (file == replayFile) {
+                    remaining = pending.size();
+                    if (remaining == 0) {
+                        compact();
+                    }
+                } else {
+                    // 닫혔거나 다시 열림 - 남은 요청은 파일에 그대로 있음
+                    remaining = Math.max(0, startCount - results.size());
+                    reopened = file != null;
+                }
+            }
+        } finally {
+            replaying.set(false);
+        }
+        if (reopened) {
+            replayInBackground(); // 재전송 중에 열린 저널은 건너뛰었으므로 이어서
+        }
+
+        if (!results.isEmpty()) {
+            // 변경/취소/승인 대기 예약이 바뀌었으므로 승인 목록은 다음 조회에서 전체 확인
+            ApprovedReservationCache.getInstance().invalidate();
+            for (JournalReplayListener listener : listeners) {
+                try {
+                    listener.onReplayFinished(results, remaining);
+                } catch (RuntimeException e) {
+                    Log.error("[OfflineJournal] 리스너 오류", e);
+                }
+            }
+        }
+        return results;
+    }
+
+    // ==================== 파일 ====================
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] f = line.split("\t", -1);
+                switch (f[0]) {
+                    case "I":
+                        if (f.length == 8) {
+                            pending.put(f[1], new Intent(f[1], Kind.valueOf(f[2]), Long.parseLong(f[3]),
+                                    f[4], f[5], f[6], f[7]));
+                        }
+                        break;
+                    case "S":
+                        if (f.length >= 2) {
+                            inDoubt.add(f[1]);
+                        }
+                        break;
+                    case "D":
+                        if (f.length >= 2) {
+                            pending.remove(f[1]);
+                            inDoubt.remove(f[1]);
+                        }
+                        break;
+                    default:
+                        // 기록 중 끊긴 마지막 줄 등은 무시
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.warn("[OfflineJournal] 저널 읽기 실패: {}", e.getMessage());
+        }
+        inDoubt.retainAll(pending.keySet());
+    }
+
+    /**
+     * 한 줄 추가 후 디스크까지 동기화
+     */
+    private boolean writeLine(String line) {
+        if (file == null) {
+            return false; // 로그아웃됨
+        }
+        try {
+            if (channel == null) {
+                Files.createDirectories(directory);
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(line + "\n");
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+            return true;
+        } catch (IOException e) {
+            Log.error("[OfflineJournal] 저널 기록 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 지정한 파일에 한 줄 추가 (재전송 중 저널이 닫히거나 다른 파일로 바뀐 경우 원래 파일에 기록)
+     */
+    private boolean writeLineTo(Path target, String line) {
+        if (target.equals(file)) {
+            return writeLine(line);
+        }
+        try (FileChannel other = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(line + "\n");
+            while (bytes.hasRemaining()) {
+                other.write(bytes);
+            }
+            other.force(false);
+            return true;
+        } catch (IOException e) {
+            Log.error("[OfflineJournal] 저널 기록 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 모두 완료되면 파일 비움
+     */
+    private void compact() {
+        closeChannel();
+        try {
+            Files.write(file, new byte[0]);
+        } catch (IOException e) {
+            Log.warn("[OfflineJournal] 저널 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+            channel = null;
+        }
+    }
+
+    private static String clean(String value) {
+        return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
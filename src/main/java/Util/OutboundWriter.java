@@ -0,0 +1,137 @@
+package Util;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서버로 나가는 명령의 쓰기 큐 (group commit 방식)
+ * - MessageDispatcher.send()가 큐에 넣은 뒤 쓰기 잠금을 잡은 스레드 하나만 큐를 비우며 소켓 스트림에 씀
+ *   (바이트가 섞이지 않음, 큐 순서 = 전송 순서 = 응답 짝짓기 순서)
+ * - 잠금을 기다리는 동안 쌓인 다른 스레드의 명령까지 한 번에 쓰고 flush 1회
+ *   → 몰릴수록 소켓 write 시스템 호출이 줄어듦, 한가할 때는 추가 지연 없음
+ * - send()가 돌아오면 해당 명령은 이미 스트림에 flush된 상태
+ */
+public final class OutboundWriter {
+
+    private static final int MAX_BATCH = 256;
+
+    private static final ConcurrentLinkedQueue<Outbound> queue = new ConcurrentLinkedQueue<>();
+    private static final ReentrantLock writeLock = new ReentrantLock();
+    private static final AtomicLong flushes = new AtomicLong();
+    private static final AtomicLong written = new AtomicLong();
+
+    private OutboundWriter() {
+    }
+
+    /**
+     * 한 줄 전송 (다른 스레드가 쓰는 중이면 그 스레드가 함께 써 줄 수 있음)
+     */
+    static void write(PrintWriter target, String line) {
+        flushThrough(enqueue(target, line));
+    }
+
+    /**
+     * 큐에 넣기만 함 (전송 순서를 정하는 부분 - 순서 보장이 필요하면 호출 측에서 직렬화)
+     */
+    static Outbound enqueue(PrintWriter target, String line) {
+        Outbound outbound = new Outbound(target, line);
+        queue.offer(outbound);
+        return outbound;
+    }
+
+    /**
+     * 해당 명령이 스트림에 flush될 때까지 대기 (잠금을 잡으면 직접 큐를 비움)
+     * 순서를 정하는 잠금 밖에서 호출해야 여러 스레드의 명령이 한 번에 묶임
+     */
+    static void flushThrough(Outbound outbound) {
+        if (outbound.done) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (!outbound.done) {
+                drain();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 잠금을 잡은 상태에서 큐 비우기 (대상 스트림별로 모아 쓰고 flush)
+     */
+    private static void drain() {
+        List<Outbound> batch = new ArrayList<>();
+        Outbound next;
+        while ((next = queue.poll()) != null) {
+            batch.add(next);
+            if (batch.size() == MAX_BATCH) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    private static void writeBatch(List<Outbound> batch) {
+        String separator = System.lineSeparator();
+        PrintWriter current = null;
+        try {
+            for (Outbound outbound : batch) {
+                if (outbound.target != current) {
+                    // 재접속으로 스트림이 바뀐 경우: 이전 스트림 분량을 먼저 내보냄
+                    flush(current);
+                    current = outbound.target;
+                }
+                current.write(outbound.line);
+                current.write(separator);
+            }
+            flush(current);
+        } catch (RuntimeException e) {
+            Log.error("[OutboundWriter] 전송 오류", e);
+        } finally {
+            for (Outbound outbound : batch) {
+                outbound.done = true;
+            }
+            written.addAndGet(batch.size());
+        }
+    }
+
+    private static void flush(PrintWriter target) {
+        if (target != null) {
+            target.flush();
+            flushes.incrementAndGet();
+        }
+    }
+
+    /**
+     * 누적 flush 횟수 (쓴 명령 수 대비 묶음 효과 확인용)
+     */
+    public static long flushCount() {
+        return flushes.get();
+    }
+
+    /**
+     * 누적 전송 명령 수
+     */
+    public static long writtenCount() {
+        return written.get();
+    }
+
+    static final class Outbound {
+        final PrintWriter target;
+        final String line;
+        volatile boolean done;
+
+        Outbound(PrintWriter target, String line) {
+            this.target = target;
+            this.line = line;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package Util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 서버 재접속기 (Singleton)
+ * - 로그인 성공 시 접속 정보를 기억해 두었다가 연결이 끊기면 지수 백오프로 재접속 + 재로그인
+ * - 로그아웃(EXIT 전송, Session.clear) 시 잊어버려 재접속하지 않음
+ * - 재접속 후 INIT 재전송과 대기 중 명령 재전송은 MessageDispatcher가 담당
+ *
+ * 설정 (config.properties, 밀리초): reconnect.max.ms (0이면 재접속 안 함), reconnect.backoff.ms
+ */
+public final class Reconnector {
+
+    private static final long DEFAULT_MAX_MILLIS = 30_000;
+    private static final long DEFAULT_BACKOFF_MILLIS = 250;
+    private static final long MAX_BACKOFF_MILLIS = 4_000;
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final int SO_TIMEOUT_MILLIS = 30_000;
+
+    private static volatile Reconnector instance;
+
+    private final long maxMillis;
+    private final long initialBackoffMillis;
+
+    private volatile String host;
+    private volatile int port;
+    private volatile String userId;
+    private volatile String password;
+
+    private Reconnector(long maxMillis, long initialBackoffMillis) {
+        this.maxMillis = maxMillis;
+        this.initialBackoffMillis = Math.max(1, initialBackoffMillis);
+    }
+
+    public static Reconnector getInstance() {
+        if (instance == null) {
+            synchronized (Reconnector.class) {
+                if (instance == null) {
+                    instance = new Reconnector(
+                            ClientConfig.getLong("reconnect.max.ms", DEFAULT_MAX_MILLIS),
+                            ClientConfig.getLong("reconnect.backoff.ms", DEFAULT_BACKOFF_MILLIS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 로그인 성공 시 접속 정보 기억
+     */
+    public synchronized void remember(String host, int port, String userId, String password) {
+        this.host = host;
+        this.port = port;
+        this.userId = userId;
+        this.password = password;
+    }
+
+    /**
+     * 비밀번호 변경 성공 시 재로그인용 비밀번호 갱신
+     */
+    public synchronized void updatePassword(String newPassword) {
+        if (userId != null) {
+            this.password = newPassword;
+        }
+    }
+
+    /**
+     * 로그아웃: 접속 정보 삭제 (이후 연결 종료는 재접속하지 않음)
+     */
+    public synchronized void forget() {
+        host = null;
+        userId = null;
+        password = null;
+    }
+
+    public boolean canReconnect() {
+        return maxMillis > 0 && host != null && userId != null;
+    }
+
+    /**
+     * 재접속 + 재로그인 (디스패처 스레드에서 호출, 성공하거나 한도를 넘을 때까지 블로킹)
+     * @param shouldStop 디스패처 중지 여부 확인 (로그아웃되면 중단)
+     * @return 로그인까지 마친 연결, 실패 시 null
+     */
+    Connection reconnect(BooleanSupplier shouldStop) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxMillis);
+        long backoff = initialBackoffMillis;
+        int attempt = 0;
+
+        while (canReconnect() && !shouldStop.getAsBoolean()) {
+            attempt++;
+            try {
+                Connection connection = connectAndLogin();
+                if (connection != null) {
+                    Log.info("[Reconnector] 재접속 성공 ({}회 시도)", attempt);
+                    return connection;
+                }
+            } catch (IOException e) {
+                Log.info("[Reconnector] 재접속 시도 {} 실패: {}", attempt, e.getMessage());
+            } catch (LoginRejectedException e) {
+                Log.warn("[Reconnector] 재로그인 거부: {}", e.getMessage());
+                return null;
+            }
+
+            // 지수 백오프 + ±20% 지터 (여러 클라이언트가 동시에 몰리지 않도록)
+            long jitter = (long) (backoff * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+            long sleep = Math.min(backoff + jitter, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            if (sleep <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+        Log.warn("[Reconnector] 재접속 포기 ({}회 시도)", attempt);
+        return null;
+    }
+
+    private Connection connectAndLogin() throws IOException, LoginRejectedException {
+        String host;
+        int port;
+        String userId;
+        String password;
+        synchronized (this) {
+            host = this.host;
+            port = this.port;
+            userId = this.userId;
+            password = this.password;
+        }
+        if (host == null || userId == null) {
+            return null;
+        }
+
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout(SO_TIMEOUT_MILLIS);
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+
+            out.println("LOGIN," + userId + "," + password);
+            String response = in.readLine();
+            if (response == null) {
+                throw new IOException("로그인 응답 없음");
+            }
+            switch (response.split(",")[0]) {
+                case "SUCCESS":
+                    return new Connection(socket, in, out);
+                case "SERVER_BUSY":
+                case "ALREADY_LOGGED_IN":
+                    // 서버가 아직 이전 연결을 정리하지 못함 → 재시도
+                    throw new IOException(response);
+                default:
+                    throw new LoginRejectedException(response);
+            }
+        } catch (IOException | LoginRejectedException | RuntimeException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 재로그인까지 끝난 새 연결
+     */
+    static final class Connection {
+        final Socket socket;
+        final BufferedReader in;
+        final PrintWriter out;
+
+        Connection(Socket socket, BufferedReader in, PrintWriter out) {
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+        }
+    }
+
+    /**
+     * 재시도해도 소용없는 로그인 실패 (비밀번호 변경 등)
+     */
+    private static final class LoginRejectedException extends Exception {
+        LoginRejectedException(String response) {
+            super(response);
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package Util;
 
 import common.builder.ReservationRequest;
+import Manager.RoomStatusCache;
+import Manager.WeeklyReservationCache;
 import Model.Session;
+import Model.TimeSlot;
+import Model.Weekday;
+import Monitoring.CalendarRebuildEvent;
 import java.awt.*;
 import java.io.*;
 import java.net.Socket;
@@ -18,15 +23,8 @@ import javax.swing.table.*;
  */
 public class ReservationUtil {
     
-    // 요일 이름 배열 (월~일)
-    private static final String[] DAY_NAMES = {"월", "화", "수", "목", "금", "토", "일"};
-    
-    // 교시 시간 슬롯 배열
-    private static final String[] TIME_SLOTS = {
-        "1교시(09:00~10:00)", "2교시(10:00~11:00)", "3교시(11:00~12:00)",
-        "4교시(12:00~13:00)", "5교시(13:00~14:00)", "6교시(14:00~15:00)",
-        "7교시(15:00~16:00)", "8교시(16:00~17:00)", "9교시(17:00~18:00)"
-    };
+    // 같은 주간 조회 동시 요청 합치기
+    private static final SingleFlight<String, WeeklyFetch> weeklyFlights = new SingleFlight<>();
     
     /**
      * 주의 시작일 계산 (월요일 기준)
@@ -38,42 +36,36 @@ public class ReservationUtil {
     }
     
     /**
-     * 시간 문자열을 교시 번호로 변환
+     * 시간 문자열을 교시 번호로 변환 (숫자가 없으면 1)
      */
     public static int parseTimeToHour(String timeString) {
-        try {
-            int kyosiIndex = timeString.indexOf("교시");
-            if (kyosiIndex > 0) {
-                String hourStr = timeString.substring(0, kyosiIndex).replaceAll("[^0-9]", "");
-                return Integer.parseInt(hourStr);
-            }
-            String hourStr = timeString.replaceAll("[^0-9]", "");
-            if (hourStr.length() > 0) {
-                return Integer.parseInt(hourStr.substring(0, 1));
-            }
-            return 1;
-        } catch (NumberFormatException e) {
-            System.err.println("[parseTimeToHour] 파싱 실패: " + timeString);
-            return 1;
-        }
+        int period = TimeSlot.parsePeriod(timeString);
+        return period >= 0 ? period : 1;
     }
     
     /**
      * 교시 번호를 시간 문자열로 포맷팅
      */
     public static String formatTimeSlot(int hour) {
-        if (hour >= 1 && hour <= 9) {
-            return TIME_SLOTS[hour - 1];
-        }
-        return hour + "교시";
+        TimeSlot slot = TimeSlot.of(hour);
+        return slot != null ? slot.label() : hour + "교시";
     }
     
     /**
      * LocalDate를 요일 문자열로 변환
      */
     public static String getDayName(LocalDate date) {
-        int dayOfWeek = date.getDayOfWeek().getValue();
-        return DAY_NAMES[dayOfWeek - 1];
+        return Weekday.of(date).shortName();
+    }
+    
+    /**
+     * 예약 키 (날짜_요일_N교시) - time은 "N교시(...)" 또는 "N교시"
+     */
+    private static String slotKey(LocalDate date, String time) {
+        TimeSlot slot = TimeSlot.parse(time);
+        String period = slot != null ? slot.shortLabel()
+                : time.length() >= 3 ? time.substring(0, 3) : time;
+        return date + "_" + getDayName(date) + "_" + period;
     }
     
     /**
@@ -99,16 +91,13 @@ public class ReservationUtil {
     public static boolean isReservedOnDate(Map<String, Set<String>> reservedMap, 
                                           String room, LocalDate date, String time) {
         room = normalizeRoomName(room);
-        time = time.length() >= 3 ? time.substring(0, 3) : time;
-        
-        String day = getDayName(date);
-        String key = date.toString() + "_" + day + "_" + time;
+        String key = slotKey(date, time);
         
         Set<String> reservedTimes = reservedMap.get(room);
         boolean result = reservedTimes != null && reservedTimes.contains(key);
         
         if (result) {
-            System.out.printf("[isReservedOnDate] %s %s %s = 예약됨%n", room, date, time);
+            Log.debug("[isReservedOnDate] {} {} {} = 예약됨", room, date, time);
         }
         
         return result;
@@ -120,10 +109,7 @@ public class ReservationUtil {
     public static String getReservationStatus(Map<String, Map<String, String>> statusMap,
                                              String room, LocalDate date, String time) {
         room = normalizeRoomName(room);
-        time = time.length() >= 3 ? time.substring(0, 3) : time;
-        
-        String day = getDayName(date);
-        String key = date.toString() + "_" + day + "_" + time;
+        String key = slotKey(date, time);
         
         Map<String, String> timeStatus = statusMap.get(room);
         if (timeStatus != null) {
@@ -134,12 +120,14 @@ public class ReservationUtil {
     
     /**
      * 서버로부터 방의 사용 가능 여부 확인 (동기 방식)
+     * - 로그인 후(연결 감시 중)에는 RoomStatusCache의 상태 표에서 읽음 (상태 변경 알림/재접속으로 무효화)
+     * - 연결 감시 전에는 매번 CHECK_ROOM_STATUS로 확인
      * MessageDispatcher 사용
      */
     public static boolean checkRoomAvailabilitySync(String roomName) {
         try {
             if (!Session.getInstance().isConnected()) {
-                System.err.println("[checkRoomAvailabilitySync] 서버 연결 없음");
+                Log.error("[checkRoomAvailabilitySync] 서버 연결 없음");
                 return true;
             }
 
@@ -147,49 +135,54 @@ public class ReservationUtil {
             MessageDispatcher dispatcher = MessageDispatcher.getInstance();
 
             if (out == null || dispatcher == null) {
-                System.err.println("[checkRoomAvailabilitySync] 통신 객체가 null");
+                Log.error("[checkRoomAvailabilitySync] 통신 객체가 null");
                 return true;
             }
 
             String cleanRoomName = normalizeRoomName(roomName);
+            if (ConnectionMonitor.getInstance().getState() != ConnectionMonitor.State.CLOSED) {
+                return RoomStatusCache.getInstance().isAvailable(cleanRoomName);
+            }
+
             String command = "CHECK_ROOM_STATUS," + cleanRoomName;
             
-            out.println(command);
-            out.flush();
-            System.out.println("[checkRoomAvailabilitySync] 서버 전송: " + command);
+            MessageDispatcher.send(command);
+            Log.debug("[checkRoomAvailabilitySync] 서버 전송: {}", command);
 
-            // MessageDispatcher를 통해 응답 대기 (30초 타임아웃)
-            String response = dispatcher.waitForResponse(30);
+            // MessageDispatcher를 통해 응답 대기 (적응형 타임아웃)
+            String response = dispatcher.waitForResponse();
             
             if (response == null) {
-                System.err.println("[checkRoomAvailabilitySync] 타임아웃 - 기본값 true 반환");
+                Log.error("[checkRoomAvailabilitySync] 타임아웃 - 기본값 true 반환");
                 return true;
             }
             
-            System.out.println("[checkRoomAvailabilitySync] 서버 응답: " + response);
+            Log.debug("[checkRoomAvailabilitySync] 서버 응답: {}", response);
 
             switch (response) {
                 case "AVAILABLE":
-                    System.out.println("[checkRoomAvailabilitySync] " + cleanRoomName + " - 사용 가능");
+                    Log.debug("[checkRoomAvailabilitySync] {} - 사용 가능", cleanRoomName);
                     return true;
 
                 case "UNAVAILABLE":
-                    System.out.println("[checkRoomAvailabilitySync] " + cleanRoomName + " - 사용 불가!");
+                    Log.debug("[checkRoomAvailabilitySync] {} - 사용 불가!", cleanRoomName);
                     return false;
 
                 default:
-                    System.err.println("[checkRoomAvailabilitySync] 알 수 없는 응답: " + response);
+                    Log.error("[checkRoomAvailabilitySync] 알 수 없는 응답: {}", response);
                     return true;
             }
 
         } catch (Exception e) {
-            System.err.println("[checkRoomAvailabilitySync] 예외: " + e.getMessage());
+            Log.error("[checkRoomAvailabilitySync] 예외: {}", e.getMessage());
             return true;
         }
     }
     
     /**
      * 서버로부터 주간 예약 데이터 로드 (상태 정보 포함)
+     * - WeeklyReservationCache에 신선한 (강의실, 주) 항목이 있으면 서버 요청 없이 사용
+     * - 같은 강의실-주를 여러 화면이 동시에 요청하면 서버 조회 한 번을 공유
      * MessageDispatcher 사용
      */
     public static void loadWeeklyReservationData(Map<String, Set<String>> reservedMap,
@@ -197,8 +190,23 @@ public class ReservationUtil {
                                                 String roomName, 
                                                 LocalDate weekStart, 
                                                 LocalDate weekEnd) {
+        if (OfflineJournal.isOffline()) {
+            // 서버에 닿지 않는 동안은 요청을 쌓지 않고 마지막으로 받아 둔 주를 표시
+            String normalizedRoom = normalizeRoomName(roomName);
+            WeeklyReservationCache.Week week = WeeklyReservationCache.getInstance().peek(normalizedRoom, weekStart);
+            if (week != null) {
+                Log.debug("[loadWeeklyReservationData] 오프라인 - {} {} 캐시 표시", normalizedRoom, weekStart);
+                Set<String> reserved = ConcurrentHashMap.newKeySet();
+                reserved.addAll(week.reservedKeys);
+                reservedMap.put(normalizedRoom, reserved);
+                statusMap.put(normalizedRoom, new ConcurrentHashMap<>(week.statusByKey));
+            } else {
+                Log.info("[loadWeeklyReservationData] 오프라인 - {} {} 캐시 없음", normalizedRoom, weekStart);
+            }
+            return;
+        }
         if (!Session.getInstance().isConnected()) {
-            System.err.println("[loadWeeklyReservationData] 서버 연결 없음");
+            Log.error("[loadWeeklyReservationData] 서버 연결 없음");
             return;
         }
 
@@ -206,33 +214,88 @@ public class ReservationUtil {
         MessageDispatcher dispatcher = MessageDispatcher.getInstance();
 
         if (out == null || dispatcher == null) {
-            System.err.println("[loadWeeklyReservationData] 입출력 스트림이 null");
+            Log.error("[loadWeeklyReservationData] 입출력 스트림이 null");
             return;
         }
 
         try {
             String normalizedRoom = normalizeRoomName(roomName);
-            reservedMap.put(normalizedRoom, ConcurrentHashMap.newKeySet());
-            statusMap.put(normalizedRoom, new ConcurrentHashMap<>());
+            WeeklyReservationCache cache = WeeklyReservationCache.getInstance();
+            boolean fullWeek = weekEnd.equals(weekStart.plusDays(6));
+
+            String command = String.format("VIEW_WEEKLY_RESERVATION,%s,%s,%s", 
+                roomName, weekStart.toString(), weekEnd.toString());
+            WeeklyReservationCache.Week week = fullWeek ? cache.get(normalizedRoom, weekStart) : null;
+            if (week != null) {
+                Log.debug("[loadWeeklyReservationData] {} {} 캐시 사용", normalizedRoom, weekStart);
+                if (week.isRestored()) {
+                    // 디스크 캐시에서 복원한 주: 바로 그리고 서버 기준으로 다시 받아 둠
+                    revalidateWeekInBackground(dispatcher, command, normalizedRoom, weekStart);
+                }
+            } else {
+                WeeklyFetch fetch = weeklyFlights.execute(command,
+                    () -> fetchAndCache(dispatcher, command, normalizedRoom, weekStart, fullWeek));
+                week = fetch.week;
+                Log.debug("[loadWeeklyReservationData] {} - {}개 완료", normalizedRoom, week.reservedKeys.size());
+            }
 
-            System.out.printf("[loadWeeklyReservationData] %s %s ~ %s 예약 정보 요청%n", 
-                normalizedRoom, weekStart.toString(), weekEnd.toString());
+            Set<String> reserved = ConcurrentHashMap.newKeySet();
+            reserved.addAll(week.reservedKeys);
+            reservedMap.put(normalizedRoom, reserved);
+            statusMap.put(normalizedRoom, new ConcurrentHashMap<>(week.statusByKey));
 
-            out.println(String.format("VIEW_WEEKLY_RESERVATION,%s,%s,%s", 
-                roomName, weekStart.toString(), weekEnd.toString()));
-            out.flush();
+        } catch (Exception e) {
+            Log.error("[loadWeeklyReservationData] 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private static WeeklyFetch fetchAndCache(MessageDispatcher dispatcher, String command,
+                                             String normalizedRoom, LocalDate weekStart, boolean fullWeek) {
+        WeeklyReservationCache cache = WeeklyReservationCache.getInstance();
+        long generation = cache.generation();
+        WeeklyFetch result = fetchWeeklyReservations(dispatcher, command, weekStart);
+        // 끝 표시까지 다 받은 경우만 캐시 (타임아웃으로 잘린 데이터는 이번 화면에만 사용)
+        if (result.complete && fullWeek) {
+            cache.put(normalizedRoom, weekStart, result.week, generation);
+        }
+        return result;
+    }
+
+    private static void revalidateWeekInBackground(MessageDispatcher dispatcher, String command,
+                                                   String normalizedRoom, LocalDate weekStart) {
+        if (weeklyFlights.isInFlight(command)) {
+            return;
+        }
+        Thread t = new Thread(() -> weeklyFlights.execute(command,
+                () -> fetchAndCache(dispatcher, command, normalizedRoom, weekStart, true)), "WeekRevalidate");
+        t.setDaemon(true);
+        t.start();
+    }
 
-            int readCount = 0;
+    /**
+     * VIEW_WEEKLY_RESERVATION 전송 후 END_OF_RESERVATION까지 수신
+     * - 행마다 인원 열이 있으므로 칸별 승인 인원 합도 같은 응답에서 [요일][교시]로 계산
+     *   → 수용 인원 표시가 칸마다 GET_RESERVED_COUNT_BY_DATE를 보내지 않음
+     */
+    private static WeeklyFetch fetchWeeklyReservations(MessageDispatcher dispatcher, String command,
+                                                       LocalDate weekStart) {
+        Log.debug("[loadWeeklyReservationData] 요청: {}", command);
+        Map<String, String> statusByKey = new HashMap<>();
+        int[][] approvedHeadcounts = new int[WeeklyReservationCache.Week.DAYS][WeeklyReservationCache.Week.SLOTS];
+        boolean complete = false;
+
+        if (MessageDispatcher.send(command)) {
             while (true) {
                 // MessageDispatcher를 통해 응답 대기
-                String line = dispatcher.waitForResponse(30);
-                
+                String line = dispatcher.waitForResponse();
+
                 if (line == null) {
-                    System.err.println("[loadWeeklyReservationData] 타임아웃");
+                    Log.error("[loadWeeklyReservationData] 타임아웃");
                     break;
                 }
-                
+
                 if (line.equals("END_OF_RESERVATION")) {
+                    complete = true;
                     break;
                 }
 
@@ -240,32 +303,48 @@ public class ReservationUtil {
                 if (parts.length >= 9) {
                     String status = parts[7].trim();
                     if (status.equals("예약됨") || status.equals("대기중")) {
-                        String room = normalizeRoomName(parts[1].trim());
                         String dateString = parts[2].trim();
-                        String day = parts[3].trim().replace("요일", "");
-                        String time = parts[4].trim();
-                        if (time.length() >= 3) {
-                            time = time.substring(0, 3);
+                        Weekday weekday = Weekday.parse(parts[3]);
+                        String day = weekday != null ? weekday.shortName() : parts[3].trim().replace("요일", "");
+                        String rawTime = parts[4].trim();
+                        TimeSlot slot = TimeSlot.parse(rawTime);
+                        String time = slot != null ? slot.shortLabel()
+                                : rawTime.length() >= 3 ? rawTime.substring(0, 3) : rawTime;
+
+                        statusByKey.put(dateString + "_" + day + "_" + time, status);
+                        if (status.equals("예약됨") && slot != null) {
+                            addHeadcount(approvedHeadcounts, weekStart, dateString, slot, parts[8]);
                         }
-
-                        String key = dateString + "_" + day + "_" + time;
-                        
-                        reservedMap.computeIfAbsent(room, k -> ConcurrentHashMap.newKeySet())
-                            .add(key);
-                        
-                        statusMap.computeIfAbsent(room, k -> new ConcurrentHashMap<>())
-                            .put(key, status);
-                        
-                        readCount++;
                     }
                 }
             }
+        }
+        return new WeeklyFetch(new WeeklyReservationCache.Week(statusByKey, approvedHeadcounts), complete);
+    }
+
+    // 승인된 예약 한 건의 인원을 해당 칸에 더함 (형식이 맞지 않는 행은 건너뜀)
+    private static void addHeadcount(int[][] headcounts, LocalDate weekStart,
+                                     String dateString, TimeSlot slot, String count) {
+        try {
+            int day = (int) (LocalDate.parse(dateString).toEpochDay() - weekStart.toEpochDay());
+            if (day >= 0 && day < headcounts.length && slot.index() < headcounts[day].length) {
+                headcounts[day][slot.index()] += Integer.parseInt(count.trim());
+            }
+        } catch (RuntimeException e) {
+            Log.debug("[loadWeeklyReservationData] 인원 파싱 실패: {} {} {}", dateString, slot, count);
+        }
+    }
 
-            System.out.printf("[loadWeeklyReservationData] %s - %d개 완료%n", normalizedRoom, readCount);
+    /**
+     * 주간 조회 결과 (끝 표시까지 받았는지 포함)
+     */
+    private static final class WeeklyFetch {
+        final WeeklyReservationCache.Week week;
+        final boolean complete;
 
-        } catch (Exception e) {
-            System.err.println("[loadWeeklyReservationData] 오류: " + e.getMessage());
-            e.printStackTrace();
+        WeeklyFetch(WeeklyReservationCache.Week week, boolean complete) {
+            this.week = week;
+            this.complete = complete;
         }
     }
     
@@ -281,12 +360,22 @@ public class ReservationUtil {
     }
     
     /**
-     * 서버로부터 특정 날짜/시간의 승인된 예약 인원 수 조회
+     * 특정 날짜/시간의 승인된 예약 인원 수 조회
+     * - 그 강의실-주가 WeeklyReservationCache에 있으면 주간 조회 때 계산해 둔 값을 사용 (서버 요청 없음)
+     * - 없으면 서버에 한 칸만 조회
      * MessageDispatcher 사용
      */
     public static int getApprovedReservedCountForDate(String room, String dateString, String time) {
+        int local = cachedApprovedCount(room, dateString, time);
+        if (local >= 0) {
+            Log.debug("[getApprovedReservedCountForDate] {} {} {} = {}명 (캐시)", room, dateString, time, local);
+            return local;
+        }
+        if (OfflineJournal.isOffline()) {
+            return 0;
+        }
         if (!Session.getInstance().isConnected()) {
-            System.err.println("[getApprovedReservedCountForDate] 서버 연결 없음");
+            Log.error("[getApprovedReservedCountForDate] 서버 연결 없음");
             return 0;
         }
 
@@ -298,25 +387,36 @@ public class ReservationUtil {
         }
 
         try {
-            out.println(String.format("GET_RESERVED_COUNT_BY_DATE,%s,%s,%s", room, dateString, time));
-            out.flush();
-
-            // MessageDispatcher를 통해 응답 대기
-            String response = dispatcher.waitForResponse(30);
+            // 같은 칸을 동시에 조회하면 서버 요청 한 번으로 합침
+            String response = MessageDispatcher.request(
+                    String.format("GET_RESERVED_COUNT_BY_DATE,%s,%s,%s", room, dateString, time));
             
             if (response != null && response.startsWith("RESERVED_COUNT:")) {
                 int count = Integer.parseInt(response.substring("RESERVED_COUNT:".length()));
-                System.out.println(String.format("[getApprovedReservedCountForDate] %s %s %s = %d명", 
-                    room, dateString, time, count));
+                Log.debug("[getApprovedReservedCountForDate] {} {} {} = {}명",
+                    room, dateString, time, count);
                 return count;
             }
         } catch (Exception e) {
-            System.err.println("[getApprovedReservedCountForDate] 오류: " + e.getMessage());
+            Log.error("[getApprovedReservedCountForDate] 오류: {}", e.getMessage());
         }
 
         return 0;
     }
 
+    // 캐시된 주간 데이터의 칸별 승인 인원 (오프라인이면 오래된 주도 사용), 없으면 -1
+    private static int cachedApprovedCount(String room, String dateString, String time) {
+        if (room == null || dateString == null || time == null) {
+            return -1;
+        }
+        try {
+            return WeeklyReservationCache.getInstance().approvedHeadcount(normalizeRoomName(room),
+                    LocalDate.parse(dateString.trim()), parseTimeToHour(time) - 1, OfflineJournal.isOffline());
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
     /**
      * 서버로 예약 요청 전송 (Builder Pattern 사용)
      * MessageDispatcher 사용
@@ -325,7 +425,7 @@ public class ReservationUtil {
      */
     public static String sendReservationRequestToServer(ReservationRequest request) {
         if (!Session.getInstance().isConnected()) {
-            System.err.println("[sendReservationRequestToServer] 서버 연결 없음");
+            Log.error("[sendReservationRequestToServer] 서버 연결 없음");
             return "RESERVE_FAILED";
         }
 
@@ -339,22 +439,21 @@ public class ReservationUtil {
         try {
             // Builder Pattern으로 생성된 객체에서 프로토콜 문자열 가져오기
             String requestLine = request.toProtocolString();
-            System.out.println("[sendReservationRequestToServer] 요청: " + request);
+            Log.debug("[sendReservationRequestToServer] 요청: {}", request);
             
-            out.println(requestLine);
-            out.flush();
+            MessageDispatcher.send(requestLine);
 
             // MessageDispatcher를 통해 응답 대기
-            String response = dispatcher.waitForResponse(30);
+            String response = dispatcher.waitForResponse();
             
             if (response == null) {
-                System.err.println("[sendReservationRequestToServer] 서버 응답 없음");
+                Log.error("[sendReservationRequestToServer] 서버 응답 없음");
                 return "RESERVE_FAILED";
             }
-            System.out.println("[sendReservationRequestToServer] 서버 응답: " + response);
+            Log.debug("[sendReservationRequestToServer] 서버 응답: {}", response);
             return response;
         } catch (Exception e) {
-            System.err.println("[sendReservationRequestToServer] 오류: " + e.getMessage());
+            Log.error("[sendReservationRequestToServer] 오류: {}", e.getMessage());
             return "RESERVE_FAILED";
         }
     }
@@ -367,22 +466,23 @@ public class ReservationUtil {
                                                     String room, 
                                                     boolean roomAvailable, 
                                                     LocalDate weekStart) {
-        String[] columnNames = {"교시", "월", "화", "수", "목", "금", "토", "일"};
-        String[] times = {"1교시", "2교시", "3교시", "4교시", "5교시", "6교시", "7교시", "8교시", "9교시"};
+        CalendarRebuildEvent event = new CalendarRebuildEvent();
+        event.begin();
 
-        LocalDate[] weekDates = new LocalDate[7];
-        for (int i = 0; i < 7; i++) {
+        Weekday[] weekdays = Weekday.values();
+        LocalDate[] weekDates = new LocalDate[weekdays.length];
+        for (int i = 0; i < weekDates.length; i++) {
             weekDates[i] = weekStart.plusDays(i);
         }
 
-        DefaultTableModel model = new DefaultTableModel(times.length, columnNames.length);
+        DefaultTableModel model = new DefaultTableModel(TimeSlot.COUNT, weekdays.length + 1);
         
-        String[] headerWithDates = new String[columnNames.length];
+        String[] headerWithDates = new String[weekdays.length + 1];
         headerWithDates[0] = "교시";
-        for (int i = 1; i < columnNames.length; i++) {
-            LocalDate date = weekDates[i - 1];
-            headerWithDates[i] = String.format("%s\n%02d/%02d", 
-                columnNames[i], date.getMonthValue(), date.getDayOfMonth());
+        for (Weekday weekday : weekdays) {
+            LocalDate date = weekDates[weekday.index()];
+            headerWithDates[weekday.column()] = String.format("%s\n%02d/%02d", 
+                weekday.shortName(), date.getMonthValue(), date.getDayOfMonth());
         }
         model.setColumnIdentifiers(headerWithDates);
 
@@ -396,8 +496,8 @@ public class ReservationUtil {
         firstColumn.setMaxWidth(60);
         firstColumn.setMinWidth(60);
 
-        for (int i = 0; i < times.length; i++) {
-            model.setValueAt(times[i], i, 0);
+        for (TimeSlot slot : TimeSlot.all()) {
+            model.setValueAt(slot.shortLabel(), slot.index(), 0);
         }
 
         table.setDefaultRenderer(Object.class, new DefaultTableCellRenderer() {
@@ -419,7 +519,7 @@ public class ReservationUtil {
                         cell.setForeground(Color.WHITE);
                     } else {
                         LocalDate date = weekDates[column - 1];
-                        String time = times[row];
+                        String time = TimeSlot.of(row + 1).shortLabel();
                         
                         String status = getReservationStatus(statusMap, room, date, time);
                         
@@ -439,6 +539,15 @@ public class ReservationUtil {
             }
         });
 
+        event.end();
+        if (event.shouldCommit()) {
+            Set<String> reserved = reservedMap.get(normalizeRoomName(room));
+            event.source = "ReservationUtil.buildCalendarTableWithDates";
+            event.room = room;
+            event.weekStart = weekStart.toString();
+            event.reservedSlots = reserved != null ? reserved.size() : 0;
+            event.commit();
+        }
         return table;
     }
     
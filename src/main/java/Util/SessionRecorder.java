@@ -0,0 +1,224 @@
+package Util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 프로토콜 세션 녹화기
+ * - Session에 설정되는 소켓 스트림(in/out)을 감싸 주고받은 줄을 시간과 함께 기록
+ * - 녹화 파일은 SessionReplayer로 서버 없이 재생 가능 (성능 회귀 테스트용)
+ *
+ * 파일 형식 (한 줄 = 한 메시지):
+ *   # 주석/헤더
+ *   경과나노초 TAB 방향(&gt; 전송, &lt; 수신) TAB 내용
+ *
+ * 활성화: -Dsession.record=파일경로 또는 config.properties의 session.record
+ */
+public final class SessionRecorder implements Closeable {
+
+    public static final String HEADER = "# OOM session transcript v1";
+    public static final char SENT = '>';
+    public static final char RECEIVED = '<';
+
+    // 비밀번호가 포함되는 명령은 첫 인자 이후를 가림
+    private static final Set<String> SENSITIVE_VERBS =
+            Set.of("LOGIN", "REGISTER", "CHANGE_PASSWORD", "UPDATE_USER");
+
+    private final Writer sink;
+    private final long startNanos;
+    private boolean closed = false;
+
+    public SessionRecorder(Writer sink) throws IOException {
+        this.sink = sink;
+        this.startNanos = System.nanoTime();
+        sink.write(HEADER + " " + LocalDateTime.now() + "\n");
+        sink.flush();
+    }
+
+    /**
+     * 설정에 녹화 경로가 있으면 녹화기 생성, 없으면 null
+     */
+    public static SessionRecorder fromConfig() {
+        String path = ClientConfig.getString("session.record");
+        if (path == null) {
+            return null;
+        }
+
+        try {
+            Path file = Paths.get(path);
+            SessionRecorder recorder = new SessionRecorder(
+                    Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+            Log.info("[SessionRecorder] 세션 녹화 시작: {}", file.toAbsolutePath());
+            return recorder;
+        } catch (IOException e) {
+            Log.warn("[SessionRecorder] 녹화 파일 생성 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 수신 스트림 감싸기 (readLine 결과를 기록)
+     */
+    public BufferedReader wrap(BufferedReader in) {
+        return new RecordingReader(in);
+    }
+
+    /**
+     * 하트비트 PING/PONG 여부 (재생 시에는 연결이 없어 하트비트가 돌지 않으므로 기록하지 않음)
+     */
+    static boolean isHeartbeat(char direction, String line) {
+        return direction == SENT ? Heartbeat.PING.equals(line) : Heartbeat.PONG.equals(line);
+    }
+
+    /**
+     * 전송 스트림 감싸기 (println 내용을 기록)
+     */
+    public PrintWriter wrap(PrintWriter out) {
+        return new RecordingWriter(out);
+    }
+
+    synchronized void record(char direction, String line) {
+        if (closed || line == null || isHeartbeat(direction, line)) {
+            return;
+        }
+        try {
+            String payload = direction == SENT ? mask(line) : line;
+            sink.write(Long.toString(System.nanoTime() - startNanos));
+            sink.write('\t');
+            sink.write(direction);
+            sink.write('\t');
+            sink.write(payload);
+            sink.write('\n');
+            sink.flush();
+        } catch (IOException e) {
+            Log.warn("[SessionRecorder] 기록 실패, 녹화 중단: {}", e.getMessage());
+            closed = true;
+        }
+    }
+
+    static String mask(String line) {
+        String verb = CommandSpec.verbOf(line);
+        if (!SENSITIVE_VERBS.contains(verb)) {
+            return line;
+        }
+        String[] parts = line.split(",", -1);
+        StringBuilder sb = new StringBuilder(verb);
+        for (int i = 1; i < parts.length; i++) {
+            sb.append(',').append(i == 1 ? parts[i] : "***");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            sink.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    /**
+     * 원본 BufferedReader에 위임하면서 읽은 줄을 기록
+     */
+    private final class RecordingReader extends BufferedReader {
+        private final BufferedReader delegate;
+
+        RecordingReader(BufferedReader delegate) {
+            super(delegate, 1);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String readLine() throws IOException {
+            String line = delegate.readLine();
+            record(RECEIVED, line);
+            return line;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return delegate.read(cbuf, off, len);
+        }
+
+        @Override
+        public boolean ready() throws IOException {
+            return delegate.ready();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                delegate.close();
+            } finally {
+                SessionRecorder.this.close();
+            }
+        }
+    }
+
+    /**
+     * 원본 PrintWriter에 위임하면서 전송한 줄을 기록
+     * (println이든 write든 줄바꿈 단위로 기록 - OutboundWriter는 write + flush 사용)
+     */
+    private final class RecordingWriter extends PrintWriter {
+
+        RecordingWriter(PrintWriter delegate) {
+            super(new LineTap(delegate), false);
+        }
+    }
+
+    /**
+     * 지나가는 문자를 줄 단위로 모아 기록하는 Writer
+     */
+    private final class LineTap extends Writer {
+        private final Writer delegate;
+        private final StringBuilder pending = new StringBuilder();
+
+        LineTap(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                char c = cbuf[i];
+                if (c == '\n') {
+                    record(SENT, pending.toString());
+                    pending.setLength(0);
+                } else if (c != '\r') {
+                    pending.append(c);
+                }
+            }
+            delegate.write(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package Util;
+
+import Model.Session;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionRecorder 녹화 파일 재생기
+ * - Session의 in/out을 재생용 스트림으로 교체하고 MessageDispatcher를 시작
+ * - 녹화된 전송 줄(&gt;)은 클라이언트가 실제로 명령을 보낼 때까지 대기 (순서 보장)
+ * - 녹화된 수신 줄(&lt;)은 녹화 당시 간격 / speed 만큼 쉬고 디스패처로 전달
+ *
+ * speed: 1.0 = 녹화 속도, 10.0 = 10배속, Double.POSITIVE_INFINITY = 대기 없이 즉시
+ */
+public final class SessionReplayer implements AutoCloseable {
+
+    private static final long COMMAND_WAIT_SECONDS = 30;
+    private static final String EOF = new String("EOF"); // 연결 종료 표식 (동일성 비교)
+
+    private final List<Entry> entries;
+    private final double speed;
+    private final BlockingQueue<String> sentCommands = new LinkedBlockingQueue<>();
+    private final List<String> mismatches = Collections.synchronizedList(new ArrayList<>());
+    private final BlockingQueue<String> serverLines = new LinkedBlockingQueue<>();
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private Thread feeder;
+    private volatile boolean stopped = false;
+
+    private SessionReplayer(List<Entry> entries, double speed) {
+        this.entries = entries;
+        this.speed = speed;
+    }
+
+    public static SessionReplayer load(Path transcript, double speed) throws IOException {
+        return parse(Files.readAllLines(transcript, StandardCharsets.UTF_8), speed);
+    }
+
+    public static SessionReplayer parse(List<String> lines, double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("speed는 0보다 커야 합니다: " + speed);
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (String line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\t", 3);
+            if (parts.length < 3 || parts[1].length() != 1) {
+                throw new IllegalArgumentException("잘못된 녹화 줄: " + line);
+            }
+            if (SessionRecorder.isHeartbeat(parts[1].charAt(0), parts[2])) {
+                continue; // 예전 녹화의 PING/PONG (재생 중에는 하트비트가 없음)
+            }
+            entries.add(new Entry(Long.parseLong(parts[0]), parts[1].charAt(0), parts[2]));
+        }
+        return new SessionReplayer(entries, speed);
+    }
+
+    /**
+     * Session 스트림 교체 + 디스패처 시작 + 재생 스레드 시작
+     */
+    public void install() {
+        Session session = Session.getInstance();
+        if (session.getSocket() == null) {
+            // isConnected() 확인을 통과시키기 위한 미연결 소켓
+            session.setSocket(new java.net.Socket());
+        }
+        session.setIn(new ReplayReader());
+        session.setOut(new PrintWriter(new CommandCapture(), true));
+
+        MessageDispatcher.resetForTest();
+        MessageDispatcher.startDispatcher(session.getIn());
+
+        feeder = new Thread(this::feed, "SessionReplayer");
+        feeder.setDaemon(true);
+        feeder.start();
+    }
+
+    /**
+     * 녹화 끝까지 재생될 때까지 대기
+     * @return 시간 내 완료 여부
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    /**
+     * 녹화와 다른 명령이 전송된 경우 (기대값 / 실제값)
+     */
+    public List<String> getMismatches() {
+        synchronized (mismatches) {
+            return new ArrayList<>(mismatches);
+        }
+    }
+
+    private void feed() {
+        long previousNanos = 0;
+        try {
+            for (Entry entry : entries) {
+                if (stopped) {
+                    return;
+                }
+                if (entry.direction == SessionRecorder.SENT) {
+                    String actual = sentCommands.poll(COMMAND_WAIT_SECONDS, TimeUnit.SECONDS);
+                    if (actual == null) {
+                        mismatches.add(entry.line + " / (전송 없음)");
+                        Log.warn("[SessionReplayer] 명령 대기 시간 초과: {}", entry.line);
+                        return;
+                    }
+                    if (!actual.equals(entry.line) && !SessionRecorder.mask(actual).equals(entry.line)) {
+                        mismatches.add(entry.line + " / " + actual);
+                    }
+                } else {
+                    pause(entry.offsetNanos - previousNanos);
+                    serverLines.offer(entry.line);
+                }
+                previousNanos = entry.offsetNanos;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void pause(long recordedGapNanos) throws InterruptedException {
+        if (Double.isInfinite(speed) || recordedGapNanos <= 0) {
+            return;
+        }
+        long nanos = (long) (recordedGapNanos / speed);
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        if (feeder != null) {
+            feeder.interrupt();
+        }
+        serverLines.offer(EOF); // 디스패처에 연결 종료 전달
+        MessageDispatcher.resetForTest();
+    }
+
+    /**
+     * 재생 스레드가 넣어 준 줄을 돌려주는 수신 스트림
+     */
+    private final class ReplayReader extends BufferedReader {
+
+        ReplayReader() {
+            super(new StringReader(""));
+        }
+
+        @Override
+        public String readLine() throws IOException {
+            try {
+                String line = serverLines.take();
+                if (line == EOF) {
+                    serverLines.offer(EOF);
+                    return null;
+                }
+                return line;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("재생 수신 중단");
+            }
+        }
+
+        @Override
+        public void close() {
+            serverLines.offer(EOF);
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 줄을 모아 재생 스레드에 전달
+     */
+    private final class CommandCapture extends Writer {
+        private final StringBuilder pending = new StringBuilder();
+
+        @Override
+        public synchronized void write(char[] cbuf, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                char c = cbuf[i];
+                if (c == '\n') {
+                    sentCommands.offer(pending.toString());
+                    pending.setLength(0);
+                } else if (c != '\r') {
+                    pending.append(c);
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class Entry {
+        final long offsetNanos;
+        final char direction;
+        final String line;
+
+        Entry(long offsetNanos, char direction, String line) {
+            this.offsetNanos = offsetNanos;
+            this.direction = direction;
+            this.line = line;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package Util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 요청 합치기 (single-flight)
+ * - 같은 키로 진행 중인 작업이 있으면 새로 실행하지 않고 그 결과를 함께 받음
+ * - 작업이 끝나면 키를 비움 → 이후 호출은 다시 실행 (결과를 보관하는 캐시가 아님)
+ * - 먼저 온 호출자(리더)의 스레드에서 실행, 나머지는 완료까지 대기
+ *
+ * @param <K> 요청 키 (예: 프로토콜 명령 줄)
+ * @param <V> 결과
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+
+    /**
+     * 키에 해당하는 작업 실행 또는 진행 중인 작업에 합류
+     * @param key 요청 키
+     * @param loader 실제 작업 (리더 스레드에서 한 번만 실행)
+     * @return 작업 결과 (합류한 호출자도 같은 객체를 받음)
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.incrementAndGet();
+            return join(existing);
+        }
+
+        executed.incrementAndGet();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V join(CompletableFuture<V> flight) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return flight.get();
+                } catch (InterruptedException e) {
+                    // 리더의 결과를 버리면 같은 요청을 다시 보내게 되므로 끝까지 기다린 뒤 인터럽트 복원
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 현재 진행 중인 작업 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 해당 키의 작업이 진행 중인지
+     */
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    /**
+     * 누적 실제 실행 횟수
+     */
+    public long executedCount() {
+        return executed.get();
+    }
+
+    /**
+     * 누적 합류(중복 제거) 횟수
+     */
+    public long sharedCount() {
+        return shared.get();
+    }
+}
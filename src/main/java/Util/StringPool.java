@@ -0,0 +1,77 @@
+package Util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로토콜 필드 문자열 공유 풀 (Singleton Pattern)
+ * - 예약 행마다 반복되는 값("CLASS", "908호", "월요일", "1교시(09:00~10:00)", "학생" 등)을
+ *   처음 본 인스턴스 하나로 맞춤 → split으로 만든 사본은 바로 버려져 힙에 남지 않음
+ * - 크기가 고정된 해시 슬롯 배열 (String.intern과 달리 상한이 있고 전역 표를 건드리지 않음)
+ *   같은 슬롯에 다른 값이 오면 덮어씀 → 자주 나오는 값이 남고 드문 값은 밀려남
+ * - 잠금 없음: String은 불변이라 슬롯 경쟁 시 공유를 놓칠 뿐 결과는 항상 같은 내용
+ *
+ * 설정 (config.properties): string.pool.size (2의 거듭제곱으로 올림)
+ */
+public final class StringPool {
+
+    private static volatile StringPool instance;
+
+    private static final long DEFAULT_SIZE = 4096;
+    // 이보다 긴 값(목적, 메시지 등)은 거의 반복되지 않으므로 풀에 넣지 않음
+    static final int MAX_LENGTH = 32;
+
+    private final String[] slots;
+    private final int mask;
+    private final AtomicLong hits = new AtomicLong();
+
+    StringPool(int size) {
+        int capacity = Integer.highestOneBit(Math.max(16, Math.min(size, 1 << 20)) * 2 - 1);
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static StringPool getInstance() {
+        if (instance == null) {
+            synchronized (StringPool.class) {
+                if (instance == null) {
+                    instance = new StringPool((int) ClientConfig.getLong("string.pool.size", DEFAULT_SIZE));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 같은 내용의 공유 인스턴스 (앞뒤 공백 제거)
+     * @param value 프로토콜에서 잘라낸 필드 (null이면 null)
+     */
+    public String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return "";
+        }
+        if (trimmed.length() > MAX_LENGTH) {
+            return trimmed;
+        }
+        int hash = trimmed.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String pooled = slots[index];
+        if (trimmed.equals(pooled)) {
+            hits.incrementAndGet();
+            return pooled;
+        }
+        slots[index] = trimmed;
+        return trimmed;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+}
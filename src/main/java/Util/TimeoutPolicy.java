@@ -0,0 +1,112 @@
+package Util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 명령 종류별 적응형 응답 타임아웃 (TCP 재전송 타이머 방식)
+ * - 명령(verb)마다 평활 RTT(SRTT)와 편차(RTTVAR)를 추적
+ * - 타임아웃 = SRTT + 4 × RTTVAR, [최소, 최대] 범위로 제한
+ * - 표본이 없는 명령은 초기값 사용 (다른 명령이 빨랐다고 처음 보는 큰 조회를 짧게 기다리지 않음)
+ *
+ * 설정 (config.properties, 밀리초): timeout.initial.ms, timeout.min.ms, timeout.max.ms
+ */
+public final class TimeoutPolicy {
+
+    private static final long DEFAULT_INITIAL_MILLIS = 10_000;
+    private static final long DEFAULT_MIN_MILLIS = 1_000;
+    private static final long DEFAULT_MAX_MILLIS = 30_000;
+
+    private final long initialMillis;
+    private final long minMillis;
+    private final long maxMillis;
+    private final Map<String, Estimator> byCommand = new ConcurrentHashMap<>();
+
+    public TimeoutPolicy(long initialMillis, long minMillis, long maxMillis) {
+        if (minMillis <= 0 || minMillis > maxMillis) {
+            throw new IllegalArgumentException("잘못된 타임아웃 범위: " + minMillis + " ~ " + maxMillis);
+        }
+        this.initialMillis = Math.max(minMillis, Math.min(maxMillis, initialMillis));
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * config.properties 설정으로 생성 (없으면 기본값)
+     */
+    public static TimeoutPolicy fromConfig() {
+        return new TimeoutPolicy(
+                ClientConfig.getLong("timeout.initial.ms", DEFAULT_INITIAL_MILLIS),
+                ClientConfig.getLong("timeout.min.ms", DEFAULT_MIN_MILLIS),
+                ClientConfig.getLong("timeout.max.ms", DEFAULT_MAX_MILLIS));
+    }
+
+    /**
+     * 응답 시간 표본 기록 (타임아웃된 명령의 표본은 넣지 않음)
+     * @param verb 명령 종류
+     * @param rttNanos 전송부터 첫 응답 줄까지 걸린 시간
+     */
+    public void recordSample(String verb, long rttNanos) {
+        double millis = rttNanos / 1_000_000.0;
+        byCommand.computeIfAbsent(verb, k -> new Estimator()).update(millis);
+    }
+
+    /**
+     * 명령 종류의 현재 타임아웃 (밀리초)
+     */
+    public long timeoutMillis(String verb) {
+        Estimator estimator = byCommand.get(verb);
+        if (estimator == null || !estimator.hasSamples()) {
+            return initialMillis;
+        }
+        long rto = (long) Math.ceil(estimator.rto());
+        return Math.max(minMillis, Math.min(maxMillis, rto));
+    }
+
+    /**
+     * 평활 RTT (밀리초, 표본 없으면 -1)
+     */
+    public long smoothedRttMillis(String verb) {
+        Estimator estimator = byCommand.get(verb);
+        return estimator != null && estimator.hasSamples() ? Math.round(estimator.srtt()) : -1;
+    }
+
+    /**
+     * 지연 중이지만 연결이 살아 있을 때 기다릴 수 있는 최대 시간
+     */
+    public long maxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Jacobson/Karels RTT 추정기 (alpha = 1/8, beta = 1/4)
+     */
+    private static final class Estimator {
+        private double srtt;
+        private double rttvar;
+        private int samples;
+
+        synchronized void update(double rttMillis) {
+            if (samples == 0) {
+                srtt = rttMillis;
+                rttvar = rttMillis / 2;
+            } else {
+                rttvar = 0.75 * rttvar + 0.25 * Math.abs(srtt - rttMillis);
+                srtt = 0.875 * srtt + 0.125 * rttMillis;
+            }
+            samples++;
+        }
+
+        synchronized boolean hasSamples() {
+            return samples > 0;
+        }
+
+        synchronized double srtt() {
+            return srtt;
+        }
+
+        synchronized double rto() {
+            return srtt + 4 * rttvar;
+        }
+    }
+}
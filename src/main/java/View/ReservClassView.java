@@ -4,6 +4,7 @@
  */
 package View;
 
+import Util.Log;
 import com.toedter.calendar.JDateChooser;  // ✅ 추가
 import java.awt.event.ActionListener;
 import javax.swing.JOptionPane;
@@ -30,7 +31,7 @@ public class ReservClassView extends javax.swing.JFrame {
         try {
             javax.swing.UIManager.setLookAndFeel("javax.swing.plaf.nimbus.NimbusLookAndFeel");
         } catch (Exception e) {
-            e.printStackTrace();
+            Log.warn("[LookAndFeel] Nimbus 적용 실패", e);
         }
 
         initComponents();
@@ -54,7 +55,7 @@ public class ReservClassView extends javax.swing.JFrame {
             "기타"
         }));
 
-        System.out.println("[ReservClassView] 사용 목적 ComboBox 초기화 완료 (편집 가능)");
+        Log.debug("[ReservClassView] 사용 목적 ComboBox 초기화 완료 (편집 가능)");
     }
 
     /**
@@ -72,7 +73,7 @@ public class ReservClassView extends javax.swing.JFrame {
             "914호"
         }));
 
-        System.out.println("[ReservClassView] 강의실 ComboBox 초기화 완료 (편집 가능)");
+        Log.debug("[ReservClassView] 강의실 ComboBox 초기화 완료 (편집 가능)");
     }
 
     /**
@@ -154,7 +155,7 @@ public class ReservClassView extends javax.swing.JFrame {
      */
     public void setClassrooms(java.util.List<String> classrooms) {
         if (classrooms == null || classrooms.isEmpty()) {
-            System.err.println("[ReservClassView] 강의실 목록이 비어있습니다.");
+            Log.error("[ReservClassView] 강의실 목록이 비어있습니다.");
             // 기본 강의실 4개 유지
             Class.setModel(new DefaultComboBoxModel<>(new String[]{
                 "908호",
@@ -164,7 +165,7 @@ public class ReservClassView extends javax.swing.JFrame {
             }));
         } else {
             Class.setModel(new DefaultComboBoxModel<>(classrooms.toArray(new String[0])));
-            System.out.println("[ReservClassView] 강의실 " + classrooms.size() + "개 표시 완료");
+            Log.debug("[ReservClassView] 강의실 {}개 표시 완료", classrooms.size());
         }
         // 편집 가능 설정 유지
         Class.setEditable(true);
@@ -173,23 +174,23 @@ public class ReservClassView extends javax.swing.JFrame {
     public int getStudentCount() {
         try {
             if (peoplenumber == null) {
-                System.out.println("[getStudentCount] peoplenumber is null, returning 1");
+                Log.debug("[getStudentCount] peoplenumber is null, returning 1");
                 return 1;
             }
             String text = peoplenumber.getText();
             if (text == null || text.trim().isEmpty()) {
-                System.out.println("[getStudentCount] text is empty, returning 1");
+                Log.debug("[getStudentCount] text is empty, returning 1");
                 return 1;
             }
             int count = Integer.parseInt(text.trim());
             if (count < 1) {
-                System.out.println("[getStudentCount] count < 1, returning 1");
+                Log.debug("[getStudentCount] count < 1, returning 1");
                 return 1;
             }
-            System.out.println("[getStudentCount] returning " + count);
+            Log.debug("[getStudentCount] returning {}", count);
             return count;
         } catch (NumberFormatException e) {
-            System.out.println("[getStudentCount] NumberFormatException, returning 1");
+            Log.debug("[getStudentCount] NumberFormatException, returning 1");
             return 1;
         }
     }
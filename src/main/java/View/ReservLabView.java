@@ -4,6 +4,7 @@
  */
 package View;
 
+import Util.Log;
 import com.toedter.calendar.JDateChooser;  // ✅ 추가
 import java.awt.event.ActionListener;
 import javax.swing.JOptionPane;
@@ -27,7 +28,7 @@ public class ReservLabView extends javax.swing.JFrame {
         try {
             javax.swing.UIManager.setLookAndFeel("javax.swing.plaf.nimbus.NimbusLookAndFeel");
         } catch (Exception e) {
-            e.printStackTrace();
+            Log.warn("[LookAndFeel] Nimbus 적용 실패", e);
         }
 
         initComponents();
@@ -56,7 +57,7 @@ public class ReservLabView extends javax.swing.JFrame {
             "기타"
         }));
 
-        System.out.println("[ReservLabView] 사용 목적 ComboBox 초기화 완료 (편집 가능)");
+        Log.debug("[ReservLabView] 사용 목적 ComboBox 초기화 완료 (편집 가능)");
     }
 
     /**
@@ -74,7 +75,7 @@ public class ReservLabView extends javax.swing.JFrame {
             "918호"
         }));
 
-        System.out.println("[ReservLabView] 실습실 ComboBox 초기화 완료 (편집 가능)");
+        Log.debug("[ReservLabView] 실습실 ComboBox 초기화 완료 (편집 가능)");
     }
 
     /**
@@ -157,7 +158,7 @@ public class ReservLabView extends javax.swing.JFrame {
      */
     public void setLabs(java.util.List<String> labs) {
         if (labs == null || labs.isEmpty()) {
-            System.err.println("[ReservLabView] 실습실 목록이 비어있습니다.");
+            Log.error("[ReservLabView] 실습실 목록이 비어있습니다.");
             // 기본 실습실 4개 유지
             Lab.setModel(new DefaultComboBoxModel<>(new String[]{
                 "911호",
@@ -167,7 +168,7 @@ public class ReservLabView extends javax.swing.JFrame {
             }));
         } else {
             Lab.setModel(new DefaultComboBoxModel<>(labs.toArray(new String[0])));
-            System.out.println("[ReservLabView] 실습실 " + labs.size() + "개 표시 완료");
+            Log.debug("[ReservLabView] 실습실 {}개 표시 완료", labs.size());
         }
         // 편집 가능 설정 유지
         Lab.setEditable(true);
@@ -176,23 +177,23 @@ public class ReservLabView extends javax.swing.JFrame {
     public int getStudentCount() {
         try {
             if (peoplenumber == null) {
-                System.out.println("[getStudentCount] peoplenumber is null, returning 1");
+                Log.debug("[getStudentCount] peoplenumber is null, returning 1");
                 return 1;
             }
             String text = peoplenumber.getText();
             if (text == null || text.trim().isEmpty()) {
-                System.out.println("[getStudentCount] text is empty, returning 1");
+                Log.debug("[getStudentCount] text is empty, returning 1");
                 return 1;
             }
             int count = Integer.parseInt(text.trim());
             if (count < 1) {
-                System.out.println("[getStudentCount] count < 1, returning 1");
+                Log.debug("[getStudentCount] count < 1, returning 1");
                 return 1;
             }
-            System.out.println("[getStudentCount] returning " + count);
+            Log.debug("[getStudentCount] returning {}", count);
             return count;
         } catch (NumberFormatException e) {
-            System.out.println("[getStudentCount] NumberFormatException, returning 1");
+            Log.debug("[getStudentCount] NumberFormatException, returning 1");
             return 1;
         }
     }
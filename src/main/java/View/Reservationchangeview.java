@@ -4,6 +4,7 @@
  */
 package View;
 
+import Util.Log;
 import com.toedter.calendar.JDateChooser;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -139,7 +140,7 @@ public class Reservationchangeview extends javax.swing.JFrame {
         firstColumn.setMaxWidth(60);
         firstColumn.setMinWidth(60);
 
-        System.out.println("[initCalendar] 초기 캘린더 테이블 설정 완료");
+        Log.debug("[initCalendar] 초기 캘린더 테이블 설정 완료");
     }
 
     private void initPurpose() {
@@ -200,24 +201,24 @@ public class Reservationchangeview extends javax.swing.JFrame {
 
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
-                System.out.println("[loadClassrooms] 시작 (시도 " + attempt + "/" + maxRetries + ") - ClientClassroomManager 사용");
+                Log.debug("[loadClassrooms] 시작 (시도 {}/{}) - ClientClassroomManager 사용", attempt, maxRetries);
 
                 Manager.ClientClassroomManager manager = Manager.ClientClassroomManager.getInstance();
                 java.util.List<common.dto.ClassroomDTO> allRooms = manager.getAllClassrooms();
 
                 if (allRooms == null || allRooms.isEmpty()) {
-                    System.err.println("[loadClassrooms] 강의실 정보 없음 (시도 " + attempt + ")");
+                    Log.error("[loadClassrooms] 강의실 정보 없음 (시도 {})", attempt);
 
                     //  마지막 시도가 아니면 재시도
                     if (attempt < maxRetries) {
-                        System.out.println("[loadClassrooms] " + retryDelay + "ms 후 재시도...");
+                        Log.debug("[loadClassrooms] {}ms 후 재시도...", retryDelay);
                         Thread.sleep(retryDelay);
                         continue;
                     }
                     return;
                 }
 
-                System.out.println("[loadClassrooms] 받은 강의실 수: " + allRooms.size());
+                Log.debug("[loadClassrooms] 받은 강의실 수: {}", allRooms.size());
 
                 // 강의실과 실습실 분리
                 java.util.List<String> classList = new java.util.ArrayList<>();
@@ -233,10 +234,10 @@ public class Reservationchangeview extends javax.swing.JFrame {
                     // 실습실 판별
                     if ("LAB".equals(classroom.type)) {
                         labList.add(roomName);
-                        System.out.println("[loadClassrooms] 실습실 추가: " + roomName);
+                        Log.debug("[loadClassrooms] 실습실 추가: {}", roomName);
                     } else {
                         classList.add(roomName);
-                        System.out.println("[loadClassrooms] 강의실 추가: " + roomName);
+                        Log.debug("[loadClassrooms] 강의실 추가: {}", roomName);
                     }
                 }
 
@@ -249,7 +250,7 @@ public class Reservationchangeview extends javax.swing.JFrame {
                     allRoomsList.add(labList.get(i));
                 }
 
-                System.out.println("[loadClassrooms] 강의실 총 " + (classList.size() - 1) + "개, 실습실 총 " + (labList.size() - 1) + "개");
+                Log.debug("[loadClassrooms] 강의실 총 {}개, 실습실 총 {}개", (classList.size() - 1), (labList.size() - 1));
 
                 // 오른쪽 콤보박스 설정 (예약 현황 조회용)
                 Class.setModel(new DefaultComboBoxModel<>(classList.toArray(new String[0])));
@@ -258,16 +259,15 @@ public class Reservationchangeview extends javax.swing.JFrame {
                 // 왼쪽 jComboBox3 설정 (예약 변경용) - 강의실 먼저, 실습실 나중
                 jComboBox3.setModel(new DefaultComboBoxModel<>(allRoomsList.toArray(new String[0])));
 
-                System.out.println("[loadClassrooms] 콤보박스 설정 완료");
+                Log.debug("[loadClassrooms] 콤보박스 설정 완료");
                 return;
             } catch (Exception e) {
-                System.err.println("[loadClassrooms] 강의실 목록 조회 중 오류 (시도 " + attempt + "): " + e.getMessage());
-                e.printStackTrace();
+                Log.error("[loadClassrooms] 강의실 목록 조회 중 오류 (시도 {}): {}", attempt, e.getMessage(), e);
 
                 //  마지막 시도가 아니면 재시도
                 if (attempt < maxRetries) {
                     try {
-                        System.out.println("[loadClassrooms] " + retryDelay + "ms 후 재시도...");
+                        Log.debug("[loadClassrooms] {}ms 후 재시도...", retryDelay);
                         Thread.sleep(retryDelay);
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
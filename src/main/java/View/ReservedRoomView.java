@@ -1,5 +1,6 @@
 package View;
 
+import Util.Log;
 import com.toedter.calendar.JDateChooser;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -25,7 +26,7 @@ public class ReservedRoomView extends JFrame {
         try {
     javax.swing.UIManager.setLookAndFeel("javax.swing.plaf.nimbus.NimbusLookAndFeel");
 } catch (Exception e) {
-    e.printStackTrace();
+    Log.warn("[LookAndFeel] Nimbus 적용 실패", e);
 }
             
    
@@ -124,7 +125,7 @@ public class ReservedRoomView extends JFrame {
                 classArray[i + 1] = classrooms.get(i);
             }
             Class.setModel(new DefaultComboBoxModel<>(classArray));
-            System.out.println("[ReservedRoomView] 강의실 로드 완료: " + classrooms.size() + "개");
+            Log.debug("[ReservedRoomView] 강의실 로드 완료: {}개", classrooms.size());
         }
         
         // 실습실 목록 로드
@@ -136,7 +137,7 @@ public class ReservedRoomView extends JFrame {
                 labArray[i + 1] = labs.get(i);
             }
             Lab.setModel(new DefaultComboBoxModel<>(labArray));
-            System.out.println("[ReservedRoomView] 실습실 로드 완료: " + labs.size() + "개");
+            Log.debug("[ReservedRoomView] 실습실 로드 완료: {}개", labs.size());
         }
     }
     
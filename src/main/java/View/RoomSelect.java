@@ -4,6 +4,7 @@
  */
 package View;
 
+import Util.Log;
 /**
  *
  * @author Sunghoon
@@ -27,7 +28,7 @@ public class RoomSelect extends javax.swing.JFrame {
     }
 
     public RoomSelect() {
-        System.out.println("RoomSelect  인스턴스 생성됨");
+        Log.debug("RoomSelect  인스턴스 생성됨");
         setDefaultCloseOperation(javax.swing.JFrame.DISPOSE_ON_CLOSE);
 
         initComponents();
@@ -84,15 +85,15 @@ public class RoomSelect extends javax.swing.JFrame {
     }
 
     public void setChangePasswordActionListener(java.awt.event.ActionListener listener) {
-        System.out.println("ChangePassword 버튼 상태: " + (ChangePassword == null ? "null" : "정상"));
+        Log.debug("ChangePassword 버튼 상태: {}", (ChangePassword == null ? "null" : "정상"));
 
-            System.out.println("비밀번호 변경 리스너 등록 시도");  // 로그 추가
+            Log.debug("비밀번호 변경 리스너 등록 시도");
 
         for (java.awt.event.ActionListener al : ChangePassword.getActionListeners()) {
             ChangePassword.removeActionListener(al);
         }
         ChangePassword.addActionListener(listener);
-            System.out.println("등록된 리스너 수: " + ChangePassword.getActionListeners().length);
+            Log.debug("등록된 리스너 수: {}", ChangePassword.getActionListeners().length);
 
     }
 
@@ -9,9 +9,10 @@ package iterator;
  * @author jms5310
  * [Iterator Pattern: Aggregate Interface]
  * 집합체는 이 인터페이스를 구현하여 자신의 Iterator를 반환해야 합니다.
+ * @param <T> 순회할 요소 타입
  */
 
 
-public interface Aggregate {
-    Iterator createIterator();
+public interface Aggregate<T> {
+    Iterator<T> createIterator();
 }
\ No newline at end of file
@@ -10,8 +10,9 @@ package iterator;
  * [Iterator Pattern: Iterator Interface]
  * 집합체의 요소들을 순서대로 접근하기 위한 표준 인터페이스입니다.
  * 내부 구현 방식을 노출하지 않고 순회할 수 있는 메소드를 정의합니다.
+ * @param <T> 요소 타입 (호출하는 쪽에서 형변환하지 않도록)
  */
-public interface Iterator {
+public interface Iterator<T> {
     boolean hasNext();
-    Object next();
+    T next();
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package iterator;
+
+/**
+ * [Iterator Pattern: ConcreteAggregate]
+ * 예약 정보를 열(column) 단위 기본형 배열로 저장하는 집합체입니다.
+ * ReservationGroup은 ReservationDTO 객체(문자열 10개)를 그대로 보관하지만,
+ * 여기서는 한 행을 정수 몇 개로 줄여 저장합니다.
+ *  - 강의실/예약자/아이디/목적/역할/구분: 사전 코드(int)
+ *  - 날짜: epoch day(int), 요일은 날짜에서 계산
+ *  - 교시: TimeSlot 위치(byte), 인원: int
+ * 강의실/기간/사용자 조건 조회는 정수 배열만 훑으므로 관리자용 전체 조회처럼 행이 많을 때 유리합니다.
+ * 순회는 createIterator()로만 하며, Iterator가 돌려주는 ReservationView는 매번 같은 객체입니다.
+ */
+import Service.ReservationService;
+import Util.ReservationUtil;
+import Model.TimeSlot;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+public class ReservationColumns implements Aggregate<ReservationView> {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int ANY = -2;
+
+    final StringDictionary fileTypes = new StringDictionary();
+    final StringDictionary users = new StringDictionary();
+    final StringDictionary names = new StringDictionary();
+    final StringDictionary rooms = new StringDictionary();
+    final StringDictionary purposes = new StringDictionary();
+    final StringDictionary roles = new StringDictionary();
+
+    private int size;
+    int[] fileTypeCodes = new int[INITIAL_CAPACITY];
+    int[] userCodes = new int[INITIAL_CAPACITY];
+    int[] nameCodes = new int[INITIAL_CAPACITY];
+    int[] roomCodes = new int[INITIAL_CAPACITY];
+    int[] epochDays = new int[INITIAL_CAPACITY];
+    byte[] slots = new byte[INITIAL_CAPACITY];
+    int[] purposeCodes = new int[INITIAL_CAPACITY];
+    int[] roleCodes = new int[INITIAL_CAPACITY];
+    int[] headcounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * DTO 한 건 추가
+     * @return 날짜/교시를 해석할 수 없어 저장하지 못했으면 false
+     */
+    public boolean addReservation(ReservationService.ReservationDTO reservation) {
+        return addReservation(reservation.getFileType(), reservation.getUserId(), reservation.getName(),
+                reservation.getRoom(), reservation.getDate(), reservation.getTime(),
+                reservation.getPurpose(), reservation.getRole(), reservation.getStudentCount());
+    }
+
+    /**
+     * 프로토콜 필드로 바로 추가 (DTO를 만들지 않음)
+     * @param date yyyy-MM-dd
+     * @param time "N교시(HH:MM~HH:MM)" 또는 "N교시"
+     * @return 날짜/교시를 해석할 수 없어 저장하지 못했으면 false
+     */
+    public boolean addReservation(String fileType, String userId, String name, String room,
+                                  String date, String time, String purpose, String role, int studentCount) {
+        TimeSlot slot = TimeSlot.parse(time);
+        if (slot == null || date == null) {
+            return false;
+        }
+        int epochDay;
+        try {
+            epochDay = (int) LocalDate.parse(date.trim()).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+
+        ensureCapacity(size + 1);
+        fileTypeCodes[size] = fileTypes.encode(fileType);
+        userCodes[size] = users.encode(userId);
+        nameCodes[size] = names.encode(name);
+        roomCodes[size] = rooms.encode(normalizeRoom(room));
+        epochDays[size] = epochDay;
+        slots[size] = (byte) slot.index();
+        purposeCodes[size] = purposes.encode(purpose);
+        roleCodes[size] = roles.encode(role);
+        headcounts[size] = studentCount;
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 전체 순회
+     */
+    @Override
+    public Iterator<ReservationView> createIterator() {
+        return new ReservationColumnsIterator(this, null, size);
+    }
+
+    /**
+     * 조건에 맞는 예약만 순회 (null 조건은 제한 없음)
+     * @param room 강의실 ("908" / "908호" 모두 가능)
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param userId 예약자 아이디
+     */
+    public Iterator<ReservationView> createIterator(String room, LocalDate from, LocalDate to, String userId) {
+        int[] rows = select(room, from, to, userId);
+        return new ReservationColumnsIterator(this, rows, rows.length);
+    }
+
+    /**
+     * 조건에 맞는 행 번호 (강의실/사용자는 사전 코드 한 번 찾은 뒤 정수 비교만)
+     */
+    int[] select(String room, LocalDate from, LocalDate to, String userId) {
+        int roomCode = room == null ? ANY : rooms.find(normalizeRoom(room));
+        int userCode = userId == null ? ANY : users.find(userId);
+        if (roomCode == -1 || userCode == -1) {
+            return new int[0];
+        }
+        long fromDay = from == null ? Long.MIN_VALUE : from.toEpochDay();
+        long toDay = to == null ? Long.MAX_VALUE : to.toEpochDay();
+
+        int[] rows = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if ((roomCode == ANY || roomCodes[i] == roomCode)
+                    && epochDays[i] >= fromDay && epochDays[i] <= toDay
+                    && (userCode == ANY || userCodes[i] == userCode)) {
+                rows[count++] = i;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= roomCodes.length) {
+            return;
+        }
+        int capacity = Math.max(required, roomCodes.length * 2);
+        fileTypeCodes = Arrays.copyOf(fileTypeCodes, capacity);
+        userCodes = Arrays.copyOf(userCodes, capacity);
+        nameCodes = Arrays.copyOf(nameCodes, capacity);
+        roomCodes = Arrays.copyOf(roomCodes, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+        purposeCodes = Arrays.copyOf(purposeCodes, capacity);
+        roleCodes = Arrays.copyOf(roleCodes, capacity);
+        headcounts = Arrays.copyOf(headcounts, capacity);
+    }
+
+    private static String normalizeRoom(String room) {
+        return room == null ? "" : ReservationUtil.normalizeRoomName(room.trim());
+    }
+}
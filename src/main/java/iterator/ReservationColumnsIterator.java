@@ -0,0 +1,38 @@
+package iterator;
+
+/**
+ * [Iterator Pattern: ConcreteIterator]
+ * ReservationColumns의 행을 순서대로(또는 조건에 맞는 행만) 순회합니다.
+ * next()는 행마다 새 객체를 만들지 않고 같은 ReservationView를 다음 행으로 옮겨서 반환합니다.
+ * 따라서 반환값은 다음 next() 호출 전까지만 유효하며, 보관하려면 toDTO()로 복사해야 합니다.
+ */
+public class ReservationColumnsIterator implements Iterator<ReservationView> {
+    private final ReservationView view;
+    private final int[] rows;
+    private final int count;
+    private int position = 0;
+
+    /**
+     * @param rows 순회할 행 번호 (null이면 0..count-1 전체)
+     */
+    ReservationColumnsIterator(ReservationColumns columns, int[] rows, int count) {
+        this.view = new ReservationView(columns);
+        this.rows = rows;
+        this.count = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < count;
+    }
+
+    @Override
+    public ReservationView next() {
+        if (hasNext()) {
+            int row = rows == null ? position : rows[position];
+            position++;
+            return view.moveTo(row);
+        }
+        return null;
+    }
+}
@@ -14,7 +14,7 @@ package iterator;
 import Service.ReservationService;
 import java.util.List;
 
-public class ReservationDTOIterator implements Iterator {
+public class ReservationDTOIterator implements Iterator<ReservationService.ReservationDTO> {
     private List<ReservationService.ReservationDTO> reservations;
     private int position = 0;
 
@@ -28,7 +28,7 @@ public class ReservationDTOIterator implements Iterator {
     }
 
     @Override
-    public Object next() {
+    public ReservationService.ReservationDTO next() {
         if (hasNext()) {
             return reservations.get(position++);
         }
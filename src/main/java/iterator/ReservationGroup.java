@@ -11,12 +11,26 @@ package iterator;
  * 예약 정보(ReservationDTO)들의 집합을 관리하는 클래스입니다.
  * 내부적으로 ArrayList를 사용하여 데이터를 저장하지만, 
  * 외부는 createIterator()를 통해서만 순회하므로 내부 구조가 캡슐화됩니다.
+ * 분할 가능한 순회(spliterator/stream)와 병렬 집계도 제공합니다.
+ * 집계는 요소가 PARALLEL_THRESHOLD개 이상이면 병렬 스트림(공용 ForkJoinPool)으로 모든 코어를 사용합니다.
  */
+import Model.TimeSlot;
 import Service.ReservationService;
+import Util.ReservationUtil;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ReservationGroup implements Aggregate<ReservationService.ReservationDTO> {
+    // 이보다 적으면 작업 분배 비용이 더 커서 순차 처리
+    static final int PARALLEL_THRESHOLD = 4096;
 
-public class ReservationGroup implements Aggregate {
     private List<ReservationService.ReservationDTO> reservations;
 
     public ReservationGroup() {
@@ -31,8 +45,79 @@ public class ReservationGroup implements Aggregate {
         this.reservations.add(reservation);
     }
 
+    public int size() {
+        return reservations.size();
+    }
+
     @Override
-    public Iterator createIterator() {
+    public Iterator<ReservationService.ReservationDTO> createIterator() {
         return new ReservationDTOIterator(this.reservations);
     }
-}
\ No newline at end of file
+
+    /**
+     * 크기를 알고 절반씩 나눌 수 있는 순회자
+     * (인덱스 접근이 느린 목록이면 사본을 만들어 나눔)
+     */
+    public Spliterator<ReservationService.ReservationDTO> spliterator() {
+        List<ReservationService.ReservationDTO> list = reservations instanceof RandomAccess
+                ? reservations : new ArrayList<>(reservations);
+        return new ReservationSpliterator(list, 0, list.size());
+    }
+
+    /**
+     * 순차 스트림 (null 항목 제외)
+     */
+    public Stream<ReservationService.ReservationDTO> stream() {
+        return StreamSupport.stream(spliterator(), false).filter(Objects::nonNull);
+    }
+
+    /**
+     * 병렬 스트림 (null 항목 제외)
+     */
+    public Stream<ReservationService.ReservationDTO> parallelStream() {
+        return StreamSupport.stream(spliterator(), true).filter(Objects::nonNull);
+    }
+
+    /**
+     * 강의실별 예약 건수 (강의실 이름은 "908호" 형식으로 정규화)
+     */
+    public Map<String, Long> countByRoom() {
+        return analyticsStream().collect(Collectors.groupingByConcurrent(
+                r -> key(ReservationUtil.normalizeRoomName(r.getRoom())), Collectors.counting()));
+    }
+
+    /**
+     * 교시별 인원 합계 (배열 위치 = TimeSlot.index(), 교시를 해석할 수 없는 예약은 제외)
+     */
+    public int[] headcountBySlot() {
+        return analyticsStream().collect(
+                () -> new int[TimeSlot.COUNT],
+                (totals, r) -> {
+                    TimeSlot slot = TimeSlot.parse(r.getTime());
+                    if (slot != null) {
+                        totals[slot.index()] += r.getStudentCount();
+                    }
+                },
+                (left, right) -> {
+                    for (int i = 0; i < left.length; i++) {
+                        left[i] += right[i];
+                    }
+                });
+    }
+
+    /**
+     * 사용자(아이디)별 예약 건수
+     */
+    public Map<String, Long> countByUser() {
+        return analyticsStream().collect(Collectors.groupingByConcurrent(
+                r -> key(r.getUserId()), Collectors.counting()));
+    }
+
+    private Stream<ReservationService.ReservationDTO> analyticsStream() {
+        return size() >= PARALLEL_THRESHOLD ? parallelStream() : stream();
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,61 @@
+package iterator;
+
+/**
+ * [Iterator Pattern: ConcreteIterator - 분할 가능]
+ * ReservationGroup의 목록을 인덱스 범위로 순회하는 Spliterator입니다.
+ * trySplit()이 범위를 절반씩 나누므로 병렬 스트림(fork/join)이 여러 코어에 나눠 처리할 수 있습니다.
+ * 크기를 미리 알고(SIZED) 나눈 조각의 크기도 정확합니다(SUBSIZED).
+ */
+import Service.ReservationService;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+public class ReservationSpliterator implements Spliterator<ReservationService.ReservationDTO> {
+    private final List<ReservationService.ReservationDTO> reservations; // RandomAccess 목록
+    private int position;
+    private final int end;
+
+    ReservationSpliterator(List<ReservationService.ReservationDTO> reservations, int start, int end) {
+        this.reservations = reservations;
+        this.position = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ReservationService.ReservationDTO> action) {
+        if (position < end) {
+            action.accept(reservations.get(position++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super ReservationService.ReservationDTO> action) {
+        for (; position < end; position++) {
+            action.accept(reservations.get(position));
+        }
+    }
+
+    @Override
+    public Spliterator<ReservationService.ReservationDTO> trySplit() {
+        int mid = (position + end) >>> 1;
+        if (mid <= position) {
+            return null;
+        }
+        Spliterator<ReservationService.ReservationDTO> prefix = new ReservationSpliterator(reservations, position, mid);
+        position = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
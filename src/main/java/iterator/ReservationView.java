@@ -0,0 +1,53 @@
+package iterator;
+
+/**
+ * ReservationColumns 한 행을 읽는 재사용 뷰 (Flyweight)
+ * ReservationDTO와 같은 getter를 제공하지만 값은 열 배열에서 그때그때 읽습니다.
+ * ReservationColumnsIterator가 다음 행으로 옮기므로 다음 next() 전까지만 유효합니다.
+ */
+import Model.TimeSlot;
+import Model.Weekday;
+import Service.ReservationService;
+import java.time.LocalDate;
+
+public final class ReservationView {
+    private final ReservationColumns columns;
+    private int row = -1;
+
+    ReservationView(ReservationColumns columns) {
+        this.columns = columns;
+    }
+
+    ReservationView moveTo(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public String getFileType() { return columns.fileTypes.decode(columns.fileTypeCodes[row]); }
+    public String getUserId() { return columns.users.decode(columns.userCodes[row]); }
+    public String getName() { return columns.names.decode(columns.nameCodes[row]); }
+    public String getRoom() { return columns.rooms.decode(columns.roomCodes[row]); }
+    public String getPurpose() { return columns.purposes.decode(columns.purposeCodes[row]); }
+    public String getRole() { return columns.roles.decode(columns.roleCodes[row]); }
+    public int getStudentCount() { return columns.headcounts[row]; }
+
+    public long getEpochDay() { return columns.epochDays[row]; }
+    public LocalDate getLocalDate() { return LocalDate.ofEpochDay(columns.epochDays[row]); }
+    public Weekday getWeekday() { return Weekday.of(getLocalDate()); }
+    public TimeSlot getSlot() { return TimeSlot.of(columns.slots[row] + 1); }
+
+    /** yyyy-MM-dd */
+    public String getDate() { return getLocalDate().toString(); }
+    /** "월요일" */
+    public String getDay() { return getWeekday().fullName(); }
+    /** "N교시(HH:MM~HH:MM)" */
+    public String getTime() { return getSlot().label(); }
+
+    /**
+     * 현재 행을 독립된 DTO로 복사 (뷰는 다음 행으로 옮겨지므로 보관할 때 사용)
+     */
+    public ReservationService.ReservationDTO toDTO() {
+        return new ReservationService.ReservationDTO(getFileType(), getUserId(), getName(), getRoom(),
+                getDate(), getDay(), getTime(), getPurpose(), getRole(), getStudentCount());
+    }
+}
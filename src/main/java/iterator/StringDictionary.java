@@ -0,0 +1,41 @@
+package iterator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 ↔ 정수 코드 사전 (ReservationColumns 내부용)
+ * 반복되는 값(강의실, 예약자, 목적 등)은 한 번만 저장하고 행에는 코드만 보관합니다.
+ */
+class StringDictionary {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /** 값의 코드 (처음 보는 값이면 새 코드 발급, null은 빈 문자열로 저장) */
+    int encode(String value) {
+        String key = value == null ? "" : value;
+        Integer code = codes.get(key);
+        if (code == null) {
+            code = values.size();
+            codes.put(key, code);
+            values.add(key);
+        }
+        return code;
+    }
+
+    /** 이미 있는 값의 코드, 없으면 -1 (조회 조건용 - 사전을 늘리지 않음) */
+    int find(String value) {
+        Integer code = codes.get(value == null ? "" : value);
+        return code == null ? -1 : code;
+    }
+
+    String decode(int code) {
+        return values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
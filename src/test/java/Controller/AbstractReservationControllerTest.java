@@ -348,7 +348,43 @@ public class AbstractReservationControllerTest {
         assertFalse(result, "날짜가 null이면 검증 실패해야 함");
     }
 
- 
+    // ============================================================
+    // 4. 조회 세대/디바운스 검증
+    // ============================================================
+
+    @Test
+    @DisplayName("새 조회가 시작되면 이전 세대의 조회는 무효가 된다")
+    void testNewerRefreshSupersedesOlder() {
+        TestController controller = new TestController();
+
+        long first = controller.nextRefreshGeneration();
+        long second = controller.nextRefreshGeneration();
+
+        assertTrue(controller.isSuperseded(first), "이전 세대 결과는 버려야 함");
+        assertFalse(controller.isSuperseded(second), "최신 세대 결과는 반영해야 함");
+    }
+
+    @Test
+    @DisplayName("연달아 바뀐 선택은 마지막 것 하나만 조회한다")
+    void testScheduleRefreshDebounces() throws Exception {
+        List<String> refreshed = Collections.synchronizedList(new ArrayList<>());
+        TestController controller = new TestController() {
+            @Override
+            protected void refreshReservationAndAvailability(String roomName) {
+                refreshed.add(roomName);
+            }
+        };
+
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 1; i <= 10; i++) {
+                controller.scheduleRefresh("90" + i + "호");
+            }
+        });
+        Thread.sleep(600);
+
+        assertEquals(List.of("9010호"), refreshed);
+    }
+
 
     /**
      * 호출 추적용 Controller
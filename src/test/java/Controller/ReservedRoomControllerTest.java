@@ -134,7 +134,7 @@ class ReservedRoomControllerTest {
         mockSession.setLoggedInUserName("홍길동");
 
         // 가짜 응답 설정
-        when(mockDispatcher.waitForResponse(anyInt()))
+        when(mockDispatcher.waitForResponse())
             .thenReturn("홍길동,101호,2025-11-27,목요일,1교시(09:00~10:00),수업,학생,예약됨,3,S123")
             .thenReturn("END_OF_RESERVATION");
 
@@ -181,7 +181,7 @@ class ReservedRoomControllerTest {
         mockSession.setLoggedInUserId("P456");
         mockSession.setLoggedInUserName("김교수");
 
-        when(mockDispatcher.waitForResponse(anyInt()))
+        when(mockDispatcher.waitForResponse())
             .thenReturn("김교수,101호,2025-11-27,목요일,2교시(10:00~11:00),강의,교수,예약됨,1,P456")
             .thenReturn("END_OF_RESERVATION");
 
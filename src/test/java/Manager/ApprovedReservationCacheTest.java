@@ -0,0 +1,73 @@
+package Manager;
+
+import Service.ReservationService.ReservationDTO;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 승인 예약 목록 캐시 테스트
+ * - 같은 사용자/연결이면 전체 조회 없이 목록 반환
+ * - 변경/취소 결과는 로컬에서 제거, 내용을 모르는 변경은 버전을 올려 전체 다시 조회
+ */
+class ApprovedReservationCacheTest {
+
+    private final Object connection = new Object();
+
+    private static ReservationDTO reservation(String room, String date, String time) {
+        return new ReservationDTO("CLASS", "S123", "홍길동", room, date, "화", time, "스터디", "학생", 4);
+    }
+
+    private static List<ReservationDTO> sample() {
+        return List.of(
+                reservation("908호", "2025-11-25", "2교시(10:00~11:00)"),
+                reservation("908호", "2025-11-25", "3교시(11:00~12:00)"),
+                reservation("911호", "2025-11-26", "1교시(09:00~10:00)"));
+    }
+
+    @Test
+    @DisplayName("같은 사용자/연결에만 캐시된 목록 반환")
+    void testScopedToUserAndConnection() {
+        ApprovedReservationCache cache = new ApprovedReservationCache();
+        assertNull(cache.get("S123", connection), "처음에는 전체 조회 필요");
+
+        cache.put("S123", connection, sample(), cache.version());
+        assertEquals(3, cache.get("S123", connection).size());
+        assertNull(cache.get("S999", connection), "다른 사용자");
+        assertNull(cache.get("S123", new Object()), "다른 연결 (다시 로그인)");
+    }
+
+    @Test
+    @DisplayName("변경/취소된 예약은 목록에서 바로 제거 (전체 다시 조회 없음)")
+    void testLocalRemoval() {
+        ApprovedReservationCache cache = new ApprovedReservationCache();
+        cache.put("S123", connection, sample(), cache.version());
+
+        cache.remove(reservation("908", "2025-11-25", "3교시"));
+
+        List<ReservationDTO> list = cache.get("S123", connection);
+        assertNotNull(list, "버전은 그대로");
+        assertEquals(2, list.size());
+        assertTrue(list.stream().noneMatch(r -> r.getTime().startsWith("3교시")));
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 전체 다시 조회, 조회 중 버전이 바뀐 결과는 버림")
+    void testVersionMismatch() {
+        ApprovedReservationCache cache = new ApprovedReservationCache();
+        cache.put("S123", connection, sample(), cache.version());
+
+        cache.invalidate(); // 새 승인 알림 등
+        assertNull(cache.get("S123", connection));
+
+        long version = cache.version();
+        cache.invalidate(); // 조회 중에 또 변경
+        cache.put("S123", connection, sample(), version);
+        assertNull(cache.get("S123", connection), "낡았을 수 있는 결과는 캐시하지 않음");
+
+        cache.put("S123", connection, sample().subList(0, 1), cache.version());
+        assertEquals(1, cache.get("S123", connection).size());
+    }
+}
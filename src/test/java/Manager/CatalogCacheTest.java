@@ -0,0 +1,177 @@
+package Manager;
+
+import Model.Session;
+import Util.MessageDispatcher;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 강의실 카탈로그 캐시 테스트 (루프백 소켓의 가짜 서버 사용)
+ * - 두 번째 화면부터는 서버 요청 없이 캐시 사용
+ * - 조건부 조회로 바뀌지 않았으면 목록을 다시 받지 않음
+ * - 강의실 변경 알림을 받으면 무효화 후 새 목록 로드
+ * - 조건부 조회를 모르는 서버는 전체 조회로 대체 (응답 없이 무시하는 서버 포함)
+ */
+class CatalogCacheTest {
+
+    private ServerSocket serverSocket;
+    private Socket client;
+    private volatile PrintWriter serverOut;
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private volatile boolean conditionalSupported = true;
+    private volatile boolean conditionalIgnored = false;
+    private volatile long serverVersion = 7;
+    private volatile String classroomsReply = "CLASSROOMS,908호,CLASS,30,912호,CLASS,40";
+
+    private ClientClassroomManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        System.setProperty("heartbeat.interval.ms", "0");
+        MessageDispatcher.resetForTest();
+        manager = ClientClassroomManager.getInstance();
+        manager.clear();
+
+        serverSocket = new ServerSocket(0, 5, InetAddress.getLoopbackAddress());
+        client = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        startFakeServer();
+
+        Session session = Session.getInstance();
+        session.setSocket(client);
+        session.setIn(new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8)));
+        session.setOut(new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8), true));
+        MessageDispatcher.startDispatcher(session.getIn());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        MessageDispatcher.resetForTest();
+        System.clearProperty("heartbeat.interval.ms");
+        manager.clear();
+        Session.getInstance().setSocket(null);
+        Session.getInstance().setIn(null);
+        Session.getInstance().setOut(null);
+        client.close();
+        serverSocket.close();
+    }
+
+    private void startFakeServer() {
+        Thread t = new Thread(() -> {
+            try (Socket socket = serverSocket.accept()) {
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+                serverOut = out;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    received.add(line);
+                    if (line.startsWith("GET_CATALOG_IF_CHANGED,")) {
+                        if (conditionalIgnored) {
+                            continue; // 모르는 명령은 응답하지 않는 서버
+                        }
+                        if (!conditionalSupported) {
+                            out.println("UNKNOWN_COMMAND");
+                        } else if (Long.parseLong(line.substring(line.indexOf(',') + 1)) == serverVersion) {
+                            out.println("CATALOG_UNCHANGED," + serverVersion);
+                        } else {
+                            out.println("CATALOG_CHANGED," + serverVersion);
+                        }
+                    } else if (line.equals("GET_CLASSROOMS")) {
+                        out.println(classroomsReply);
+                    } else if (line.equals("GET_LABS")) {
+                        out.println("LABS,911호,LAB,30");
+                    }
+                }
+            } catch (Exception ignored) {
+                // 테스트 종료
+            }
+        }, "FakeCatalogServer");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private long count(String line) {
+        return received.stream().filter(line::equals).count();
+    }
+
+    @Test
+    @DisplayName("첫 로드 후 화면 열기는 캐시 적중, 재검증은 버전이 같으면 목록을 다시 받지 않음")
+    void testCacheHitAndConditionalRevalidation() {
+        assertTrue(manager.refreshFromServer());
+        assertEquals(List.of("GET_CATALOG_IF_CHANGED,-1", "GET_CLASSROOMS", "GET_LABS"), received);
+        assertEquals(7, manager.getCatalogVersion());
+        assertArrayEquals(new String[]{"908호", "912호"}, manager.getClassroomNames());
+
+        assertTrue(manager.refreshFromServer());
+        assertTrue(manager.refreshFromServer());
+        assertEquals(3, received.size(), "신선한 캐시는 서버 요청 없음");
+
+        assertTrue(manager.reload());
+        assertEquals("GET_CATALOG_IF_CHANGED,7", received.get(3));
+        assertEquals(1, count("GET_CLASSROOMS"), "버전이 같으면 목록 재조회 없음");
+    }
+
+    @Test
+    @DisplayName("강의실 변경 알림을 받으면 무효화되고 다음 화면은 새 목록을 받음")
+    void testPushInvalidation() throws Exception {
+        assertTrue(manager.refreshFromServer());
+
+        serverVersion = 8;
+        classroomsReply = "CLASSROOMS,908호,CLASS,30";
+        serverOut.println("NOTIFICATION,ROOM_DELETED,강의실이 삭제되었습니다,912호,-,-,-");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (manager.getCatalogVersion() != 8 && System.nanoTime() < deadline) {
+            assertTrue(manager.refreshFromServer());
+            Thread.sleep(20);
+        }
+
+        assertEquals(8, manager.getCatalogVersion());
+        assertArrayEquals(new String[]{"908호"}, manager.getClassroomNames());
+        assertEquals(2, count("GET_CLASSROOMS"));
+    }
+
+    @Test
+    @DisplayName("조건부 조회를 모르는 서버는 전체 조회로 대체하고 다시 묻지 않음")
+    void testFallbackWhenConditionalUnsupported() {
+        conditionalSupported = false;
+
+        assertTrue(manager.refreshFromServer());
+        assertArrayEquals(new String[]{"911호"}, manager.getLabNames());
+        assertTrue(manager.refreshFromServer());
+
+        assertTrue(manager.reload());
+        assertEquals(1, count("GET_CATALOG_IF_CHANGED,-1"));
+        assertEquals(2, count("GET_CLASSROOMS"));
+        assertEquals(2, count("GET_LABS"));
+    }
+
+    @Test
+    @DisplayName("조건부 조회에 응답하지 않는 서버는 한 번만 기다리고 이후 전체 조회")
+    void testFallbackWhenConditionalIgnored() {
+        conditionalIgnored = true;
+        // 초기 타임아웃(10초) 대신 최소 타임아웃으로 기다리도록 RTT 표본 기록
+        MessageDispatcher.getTimeoutPolicy().recordSample("GET_CATALOG_IF_CHANGED", TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertTrue(manager.refreshFromServer());
+        assertArrayEquals(new String[]{"908호", "912호"}, manager.getClassroomNames());
+
+        long start = System.nanoTime();
+        assertTrue(manager.reload());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000, "두 번째 로드는 무응답을 기다리지 않음");
+        assertEquals(1, received.stream().filter(line -> line.startsWith("GET_CATALOG_IF_CHANGED")).count());
+        assertEquals(2, count("GET_CLASSROOMS"));
+    }
+}
@@ -0,0 +1,63 @@
+package Manager;
+
+import common.dto.ClassroomDTO;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 카탈로그 스냅샷 테스트
+ * - 로드 시 한 번 만든 정렬/분류 결과를 그대로 반환
+ * - 반환값을 바꿔도 스냅샷은 그대로
+ */
+class CatalogSnapshotTest {
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new CatalogSnapshot(List.of(
+                new ClassroomDTO("912호", "CLASS", 40),
+                new ClassroomDTO("911호", "LAB", 30),
+                new ClassroomDTO("908호", "CLASS", 30),
+                new ClassroomDTO("915호", "LAB", 60)), 3);
+    }
+
+    @Test
+    @DisplayName("강의실/실습실을 나눠 이름순으로 미리 정렬, 전체 목록은 강의실 먼저")
+    void testPartitionedAndSorted() {
+        assertArrayEquals(new String[]{"908호", "912호"}, snapshot.classroomNames());
+        assertArrayEquals(new String[]{"911호", "915호"}, snapshot.labNames());
+        assertEquals(List.of("908호", "912호"), snapshot.classroomNameList());
+        assertEquals(List.of("908호", "912호", "911호", "915호"),
+                snapshot.allRooms().stream().map(dto -> dto.name).toList());
+        assertEquals(40, snapshot.get("912호").capacity);
+        assertEquals(3, snapshot.version);
+    }
+
+    @Test
+    @DisplayName("허용 인원 조건 검색은 허용 인원 오름차순")
+    void testRoomsAllowing() {
+        assertEquals(List.of("908호", "911호", "912호", "915호"),
+                snapshot.roomsAllowing(0).stream().map(dto -> dto.name).toList());
+        assertEquals(List.of("912호", "915호"),
+                snapshot.roomsAllowing(16).stream().map(dto -> dto.name).toList());
+        assertEquals(List.of("915호"),
+                snapshot.roomsAllowing(30).stream().map(dto -> dto.name).toList());
+        assertTrue(snapshot.roomsAllowing(31).isEmpty());
+    }
+
+    @Test
+    @DisplayName("반환된 배열/목록을 바꿔도 스냅샷은 변하지 않음")
+    void testImmutable() {
+        String[] names = snapshot.classroomNames();
+        names[0] = "변경";
+        assertEquals("908호", snapshot.classroomNames()[0]);
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.labNameList().add("999호"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.allRooms().clear());
+        assertEquals(0, CatalogSnapshot.EMPTY.size());
+    }
+}
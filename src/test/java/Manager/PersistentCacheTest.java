@@ -0,0 +1,104 @@
+package Manager;
+
+import common.dto.ClassroomDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 디스크 캐시 파일 테스트
+ * - 저장한 카탈로그/주간 예약을 그대로 다시 읽음 (읽은 뒤 바로 다시 저장 가능)
+ * - 체크섬/형식 버전이 맞지 않으면 통째로 무시
+ * - 복원한 주는 바로 쓸 수 있지만 "서버 확인 전"으로 취급
+ */
+class PersistentCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 24);
+
+    @TempDir
+    Path dir;
+
+    private static PersistentCache.Contents sample() {
+        Map<String, Map<LocalDate, Map<String, String>>> weeks = new LinkedHashMap<>();
+        weeks.computeIfAbsent("908호", r -> new LinkedHashMap<>())
+             .put(MONDAY, Map.of("2025-11-25_화_2교시", "예약됨", "2025-11-26_수_3교시", "대기중"));
+        weeks.computeIfAbsent("911호", r -> new LinkedHashMap<>()).put(MONDAY.plusWeeks(1), Map.of());
+        return new PersistentCache.Contents("127.0.0.1:5000", 1_000L, 7,
+                List.of(new ClassroomDTO("908호", "CLASS", 30), new ClassroomDTO("911호", "LAB", 40)), weeks);
+    }
+
+    @Test
+    @DisplayName("저장 후 다시 읽으면 같은 내용")
+    void testRoundTrip() {
+        PersistentCache cache = new PersistentCache(dir.resolve("cache.bin"), 32, 60_000);
+        cache.write(sample());
+
+        PersistentCache.Contents read = cache.read();
+        assertNotNull(read);
+        assertEquals("127.0.0.1:5000", read.serverKey);
+        assertEquals(7, read.catalogVersion);
+        assertEquals(1_000L, read.savedAtMillis);
+        assertEquals(List.of("908호", "911호"), read.rooms.stream().map(dto -> dto.name).toList());
+        assertEquals(40, read.rooms.get(1).capacity);
+        assertEquals("LAB", read.rooms.get(1).type);
+        assertEquals("대기중", read.weeks.get("908호").get(MONDAY).get("2025-11-26_수_3교시"));
+        assertTrue(read.weeks.get("911호").get(MONDAY.plusWeeks(1)).isEmpty());
+        assertFalse(Files.exists(dir.resolve("cache.bin.tmp")), "임시 파일은 교체 후 남지 않음");
+
+        // 읽은 파일을 붙잡고 있지 않으므로 바로 다시 저장(교체) 가능
+        cache.write(sample());
+        assertNotNull(cache.read());
+        assertFalse(Files.exists(dir.resolve("cache.bin.tmp")));
+    }
+
+    @Test
+    @DisplayName("본문이 손상되거나 형식 버전이 다르면 무시")
+    void testCorruptionAndVersionMismatch() throws Exception {
+        ByteBuffer encoded = PersistentCache.encode(sample());
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+
+        byte[] corrupted = bytes.clone();
+        corrupted[corrupted.length - 3] ^= 0x5A;
+        assertNull(PersistentCache.decode(ByteBuffer.wrap(corrupted)));
+
+        byte[] newerFormat = bytes.clone();
+        newerFormat[5] = (byte) (PersistentCache.FORMAT_VERSION + 1);
+        assertNull(PersistentCache.decode(ByteBuffer.wrap(newerFormat)));
+
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length - 10);
+        assertNull(PersistentCache.decode(ByteBuffer.wrap(truncated)));
+
+        Path file = dir.resolve("garbage.bin");
+        Files.write(file, new byte[]{1, 2, 3});
+        assertNull(new PersistentCache(file, 32, 60_000).read());
+        assertNotNull(PersistentCache.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    @DisplayName("복원한 주는 조회되지만 선행 조회 판단에서는 신선하지 않음, 저장은 최근 사용 순")
+    void testRestoredWeeks() {
+        WeeklyReservationCache weeks = new WeeklyReservationCache(8, 60_000);
+        weeks.restore("908호", MONDAY, Map.of("2025-11-25_화_2교시", "예약됨"));
+
+        WeeklyReservationCache.Week week = weeks.get("908호", MONDAY);
+        assertNotNull(week);
+        assertTrue(week.isRestored());
+        assertFalse(weeks.containsFresh("908호", MONDAY));
+
+        weeks.put("911호", MONDAY, new WeeklyReservationCache.Week(Map.of()), weeks.generation());
+        weeks.restore("911호", MONDAY, Map.of("x", "예약됨"));
+        assertFalse(weeks.get("911호", MONDAY).isRestored(), "서버에서 받은 항목은 덮어쓰지 않음");
+        assertEquals(List.of("911호|2025-11-24", "908호|2025-11-24"), List.copyOf(weeks.recent(8).keySet()));
+        assertEquals(1, weeks.recent(1).size());
+    }
+}
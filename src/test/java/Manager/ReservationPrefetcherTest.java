@@ -0,0 +1,52 @@
+package Manager;
+
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주간 예약 선행 조회 대상 선정 테스트
+ * - 다음 주 → 다음 강의실 → 이전 주 → 이전 강의실 순
+ * - 목록 끝의 강의실/목록에 없는 강의실, 최대 건수 제한
+ */
+class ReservationPrefetcherTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 24);
+    private static final List<String> ROOMS = List.of("선택", "908호", "911호", "912호");
+
+    private static List<String> describe(List<ReservationPrefetcher.Target> targets) {
+        return targets.stream().map(ReservationPrefetcher.Target::toString).toList();
+    }
+
+    @Test
+    @DisplayName("자주 이동하는 순서대로 이웃 주/강의실 선정")
+    void testPlanOrder() {
+        assertEquals(List.of(
+                "911호 2025-12-01",
+                "912호 2025-11-24",
+                "911호 2025-11-17",
+                "908호 2025-11-24"),
+                describe(ReservationPrefetcher.plan("911호", MONDAY, ROOMS, 4)));
+    }
+
+    @Test
+    @DisplayName("목록 끝이거나 목록에 없는 강의실은 주 이동만")
+    void testPlanBoundaries() {
+        assertEquals(List.of("912호 2025-12-01", "912호 2025-11-17", "911호 2025-11-24"),
+                describe(ReservationPrefetcher.plan("912호", MONDAY, ROOMS, 4)));
+        assertEquals(List.of("999호 2025-12-01", "999호 2025-11-17"),
+                describe(ReservationPrefetcher.plan("999호", MONDAY, ROOMS, 4)));
+        assertEquals(List.of("911호 2025-12-01", "911호 2025-11-17"),
+                describe(ReservationPrefetcher.plan("911호", MONDAY, null, 4)));
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘지 않음")
+    void testPlanMaxItems() {
+        assertEquals(List.of("911호 2025-12-01", "912호 2025-11-24"),
+                describe(ReservationPrefetcher.plan("911호", MONDAY, ROOMS, 2)));
+    }
+}
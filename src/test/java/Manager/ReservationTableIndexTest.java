@@ -0,0 +1,78 @@
+package Manager;
+
+import org.junit.jupiter.api.*;
+
+import javax.swing.table.DefaultTableModel;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 예약 표 보조 색인 테스트
+ * - 강의실/날짜/아이디 조건은 색인 교집합, 기간 조건은 날짜순
+ * - 표에는 조건에 맞는 행만 표시, 지운 행은 색인에서도 제외
+ */
+class ReservationTableIndexTest {
+
+    private ReservationTableIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReservationTableIndex();
+        // userId,time,day,date,room,name,count
+        add("S2021001", "2025-11-28", "908호");
+        add("S2021002", "2025-11-24", "908호");
+        add("S2021001", "2025-11-24", "911호");
+        add("S2021001", "2025-12-01", "908호");
+        add("P1001", "", "908호");
+    }
+
+    private void add(String userId, String date, String room) {
+        Object[] row = {userId, "1교시(09:00~10:00)", "월요일", date, room, "홍길동", "1"};
+        index.add(row, userId, room, date, null);
+    }
+
+    @Test
+    @DisplayName("강의실/아이디/기간 조건은 교집합, 강의실 이름은 정규화")
+    void testQueryIntersection() {
+        assertArrayEquals(new int[]{0, 1, 3, 4}, index.query(ReservationTableIndex.Query.all().room("908")));
+        assertArrayEquals(new int[]{0, 3}, index.query(ReservationTableIndex.Query.all()
+                .room("908호").user("S2021001")));
+        assertArrayEquals(new int[]{1, 0}, index.query(ReservationTableIndex.Query.all().room("908")
+                .dates(LocalDate.of(2025, 11, 24), LocalDate.of(2025, 11, 30))));
+        assertEquals(0, index.query(ReservationTableIndex.Query.all().room("101")).length);
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    @DisplayName("필터 문자열: 날짜/월/기간, 아는 아이디(대소문자 무시), 나머지는 강의실")
+    void testParseFilter() {
+        assertArrayEquals(new int[]{1, 2, 0}, index.query(index.parse("2025-11")));
+        assertArrayEquals(new int[]{2, 0}, index.query(index.parse("s2021001 2025-11-30~2025-11-20 ")));
+        assertArrayEquals(new int[]{2}, index.query(index.parse("911 2025-11-24")));
+        assertArrayEquals(new int[]{4}, index.query(index.parse("P1001")));
+        assertEquals(5, index.query(index.parse("  ")).length);
+        assertNull(ReservationTableIndex.parseRange("908"));
+    }
+
+    @Test
+    @DisplayName("표에는 맞는 행만 한 번에 표시, 지운 행은 다시 표시하지 않음")
+    void testRenderAndRemove() {
+        DefaultTableModel model = new DefaultTableModel(
+                new Object[]{"아이디", "시간", "요일", "날짜", "강의실", "이름", "인원"}, 0);
+
+        assertEquals(4, index.render(model, index.parse("908")));
+        assertEquals(4, model.getRowCount());
+        assertEquals(7, model.getColumnCount());
+        assertEquals("2025-11-24", model.getValueAt(1, 3));
+
+        assertTrue(index.removeVisibleRow(1));
+        model.removeRow(1);
+        assertFalse(index.removeVisibleRow(3));
+        assertEquals(4, index.size());
+
+        assertEquals(3, index.render(model, index.parse("908")));
+        assertEquals("2025-12-01", model.getValueAt(1, 3));
+        assertEquals(4, index.render(model, index.parse("")));
+    }
+}
@@ -0,0 +1,107 @@
+package Manager;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 강의실 상태 표 테스트
+ * - 일괄 조회 한 번 뒤에는 모든 강의실 확인이 로컬 읽기
+ * - 서버가 일괄 조회를 모르면 강의실별 CHECK_ROOM_STATUS 결과를 캐시
+ * - 첫 일괄 조회가 무응답이면 이후 강의실별 조회, 알 수 없는 응답으로는 미지원 판단하지 않음
+ * - 강의실 무효화/카탈로그 버전 변경 시 다시 확인
+ */
+class RoomStatusCacheTest {
+
+    private final List<String> sent = new ArrayList<>();
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+
+    private RoomStatusCache cacheReplying(Function<String, String> server) {
+        return new RoomStatusCache(60_000, command -> {
+            sent.add(command);
+            return server.apply(command);
+        }, catalogVersion::get);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 한 번으로 모든 강의실 상태를 로컬에서 읽음")
+    void testBulkTable() {
+        RoomStatusCache cache = cacheReplying(command ->
+                command.startsWith("GET_ROOM_STATUSES") ? "ROOM_STATUSES,3,908호=AVAILABLE,911호=UNAVAILABLE" : null);
+
+        assertTrue(cache.isAvailable("908"));
+        assertFalse(cache.isAvailable("911호"));
+        assertTrue(cache.isAvailable("908호"));
+
+        assertEquals(List.of("GET_ROOM_STATUSES,-1"), sent);
+        assertEquals(2, cache.hitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 미지원 서버 - 강의실별 확인 결과를 캐시하고 일괄 조회는 다시 시도하지 않음")
+    void testPerRoomFallback() {
+        RoomStatusCache cache = cacheReplying(command ->
+                command.startsWith("GET_ROOM_STATUSES") ? "UNKNOWN_COMMAND"
+                        : command.endsWith("911호") ? "UNAVAILABLE" : "AVAILABLE");
+
+        assertTrue(cache.isAvailable("908호"));
+        assertTrue(cache.isAvailable("908호"));
+        assertFalse(cache.isAvailable("911호"));
+        assertFalse(cache.isAvailable("911호"));
+
+        assertEquals(List.of("GET_ROOM_STATUSES,-1", "CHECK_ROOM_STATUS,908호", "CHECK_ROOM_STATUS,911호"), sent);
+    }
+
+    @Test
+    @DisplayName("강의실 무효화는 그 강의실만, 카탈로그 버전 변경은 표 전체를 다시 확인")
+    void testInvalidation() {
+        RoomStatusCache cache = cacheReplying(command ->
+                command.startsWith("GET_ROOM_STATUSES") ? "ROOM_STATUSES,3,908호=AVAILABLE,911호=AVAILABLE"
+                        : "UNAVAILABLE");
+        assertTrue(cache.isAvailable("908호"));
+
+        // 관리자가 911호를 사용 불가로 변경
+        cache.invalidate("911");
+        assertFalse(cache.isAvailable("911호"));
+        assertTrue(cache.isAvailable("908호"));
+        assertEquals(List.of("GET_ROOM_STATUSES,-1", "CHECK_ROOM_STATUS,911호"), sent);
+
+        catalogVersion.incrementAndGet();
+        assertTrue(cache.isAvailable("908호"));
+        assertEquals("GET_ROOM_STATUSES,-1", sent.get(sent.size() - 1));
+        assertEquals(3, sent.size());
+    }
+
+    @Test
+    @DisplayName("첫 일괄 조회가 무응답이면 이후에는 강의실별 확인")
+    void testTimedOutProbeFallsBack() {
+        RoomStatusCache cache = cacheReplying(command ->
+                command.startsWith("GET_ROOM_STATUSES") ? null : "UNAVAILABLE");
+
+        assertTrue(cache.isAvailable("908호"), "응답이 없으면 서버가 예약 시 판단");
+        assertFalse(cache.isAvailable("908호"));
+        assertFalse(cache.isAvailable("908호"));
+
+        assertEquals(List.of("GET_ROOM_STATUSES,-1", "CHECK_ROOM_STATUS,908호"), sent);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 일괄 조회 응답은 미지원으로 단정하지 않음")
+    void testUnexpectedReplyKeepsProbing() {
+        RoomStatusCache cache = cacheReplying(command ->
+                command.startsWith("GET_ROOM_STATUSES") ? "PENDING_COUNT:3" : "AVAILABLE");
+
+        assertTrue(cache.isAvailable("908호"));
+        cache.invalidate("908호");
+        assertTrue(cache.isAvailable("908호"));
+
+        assertEquals(List.of("GET_ROOM_STATUSES,-1", "CHECK_ROOM_STATUS,908호",
+                "GET_ROOM_STATUSES,-1", "CHECK_ROOM_STATUS,908호"), sent);
+    }
+}
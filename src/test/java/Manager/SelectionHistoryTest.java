@@ -0,0 +1,90 @@
+package Manager;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사용 기록 기반 예측 테스트
+ * - 가장 자주/최근 쓴 강의실, 그 강의실의 요일/교시로 예측
+ * - 기록은 사용자별 파일에 남아 다음 로그인에서 그대로 사용
+ */
+class SelectionHistoryTest {
+
+    // 2025-11-24 = 월요일
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 24);
+    private static final String SECOND = "2교시(10:00~11:00)";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("매주 화요일 908호 2교시를 예약하면 다음 화요일 908호 2교시로 예측")
+    void testPredictHabit() {
+        SelectionHistory history = new SelectionHistory(dir, 100);
+        history.startSession("P001");
+        for (int week = 0; week < 4; week++) {
+            history.record("908호", LocalDate.of(2025, 10, 28).plusWeeks(week), SECOND);
+        }
+        history.record("912호", LocalDate.of(2025, 11, 20), "5교시(13:00~14:00)");
+
+        SelectionHistory.Prediction prediction = history.predict(List.of("908호", "912호"), TODAY);
+        assertEquals("908호", prediction.room);
+        assertEquals(LocalDate.of(2025, 11, 25), prediction.date);
+        assertEquals(SECOND, prediction.time);
+
+        // 이 화면에 없는 강의실은 예측하지 않음
+        assertEquals("912호", history.predict(List.of("912호"), TODAY).room);
+        assertNull(history.predict(List.of("911호"), TODAY));
+    }
+
+    @Test
+    @DisplayName("기록은 파일에 남아 다음 세션에서 다시 읽힘, 로그인 전에는 기록하지 않음")
+    void testPersistedPerUser() throws Exception {
+        SelectionHistory history = new SelectionHistory(dir, 100);
+        history.record("908호", TODAY, SECOND);
+        assertEquals(0, history.size());
+
+        history.startSession("P001");
+        history.record("908호", TODAY.plusDays(1), SECOND);
+        history.endSession();
+        assertNull(history.predict(null, TODAY));
+
+        Files.writeString(dir.resolve("P001.history"), "깨진 줄\n", java.nio.file.StandardOpenOption.APPEND);
+        SelectionHistory reloaded = new SelectionHistory(dir, 100);
+        reloaded.startSession("P001");
+        assertEquals(1, reloaded.size(), "손상된 줄은 건너뜀");
+        assertEquals("908호", reloaded.predict(null, TODAY).room);
+
+        reloaded.startSession("S002");
+        assertEquals(0, reloaded.size(), "다른 사용자 기록은 따로");
+    }
+
+    @Test
+    @DisplayName("로그인 시 미리 조회할 강의실-주는 점수 순, 오래된 기록은 최대 건수로 정리")
+    void testLikelyTargetsAndTrim() {
+        SelectionHistory history = new SelectionHistory(dir, 3);
+        history.startSession("P001");
+        history.record("911호", TODAY.plusDays(3), SECOND);
+        history.record("908호", TODAY.plusDays(1), SECOND);
+        history.record("908호", TODAY.plusDays(8), SECOND);
+
+        List<ReservationPrefetcher.Target> targets = history.likelyTargets(2, TODAY);
+        assertEquals(List.of("908호 2025-11-24", "911호 2025-11-24"),
+                targets.stream().map(ReservationPrefetcher.Target::toString).toList());
+
+        for (int i = 0; i < 4; i++) {
+            history.record("912호", TODAY.plusDays(2), SECOND);
+        }
+        history.startSession("P001");
+        assertEquals(3, history.size());
+        assertEquals(List.of("912호 2025-11-24"),
+                history.likelyTargets(2, TODAY).stream().map(ReservationPrefetcher.Target::toString).toList());
+    }
+}
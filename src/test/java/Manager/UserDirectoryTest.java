@@ -0,0 +1,63 @@
+package Manager;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 사용자 목록 색인 테스트
+ * - 아이디 접두어(S/P/A)와 이름 접두어로 서버 요청 없이 검색
+ * - 수정/삭제 결과는 해당 사용자만 고침
+ */
+class UserDirectoryTest {
+
+    private UserDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new UserDirectory(500, 60_000);
+        directory.addAll(List.of(
+                UserDirectory.parse("홍길동,S2021001,pw1"),
+                UserDirectory.parse("김교수,P1001,pw2"),
+                UserDirectory.parse("홍길순,S2021002,pw3"),
+                UserDirectory.parse("관리자,A001,pw4")));
+    }
+
+    private static List<String> ids(List<UserDirectory.User> users) {
+        return users.stream().map(u -> u.id).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("아이디 접두어로 구분별 검색 (대소문자 무시), 빈 검색어는 전체")
+    void testIdPrefixSearch() {
+        assertEquals(List.of("S2021001", "S2021002"), ids(directory.search("s")));
+        assertEquals(List.of("P1001"), ids(directory.search("P")));
+        assertEquals(List.of("S2021002"), ids(directory.search("S2021002")));
+        assertEquals(4, directory.search("  ").size());
+        assertTrue(directory.search("X").isEmpty());
+    }
+
+    @Test
+    @DisplayName("이름 접두어로 검색, 결과는 아이디 순")
+    void testNamePrefixSearch() {
+        assertEquals(List.of("S2021001", "S2021002"), ids(directory.search("홍길")));
+        assertEquals(List.of("S2021002"), ids(directory.search("홍길순")));
+        assertEquals(List.of("A001"), ids(directory.search("관리")));
+    }
+
+    @Test
+    @DisplayName("수정/삭제 결과를 색인에 바로 반영")
+    void testPatch() {
+        directory.upsert("홍길동2", "S2021001", "newpw");
+        assertTrue(directory.search("홍길동").stream().allMatch(u -> u.name.startsWith("홍길동")));
+        assertEquals("newpw", directory.search("S2021001").get(0).password);
+        assertEquals(List.of("S2021001"), ids(directory.search("홍길동2")));
+
+        directory.remove("S2021002");
+        assertEquals(List.of("S2021001"), ids(directory.search("홍길")));
+        assertEquals(3, directory.size());
+    }
+}
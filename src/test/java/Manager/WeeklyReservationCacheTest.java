@@ -0,0 +1,89 @@
+package Manager;
+
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주간 예약 공유 캐시 테스트
+ * - 크기를 넘으면 가장 오래 안 쓴 (강의실, 주)부터 제거
+ * - 유효 시간이 지난 항목은 없는 것으로 취급
+ * - 무효화는 해당 주만, 조회 중 무효화가 있었으면 결과를 캐시하지 않음
+ * - 칸별 승인 인원을 주 단위로 함께 보관
+ */
+class WeeklyReservationCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 24);
+
+    private static WeeklyReservationCache.Week weekWith(String key) {
+        return new WeeklyReservationCache.Week(Map.of(key, "예약됨"));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 안 쓴 항목 제거")
+    void testLruEviction() {
+        WeeklyReservationCache cache = new WeeklyReservationCache(2, 60_000);
+        cache.put("908호", MONDAY, weekWith("a"), cache.generation());
+        cache.put("909호", MONDAY, weekWith("b"), cache.generation());
+
+        assertNotNull(cache.get("908호", MONDAY)); // 908호를 최근 사용으로
+        cache.put("910호", MONDAY, weekWith("c"), cache.generation());
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("909호", MONDAY), "가장 오래 안 쓴 909호가 제거됨");
+        assertNotNull(cache.get("908호", MONDAY));
+        assertNotNull(cache.get("910호", MONDAY));
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지난 항목은 다시 조회 대상")
+    void testTtlExpiry() throws Exception {
+        WeeklyReservationCache cache = new WeeklyReservationCache(8, 20);
+        cache.put("908호", MONDAY, weekWith("a"), cache.generation());
+        Thread.sleep(40);
+
+        assertNull(cache.get("908호", MONDAY));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("날짜가 속한 주만 무효화, 조회 중 무효화된 결과는 버림")
+    void testInvalidation() {
+        WeeklyReservationCache cache = new WeeklyReservationCache(8, 60_000);
+        cache.put("908", MONDAY, weekWith("a"), cache.generation());
+        cache.put("908호", MONDAY.plusWeeks(1), weekWith("b"), cache.generation());
+
+        cache.invalidate("908호", "2025-11-27"); // 목요일 → 같은 주
+        assertNull(cache.get("908호", MONDAY));
+        assertNotNull(cache.get("908호", MONDAY.plusWeeks(1)), "다른 주는 유지");
+
+        long generation = cache.generation();
+        cache.invalidateRoom("911호");
+        cache.put("908호", MONDAY, weekWith("낡은 결과"), generation);
+        assertNull(cache.get("908호", MONDAY), "조회 중 무효화가 있었으면 캐시하지 않음");
+    }
+
+    @Test
+    @DisplayName("칸별 승인 인원은 캐시된 주에서 바로 읽고, 인원 정보가 없거나 오래되면 -1")
+    void testApprovedHeadcounts() throws Exception {
+        int[][] headcounts = new int[WeeklyReservationCache.Week.DAYS][WeeklyReservationCache.Week.SLOTS];
+        headcounts[3][1] = 12; // 목요일 2교시
+        WeeklyReservationCache cache = new WeeklyReservationCache(8, 50);
+        cache.put("908호", MONDAY, new WeeklyReservationCache.Week(Map.of("2025-11-27_목_2교시", "예약됨"), headcounts),
+                cache.generation());
+        cache.put("911호", MONDAY, weekWith("a"), cache.generation());
+        headcounts[3][1] = 99; // 넘긴 배열을 바꿔도 캐시는 그대로
+
+        assertEquals(12, cache.approvedHeadcount("908", LocalDate.of(2025, 11, 27), 1, false));
+        assertEquals(0, cache.approvedHeadcount("908호", LocalDate.of(2025, 11, 30), 8, false));
+        assertEquals(-1, cache.approvedHeadcount("908호", MONDAY.plusWeeks(1), 0, false), "캐시에 없는 주");
+        assertEquals(-1, cache.approvedHeadcount("911호", MONDAY, 0, false), "인원 정보 없는 주");
+
+        Thread.sleep(80);
+        assertEquals(-1, cache.approvedHeadcount("908호", LocalDate.of(2025, 11, 27), 1, false));
+        assertEquals(12, cache.approvedHeadcount("908호", LocalDate.of(2025, 11, 27), 1, true), "오프라인이면 오래된 값 사용");
+    }
+}
@@ -0,0 +1,48 @@
+package Model;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 교시 값 타입 테스트
+ * - 프로토콜/키/숫자 형식 해석, 교시마다 인스턴스 하나
+ * - 기존 parseTimeToHour 규칙 유지 ("교시" 앞 숫자 전체, 없으면 첫 숫자)
+ */
+class TimeSlotTest {
+
+    @Test
+    @DisplayName("형식에 관계없이 같은 교시는 같은 인스턴스")
+    void testParseFlyweight() {
+        TimeSlot third = TimeSlot.of(3);
+        assertSame(third, TimeSlot.parse("3교시(11:00~12:00)"));
+        assertSame(third, TimeSlot.parse("3교시"));
+        assertSame(third, TimeSlot.parse("3"));
+        assertEquals("3교시(11:00~12:00)", third.label());
+        assertEquals("3교시", third.shortLabel());
+        assertEquals(2, third.index());
+        assertEquals("9교시(17:00~18:00)", TimeSlot.of(9).label());
+    }
+
+    @Test
+    @DisplayName("범위 밖/숫자 없음은 null, 교시 번호 규칙은 기존과 같음")
+    void testParsePeriodRules() {
+        assertNull(TimeSlot.parse("교시"));
+        assertNull(TimeSlot.parse(null));
+        assertNull(TimeSlot.parse("10교시"));
+        assertEquals(10, TimeSlot.parsePeriod("10교시"));
+        assertEquals(3, TimeSlot.parsePeriod("오후 3시"), "교시가 없으면 첫 숫자 한 자리");
+        assertEquals(-1, TimeSlot.parsePeriod("오전"));
+    }
+
+    @Test
+    @DisplayName("시작~종료 교시 범위")
+    void testRange() {
+        List<TimeSlot> range = TimeSlot.range(TimeSlot.of(2), TimeSlot.of(4));
+        assertEquals(List.of(TimeSlot.of(2), TimeSlot.of(3), TimeSlot.of(4)), range);
+        assertTrue(TimeSlot.range(TimeSlot.of(5), TimeSlot.of(4)).isEmpty());
+        assertEquals(TimeSlot.COUNT, TimeSlot.all().size());
+    }
+}
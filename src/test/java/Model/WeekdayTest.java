@@ -0,0 +1,34 @@
+package Model;
+
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요일 값 타입 테스트
+ */
+class WeekdayTest {
+
+    @Test
+    @DisplayName("\"월\"/\"월요일\" 모두 해석, 달력 열 번호는 월=1")
+    void testParse() {
+        assertSame(Weekday.MONDAY, Weekday.parse("월요일"));
+        assertSame(Weekday.MONDAY, Weekday.parse(" 월"));
+        assertSame(Weekday.SUNDAY, Weekday.parse("일요일"));
+        assertNull(Weekday.parse("X"));
+        assertNull(Weekday.parse(""));
+        assertEquals(1, Weekday.MONDAY.column());
+        assertEquals(7, Weekday.SUNDAY.column());
+    }
+
+    @Test
+    @DisplayName("날짜에서 요일")
+    void testOfDate() {
+        Weekday tuesday = Weekday.of(LocalDate.of(2025, 11, 25));
+        assertSame(Weekday.TUESDAY, tuesday);
+        assertEquals("화", tuesday.shortName());
+        assertEquals("화요일", tuesday.fullName());
+    }
+}
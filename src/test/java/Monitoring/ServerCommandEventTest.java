@@ -0,0 +1,113 @@
+package Monitoring;
+
+import Model.Session;
+import Util.MessageDispatcher;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MessageDispatcher의 요청/응답 짝짓기와 JFR 이벤트 기록 테스트
+ */
+class ServerCommandEventTest {
+
+    private PipedWriter serverSide;
+    private StringWriter sent;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MessageDispatcher.resetForTest();
+        PipedReader reader = new PipedReader();
+        serverSide = new PipedWriter(reader);
+        sent = new StringWriter();
+        Session.getInstance().setOut(new PrintWriter(sent, true));
+        Session.getInstance().setIn(new BufferedReader(reader));
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        MessageDispatcher.resetForTest();
+        serverSide.close();
+        Session.getInstance().setOut(null);
+        Session.getInstance().setIn(null);
+    }
+
+    @Test
+    @DisplayName("단일 줄/여러 줄 응답과 알림이 각각 이벤트로 기록됨")
+    void testCommandAndNotificationEvents() throws Exception {
+        Path dump = Files.createTempFile("oom-client", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ServerCommandEvent.class);
+            recording.enable(NotificationEvent.class);
+            recording.start();
+
+            MessageDispatcher dispatcher = MessageDispatcher.getInstance();
+
+            assertTrue(MessageDispatcher.send("CHECK_ROOM_STATUS,908호"));
+            serverSide.write("AVAILABLE\n");
+            serverSide.flush();
+            assertEquals("AVAILABLE", dispatcher.waitForResponse(5));
+
+            MessageDispatcher.send("VIEW_WEEKLY_RESERVATION,911호,2025-01-06,2025-01-12");
+            serverSide.write("NOTIFICATION,APPROVED,승인,911호,2025-01-07,화,1교시\n");
+            serverSide.write("row1\nrow2\nEND_OF_RESERVATION\n");
+            serverSide.flush();
+            assertEquals("row1", dispatcher.waitForResponse(5));
+            assertEquals("row2", dispatcher.waitForResponse(5));
+            assertEquals("END_OF_RESERVATION", dispatcher.waitForResponse(5));
+
+            MessageDispatcher.send("CANCEL_RESERVATION,u,908호");
+            assertNull(dispatcher.waitForResponse(1));
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.deleteIfExists(dump);
+
+        List<RecordedEvent> commands = events.stream()
+                .filter(e -> e.getEventType().getName().equals("oom.client.ServerCommand"))
+                .toList();
+        assertEquals(3, commands.size());
+
+        RecordedEvent check = find(commands, "CHECK_ROOM_STATUS");
+        assertEquals("908호", check.getString("room"));
+        assertEquals(1, check.getInt("responseLines"));
+        assertEquals("OK", check.getString("outcome"));
+
+        RecordedEvent weekly = find(commands, "VIEW_WEEKLY_RESERVATION");
+        assertEquals("911호", weekly.getString("room"));
+        assertEquals(3, weekly.getInt("responseLines"));
+        assertEquals("OK", weekly.getString("outcome"));
+
+        assertEquals("TIMEOUT", find(commands, "CANCEL_RESERVATION").getString("outcome"));
+
+        RecordedEvent notification = events.stream()
+                .filter(e -> e.getEventType().getName().equals("oom.client.Notification"))
+                .findFirst().orElseThrow();
+        assertEquals("APPROVED", notification.getString("type"));
+        assertFalse(notification.getBoolean("handled"));
+
+        assertTrue(sent.toString().contains("CHECK_ROOM_STATUS,908호"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String verb) {
+        return events.stream()
+                .filter(e -> verb.equals(e.getString("verb")))
+                .findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,185 @@
+package Util;
+
+import Model.Session;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 하트비트 테스트 (루프백 소켓의 가짜 서버 사용)
+ * - PONG은 응답 큐에 들어가지 않음
+ * - PONG이 끊기면 대기 중인 요청이 즉시 DISCONNECTED (요청을 보낸 뒤 링크가 반쯤 끊겨도)
+ * - PING을 모르는 서버면 하트비트 중단, 일반 요청은 정상 동작
+ * - PING 뒤에 요청이 기다리면 오류 줄은 그 요청의 응답으로 전달
+ */
+class HeartbeatTest {
+
+    private ServerSocket serverSocket;
+    private Socket client;
+    private Socket server;
+    private final List<ConnectionMonitor.State> states = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        System.setProperty("heartbeat.interval.ms", "100");
+        System.setProperty("heartbeat.miss.limit", "3");
+        MessageDispatcher.resetForTest();
+        ConnectionMonitor.getInstance().addListener((previous, current, reason) -> states.add(current));
+
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        client = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        server = serverSocket.accept();
+
+        Session session = Session.getInstance();
+        session.setSocket(client);
+        session.setIn(new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8)));
+        session.setOut(new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8), true));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        MessageDispatcher.resetForTest();
+        System.clearProperty("heartbeat.interval.ms");
+        System.clearProperty("heartbeat.miss.limit");
+        Session.getInstance().setSocket(null);
+        Session.getInstance().setIn(null);
+        Session.getInstance().setOut(null);
+        server.close();
+        client.close();
+        serverSocket.close();
+    }
+
+    /**
+     * 받은 줄마다 reply 결과를 돌려주는 가짜 서버 (null이면 응답 안 함)
+     */
+    private void serve(Function<String, String> reply) {
+        Thread t = new Thread(() -> {
+            try {
+                BufferedReader in = new BufferedReader(new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(new OutputStreamWriter(server.getOutputStream(), StandardCharsets.UTF_8), true);
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String response = reply.apply(line);
+                    if (response != null) {
+                        out.println(response);
+                    }
+                }
+            } catch (Exception ignored) {
+                // 테스트 종료
+            }
+        }, "FakeServer");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private static void awaitSupport(Heartbeat.Support expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (Heartbeat.support() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, Heartbeat.support());
+    }
+
+    @Test
+    @DisplayName("PONG은 디스패처가 소비하고 요청 응답만 전달")
+    void testPongConsumed() throws Exception {
+        serve(line -> line.equals("PING") ? "PONG" : "PENDING_COUNT:2");
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        awaitSupport(Heartbeat.Support.SUPPORTED);
+        Thread.sleep(300); // PING/PONG 여러 번 오가도록
+
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        assertEquals("PENDING_COUNT:2", MessageDispatcher.getInstance().waitForResponse());
+        assertEquals(ConnectionMonitor.State.CONNECTED, ConnectionMonitor.getInstance().getState());
+    }
+
+    @Test
+    @DisplayName("PONG이 끊기면 대기 중인 요청이 타임아웃 전에 DISCONNECTED")
+    void testMissedPongFailsFast() throws Exception {
+        java.util.concurrent.atomic.AtomicBoolean hung = new java.util.concurrent.atomic.AtomicBoolean(false);
+        serve(line -> hung.get() ? null : "PONG");
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+        awaitSupport(Heartbeat.Support.SUPPORTED);
+
+        hung.set(true); // 서버 무응답 (소켓은 열린 채)
+        Thread.sleep(150); // 링크가 조용해져 PING이 먼저 나가도록
+        MessageDispatcher.send("GET_CLASSROOMS");
+
+        long start = System.nanoTime();
+        assertNull(MessageDispatcher.getInstance().waitForResponse(30));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 2_000, "하트비트로 빠르게 감지되어야 함: " + elapsedMillis + "ms");
+        assertEquals(MessageDispatcher.ResponseStatus.DISCONNECTED, MessageDispatcher.lastResponseStatus());
+        assertTrue(states.contains(ConnectionMonitor.State.DISCONNECTED));
+    }
+
+    @Test
+    @DisplayName("PING을 모르는 서버: 오류 응답을 소비하고 하트비트 중단")
+    void testUnsupportedServer() throws Exception {
+        serve(line -> line.equals("PING") ? "UNKNOWN_COMMAND" : "PENDING_COUNT:5");
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        awaitSupport(Heartbeat.Support.UNSUPPORTED);
+        Thread.sleep(300);
+
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        assertEquals("PENDING_COUNT:5", MessageDispatcher.getInstance().waitForResponse());
+        assertEquals(ConnectionMonitor.State.CONNECTED, ConnectionMonitor.getInstance().getState());
+    }
+
+    @Test
+    @DisplayName("PING에 응답하지 않는 서버: 뒤 요청의 오류 응답은 소비하지 않고 요청에 전달")
+    void testErrorReplyBehindPingDelivered() throws Exception {
+        java.util.concurrent.CountDownLatch pingReceived = new java.util.concurrent.CountDownLatch(1);
+        serve(line -> {
+            if (line.equals("PING")) {
+                pingReceived.countDown();
+                return null;
+            }
+            return "INVALID_CURRENT_PASSWORD";
+        });
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+        assertTrue(pingReceived.await(3, TimeUnit.SECONDS));
+
+        MessageDispatcher.send("CHANGE_PASSWORD,S123,wrong,new");
+        assertEquals("INVALID_CURRENT_PASSWORD", MessageDispatcher.getInstance().waitForResponse(5));
+        assertEquals(Heartbeat.Support.UNSUPPORTED, Heartbeat.support());
+    }
+
+    @Test
+    @DisplayName("요청을 기다리는 중 링크가 반쯤 끊기면 PING으로 감지해 요청 대기 시간 전에 DISCONNECTED")
+    void testHalfOpenWhileRequestPending() throws Exception {
+        java.util.concurrent.atomic.AtomicBoolean hung = new java.util.concurrent.atomic.AtomicBoolean(false);
+        serve(line -> hung.get() ? null : line.equals("PING") ? "PONG" : "AVAILABLE");
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+        awaitSupport(Heartbeat.Support.SUPPORTED);
+
+        // 평소 응답이 빠른 요청 (적응형 타임아웃 = 최소값)
+        MessageDispatcher.send("CHECK_ROOM_STATUS,908호");
+        assertEquals("AVAILABLE", MessageDispatcher.getInstance().waitForResponse());
+
+        hung.set(true);
+        MessageDispatcher.send("CHECK_ROOM_STATUS,908호"); // 링크가 조용해지기 전에 요청부터
+        long start = System.nanoTime();
+        assertNull(MessageDispatcher.getInstance().waitForResponse(30));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 5_000, "요청 대기 중에도 하트비트로 감지되어야 함: " + elapsedMillis + "ms");
+        assertEquals(MessageDispatcher.ResponseStatus.DISCONNECTED, MessageDispatcher.lastResponseStatus());
+    }
+}
@@ -0,0 +1,122 @@
+package Util;
+
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비동기 로거 테스트
+ * - "{}" 자리표시자 포맷팅
+ * - 레벨 필터링 (비활성 레벨은 인자 평가/포맷팅 없음)
+ * - 백그라운드 출력 및 flush
+ */
+class LogTest {
+
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+    private ByteArrayOutputStream outBuffer;
+    private ByteArrayOutputStream errBuffer;
+    private Log.Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        Log.flush();
+        originalLevel = Log.getLevel();
+        originalOut = System.out;
+        originalErr = System.err;
+        outBuffer = new ByteArrayOutputStream();
+        errBuffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outBuffer, true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(errBuffer, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Log.flush();
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+        Log.setLevel(originalLevel);
+    }
+
+    @Test
+    @DisplayName("자리표시자 치환")
+    void testFormatPlaceholders() {
+        assertEquals("a=1, b=x", Log.format("a={}, b={}", 1, "x"));
+        assertEquals("남는 자리 {}", Log.format("남는 자리 {}"));
+        assertEquals("null 값: null", Log.format("null 값: {}", (Object) null));
+        assertEquals("[1, 2]", Log.format("{}", (Object) new Object[]{1, 2}));
+    }
+
+    @Test
+    @DisplayName("남는 마지막 Throwable 인자는 스택 트레이스로 출력")
+    void testTrailingThrowable() {
+        String formatted = Log.format("실패: {}", "원인", new IllegalStateException("boom"));
+        assertTrue(formatted.startsWith("실패: 원인"));
+        assertTrue(formatted.contains("IllegalStateException: boom"));
+        assertTrue(formatted.contains("at "));
+    }
+
+    @Test
+    @DisplayName("레벨 이상만 출력, WARN 이상은 stderr")
+    void testLevelFiltering() {
+        Log.setLevel(Log.Level.INFO);
+        Log.debug("[Test] 디버그 {}", 1);
+        Log.info("[Test] 정보 {}", 2);
+        Log.warn("[Test] 경고 {}", 3);
+        Log.flush();
+
+        String out = outBuffer.toString(StandardCharsets.UTF_8);
+        String err = errBuffer.toString(StandardCharsets.UTF_8);
+        assertFalse(out.contains("디버그"));
+        assertTrue(out.contains("INFO  ") && out.contains("[Test] 정보 2"));
+        assertTrue(err.contains("WARN  ") && err.contains("[Test] 경고 3"));
+        assertFalse(Log.isDebugEnabled());
+    }
+
+    @Test
+    @DisplayName("비활성 레벨의 Supplier는 호출되지 않음")
+    void testLazySupplierNotEvaluated() {
+        Log.setLevel(Log.Level.WARN);
+        AtomicInteger calls = new AtomicInteger();
+        Log.debug(() -> "값 " + calls.incrementAndGet());
+        Log.info(() -> "값 " + calls.incrementAndGet());
+        assertEquals(0, calls.get());
+
+        Log.setLevel(Log.Level.DEBUG);
+        Log.debug(() -> "값 " + calls.incrementAndGet());
+        Log.flush();
+        assertEquals(1, calls.get());
+        assertTrue(outBuffer.toString(StandardCharsets.UTF_8).contains("값 1"));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 기록해도 유실 없이 순서대로 출력")
+    void testConcurrentProducers() throws InterruptedException {
+        Log.setLevel(Log.Level.INFO);
+        int threads = 4;
+        int perThread = 200;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    Log.info("[Concurrent] {}-{}", id, i);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread w : workers) {
+            w.join();
+        }
+        Log.flush();
+
+        String out = outBuffer.toString(StandardCharsets.UTF_8);
+        long lines = out.lines().filter(l -> l.contains("[Concurrent]")).count();
+        assertEquals((long) threads * perThread, lines + Log.getDroppedCount());
+        assertTrue(out.indexOf("[Concurrent] 0-0") < out.indexOf("[Concurrent] 0-199"));
+    }
+}
@@ -0,0 +1,141 @@
+package Util;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 오프라인 요청 저널 테스트
+ * - 저장한 요청은 파일에 남아 다시 열어도 그대로, 저장 순서대로 재전송
+ * - 응답이 없으면 그 자리에서 멈춤, 결과를 모르는 요청이 거절되면 "확인 필요"
+ * - 모두 끝나면 파일 비움, 리스너에 결과 전달
+ * - 여러 교시 예약은 한 묶음으로 저장 (일부만 저장되지 않음)
+ * - 재전송 중 로그아웃하면 더 보내지 않고, 받은 결과는 원래 파일에 기록
+ */
+class OfflineJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장 순서대로 재전송하고 성공/거절을 구분")
+    void testReplayInOrder() throws Exception {
+        OfflineJournal journal = new OfflineJournal(dir);
+        journal.open("P001");
+        journal.append(OfflineJournal.Kind.RESERVE, "908호", "2025-11-25", "예약 1", "RESERVE_REQUEST,a");
+        journal.append(OfflineJournal.Kind.CANCEL, "908호", "2025-11-26", "취소 1", "CANCEL_RESERVATION,b");
+
+        OfflineJournal reopened = new OfflineJournal(dir);
+        reopened.open("P001");
+        assertEquals(2, reopened.pendingCount(), "앱을 다시 켜도 저장된 요청 유지");
+
+        List<String> sent = new ArrayList<>();
+        List<OfflineJournal.Result> notified = new ArrayList<>();
+        reopened.addReplayListener((results, remaining) -> notified.addAll(results));
+        List<OfflineJournal.Result> results = reopened.replay(command -> {
+            sent.add(command);
+            return command.startsWith("RESERVE") ? "RESERVE_SUCCESS" : "CANCEL_FAILED_NOT_FOUND";
+        });
+
+        assertEquals(List.of("RESERVE_REQUEST,a", "CANCEL_RESERVATION,b"), sent);
+        assertEquals(OfflineJournal.Outcome.APPLIED, results.get(0).outcome);
+        assertEquals(OfflineJournal.Outcome.REJECTED, results.get(1).outcome);
+        assertEquals(2, notified.size());
+        assertEquals(0, reopened.pendingCount());
+        assertEquals(0, Files.size(dir.resolve("P001.journal")), "모두 처리되면 저널 비움");
+    }
+
+    @Test
+    @DisplayName("응답이 없으면 멈추고, 다음 재전송에서 결과 모르는 요청이 거절되면 확인 필요")
+    void testStopsOnNoReplyAndReportsInDoubt() {
+        OfflineJournal journal = new OfflineJournal(dir);
+        journal.open("P001");
+        journal.append(OfflineJournal.Kind.RESERVE, "908호", "2025-11-25", "예약 1", "RESERVE_REQUEST,a");
+        journal.append(OfflineJournal.Kind.RESERVE, "908호", "2025-11-25", "예약 2", "RESERVE_REQUEST,b");
+
+        List<String> sent = new ArrayList<>();
+        assertTrue(journal.replay(command -> {
+            sent.add(command);
+            return null; // 보내자마자 다시 끊김
+        }).isEmpty());
+        assertEquals(List.of("RESERVE_REQUEST,a"), sent, "응답이 없으면 다음 요청을 보내지 않음");
+        assertEquals(2, journal.pendingCount());
+
+        OfflineJournal afterRestart = new OfflineJournal(dir);
+        afterRestart.open("P001");
+        List<OfflineJournal.Result> results = afterRestart.replay(command -> "RESERVE_FAILED_DUPLICATE");
+        assertEquals(OfflineJournal.Outcome.UNCERTAIN, results.get(0).outcome, "이전 전송이 처리됐을 수 있음");
+        assertEquals(OfflineJournal.Outcome.REJECTED, results.get(1).outcome);
+    }
+
+    @Test
+    @DisplayName("로그인 전/로그아웃 후에는 저장하지 않음, 사용자별 저널")
+    void testPerUser() {
+        OfflineJournal journal = new OfflineJournal(dir);
+        assertNull(journal.append(OfflineJournal.Kind.CANCEL, "908호", "2025-11-25", "x", "CANCEL_RESERVATION,x"));
+
+        journal.open("P001");
+        assertNotNull(journal.append(OfflineJournal.Kind.CANCEL, "908호", "2025-11-25", "x\ty", "CANCEL_RESERVATION,x"));
+        journal.close();
+        assertNull(journal.append(OfflineJournal.Kind.CANCEL, "908호", "2025-11-25", "x", "CANCEL_RESERVATION,x"));
+
+        journal.open("S002");
+        assertEquals(0, journal.pendingCount());
+        journal.open("P001");
+        assertEquals("x y", journal.pendingIntents().get(0).summary, "구분 문자는 공백으로");
+    }
+
+    @Test
+    @DisplayName("여러 요청을 한 묶음으로 저장, 기록 실패 시 아무것도 남기지 않음")
+    void testAppendAll() throws Exception {
+        OfflineJournal journal = new OfflineJournal(dir);
+        journal.open("P001");
+        List<OfflineJournal.Intent> intents = journal.appendAll(OfflineJournal.Kind.RESERVE, "908호", "2025-11-25",
+                List.of("1교시", "2교시"), List.of("RESERVE_REQUEST,1", "RESERVE_REQUEST,2"));
+        assertEquals(2, intents.size());
+
+        OfflineJournal reopened = new OfflineJournal(dir);
+        reopened.open("P001");
+        assertEquals(List.of("1교시", "2교시"),
+                reopened.pendingIntents().stream().map(intent -> intent.summary).toList());
+
+        Files.createDirectories(dir.resolve("S002.journal")); // 파일 자리에 디렉터리 → 기록 실패
+        journal.open("S002");
+        assertNull(journal.appendAll(OfflineJournal.Kind.RESERVE, "908호", "2025-11-25",
+                List.of("1교시", "2교시"), List.of("RESERVE_REQUEST,1", "RESERVE_REQUEST,2")));
+        assertEquals(0, journal.pendingCount());
+    }
+
+    @Test
+    @DisplayName("재전송 중 로그아웃: 남은 요청은 보내지 않고 받은 결과는 기록, 리스너에 전달")
+    void testLogoutDuringReplay() {
+        OfflineJournal journal = new OfflineJournal(dir);
+        journal.open("P001");
+        journal.append(OfflineJournal.Kind.RESERVE, "908호", "2025-11-25", "예약 1", "RESERVE_REQUEST,a");
+        journal.append(OfflineJournal.Kind.RESERVE, "908호", "2025-11-25", "예약 2", "RESERVE_REQUEST,b");
+
+        List<String> sent = new ArrayList<>();
+        List<OfflineJournal.Result> notified = new ArrayList<>();
+        journal.addReplayListener((results, remaining) -> notified.addAll(results));
+        List<OfflineJournal.Result> results = journal.replay(command -> {
+            sent.add(command);
+            journal.close(); // 응답을 기다리는 사이 로그아웃
+            return "RESERVE_SUCCESS";
+        });
+
+        assertEquals(List.of("RESERVE_REQUEST,a"), sent);
+        assertEquals(OfflineJournal.Outcome.APPLIED, results.get(0).outcome);
+        assertEquals(1, notified.size());
+
+        OfflineJournal nextLogin = new OfflineJournal(dir);
+        nextLogin.open("P001");
+        assertEquals(List.of("예약 2"), nextLogin.pendingIntents().stream().map(intent -> intent.summary).toList(),
+                "처리된 요청은 다시 보내지 않음");
+    }
+}
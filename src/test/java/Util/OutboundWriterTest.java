@@ -0,0 +1,107 @@
+package Util;
+
+import org.junit.jupiter.api.*;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단일 쓰기 스레드 테스트
+ * - 여러 스레드가 동시에 보내도 줄이 섞이지 않음
+ * - 쓰는 동안 몰려 들어온 명령은 flush 한 번으로 묶이고, write가 돌아오면 이미 기록됨
+ */
+class OutboundWriterTest {
+
+    /**
+     * flush 횟수를 세는 Writer
+     */
+    private static final class CountingWriter extends Writer {
+        final StringWriter sink = new StringWriter();
+        final AtomicInteger flushes = new AtomicInteger();
+
+        @Override
+        public synchronized void write(char[] cbuf, int off, int len) {
+            sink.write(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+            try {
+                Thread.sleep(1); // 느린 소켓 write 흉내 → 그동안 다른 스레드 명령이 쌓임
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+
+        synchronized String text() {
+            return sink.toString();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 전송 시 줄 단위로 온전하게 기록")
+    void testConcurrentWritesDoNotInterleave() throws Exception {
+        CountingWriter target = new CountingWriter();
+        PrintWriter out = new PrintWriter(target, true);
+        int threads = 8;
+        int perThread = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    OutboundWriter.write(out, "VIEW_WEEKLY_RESERVATION,90" + id + "호,2025-01-06," + i);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        List<String> lines = target.text().lines().toList();
+        assertEquals(threads * perThread, lines.size());
+        Set<String> unique = new HashSet<>(lines);
+        assertEquals(threads * perThread, unique.size());
+        for (String line : lines) {
+            assertTrue(line.matches("VIEW_WEEKLY_RESERVATION,90\\d호,2025-01-06,\\d+"), "깨진 줄: " + line);
+        }
+        assertTrue(target.flushes.get() < threads * perThread,
+                "동시 전송은 묶여서 flush되어야 함: " + target.flushes.get());
+    }
+
+    @Test
+    @DisplayName("write가 돌아오면 이미 스트림에 flush됨")
+    void testWriteIsVisibleOnReturn() {
+        CountingWriter target = new CountingWriter();
+        PrintWriter out = new PrintWriter(target, false);
+
+        OutboundWriter.write(out, "GET_CLASSROOMS");
+
+        assertEquals("GET_CLASSROOMS" + System.lineSeparator(), target.text());
+        assertEquals(1, target.flushes.get());
+    }
+}
@@ -0,0 +1,129 @@
+package Util;
+
+import Model.Session;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자동 재접속 테스트 (루프백 소켓의 가짜 서버 사용)
+ * - 연결이 끊기면 재로그인 + INIT 후 조회 명령을 재전송하여 대기 스레드가 응답을 받음
+ * - 변경 명령은 재전송하지 않고 INTERRUPTED로 알림
+ */
+class ReconnectTest {
+
+    private ServerSocket serverSocket;
+    private Socket client;
+    private final List<String> resumedLines = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        System.setProperty("heartbeat.interval.ms", "0");
+        MessageDispatcher.resetForTest();
+
+        serverSocket = new ServerSocket(0, 5, InetAddress.getLoopbackAddress());
+        client = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+
+        Session session = Session.getInstance();
+        session.setSocket(client);
+        session.setIn(new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8)));
+        session.setOut(new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8), true));
+        Reconnector.getInstance().remember("127.0.0.1", serverSocket.getLocalPort(), "S1", "pw");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Reconnector.getInstance().forget();
+        MessageDispatcher.resetForTest();
+        System.clearProperty("heartbeat.interval.ms");
+        Socket current = Session.getInstance().getSocket();
+        if (current != null) {
+            current.close();
+        }
+        Session.getInstance().setSocket(null);
+        Session.getInstance().setIn(null);
+        Session.getInstance().setOut(null);
+        client.close();
+        serverSocket.close();
+    }
+
+    /**
+     * 첫 연결은 명령 한 줄을 받은 뒤 응답 없이 끊고,
+     * 두 번째 연결은 로그인 후 받은 조회 명령에 응답하는 가짜 서버
+     */
+    private void serveDropThenResume(int linesBeforeDrop) {
+        Thread t = new Thread(() -> {
+            try (Socket first = serverSocket.accept()) {
+                BufferedReader in = new BufferedReader(new InputStreamReader(first.getInputStream(), StandardCharsets.UTF_8));
+                for (int i = 0; i < linesBeforeDrop; i++) {
+                    in.readLine();
+                }
+            } catch (Exception ignored) {
+                return;
+            }
+
+            try (Socket second = serverSocket.accept()) {
+                BufferedReader in = new BufferedReader(new InputStreamReader(second.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(new OutputStreamWriter(second.getOutputStream(), StandardCharsets.UTF_8), true);
+                String line;
+                while ((line = in.readLine()) != null) {
+                    resumedLines.add(line);
+                    if (line.startsWith("LOGIN,")) {
+                        out.println("SUCCESS,홍길동");
+                    } else if (line.equals("GET_CLASSROOMS")) {
+                        out.println("CLASSROOMS,908호");
+                    } else if (line.equals("GET_LABS")) {
+                        out.println("LABS,911호");
+                    }
+                }
+            } catch (Exception ignored) {
+                // 테스트 종료
+            }
+        }, "FakeServer");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    @Test
+    @DisplayName("재접속 후 조회 명령 재전송, 대기 스레드는 그대로 응답 수신")
+    void testIdempotentReplay() {
+        serveDropThenResume(1);
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        MessageDispatcher.send("GET_CLASSROOMS");
+        assertEquals("CLASSROOMS,908호", MessageDispatcher.getInstance().waitForResponse());
+
+        assertEquals(List.of("LOGIN,S1,pw", "INIT", "GET_CLASSROOMS"), resumedLines);
+        assertNotSame(client, Session.getInstance().getSocket());
+        assertEquals(ConnectionMonitor.State.CONNECTED, ConnectionMonitor.getInstance().getState());
+    }
+
+    @Test
+    @DisplayName("변경 명령은 재전송하지 않고 INTERRUPTED, 뒤의 조회 명령은 정상 응답")
+    void testNonIdempotentInterrupted() {
+        serveDropThenResume(2);
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        MessageDispatcher.send("CANCEL_RESERVATION,S1,908호,2025-01-06");
+        MessageDispatcher.send("GET_LABS");
+        MessageDispatcher dispatcher = MessageDispatcher.getInstance();
+
+        assertNull(dispatcher.waitForResponse());
+        assertEquals(MessageDispatcher.ResponseStatus.INTERRUPTED, MessageDispatcher.lastResponseStatus());
+        assertTrue(MessageDispatcher.describeNoResponse().contains("결과를 확인할 수 없습니다"));
+
+        assertEquals("LABS,911호", dispatcher.waitForResponse());
+        assertEquals(List.of("LOGIN,S1,pw", "INIT", "GET_LABS"), resumedLines);
+    }
+}
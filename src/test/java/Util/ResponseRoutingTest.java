@@ -0,0 +1,159 @@
+package Util;
+
+import Model.Session;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 응답 라우팅 테스트 (루프백 소켓의 가짜 서버 사용)
+ * - 여러 스레드가 동시에 보내도 각 스레드는 자기 명령의 응답 줄만 받음
+ * - 기다리는 명령이 없을 때 온 줄은 다음 요청의 응답이 되지 않음
+ * - 재접속 후 저널 재전송은 다른 조회와 겹쳐도 자기 응답으로 결과를 판정
+ */
+class ResponseRoutingTest {
+
+    private ServerSocket serverSocket;
+    private Socket client;
+    private Socket server;
+    private PrintWriter serverOut;
+
+    @TempDir
+    Path journalDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        System.setProperty("heartbeat.interval.ms", "0");
+        MessageDispatcher.resetForTest();
+
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        client = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        server = serverSocket.accept();
+        serverOut = new PrintWriter(new OutputStreamWriter(server.getOutputStream(), StandardCharsets.UTF_8), true);
+
+        Session session = Session.getInstance();
+        session.setSocket(client);
+        session.setIn(new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8)));
+        session.setOut(new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8), true));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        MessageDispatcher.resetForTest();
+        System.clearProperty("heartbeat.interval.ms");
+        Session.getInstance().setSocket(null);
+        Session.getInstance().setIn(null);
+        Session.getInstance().setOut(null);
+        server.close();
+        client.close();
+        serverSocket.close();
+    }
+
+    /**
+     * 주간 조회에는 행을 천천히 여러 줄로, 그 외에는 한 줄로 응답하는 가짜 서버
+     */
+    private void serve(CountDownLatch weeklyReceived) {
+        Thread t = new Thread(() -> {
+            try {
+                BufferedReader in = new BufferedReader(new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith("VIEW_WEEKLY_RESERVATION")) {
+                        weeklyReceived.countDown();
+                        for (int i = 1; i <= 3; i++) {
+                            Thread.sleep(50);
+                            serverOut.println("row" + i);
+                        }
+                        serverOut.println("END_OF_RESERVATION");
+                    } else if (line.startsWith("RESERVE_REQUEST")) {
+                        serverOut.println("RESERVE_SUCCESS");
+                    } else if (line.equals("COUNT_PENDING_REQUEST")) {
+                        serverOut.println("PENDING_COUNT:7");
+                    }
+                }
+            } catch (Exception ignored) {
+                // 테스트 종료
+            }
+        }, "FakeServer");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    @Test
+    @DisplayName("여러 줄 응답을 받는 중에 다른 스레드가 보낸 명령의 응답은 섞이지 않음")
+    void testConcurrentSendersGetOwnReplies() throws Exception {
+        CountDownLatch weeklyReceived = new CountDownLatch(1);
+        serve(weeklyReceived);
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        CompletableFuture<List<String>> weekly = CompletableFuture.supplyAsync(() -> {
+            MessageDispatcher.send("VIEW_WEEKLY_RESERVATION,908호,2025-01-06,2025-01-12");
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = MessageDispatcher.getInstance().waitForResponse(5)) != null) {
+                lines.add(line);
+                if (line.startsWith("END_OF_RESERVATION")) {
+                    break;
+                }
+            }
+            return lines;
+        });
+        assertTrue(weeklyReceived.await(5, TimeUnit.SECONDS));
+
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        assertEquals("PENDING_COUNT:7", MessageDispatcher.getInstance().waitForResponse(5));
+        assertEquals(List.of("row1", "row2", "row3", "END_OF_RESERVATION"), weekly.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("기다리는 명령이 없을 때 온 줄은 버리고 다음 요청은 자기 응답을 받음")
+    void testStrayLineDropped() throws Exception {
+        serve(new CountDownLatch(1));
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        serverOut.println("STRAY_LINE");
+        Thread.sleep(200);
+
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        assertEquals("PENDING_COUNT:7", MessageDispatcher.getInstance().waitForResponse(5));
+    }
+
+    @Test
+    @DisplayName("저널 재전송 중 주간 조회 행이 와도 예약 요청은 자기 응답으로 판정")
+    void testJournalReplayGetsOwnReply() throws Exception {
+        CountDownLatch weeklyReceived = new CountDownLatch(1);
+        serve(weeklyReceived);
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        OfflineJournal journal = new OfflineJournal(journalDir);
+        journal.open("P001");
+        journal.append(OfflineJournal.Kind.RESERVE, "908호", "2025-01-07", "예약", "RESERVE_REQUEST,a");
+
+        CompletableFuture<String> weekly = CompletableFuture.supplyAsync(() -> {
+            MessageDispatcher.send("VIEW_WEEKLY_RESERVATION,908호,2025-01-06,2025-01-12");
+            return MessageDispatcher.getInstance().waitForResponse(5);
+        });
+        assertTrue(weeklyReceived.await(5, TimeUnit.SECONDS));
+
+        List<OfflineJournal.Result> results = journal.replay(MessageDispatcher::request);
+        assertEquals(OfflineJournal.Outcome.APPLIED, results.get(0).outcome);
+        assertEquals("row1", weekly.get(5, TimeUnit.SECONDS));
+        assertEquals(0, journal.pendingCount());
+    }
+}
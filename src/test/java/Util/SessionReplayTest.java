@@ -0,0 +1,127 @@
+package Util;
+
+import Model.Session;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세션 녹화/재생 테스트
+ * - 녹화: 주고받은 줄이 순서대로 기록되고 비밀번호는 가려짐
+ * - 재생: 서버 없이 같은 명령에 같은 응답이 돌아옴
+ */
+class SessionReplayTest {
+
+    @BeforeEach
+    void setUp() {
+        MessageDispatcher.resetForTest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MessageDispatcher.resetForTest();
+        Session.getInstance().setIn(null);
+        Session.getInstance().setOut(null);
+        Session.getInstance().setSocket(null);
+    }
+
+    @Test
+    @DisplayName("녹화한 세션을 재생하면 동일한 응답을 받음")
+    void testRecordThenReplay() throws Exception {
+        // 녹화
+        StringWriter transcript = new StringWriter();
+        SessionRecorder recorder = new SessionRecorder(transcript);
+        PipedReader reader = new PipedReader();
+        PipedWriter server = new PipedWriter(reader);
+
+        Session.getInstance().setIn(recorder.wrap(new BufferedReader(reader)));
+        Session.getInstance().setOut(recorder.wrap(new PrintWriter(new StringWriter(), true)));
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+        MessageDispatcher dispatcher = MessageDispatcher.getInstance();
+
+        MessageDispatcher.send("GET_CLASSROOMS");
+        server.write("CLASSROOMS,908호,CLASS,30\n");
+        server.flush();
+        assertEquals("CLASSROOMS,908호,CLASS,30", dispatcher.waitForResponse(5));
+
+        MessageDispatcher.send("CHANGE_PASSWORD,S123,old,new");
+        server.write("PASSWORD_CHANGED\n");
+        server.flush();
+        assertEquals("PASSWORD_CHANGED", dispatcher.waitForResponse(5));
+
+        MessageDispatcher.resetForTest();
+        server.close();
+
+        List<String> lines = transcript.toString().lines().toList();
+        assertTrue(lines.get(0).startsWith(SessionRecorder.HEADER));
+        assertTrue(lines.get(1).endsWith("\t>\tGET_CLASSROOMS"));
+        assertTrue(lines.get(2).endsWith("\t<\tCLASSROOMS,908호,CLASS,30"));
+        assertTrue(lines.get(3).endsWith("\t>\tCHANGE_PASSWORD,S123,***,***"), "비밀번호는 기록하지 않음");
+
+        // 재생 (대기 없이)
+        try (SessionReplayer replayer = SessionReplayer.parse(lines, Double.POSITIVE_INFINITY)) {
+            replayer.install();
+            MessageDispatcher replayDispatcher = MessageDispatcher.getInstance();
+
+            MessageDispatcher.send("GET_CLASSROOMS");
+            assertEquals("CLASSROOMS,908호,CLASS,30", replayDispatcher.waitForResponse(5));
+
+            MessageDispatcher.send("CHANGE_PASSWORD,S123,other,value");
+            assertEquals("PASSWORD_CHANGED", replayDispatcher.waitForResponse(5));
+
+            assertTrue(replayer.awaitCompletion(5, TimeUnit.SECONDS));
+            assertTrue(replayer.getMismatches().isEmpty(), replayer.getMismatches().toString());
+        }
+    }
+
+    @Test
+    @DisplayName("녹화와 다른 명령은 불일치로 보고")
+    void testReplayReportsMismatch() throws Exception {
+        List<String> lines = List.of(
+                SessionRecorder.HEADER,
+                "0\t>\tCHECK_ROOM_STATUS,908호",
+                "1000\t<\tAVAILABLE");
+
+        try (SessionReplayer replayer = SessionReplayer.parse(lines, 1000.0)) {
+            replayer.install();
+            MessageDispatcher.send("CHECK_ROOM_STATUS,911호");
+            assertEquals("AVAILABLE", MessageDispatcher.getInstance().waitForResponse(5));
+            assertTrue(replayer.awaitCompletion(5, TimeUnit.SECONDS));
+            assertEquals(List.of("CHECK_ROOM_STATUS,908호 / CHECK_ROOM_STATUS,911호"), replayer.getMismatches());
+        }
+    }
+
+    @Test
+    @DisplayName("PING/PONG은 녹화하지 않고, 예전 녹화에 있어도 재생에서 건너뜀")
+    void testHeartbeatNotReplayed() throws Exception {
+        StringWriter transcript = new StringWriter();
+        SessionRecorder recorder = new SessionRecorder(transcript);
+        recorder.record(SessionRecorder.SENT, "PING");
+        recorder.record(SessionRecorder.RECEIVED, "PONG");
+        assertFalse(transcript.toString().contains("PING"));
+        assertFalse(transcript.toString().contains("PONG"));
+
+        List<String> lines = List.of(
+                SessionRecorder.HEADER,
+                "0\t>\tPING",
+                "10\t<\tPONG",
+                "20\t>\tCHECK_ROOM_STATUS,908호",
+                "1000\t<\tAVAILABLE");
+
+        try (SessionReplayer replayer = SessionReplayer.parse(lines, 1000.0)) {
+            replayer.install();
+            MessageDispatcher.send("CHECK_ROOM_STATUS,908호");
+            assertEquals("AVAILABLE", MessageDispatcher.getInstance().waitForResponse(5));
+            assertTrue(replayer.awaitCompletion(5, TimeUnit.SECONDS));
+            assertTrue(replayer.getMismatches().isEmpty());
+        }
+    }
+}
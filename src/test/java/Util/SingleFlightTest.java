@@ -0,0 +1,128 @@
+package Util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동일 요청 합치기 테스트
+ * - 진행 중인 같은 키 요청은 한 번만 실행되고 결과를 공유
+ * - 끝난 뒤의 호출은 다시 실행, 실패는 합류한 호출자에게도 전달
+ */
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키 요청은 한 번만 실행하고 같은 결과를 받음")
+    void testConcurrentCallsShareOneExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        final int THREAD_COUNT = 8;
+        String[] results = new String[THREAD_COUNT];
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            final int index = i;
+            Thread t = new Thread(() -> results[index] = flight.execute("GET_CLASSROOMS", () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "CLASSROOMS,908호,CLASS,30";
+            }));
+            threads.add(t);
+            t.start();
+            if (i == 0) {
+                assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            }
+        }
+
+        // 나머지 스레드가 합류할 때까지 대기 후 리더 완료
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.sharedCount() < THREAD_COUNT - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        for (Thread t : threads) {
+            t.join(5000);
+        }
+
+        assertEquals(1, loads.get(), "서버 요청은 한 번");
+        assertEquals(THREAD_COUNT - 1, flight.sharedCount());
+        for (String result : results) {
+            assertEquals("CLASSROOMS,908호,CLASS,30", result);
+        }
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("완료된 뒤의 호출과 다른 키 호출은 새로 실행")
+    void testCompletedFlightIsNotCached() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, flight.execute("GET_LABS", loads::incrementAndGet));
+        assertEquals(2, flight.execute("GET_LABS", loads::incrementAndGet));
+        assertEquals(3, flight.execute("GET_CLASSROOMS", loads::incrementAndGet));
+        assertEquals(3, flight.executedCount());
+        assertEquals(0, flight.sharedCount());
+    }
+
+    @Test
+    @DisplayName("리더의 실패는 합류한 호출자에게도 전달되고 키는 비워짐")
+    void testFailurePropagatesToFollowers() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> {
+            try {
+                flight.execute("GET_CLASSROOMS", () -> {
+                    leaderStarted.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("파싱 실패");
+                });
+            } catch (IllegalStateException expected) {
+                // 리더도 같은 예외를 받음
+            }
+        });
+        leader.start();
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        Throwable[] followerError = new Throwable[1];
+        Thread follower = new Thread(() -> {
+            try {
+                flight.execute("GET_CLASSROOMS", () -> "실행되면 안 됨");
+            } catch (RuntimeException e) {
+                followerError[0] = e;
+            }
+        });
+        follower.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.sharedCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        assertTrue(followerError[0] instanceof IllegalStateException);
+        assertEquals("파싱 실패", followerError[0].getMessage());
+        assertEquals(0, flight.inFlightCount());
+        assertEquals("재시도", flight.execute("GET_CLASSROOMS", () -> "재시도"));
+    }
+}
@@ -0,0 +1,52 @@
+package Util;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 문자열 공유 풀 테스트
+ * - 같은 내용은 처음 본 인스턴스를 반환
+ * - 슬롯 수는 고정 (값이 많아도 커지지 않음)
+ */
+class StringPoolTest {
+
+    @Test
+    @DisplayName("반복되는 필드는 같은 인스턴스로 맞춤")
+    void testCanonicalInstance() {
+        StringPool pool = new StringPool(64);
+        String first = pool.canonical(new String("1교시(09:00~10:00)"));
+        String second = pool.canonical(new String("1교시(09:00~10:00)"));
+
+        assertSame(first, second);
+        assertEquals(1, pool.hitCount());
+        assertSame(first, pool.canonical(" 1교시(09:00~10:00) "), "앞뒤 공백 제거 후 비교");
+    }
+
+    @Test
+    @DisplayName("null/빈 값/긴 값은 풀에 넣지 않고 그대로 처리")
+    void testPassThrough() {
+        StringPool pool = new StringPool(64);
+        assertNull(pool.canonical(null));
+        assertEquals("", pool.canonical("   "));
+
+        String purpose = "x".repeat(StringPool.MAX_LENGTH + 1);
+        String a = pool.canonical(new String(purpose));
+        String b = pool.canonical(new String(purpose));
+        assertEquals(a, b);
+        assertNotSame(a, b);
+    }
+
+    @Test
+    @DisplayName("슬롯 수는 상한 고정 - 많은 값이 와도 내용은 항상 같음")
+    void testBounded() {
+        StringPool pool = new StringPool(100);
+        assertEquals(128, pool.capacity(), "2의 거듭제곱으로 올림");
+
+        for (int i = 0; i < 10_000; i++) {
+            String value = "S" + i;
+            assertEquals(value, pool.canonical(value));
+        }
+        assertEquals(128, pool.capacity());
+    }
+}
@@ -0,0 +1,165 @@
+package Util;
+
+import Model.Session;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 적응형 타임아웃 테스트
+ * - RTT 추정 (SRTT + 4 × RTTVAR, 범위 제한)
+ * - 연결 끊김 시 즉시 실패, 연결 유지 중 지연은 연장
+ * - 타임아웃된 명령의 늦은 응답은 다음 명령을 보낸 뒤에 와도 버림 (서버가 무시하는 기능 확인 명령은 자리 비움)
+ */
+class TimeoutPolicyTest {
+
+    @AfterEach
+    void tearDown() {
+        MessageDispatcher.resetForTest();
+        Session.getInstance().setOut(null);
+        Session.getInstance().setIn(null);
+    }
+
+    @Test
+    @DisplayName("표본 없으면 초기값, 표본 후에는 SRTT + 4 × RTTVAR")
+    void testEstimator() {
+        TimeoutPolicy policy = new TimeoutPolicy(10_000, 100, 30_000);
+        assertEquals(10_000, policy.timeoutMillis("GET_CLASSROOMS"));
+        assertEquals(-1, policy.smoothedRttMillis("GET_CLASSROOMS"));
+
+        // 첫 표본 200ms: SRTT=200, RTTVAR=100 → 600ms
+        policy.recordSample("GET_CLASSROOMS", TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(600, policy.timeoutMillis("GET_CLASSROOMS"));
+        assertEquals(200, policy.smoothedRttMillis("GET_CLASSROOMS"));
+
+        // 표본 없는 명령은 다른 명령의 통계를 빌리지 않고 초기값
+        assertEquals(10_000, policy.timeoutMillis("GET_LABS"));
+
+        // 안정된 RTT가 이어지면 타임아웃이 줄어듦
+        for (int i = 0; i < 50; i++) {
+            policy.recordSample("GET_CLASSROOMS", TimeUnit.MILLISECONDS.toNanos(200));
+        }
+        assertTrue(policy.timeoutMillis("GET_CLASSROOMS") < 300);
+    }
+
+    @Test
+    @DisplayName("최소/최대 범위로 제한")
+    void testClamp() {
+        TimeoutPolicy policy = new TimeoutPolicy(5_000, 1_000, 3_000);
+        assertEquals(3_000, policy.timeoutMillis("X"));
+
+        policy.recordSample("FAST", TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(1_000, policy.timeoutMillis("FAST"));
+
+        policy.recordSample("SLOW", TimeUnit.SECONDS.toNanos(60));
+        assertEquals(3_000, policy.timeoutMillis("SLOW"));
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 타임아웃을 기다리지 않고 DISCONNECTED")
+    void testFailFastOnDisconnect() throws Exception {
+        PipedReader reader = new PipedReader();
+        PipedWriter server = new PipedWriter(reader);
+        Session.getInstance().setOut(new PrintWriter(new StringWriter(), true));
+        Session.getInstance().setIn(new BufferedReader(reader));
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+        MessageDispatcher dispatcher = MessageDispatcher.getInstance();
+
+        MessageDispatcher.send("GET_CLASSROOMS");
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+                server.close(); // 서버 연결 종료
+            } catch (Exception ignored) {
+            }
+        }).start();
+
+        long start = System.nanoTime();
+        assertNull(dispatcher.waitForResponse(30));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 5_000, "연결 끊김은 즉시 감지되어야 함: " + elapsedMillis + "ms");
+        assertEquals(MessageDispatcher.ResponseStatus.DISCONNECTED, MessageDispatcher.lastResponseStatus());
+        assertTrue(MessageDispatcher.describeNoResponse().contains("연결"));
+    }
+
+    @Test
+    @DisplayName("응답을 받으면 RTT가 기록되고 상태는 RECEIVED")
+    void testSampleRecordedOnResponse() throws Exception {
+        PipedReader reader = new PipedReader();
+        PipedWriter server = new PipedWriter(reader);
+        Session.getInstance().setOut(new PrintWriter(new StringWriter(), true));
+        Session.getInstance().setIn(new BufferedReader(reader));
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        server.write("PENDING_COUNT:3\n");
+        server.flush();
+
+        assertEquals("PENDING_COUNT:3", MessageDispatcher.getInstance().waitForResponse());
+        assertEquals(MessageDispatcher.ResponseStatus.RECEIVED, MessageDispatcher.lastResponseStatus());
+        assertTrue(MessageDispatcher.getTimeoutPolicy().smoothedRttMillis("COUNT_PENDING_REQUEST") >= 0);
+        server.close();
+    }
+
+    @Test
+    @DisplayName("타임아웃된 명령의 늦은 응답은 다음 요청의 응답이 되지 않음")
+    void testLateReplyDiscarded() throws Exception {
+        PipedReader reader = new PipedReader();
+        PipedWriter server = new PipedWriter(reader);
+        Session.getInstance().setOut(new PrintWriter(new StringWriter(), true));
+        Session.getInstance().setIn(new BufferedReader(reader));
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+        MessageDispatcher dispatcher = MessageDispatcher.getInstance();
+
+        MessageDispatcher.send("GET_CLASSROOMS");
+        assertNull(dispatcher.waitForResponse(1));
+        assertEquals(MessageDispatcher.ResponseStatus.TIMED_OUT, MessageDispatcher.lastResponseStatus());
+
+        server.write("CLASSROOMS,908호\n"); // 늦게 도착
+        server.flush();
+        Thread.sleep(200);
+
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        server.write("PENDING_COUNT:3\n");
+        server.flush();
+        assertEquals("PENDING_COUNT:3", dispatcher.waitForResponse(5));
+
+        // 다음 명령을 보낸 뒤에 늦은 응답이 도착
+        MessageDispatcher.send("CANCEL_RESERVATION,S123,908호,2025-11-25,1교시");
+        assertNull(dispatcher.waitForResponse(1));
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        server.write("CANCEL_SUCCESS\n");
+        server.write("PENDING_COUNT:4\n");
+        server.flush();
+        assertEquals("PENDING_COUNT:4", dispatcher.waitForResponse(5));
+        server.close();
+    }
+
+    @Test
+    @DisplayName("서버가 무시한 기능 확인 명령은 다음 명령의 응답을 가로채지 않음")
+    void testIgnoredProbeYields() throws Exception {
+        PipedReader reader = new PipedReader();
+        PipedWriter server = new PipedWriter(reader);
+        Session.getInstance().setOut(new PrintWriter(new StringWriter(), true));
+        Session.getInstance().setIn(new BufferedReader(reader));
+        MessageDispatcher.startDispatcher(Session.getInstance().getIn());
+        MessageDispatcher dispatcher = MessageDispatcher.getInstance();
+
+        MessageDispatcher.send("GET_CATALOG_IF_CHANGED,-1");
+        assertNull(dispatcher.waitForResponse(1));
+
+        MessageDispatcher.send("COUNT_PENDING_REQUEST");
+        server.write("PENDING_COUNT:3\n");
+        server.flush();
+        assertEquals("PENDING_COUNT:3", dispatcher.waitForResponse(5));
+        server.close();
+    }
+}
@@ -0,0 +1,83 @@
+package iterator;
+
+import Service.ReservationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 열 단위 예약 집합체 검증 테스트
+ */
+class ReservationColumnsTest {
+
+    private static ReservationService.ReservationDTO dto(String userId, String name, String room,
+                                                        String date, String time) {
+        return new ReservationService.ReservationDTO("CLASS", userId, name, room, date, "", time, "스터디", "학생", 3);
+    }
+
+    private static ReservationColumns sample() {
+        ReservationColumns columns = new ReservationColumns();
+        columns.addReservation(dto("S1", "홍길동", "908호", "2025-11-24", "1교시(09:00~10:00)"));
+        columns.addReservation(dto("S2", "이순신", "908", "2025-11-27", "3교시(11:00~12:00)"));
+        columns.addReservation(dto("S1", "홍길동", "911호", "2025-11-25", "2교시(10:00~11:00)"));
+        columns.addReservation(dto("S1", "홍길동", "908호", "2025-12-02", "9교시(17:00~18:00)"));
+        return columns;
+    }
+
+    private static List<String> collect(Iterator<ReservationView> iterator) {
+        List<String> rows = new ArrayList<>();
+        while (iterator.hasNext()) {
+            ReservationView view = iterator.next();
+            rows.add(view.getName() + "/" + view.getRoom() + "/" + view.getDate() + "/" + view.getTime());
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("ReservationColumns는 Aggregate, 순회자는 Iterator를 구현해야 한다")
+    void testStructure() {
+        assertTrue(Aggregate.class.isAssignableFrom(ReservationColumns.class));
+        assertTrue(new ReservationColumns().createIterator() instanceof ReservationColumnsIterator);
+        assertFalse(new ReservationColumns().createIterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("뷰는 재사용되지만 DTO와 같은 값을 돌려주고, 요일은 날짜에서 계산한다")
+    void testFlyweightView() {
+        ReservationColumns columns = sample();
+        assertEquals(4, columns.size());
+
+        Iterator<ReservationView> iterator = columns.createIterator();
+        ReservationView first = iterator.next();
+        ReservationService.ReservationDTO copy = first.toDTO();
+        ReservationView second = iterator.next();
+
+        assertSame(first, second, "같은 뷰 객체를 다음 행으로 옮김");
+        assertEquals("홍길동", copy.getName());
+        assertEquals("908호", copy.getRoom());
+        assertEquals("월요일", copy.getDay());
+        assertEquals("908호", second.getRoom(), "강의실 이름 정규화");
+        assertEquals("목요일", second.getDay());
+        assertEquals(3, second.getStudentCount());
+        assertFalse(columns.addReservation(dto("S3", "x", "908호", "2025-13-01", "1교시")), "잘못된 날짜는 저장 안 함");
+    }
+
+    @Test
+    @DisplayName("강의실/주간/사용자 조건으로 순회")
+    void testFilteredIterator() {
+        ReservationColumns columns = sample();
+        LocalDate weekStart = LocalDate.of(2025, 11, 24);
+        LocalDate weekEnd = weekStart.plusDays(6);
+
+        assertEquals(List.of("홍길동/908호/2025-11-24/1교시(09:00~10:00)", "이순신/908호/2025-11-27/3교시(11:00~12:00)"),
+                collect(columns.createIterator("908", weekStart, weekEnd, null)));
+        assertEquals(3, collect(columns.createIterator(null, null, null, "S1")).size());
+        assertEquals(List.of("홍길동/911호/2025-11-25/2교시(10:00~11:00)"),
+                collect(columns.createIterator("911호", weekStart, weekEnd, "S1")));
+        assertTrue(collect(columns.createIterator("999호", null, null, null)).isEmpty());
+    }
+}
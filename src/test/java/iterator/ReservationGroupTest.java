@@ -5,6 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 /**
  * Iterator Pattern 핵심 검증 테스트
@@ -142,6 +148,77 @@ class ReservationGroupTest {
             "reservations 필드는 private으로 캡슐화되어야 함");
     }
 
+    // ============================================================
+    // 5. 분할 순회 / 스트림 / 병렬 집계
+    // ============================================================
+
+    @Test
+    @DisplayName("spliterator는 크기를 알고 절반으로 나눌 수 있어야 한다")
+    void testSpliteratorIsSizedAndSplittable() {
+        ReservationGroup group = new ReservationGroup();
+        for (int i = 0; i < 10; i++) {
+            group.addReservation(createDummyDTO("사용자" + i, "908호"));
+        }
+
+        Spliterator<ReservationService.ReservationDTO> right = group.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(10, right.estimateSize());
+
+        Spliterator<ReservationService.ReservationDTO> left = right.trySplit();
+        assertNotNull(left);
+        assertEquals(5, left.estimateSize());
+        assertEquals(5, right.estimateSize());
+
+        List<String> names = new ArrayList<>();
+        left.forEachRemaining(r -> names.add(r.getName()));
+        right.forEachRemaining(r -> names.add(r.getName()));
+        assertEquals("사용자0", names.get(0));
+        assertEquals("사용자9", names.get(9));
+    }
+
+    @Test
+    @DisplayName("stream()은 형변환 없이 DTO를 돌려주고 null 항목은 건너뛴다")
+    void testTypedStream() {
+        ReservationGroup group = new ReservationGroup();
+        group.addReservation(createDummyDTO("홍길동", "908호"));
+        group.addReservation(null);
+        group.addReservation(createDummyDTO("이순신", "912호"));
+
+        assertEquals(List.of("홍길동", "이순신"),
+            group.stream().map(ReservationService.ReservationDTO::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("병렬 집계 결과는 순차 계산과 같아야 한다")
+    void testParallelAggregations() {
+        List<ReservationService.ReservationDTO> list = new ArrayList<>();
+        String[] rooms = {"908호", "911", "912호"};
+        int expectedThirdSlot = 0;
+        for (int i = 0; i < ReservationGroup.PARALLEL_THRESHOLD * 2; i++) {
+            int period = i % 9 + 1;
+            int count = i % 5 + 1;
+            if (period == 3) {
+                expectedThirdSlot += count;
+            }
+            list.add(new ReservationService.ReservationDTO("CLASS", "S" + (i % 7), "사용자", rooms[i % 3],
+                "2025-11-27", "목요일", period + "교시", "수업", "학생", count));
+        }
+        ReservationGroup group = new ReservationGroup(list);
+
+        Map<String, Long> byRoom = group.countByRoom();
+        assertEquals(3, byRoom.size());
+        assertEquals(list.stream().filter(r -> r.getRoom().equals("911")).count(), byRoom.get("911호"), "강의실 이름 정규화");
+
+        int[] bySlot = group.headcountBySlot();
+        assertEquals(expectedThirdSlot, bySlot[2]);
+        assertEquals(list.stream().mapToInt(ReservationService.ReservationDTO::getStudentCount).sum(),
+            Arrays.stream(bySlot).sum());
+
+        Map<String, Long> byUser = group.countByUser();
+        assertEquals(7, byUser.size());
+        assertEquals(list.size(), byUser.values().stream().mapToLong(Long::longValue).sum());
+    }
+
     // ============================================================
     // Helper
     // ============================================================